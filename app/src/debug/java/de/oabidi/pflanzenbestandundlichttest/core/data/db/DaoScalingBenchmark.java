@@ -0,0 +1,277 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.db;
+
+import android.content.Context;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.room.Room;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import de.oabidi.pflanzenbestandundlichttest.analytics.Histogram;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
+import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.DiaryEntry;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Measurement;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTarget;
+
+/**
+ * Times the hot DAO queries against a scratch database filled with synthetic data of increasing
+ * size and writes the resulting scaling curves as CSV.
+ *
+ * <p>The database is grown step by step to each requested number of measurements, with diary,
+ * environment, plant and species rows scaled along. After every step each query runs a few
+ * warm-up rounds followed by {@link #ITERATIONS} timed ones. The {@code exponent} column compares
+ * the median with the previous size: about {@code 0} means the query is served by an index, about
+ * {@code 1} means it grows linearly, anything above indicates a super-linear plan.</p>
+ *
+ * <p>Runs on the real SQLite of the device, so it must be called off the main thread. The scratch
+ * database is deleted before and after the run, and only one run may use it at a time.</p>
+ */
+public final class DaoScalingBenchmark {
+    private static final String TAG = "DaoScalingBenchmark";
+    /** Default measurement counts: 1k, 10k, 100k and 1M rows. */
+    public static final int[] DEFAULT_SIZES = {1_000, 10_000, 100_000, 1_000_000};
+    static final String DATABASE_NAME = "dao_scaling_benchmark";
+    private static final int PLANT_SET = 20;
+    private static final int WARMUP_ITERATIONS = 3;
+    private static final int ITERATIONS = 15;
+    private static final int QUERY_LIMIT = 30;
+    private static final int BATCH_SIZE = 10_000;
+    private static final double SUPER_LINEAR_EXPONENT = 1.2d;
+    private static final long START_EPOCH = 1_600_000_000_000L;
+    private static final long SAMPLE_INTERVAL = TimeUnit.MINUTES.toMillis(10);
+    private static final String[] DIARY_NOTES = {
+        "watered thoroughly", "fertilized with half strength", "pruned leggy stems",
+        "repotted into bigger pot", "misted leaves"
+    };
+    private static final String[] DIARY_TYPES = {
+        DiaryEntry.TYPE_WATER, DiaryEntry.TYPE_FERTILIZE, DiaryEntry.TYPE_PRUNE
+    };
+    private static final String[] PLANT_NAMES = {"Basil", "Monstera", "Ficus", "Calathea", "Pothos"};
+    /** Guards the shared scratch database against a second run started while one is active. */
+    private static final AtomicBoolean RUNNING = new AtomicBoolean();
+
+    private final Context context;
+    private final int[] sizes;
+
+    public DaoScalingBenchmark(@NonNull Context context, @NonNull int... sizes) {
+        this.context = Objects.requireNonNull(context, "context").getApplicationContext();
+        this.sizes = Objects.requireNonNull(sizes, "sizes").clone();
+        for (int i = 1; i < this.sizes.length; i++) {
+            if (this.sizes[i] <= this.sizes[i - 1]) {
+                throw new IllegalArgumentException("sizes must be strictly increasing");
+            }
+        }
+    }
+
+    /**
+     * Runs the benchmark and writes one CSV row per query and size to {@code out}.
+     *
+     * @throws IllegalStateException if another run is still in progress
+     */
+    public void run(@NonNull Writer out) throws IOException {
+        if (!RUNNING.compareAndSet(false, true)) {
+            throw new IllegalStateException("DAO scaling benchmark is already running");
+        }
+        try {
+            measure(out);
+        } finally {
+            RUNNING.set(false);
+        }
+    }
+
+    private void measure(@NonNull Writer out) throws IOException {
+        context.deleteDatabase(DATABASE_NAME);
+        PlantDatabase db = Room.databaseBuilder(context, PlantDatabase.class, DATABASE_NAME)
+            .addCallback(new PlantSummaryTriggers())
+            .build();
+        try {
+            out.write("call,size,rows,median_us,p90_us,max_us,exponent\n");
+            Map<String, Long> previousMedians = new LinkedHashMap<>();
+            Seeder seeder = new Seeder(db);
+            int previousSize = 0;
+            for (int size : sizes) {
+                try (Tracer.Span ignored = Tracer.begin("benchmark.dao_seed").arg("size", size)) {
+                    seeder.growTo(size);
+                }
+                for (Query query : queries(db, seeder.latestEpoch())) {
+                    Result result = time(query);
+                    long median = result.latency.getValueAtPercentile(50);
+                    Long previous = previousMedians.put(query.name, median);
+                    String exponent = "";
+                    if (previous != null && previous > 0L && median > 0L) {
+                        double value = Math.log((double) median / previous)
+                            / Math.log((double) size / previousSize);
+                        exponent = String.format(Locale.US, "%.2f", value);
+                        if (value > SUPER_LINEAR_EXPONENT) {
+                            Log.w(TAG, query.name + " grows super-linearly (exponent " + exponent
+                                + ") between " + previousSize + " and " + size + " rows");
+                        }
+                    }
+                    out.write(String.format(Locale.US, "%s,%d,%d,%.1f,%.1f,%.1f,%s\n",
+                        query.name, size, result.rows,
+                        median / 1_000d,
+                        result.latency.getValueAtPercentile(90) / 1_000d,
+                        result.latency.getMax() / 1_000d,
+                        exponent));
+                }
+                out.flush();
+                previousSize = size;
+            }
+        } finally {
+            db.close();
+            context.deleteDatabase(DATABASE_NAME);
+        }
+    }
+
+    @NonNull
+    private static List<Query> queries(@NonNull PlantDatabase db, long latestEpoch) {
+        long plantId = 1L;
+        long weekStart = latestEpoch - TimeUnit.DAYS.toMillis(7);
+        long monthStart = latestEpoch - TimeUnit.DAYS.toMillis(30);
+        List<Query> queries = new ArrayList<>();
+        queries.add(new Query("MeasurementDao.recentForPlant",
+            () -> db.measurementDao().recentForPlant(plantId, QUERY_LIMIT).size()));
+        queries.add(new Query("MeasurementDao.getForPlantInRange",
+            () -> db.measurementDao().getForPlantInRange(plantId, weekStart, latestEpoch + 1).size()));
+        queries.add(new Query("MeasurementDao.sumPpfdAndCountDays",
+            () -> db.measurementDao().sumPpfdAndCountDays(plantId, monthStart, latestEpoch) != null ? 1 : 0));
+        queries.add(new Query("EnvironmentEntryDao.getRecentForPlant",
+            () -> db.environmentEntryDao().getRecentForPlant(plantId, QUERY_LIMIT).size()));
+        queries.add(new Query("DiaryDao.searchDiaryEntries",
+            () -> db.diaryDao().searchDiaryEntries(plantId, "water*").size()));
+        queries.add(new Query("PlantDao.search",
+            () -> db.plantDao().search("basil*").size()));
+        queries.add(new Query("PlantSummaryDao.getAllByLastMeasurement",
+            () -> db.plantSummaryDao().getAllByLastMeasurement().size()));
+        queries.add(new Query("SpeciesTargetDao.searchSummaries",
+            () -> db.speciesTargetDao().searchSummaries("fern").size()));
+        queries.add(new Query("SearchIndex.search",
+            () -> new SearchIndex(db).search("water*", QUERY_LIMIT, null).size()));
+        return queries;
+    }
+
+    @NonNull
+    private static Result time(@NonNull Query query) {
+        int rows = 0;
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            rows = query.call.run();
+        }
+        Histogram latency = new Histogram(query.name);
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            rows = query.call.run();
+            latency.record(System.nanoTime() - start);
+        }
+        return new Result(latency.snapshot(), rows);
+    }
+
+    /**
+     * Appends synthetic rows so that each step only inserts the difference to the previous size.
+     */
+    private static final class Seeder {
+        private final PlantDatabase db;
+        private int measurements;
+        private int plants;
+        private int diaryEntries;
+        private int environmentEntries;
+        private int speciesTargets;
+
+        Seeder(@NonNull PlantDatabase db) {
+            this.db = db;
+        }
+
+        void growTo(int measurementCount) {
+            // The first PLANT_SET plants carry the measurements; the rest only widen the tables.
+            int plantCount = Math.max(PLANT_SET, measurementCount / 1_000);
+            int auxiliaryCount = measurementCount / 10;
+            int speciesCount = Math.max(PLANT_SET, measurementCount / 100);
+            db.runInTransaction(() -> {
+                for (; plants < plantCount; plants++) {
+                    String name = PLANT_NAMES[plants % PLANT_NAMES.length] + " " + plants;
+                    db.plantDao().insert(new Plant(name, "Synthetic plant " + plants,
+                        "species_" + (plants % speciesCount), "Shelf " + (plants % 7),
+                        START_EPOCH, null));
+                }
+                for (; speciesTargets < speciesCount; speciesTargets++) {
+                    String key = "species_" + speciesTargets;
+                    String commonName = (speciesTargets % 5 == 0 ? "Fern " : "Palm ") + speciesTargets;
+                    db.speciesTargetDao().insert(new SpeciesTarget(key, commonName,
+                        "Genus species" + speciesTargets, SpeciesTarget.Category.HOUSEPLANT,
+                        null, null, null, null, null, null, null, null, null, null));
+                }
+            });
+            while (measurements < measurementCount) {
+                int batchEnd = Math.min(measurementCount, measurements + BATCH_SIZE);
+                db.runInTransaction(() -> {
+                    for (; measurements < batchEnd; measurements++) {
+                        float ppfd = 100f + (measurements % 400);
+                        db.measurementDao().insert(new Measurement(plantIdFor(measurements),
+                            epochFor(measurements), ppfd * 54f, ppfd, null, null));
+                    }
+                });
+            }
+            db.runInTransaction(() -> {
+                for (; diaryEntries < auxiliaryCount; diaryEntries++) {
+                    db.diaryDao().insert(new DiaryEntry(plantIdFor(diaryEntries),
+                        epochFor(diaryEntries * 10L),
+                        DIARY_TYPES[diaryEntries % DIARY_TYPES.length],
+                        DIARY_NOTES[diaryEntries % DIARY_NOTES.length]));
+                }
+                for (; environmentEntries < auxiliaryCount; environmentEntries++) {
+                    float value = 20f + (environmentEntries % 10);
+                    db.environmentEntryDao().insert(new EnvironmentEntry(plantIdFor(environmentEntries),
+                        epochFor(environmentEntries * 10L), value, value * 2f, value * 1.5f,
+                        null, null, null, null, null, null, null));
+                }
+            });
+        }
+
+        long latestEpoch() {
+            return epochFor(Math.max(0, measurements - 1));
+        }
+
+        private static long plantIdFor(long index) {
+            return 1L + index % PLANT_SET;
+        }
+
+        private static long epochFor(long index) {
+            return START_EPOCH + (index / PLANT_SET) * SAMPLE_INTERVAL;
+        }
+    }
+
+    private interface Call {
+        int run();
+    }
+
+    private static final class Query {
+        final String name;
+        final Call call;
+
+        Query(@NonNull String name, @NonNull Call call) {
+            this.name = name;
+            this.call = call;
+        }
+    }
+
+    private static final class Result {
+        final Histogram.Snapshot latency;
+        final int rows;
+
+        Result(@NonNull Histogram.Snapshot latency, int rows) {
+            this.latency = latency;
+            this.rows = rows;
+        }
+    }
+}
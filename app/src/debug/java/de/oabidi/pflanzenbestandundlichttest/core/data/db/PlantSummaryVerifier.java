@@ -0,0 +1,204 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.db;
+
+import android.content.Context;
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.Room;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Checks the {@link PlantSummaryTriggers} against a full recompute of the summary.
+ *
+ * <p>Applies a seeded sequence of random inserts, deletes and updates to plants, measurements,
+ * environment entries, diary entries, reminders and alerts of a scratch database and compares
+ * every {@code PlantSummary} row with the recompute the triggers replace after each step.
+ * Timestamps are drawn from a narrow range, so ties between rows and updates of the row
+ * currently stored in the summary are common. A mismatch names the seed and step, so the failing
+ * sequence can be replayed.</p>
+ *
+ * <p>Runs on the real SQLite of the device, so it must be called off the main thread. The scratch
+ * database is deleted before and after the run, and only one run may use it at a time.</p>
+ */
+public final class PlantSummaryVerifier {
+    /** Default number of random edits per run. */
+    public static final int DEFAULT_STEPS = 5_000;
+    static final String DATABASE_NAME = "plant_summary_verifier";
+    private static final int MAX_PLANTS = 8;
+    private static final int EPOCH_RANGE = 50;
+    /** Guards the shared scratch database against a second run started while one is active. */
+    private static final AtomicBoolean RUNNING = new AtomicBoolean();
+    private static final String[] SOURCE_TABLES = {
+        "Measurement", "EnvironmentEntry", "DiaryEntry", "Reminder", "ProactiveAlertLog"
+    };
+
+    private final Context context;
+
+    public PlantSummaryVerifier(@NonNull Context context) {
+        this.context = Objects.requireNonNull(context, "context").getApplicationContext();
+    }
+
+    /**
+     * Applies {@code steps} random edits and verifies the summary after each one.
+     *
+     * @throws IllegalStateException if a summary row differs from its recompute or another run
+     *                               is still in progress
+     */
+    public void run(long seed, int steps) {
+        if (!RUNNING.compareAndSet(false, true)) {
+            throw new IllegalStateException("Plant summary verification is already running");
+        }
+        try {
+            verify(seed, steps);
+        } finally {
+            RUNNING.set(false);
+        }
+    }
+
+    private void verify(long seed, int steps) {
+        context.deleteDatabase(DATABASE_NAME);
+        PlantDatabase db = Room.databaseBuilder(context, PlantDatabase.class, DATABASE_NAME)
+            .addCallback(new PlantSummaryTriggers())
+            .build();
+        try {
+            SupportSQLiteDatabase sql = db.getOpenHelper().getWritableDatabase();
+            Random random = new Random(seed);
+            for (int step = 0; step < steps; step++) {
+                String edit = edit(sql, random);
+                String mismatch = compare(sql);
+                if (mismatch != null) {
+                    throw new IllegalStateException("Seed " + seed + ", step " + step + " ("
+                        + edit + "): " + mismatch);
+                }
+            }
+        } finally {
+            db.close();
+            context.deleteDatabase(DATABASE_NAME);
+        }
+    }
+
+    @NonNull
+    private static String edit(@NonNull SupportSQLiteDatabase sql, @NonNull Random random) {
+        long plantCount = queryLong(sql, "SELECT COUNT(*) FROM `Plant`");
+        if (plantCount == 0 || (plantCount < MAX_PLANTS && random.nextInt(10) == 0)) {
+            sql.execSQL("INSERT INTO `Plant` (`name`, `acquiredAtEpoch`) VALUES (?, 0)",
+                new Object[]{"Plant " + random.nextInt(1_000)});
+            return "insert plant";
+        }
+        long plantId = pickId(sql, "Plant", random);
+        switch (random.nextInt(20)) {
+            case 0:
+                sql.execSQL("UPDATE `Plant` SET `name` = ? WHERE `id` = ?",
+                    new Object[]{"Renamed " + random.nextInt(1_000), plantId});
+                return "rename plant " + plantId;
+            case 1:
+                sql.execSQL("DELETE FROM `Plant` WHERE `id` = ?", new Object[]{plantId});
+                return "delete plant " + plantId;
+            default:
+                break;
+        }
+        String table = SOURCE_TABLES[random.nextInt(SOURCE_TABLES.length)];
+        long epoch = random.nextInt(EPOCH_RANGE);
+        int action = random.nextInt(3);
+        if (action > 0 && queryLong(sql, "SELECT COUNT(*) FROM `" + table + "`") > 0) {
+            long rowId = pickId(sql, table, random);
+            if (action == 1) {
+                sql.execSQL("DELETE FROM `" + table + "` WHERE `id` = ?", new Object[]{rowId});
+                return "delete " + table + " " + rowId;
+            }
+            sql.execSQL("UPDATE `" + table + "` SET `plantId` = ?, `" + timeColumn(table)
+                + "` = ? WHERE `id` = ?", new Object[]{plantId, epoch, rowId});
+            return "update " + table + " " + rowId;
+        }
+        switch (table) {
+            case "Measurement":
+                sql.execSQL("INSERT INTO `Measurement` (`plantId`, `timeEpoch`, `luxAvg`, `ppfd`, "
+                    + "`dli`) VALUES (?, ?, 0, ?, ?)", new Object[]{plantId, epoch,
+                    (float) random.nextInt(500),
+                    random.nextBoolean() ? null : (float) random.nextInt(40)});
+                break;
+            case "EnvironmentEntry":
+                sql.execSQL("INSERT INTO `EnvironmentEntry` (`plantId`, `timestamp`) VALUES (?, ?)",
+                    new Object[]{plantId, epoch});
+                break;
+            case "DiaryEntry":
+                sql.execSQL("INSERT INTO `DiaryEntry` (`plantId`, `timeEpoch`, `type`) "
+                    + "VALUES (?, ?, 'note')", new Object[]{plantId, epoch});
+                break;
+            case "Reminder":
+                sql.execSQL("INSERT INTO `Reminder` (`plantId`, `triggerAt`, `message`) "
+                    + "VALUES (?, ?, '')", new Object[]{plantId, epoch});
+                break;
+            default:
+                // Replacing an existing id must not count the alert twice.
+                Long replaced = random.nextBoolean() && queryLong(sql,
+                    "SELECT COUNT(*) FROM `ProactiveAlertLog`") > 0
+                    ? pickId(sql, "ProactiveAlertLog", random) : null;
+                sql.execSQL("INSERT OR REPLACE INTO `ProactiveAlertLog` (`id`, `plantId`, "
+                    + "`triggerId`, `severity`, `message`, `createdAt`) "
+                    + "VALUES (?, ?, 'verify', 'WARNING', '', ?)",
+                    new Object[]{replaced, plantId, epoch});
+                break;
+        }
+        return "insert " + table;
+    }
+
+    /**
+     * @return description of the first differing row or {@code null} if the summary is correct
+     */
+    @Nullable
+    private static String compare(@NonNull SupportSQLiteDatabase sql) {
+        try (Cursor actual = sql.query("SELECT " + PlantSummaryTriggers.COLUMNS
+            + " FROM `PlantSummary` ORDER BY `plantId`");
+             Cursor expected = sql.query(PlantSummaryTriggers.SELECT_FROM_PLANT
+                 + " ORDER BY p.`id`")) {
+            if (actual.getCount() != expected.getCount()) {
+                return actual.getCount() + " summary rows for " + expected.getCount() + " plants";
+            }
+            while (actual.moveToNext() && expected.moveToNext()) {
+                for (int column = 0; column < actual.getColumnCount(); column++) {
+                    String stored = actual.isNull(column) ? null : actual.getString(column);
+                    String recomputed = expected.isNull(column) ? null : expected.getString(column);
+                    if (!Objects.equals(stored, recomputed)) {
+                        return "plant " + expected.getLong(0) + " column "
+                            + actual.getColumnName(column) + " is " + stored
+                            + ", expected " + recomputed;
+                    }
+                }
+            }
+        }
+        return null;
+    }
+
+    @NonNull
+    private static String timeColumn(@NonNull String table) {
+        switch (table) {
+            case "EnvironmentEntry":
+                return "timestamp";
+            case "Reminder":
+                return "triggerAt";
+            case "ProactiveAlertLog":
+                return "createdAt";
+            default:
+                return "timeEpoch";
+        }
+    }
+
+    private static long pickId(@NonNull SupportSQLiteDatabase sql, @NonNull String table,
+                               @NonNull Random random) {
+        long rows = queryLong(sql, "SELECT COUNT(*) FROM `" + table + "`");
+        return queryLong(sql, "SELECT `id` FROM `" + table + "` ORDER BY `id` LIMIT 1 OFFSET "
+            + (long) random.nextInt((int) Math.min(rows, Integer.MAX_VALUE)));
+    }
+
+    private static long queryLong(@NonNull SupportSQLiteDatabase sql, @NonNull String query) {
+        try (Cursor cursor = sql.query(query)) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0L;
+        }
+    }
+}
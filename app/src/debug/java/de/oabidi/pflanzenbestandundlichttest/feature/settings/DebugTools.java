@@ -0,0 +1,43 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.settings;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.io.IOException;
+import java.io.Writer;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.DaoScalingBenchmark;
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.PlantSummaryVerifier;
+
+/**
+ * Database diagnostics offered by the debug settings. They live in the debug source set so
+ * release builds do not ship them; the release variant of this class reports them unavailable.
+ */
+final class DebugTools {
+    static final boolean AVAILABLE = true;
+    static final int SUMMARY_VERIFY_STEPS = PlantSummaryVerifier.DEFAULT_STEPS;
+
+    private DebugTools() {
+        // no instances
+    }
+
+    /**
+     * Runs the {@link DaoScalingBenchmark} with its default sizes and writes the CSV to
+     * {@code out}.
+     */
+    @WorkerThread
+    static void runDaoScalingBenchmark(@NonNull Context context, @NonNull Writer out)
+        throws IOException {
+        new DaoScalingBenchmark(context, DaoScalingBenchmark.DEFAULT_SIZES).run(out);
+    }
+
+    /**
+     * Runs the {@link PlantSummaryVerifier} for {@link #SUMMARY_VERIFY_STEPS} random edits.
+     */
+    @WorkerThread
+    static void verifyPlantSummary(@NonNull Context context, long seed) {
+        new PlantSummaryVerifier(context).run(seed, SUMMARY_VERIFY_STEPS);
+    }
+}
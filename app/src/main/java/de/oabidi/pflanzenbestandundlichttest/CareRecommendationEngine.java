@@ -1,11 +1,7 @@
 package de.oabidi.pflanzenbestandundlichttest;
 
-import android.content.res.Resources;
-
-import androidx.annotation.DrawableRes;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
-import androidx.annotation.StringRes;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -20,6 +16,9 @@ import de.oabidi.pflanzenbestandundlichttest.feature.plant.PlantProfile;
 
 /**
  * Analyses recent {@link EnvironmentEntry} values and produces actionable care suggestions.
+ * <p>
+ * Recommendations name their {@link Icon} and {@link Message} instead of resource ids, so the
+ * engine stays free of Android resources; the app maps both to drawables and strings.
  */
 public class CareRecommendationEngine {
 
@@ -37,9 +36,7 @@ public class CareRecommendationEngine {
      */
     @NonNull
     public List<CareRecommendation> evaluate(@Nullable PlantProfile profile,
-                                             @Nullable List<EnvironmentEntry> entries,
-                                             @NonNull Resources res) {
-        Objects.requireNonNull(res, "res");
+                                             @Nullable List<EnvironmentEntry> entries) {
         List<EnvironmentEntry> sortedEntries = entries == null
             ? Collections.emptyList()
             : new ArrayList<>(entries);
@@ -81,14 +78,14 @@ public class CareRecommendationEngine {
             Severity severity = delta >= TEMPERATURE_CRITICAL_DELTA
                 ? Severity.CRITICAL
                 : Severity.WARNING;
-            @StringRes int resId = max != null
-                ? R.string.care_temperature_low_range
-                : R.string.care_temperature_low_min;
+            Message message = max != null
+                ? Message.TEMPERATURE_LOW_RANGE
+                : Message.TEMPERATURE_LOW_MIN;
             Object[] args = max != null
                 ? new Object[]{value, min, max}
                 : new Object[]{value, min};
-            out.add(CareRecommendation.createWithResource("temperature_low", severity,
-                R.drawable.ic_care_temperature, resId, args));
+            out.add(CareRecommendation.create("temperature_low", severity,
+                Icon.TEMPERATURE, message, args));
             return;
         }
         if (max != null && value > max) {
@@ -96,14 +93,14 @@ public class CareRecommendationEngine {
             Severity severity = delta >= TEMPERATURE_CRITICAL_DELTA
                 ? Severity.CRITICAL
                 : Severity.WARNING;
-            @StringRes int resId = min != null
-                ? R.string.care_temperature_high_range
-                : R.string.care_temperature_high_max;
+            Message message = min != null
+                ? Message.TEMPERATURE_HIGH_RANGE
+                : Message.TEMPERATURE_HIGH_MAX;
             Object[] args = min != null
                 ? new Object[]{value, min, max}
                 : new Object[]{value, max};
-            out.add(CareRecommendation.createWithResource("temperature_high", severity,
-                R.drawable.ic_care_temperature, resId, args));
+            out.add(CareRecommendation.create("temperature_high", severity,
+                Icon.TEMPERATURE, message, args));
         }
     }
 
@@ -128,14 +125,14 @@ public class CareRecommendationEngine {
             Severity severity = delta >= HUMIDITY_CRITICAL_DELTA
                 ? Severity.CRITICAL
                 : Severity.WARNING;
-            @StringRes int resId = max != null
-                ? R.string.care_humidity_low_range
-                : R.string.care_humidity_low_min;
+            Message message = max != null
+                ? Message.HUMIDITY_LOW_RANGE
+                : Message.HUMIDITY_LOW_MIN;
             Object[] args = max != null
                 ? new Object[]{value, min, max}
                 : new Object[]{value, min};
-            out.add(CareRecommendation.createWithResource("humidity_low", severity,
-                R.drawable.ic_care_water_drop, resId, args));
+            out.add(CareRecommendation.create("humidity_low", severity,
+                Icon.WATER_DROP, message, args));
             return;
         }
         if (max != null && value > max) {
@@ -143,14 +140,14 @@ public class CareRecommendationEngine {
             Severity severity = delta >= HUMIDITY_CRITICAL_DELTA
                 ? Severity.CRITICAL
                 : Severity.WARNING;
-            @StringRes int resId = min != null
-                ? R.string.care_humidity_high_range
-                : R.string.care_humidity_high_max;
+            Message message = min != null
+                ? Message.HUMIDITY_HIGH_RANGE
+                : Message.HUMIDITY_HIGH_MAX;
             Object[] args = min != null
                 ? new Object[]{value, min, max}
                 : new Object[]{value, max};
-            out.add(CareRecommendation.createWithResource("humidity_high", severity,
-                R.drawable.ic_care_water_drop, resId, args));
+            out.add(CareRecommendation.create("humidity_high", severity,
+                Icon.WATER_DROP, message, args));
         }
     }
 
@@ -164,11 +161,11 @@ public class CareRecommendationEngine {
             return;
         }
         if (soil <= SOIL_DRY_THRESHOLD) {
-            out.add(CareRecommendation.createWithResource("soil_dry", Severity.WARNING,
-                R.drawable.ic_care_water_drop, R.string.care_soil_dry, soil));
+            out.add(CareRecommendation.create("soil_dry", Severity.WARNING,
+                Icon.WATER_DROP, Message.SOIL_DRY, soil));
         } else if (soil >= SOIL_WET_THRESHOLD) {
-            out.add(CareRecommendation.createWithResource("soil_wet", Severity.WARNING,
-                R.drawable.ic_care_water_drop, R.string.care_soil_wet, soil));
+            out.add(CareRecommendation.create("soil_wet", Severity.WARNING,
+                Icon.WATER_DROP, Message.SOIL_WET, soil));
         }
     }
 
@@ -188,21 +185,21 @@ public class CareRecommendationEngine {
             if (count == 0) {
                 count = Math.max(heightSamples.size(), widthSamples.size());
             }
-            out.add(CareRecommendation.createWithResource("growth_stalled",
-                Severity.INFO, R.drawable.ic_care_trending_up,
-                R.string.care_growth_stalled_height_width,
+            out.add(CareRecommendation.create("growth_stalled",
+                Severity.INFO, Icon.TRENDING_UP,
+                Message.GROWTH_STALLED_HEIGHT_WIDTH,
                 count,
                 Math.abs(delta(heightSamples)),
                 Math.abs(delta(widthSamples))));
         } else if (heightStalled) {
-            out.add(CareRecommendation.createWithResource("growth_height_stalled",
-                Severity.INFO, R.drawable.ic_care_trending_up,
-                R.string.care_growth_stalled_height,
+            out.add(CareRecommendation.create("growth_height_stalled",
+                Severity.INFO, Icon.TRENDING_UP,
+                Message.GROWTH_STALLED_HEIGHT,
                 heightSamples.size(), Math.abs(delta(heightSamples))));
         } else {
-            out.add(CareRecommendation.createWithResource("growth_width_stalled",
-                Severity.INFO, R.drawable.ic_care_trending_up,
-                R.string.care_growth_stalled_width,
+            out.add(CareRecommendation.create("growth_width_stalled",
+                Severity.INFO, Icon.TRENDING_UP,
+                Message.GROWTH_STALLED_WIDTH,
                 widthSamples.size(), Math.abs(delta(widthSamples))));
         }
     }
@@ -252,23 +249,52 @@ public class CareRecommendationEngine {
      * Severity levels for recommendations.
      */
     public enum Severity {
-        INFO(R.drawable.ic_care_trending_up),
-        WARNING(R.drawable.ic_care_water_drop),
-        CRITICAL(R.drawable.ic_care_temperature);
+        INFO(Icon.TRENDING_UP),
+        WARNING(Icon.WATER_DROP),
+        CRITICAL(Icon.TEMPERATURE);
 
-        @DrawableRes
-        private final int defaultIconResId;
+        @NonNull
+        private final Icon defaultIcon;
 
-        Severity(@DrawableRes int defaultIconResId) {
-            this.defaultIconResId = defaultIconResId;
+        Severity(@NonNull Icon defaultIcon) {
+            this.defaultIcon = defaultIcon;
         }
 
-        @DrawableRes
-        public int getDefaultIconResId() {
-            return defaultIconResId;
+        @NonNull
+        public Icon getDefaultIcon() {
+            return defaultIcon;
         }
     }
 
+    /**
+     * Icons a recommendation can be shown with.
+     */
+    public enum Icon {
+        TEMPERATURE,
+        WATER_DROP,
+        TRENDING_UP
+    }
+
+    /**
+     * Messages a recommendation can carry. Each is formatted with the recommendation's
+     * {@link CareRecommendation#getFormatArgs() arguments}.
+     */
+    public enum Message {
+        TEMPERATURE_LOW_RANGE,
+        TEMPERATURE_LOW_MIN,
+        TEMPERATURE_HIGH_RANGE,
+        TEMPERATURE_HIGH_MAX,
+        HUMIDITY_LOW_RANGE,
+        HUMIDITY_LOW_MIN,
+        HUMIDITY_HIGH_RANGE,
+        HUMIDITY_HIGH_MAX,
+        SOIL_DRY,
+        SOIL_WET,
+        GROWTH_STALLED_HEIGHT_WIDTH,
+        GROWTH_STALLED_HEIGHT,
+        GROWTH_STALLED_WIDTH
+    }
+
     private static final class Sample {
         final float value;
         final long timestamp;
@@ -285,54 +311,35 @@ public class CareRecommendationEngine {
     public static final class CareRecommendation {
         private final String id;
         private final Severity severity;
-        @DrawableRes
-        private final int iconResId;
-        @StringRes
-        @Nullable
-        private final Integer messageResId;
+        private final Icon icon;
+        private final Message message;
         @Nullable
         private final Object[] formatArgs;
-        @Nullable
-        private final CharSequence message;
 
         private CareRecommendation(@NonNull String id,
                                    @NonNull Severity severity,
-                                   @DrawableRes int iconResId,
-                                   @Nullable Integer messageResId,
-                                   @Nullable Object[] formatArgs,
-                                   @Nullable CharSequence message) {
+                                   @NonNull Icon icon,
+                                   @NonNull Message message,
+                                   @Nullable Object[] formatArgs) {
             this.id = Objects.requireNonNull(id, "id");
             this.severity = Objects.requireNonNull(severity, "severity");
-            this.iconResId = iconResId;
-            this.messageResId = messageResId;
+            this.icon = icon;
+            this.message = Objects.requireNonNull(message, "message");
             this.formatArgs = formatArgs;
-            this.message = message;
-        }
-
-        /**
-         * Creates a recommendation backed by a string resource.
-         */
-        @NonNull
-        public static CareRecommendation createWithResource(@NonNull String id,
-                                                            @NonNull Severity severity,
-                                                            @DrawableRes int iconResId,
-                                                            @StringRes int messageRes,
-                                                            Object... args) {
-            int resolvedIcon = iconResId != 0 ? iconResId : severity.getDefaultIconResId();
-            return new CareRecommendation(id, severity, resolvedIcon, messageRes,
-                args != null && args.length > 0 ? args : null, null);
         }
 
         /**
-         * Creates a recommendation with a pre-built message.
+         * Creates a recommendation; a {@code null} icon falls back to the severity's default.
          */
         @NonNull
-        public static CareRecommendation createWithMessage(@NonNull String id,
-                                                           @NonNull Severity severity,
-                                                           @DrawableRes int iconResId,
-                                                           @NonNull CharSequence message) {
-            int resolvedIcon = iconResId != 0 ? iconResId : severity.getDefaultIconResId();
-            return new CareRecommendation(id, severity, resolvedIcon, null, null, message);
+        public static CareRecommendation create(@NonNull String id,
+                                                @NonNull Severity severity,
+                                                @Nullable Icon icon,
+                                                @NonNull Message message,
+                                                Object... args) {
+            Icon resolvedIcon = icon != null ? icon : severity.getDefaultIcon();
+            return new CareRecommendation(id, severity, resolvedIcon, message,
+                args != null && args.length > 0 ? args : null);
         }
 
         @NonNull
@@ -345,28 +352,19 @@ public class CareRecommendationEngine {
             return severity;
         }
 
-        @DrawableRes
-        public int getIconResId() {
-            return iconResId;
-        }
-
-        public boolean hasIcon() {
-            return iconResId != 0;
+        @NonNull
+        public Icon getIcon() {
+            return icon;
         }
 
-        @Nullable
-        public Integer getMessageResId() {
-            return messageResId;
+        @NonNull
+        public Message getMessage() {
+            return message;
         }
 
         @Nullable
         public Object[] getFormatArgs() {
             return formatArgs;
         }
-
-        @Nullable
-        public CharSequence getMessage() {
-            return message;
-        }
     }
 }
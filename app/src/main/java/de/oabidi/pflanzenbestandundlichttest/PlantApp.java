@@ -2,11 +2,18 @@ package de.oabidi.pflanzenbestandundlichttest;
 
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 import de.oabidi.pflanzenbestandundlichttest.core.system.ExecutorProvider;
+import de.oabidi.pflanzenbestandundlichttest.core.system.PhotoTranscodeScheduler;
 import de.oabidi.pflanzenbestandundlichttest.core.system.RepositoryProvider;
 
+import android.app.Activity;
 import android.app.Application;
 import android.content.Context;
 import android.content.SharedPreferences;
+import android.net.Uri;
+import android.os.Bundle;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 
 import com.google.android.material.color.DynamicColors;
 
@@ -17,13 +24,17 @@ import java.util.concurrent.TimeUnit;
 import de.oabidi.pflanzenbestandundlichttest.common.util.LocaleHelper;
 import de.oabidi.pflanzenbestandundlichttest.common.util.ThemeUtils;
 import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
-import de.oabidi.pflanzenbestandundlichttest.feature.alerts.ProactiveAlertWorkScheduler;
-import de.oabidi.pflanzenbestandundlichttest.feature.naturallight.NaturalLightWorkScheduler;
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.PlantDatabase;
+import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
+import de.oabidi.pflanzenbestandundlichttest.core.system.StartupTracer;
+import de.oabidi.pflanzenbestandundlichttest.core.system.maintenance.MaintenanceScheduler;
+import de.oabidi.pflanzenbestandundlichttest.feature.gallery.PhotoTranscodeWorker;
 
 /**
  * Application subclass providing a single {@link PlantRepository} instance.
  */
-public class PlantApp extends Application implements RepositoryProvider, ExecutorProvider {
+public class PlantApp extends Application implements RepositoryProvider, ExecutorProvider,
+    PhotoTranscodeScheduler {
     private static final int MIN_IO_THREAD_COUNT = 2;
     private PlantRepository repository;
     private ExecutorService ioExecutor;
@@ -46,20 +57,41 @@ public class PlantApp extends Application implements RepositoryProvider, Executo
 
     @Override
     public void onCreate() {
-        LocaleHelper.applyLocale(this);
-        super.onCreate();
-        DynamicColors.applyToActivitiesIfAvailable(this);
-
-        SharedPreferences prefs = getSharedPreferences(SettingsKeys.PREFS_NAME, MODE_PRIVATE);
-        String theme = prefs.getString(SettingsKeys.KEY_THEME, "system");
-        ThemeUtils.applyNightMode(theme);
+        try (StartupTracer.Section ignored = StartupTracer.begin("PlantApp.onCreate")) {
+            LocaleHelper.applyLocale(this);
+            super.onCreate();
+            DynamicColors.applyToActivitiesIfAvailable(this);
+
+            SharedPreferences prefs = getSharedPreferences(SettingsKeys.PREFS_NAME, MODE_PRIVATE);
+            String theme = prefs.getString(SettingsKeys.KEY_THEME, "system");
+            ThemeUtils.applyNightMode(theme);
+
+            // Open the database and load the species cache before the first screen needs them.
+            getIoExecutor().execute(this::prewarm);
+            registerActivityLifecycleCallbacks(new FirstFrameCallbacks());
+            StartupTracer.markApplicationCreated();
+        }
+    }
 
-        // Ensure the repository is created and supplied to activities at startup.
-        getRepository();
+    private void prewarm() {
+        try (StartupTracer.Section ignored = StartupTracer.begin("prewarm-database")) {
+            PlantDatabase.getDatabase(this).getOpenHelper().getWritableDatabase();
+        }
+        try (StartupTracer.Section ignored = StartupTracer.begin("prewarm-species")) {
+            getRepository().speciesRepository().warmUpCacheSync();
+        }
+    }
 
-        boolean proactiveEnabled = prefs.getBoolean(SettingsKeys.KEY_PROACTIVE_ALERTS_ENABLED, true);
-        ProactiveAlertWorkScheduler.ensureScheduled(this, proactiveEnabled);
-        NaturalLightWorkScheduler.ensureScheduled(this);
+    /**
+     * Runs start-up work that no screen depends on once the first activity has drawn.
+     */
+    private void onFirstFrame() {
+        StartupTracer.markFirstFrame();
+        getIoExecutor().execute(() -> {
+            try (StartupTracer.Section ignored = StartupTracer.begin("schedule-maintenance")) {
+                MaintenanceScheduler.ensureScheduled(this);
+            }
+        });
     }
 
     /**
@@ -84,6 +116,14 @@ public class PlantApp extends Application implements RepositoryProvider, Executo
         return ioExecutor;
     }
 
+    /**
+     * Hands stored photos to {@link PhotoTranscodeWorker}.
+     */
+    @Override
+    public void scheduleTranscode(@NonNull Uri uri, @NonNull PhotoManager.Kind kind) {
+        PhotoTranscodeWorker.enqueue(this, uri, kind);
+    }
+
     /**
      * Shuts down the shared executor service.
      */
@@ -109,6 +149,43 @@ public class PlantApp extends Application implements RepositoryProvider, Executo
         return Executors.newFixedThreadPool(threadCount);
     }
 
+    /**
+     * Waits for the first resumed activity and posts to its decor view, which runs after the
+     * traversal that draws its first frame.
+     */
+    private final class FirstFrameCallbacks implements ActivityLifecycleCallbacks {
+        @Override
+        public void onActivityResumed(@NonNull Activity activity) {
+            unregisterActivityLifecycleCallbacks(this);
+            activity.getWindow().getDecorView().post(PlantApp.this::onFirstFrame);
+        }
+
+        @Override
+        public void onActivityCreated(@NonNull Activity activity, @Nullable Bundle savedInstanceState) {
+            StartupTracer.markActivityCreated();
+        }
+
+        @Override
+        public void onActivityStarted(@NonNull Activity activity) {
+        }
+
+        @Override
+        public void onActivityPaused(@NonNull Activity activity) {
+        }
+
+        @Override
+        public void onActivityStopped(@NonNull Activity activity) {
+        }
+
+        @Override
+        public void onActivitySaveInstanceState(@NonNull Activity activity, @NonNull Bundle outState) {
+        }
+
+        @Override
+        public void onActivityDestroyed(@NonNull Activity activity) {
+        }
+    }
+
     @Override
     public void onTerminate() {
         super.onTerminate();
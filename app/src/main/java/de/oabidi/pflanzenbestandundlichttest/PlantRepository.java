@@ -12,18 +12,25 @@ import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import de.oabidi.pflanzenbestandundlichttest.CareRecommendationEngine.CareRecommendation;
+import de.oabidi.pflanzenbestandundlichttest.analytics.CallSiteMetrics;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
 import de.oabidi.pflanzenbestandundlichttest.core.data.db.BulkReadDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.db.PlantDatabase;
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.SearchIndex;
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.SeriesReader;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.DiaryEntry;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Measurement;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.MeasurementDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantDao;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantListItem;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantSummaryDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTarget;
 import de.oabidi.pflanzenbestandundlichttest.core.system.ExecutorProvider;
 import de.oabidi.pflanzenbestandundlichttest.core.system.reminder.Reminder;
 import de.oabidi.pflanzenbestandundlichttest.core.system.reminder.ReminderScheduler;
 import de.oabidi.pflanzenbestandundlichttest.core.system.reminder.ReminderSuggestion;
+import de.oabidi.pflanzenbestandundlichttest.common.util.Lazy;
 import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
 
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
@@ -38,6 +45,7 @@ import de.oabidi.pflanzenbestandundlichttest.core.data.PlantPhoto;
 import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantZone;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantZoneDao;
+import de.oabidi.pflanzenbestandundlichttest.feature.lighting.ArtificialLightEstimateCache;
 import de.oabidi.pflanzenbestandundlichttest.feature.plant.PlantProfile;
 import de.oabidi.pflanzenbestandundlichttest.repository.ArtificialLightEstimateSource;
 import de.oabidi.pflanzenbestandundlichttest.repository.CalibrationManager;
@@ -52,7 +60,9 @@ import de.oabidi.pflanzenbestandundlichttest.repository.NaturalLightRepository;
 import de.oabidi.pflanzenbestandundlichttest.repository.ProactiveAlertRepository;
 import de.oabidi.pflanzenbestandundlichttest.repository.ReminderRepository;
 import de.oabidi.pflanzenbestandundlichttest.repository.ReminderSuggestionManager;
+import de.oabidi.pflanzenbestandundlichttest.repository.SearchRepository;
 import de.oabidi.pflanzenbestandundlichttest.repository.SpeciesRepository;
+import de.oabidi.pflanzenbestandundlichttest.repository.StatsRepository;
 import de.oabidi.pflanzenbestandundlichttest.feature.reminders.ReminderSuggestionFormatter;
 import de.oabidi.pflanzenbestandundlichttest.feature.reminders.SmartReminderEngine;
 
@@ -63,7 +73,6 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
-import java.util.regex.Pattern;
 
 /**
  * Repository providing asynchronous access to {@link Plant} entities.
@@ -73,29 +82,31 @@ import java.util.regex.Pattern;
  * allowing callers to update the UI directly from these callbacks.
  */
 public class PlantRepository implements CareRecommendationDelegate {
-    private static final Pattern UNSUPPORTED_CHARS = Pattern.compile("[^\\p{L}\\p{N}\\s]");
-    private static final Pattern RESERVED_FTS = Pattern.compile("\\b(?:AND|OR|NOT|NEAR)\\b", Pattern.CASE_INSENSITIVE);
     private final PlantDao plantDao;
+    private final PlantSummaryDao plantSummaryDao;
     private final PlantCalibrationDao plantCalibrationDao;
     private final LedProfileDao ledProfileDao;
     private final LedProfileAssociationDao ledProfileAssociationDao;
     private final PlantZoneDao plantZoneDao;
     private final BulkReadDao bulkDao;
-    private final MeasurementRepository measurementRepository;
-    private final DiaryRepository diaryRepository;
-    private final EnvironmentRepository environmentRepository;
-    private final ReminderRepository reminderRepository;
-    private final SpeciesRepository speciesRepository;
-    private final GalleryRepository galleryRepository;
-    private final ProactiveAlertRepository alertRepository;
-    private final NaturalLightRepository naturalLightRepository;
+    private final Lazy<SeriesReader> seriesReader;
+    private final Lazy<MeasurementRepository> measurementRepository;
+    private final Lazy<DiaryRepository> diaryRepository;
+    private final Lazy<EnvironmentRepository> environmentRepository;
+    private final Lazy<ReminderRepository> reminderRepository;
+    private final Lazy<SpeciesRepository> speciesRepository;
+    private final Lazy<GalleryRepository> galleryRepository;
+    private final Lazy<ProactiveAlertRepository> alertRepository;
+    private final Lazy<NaturalLightRepository> naturalLightRepository;
+    private final Lazy<StatsRepository> statsRepository;
+    private final Lazy<SearchRepository> searchRepository;
     private final Handler mainHandler = new Handler(Looper.getMainLooper());
     private final Context context; // This will be the application context
     private final ExecutorService ioExecutor;
     private final SharedPreferences sharedPreferences;
-    private final CalibrationManager calibrationManager;
-    private final ReminderSuggestionManager reminderSuggestionManager;
-    private final CareRecommendationService careRecommendationService;
+    private final Lazy<CalibrationManager> calibrationManager;
+    private final Lazy<ReminderSuggestionManager> reminderSuggestionManager;
+    private final Lazy<CareRecommendationService> careRecommendationService;
 
     /**
      * Creates a new repository instance.
@@ -116,35 +127,49 @@ public class PlantRepository implements CareRecommendationDelegate {
         this.sharedPreferences = this.context.getSharedPreferences(SettingsKeys.PREFS_NAME, Context.MODE_PRIVATE);
         PlantDatabase db = PlantDatabase.getDatabase(this.context);
         plantDao = db.plantDao();
+        plantSummaryDao = db.plantSummaryDao();
         plantCalibrationDao = db.plantCalibrationDao();
         ledProfileDao = db.ledProfileDao();
         ledProfileAssociationDao = db.ledProfileAssociationDao();
         plantZoneDao = db.plantZoneDao();
         bulkDao = db.bulkDao();
-        speciesRepository = new SpeciesRepository(this.context, mainHandler, this.ioExecutor, db.speciesTargetDao());
-        reminderRepository = new ReminderRepository(this.context, mainHandler, this.ioExecutor,
-            db.reminderDao(), db.reminderSuggestionDao());
-        measurementRepository = new MeasurementRepository(this.context, mainHandler, this.ioExecutor,
-            db.measurementDao(), plantDao, db.speciesTargetDao(), db.reminderDao());
-        diaryRepository = new DiaryRepository(this.context, mainHandler, this.ioExecutor, db.diaryDao());
-        galleryRepository = new GalleryRepository(this.context, mainHandler, this.ioExecutor, db.plantPhotoDao());
-        ArtificialLightEstimateSource artificialLightSource =
-            new DatabaseArtificialLightEstimateSource(plantDao, ledProfileDao, plantCalibrationDao);
-        environmentRepository = new EnvironmentRepository(this.context, mainHandler, this.ioExecutor,
-            db.environmentEntryDao(), this, artificialLightSource);
-        alertRepository = new ProactiveAlertRepository(this.context, mainHandler, this.ioExecutor,
-            db.proactiveAlertDao());
-        naturalLightRepository = new NaturalLightRepository(this.context, mainHandler, this.ioExecutor,
-            db.naturalLightEstimateDao(), plantZoneDao, sharedPreferences);
-        ReminderSuggestionFormatter reminderSuggestionFormatter =
-            new ReminderSuggestionFormatter(this.context.getResources());
-        calibrationManager = new CalibrationManager(this.context, mainHandler, this.ioExecutor,
-            plantDao, plantCalibrationDao, ledProfileDao, ledProfileAssociationDao);
-        reminderSuggestionManager = new ReminderSuggestionManager(this.context, mainHandler, this.ioExecutor,
-            plantDao, reminderRepository, environmentRepository, speciesRepository,
-            new SmartReminderEngine(), reminderSuggestionFormatter);
-        careRecommendationService = new CareRecommendationService(this.context, mainHandler, this.ioExecutor,
-            plantDao, speciesRepository, environmentRepository, sharedPreferences, reminderSuggestionManager);
+        // Sub-repositories and managers are created on first use so constructing the facade
+        // during application start-up only touches the database builder.
+        speciesRepository = new Lazy<>(() -> new SpeciesRepository(this.context, mainHandler,
+            this.ioExecutor, db, db.speciesTargetDao()));
+        reminderRepository = new Lazy<>(() -> new ReminderRepository(this.context, mainHandler,
+            this.ioExecutor, db.reminderDao(), db.reminderSuggestionDao()));
+        seriesReader = new Lazy<>(() -> new SeriesReader(db));
+        measurementRepository = new Lazy<>(() -> new MeasurementRepository(this.context, mainHandler,
+            this.ioExecutor, db.measurementDao(), plantDao, db.speciesTargetDao(), db.reminderDao(),
+            seriesReader.get()));
+        diaryRepository = new Lazy<>(() -> new DiaryRepository(this.context, mainHandler,
+            this.ioExecutor, db.diaryDao()));
+        statsRepository = new Lazy<>(() -> new StatsRepository(this.context, mainHandler,
+            this.ioExecutor, db, db.measurementDao(), db.diaryDao(), seriesReader.get()));
+        searchRepository = new Lazy<>(() -> new SearchRepository(this.context, mainHandler,
+            this.ioExecutor, new SearchIndex(db)));
+        galleryRepository = new Lazy<>(() -> new GalleryRepository(this.context, mainHandler,
+            this.ioExecutor, db.plantPhotoDao()));
+        environmentRepository = new Lazy<>(() -> {
+            ArtificialLightEstimateSource artificialLightSource =
+                new DatabaseArtificialLightEstimateSource(plantDao, ledProfileDao, plantCalibrationDao);
+            return new EnvironmentRepository(this.context, mainHandler, this.ioExecutor,
+                db.environmentEntryDao(), this, artificialLightSource, seriesReader.get());
+        });
+        alertRepository = new Lazy<>(() -> new ProactiveAlertRepository(this.context, mainHandler,
+            this.ioExecutor, db.proactiveAlertDao()));
+        naturalLightRepository = new Lazy<>(() -> new NaturalLightRepository(this.context, mainHandler,
+            this.ioExecutor, db.naturalLightEstimateDao(), plantZoneDao, sharedPreferences));
+        calibrationManager = new Lazy<>(() -> new CalibrationManager(this.context, mainHandler,
+            this.ioExecutor, plantDao, plantCalibrationDao, ledProfileDao, ledProfileAssociationDao));
+        reminderSuggestionManager = new Lazy<>(() -> new ReminderSuggestionManager(this.context,
+            mainHandler, this.ioExecutor, plantDao, reminderRepository.get(),
+            environmentRepository.get(), speciesRepository.get(), new SmartReminderEngine(),
+            new ReminderSuggestionFormatter(this.context.getResources())));
+        careRecommendationService = new Lazy<>(() -> new CareRecommendationService(this.context,
+            mainHandler, this.ioExecutor, plantDao, speciesRepository.get(),
+            environmentRepository.get(), sharedPreferences, reminderSuggestionManager.get()));
     }
 
     // Helper method to get ExecutorService and perform checks
@@ -157,47 +182,55 @@ public class PlantRepository implements CareRecommendationDelegate {
     }
 
     public MeasurementRepository measurementRepository() {
-        return measurementRepository;
+        return measurementRepository.get();
     }
 
     public DiaryRepository diaryRepository() {
-        return diaryRepository;
+        return diaryRepository.get();
+    }
+
+    public StatsRepository statsRepository() {
+        return statsRepository.get();
+    }
+
+    public SearchRepository searchRepository() {
+        return searchRepository.get();
     }
 
     public EnvironmentRepository environmentRepository() {
-        return environmentRepository;
+        return environmentRepository.get();
     }
 
     public ReminderRepository reminderRepository() {
-        return reminderRepository;
+        return reminderRepository.get();
     }
 
     public SpeciesRepository speciesRepository() {
-        return speciesRepository;
+        return speciesRepository.get();
     }
 
     public GalleryRepository galleryRepository() {
-        return galleryRepository;
+        return galleryRepository.get();
     }
 
     public ProactiveAlertRepository alertRepository() {
-        return alertRepository;
+        return alertRepository.get();
     }
 
     public NaturalLightRepository naturalLightRepository() {
-        return naturalLightRepository;
+        return naturalLightRepository.get();
     }
 
     public CalibrationManager calibrationManager() {
-        return calibrationManager;
+        return calibrationManager.get();
     }
 
     public ReminderSuggestionManager reminderSuggestionManager() {
-        return reminderSuggestionManager;
+        return reminderSuggestionManager.get();
     }
 
     public CareRecommendationService careRecommendationService() {
-        return careRecommendationService;
+        return careRecommendationService.get();
     }
 
     /**
@@ -299,7 +332,10 @@ public class PlantRepository implements CareRecommendationDelegate {
      */
     public void updateLedProfile(LedProfile profile, Runnable callback,
                                  Consumer<Exception> errorCallback) {
-        runAsync(() -> ledProfileDao.update(profile), callback, errorCallback);
+        runAsync(() -> {
+            ledProfileDao.update(profile);
+            ArtificialLightEstimateCache.get().invalidate(profile.getId());
+        }, callback, errorCallback);
     }
 
     /**
@@ -328,6 +364,7 @@ public class PlantRepository implements CareRecommendationDelegate {
                 ledProfileAssociationDao.delete(association);
             }
             ledProfileDao.delete(profile);
+            ArtificialLightEstimateCache.get().invalidate(profileId);
         }, callback, errorCallback);
     }
 
@@ -396,17 +433,9 @@ public class PlantRepository implements CareRecommendationDelegate {
                                       Consumer<Exception> errorCallback) {
         PlantDatabase.databaseWriteExecutor.execute(() -> {
             try {
-                Plant plant = plantDao.findById(plantId);
-                LedProfile profile = null;
-                if (plant != null) {
-                    Long profileId = plant.getLedProfileId();
-                    if (profileId != null) {
-                        profile = ledProfileDao.findById(profileId);
-                    }
-                }
-                LedProfile finalProfile = profile;
+                LedProfile profile = ledProfileDao.findForPlant(plantId);
                 if (callback != null) {
-                    mainHandler.post(() -> callback.accept(finalProfile));
+                    mainHandler.post(() -> callback.accept(profile));
                 }
             } catch (Exception e) {
                 if (errorCallback != null) {
@@ -417,45 +446,45 @@ public class PlantRepository implements CareRecommendationDelegate {
     }
 
     public void getLedCalibrationForPlant(long plantId, Consumer<LedProfileCalibration> callback) {
-        calibrationManager.getLedCalibrationForPlant(plantId, callback);
+        calibrationManager().getLedCalibrationForPlant(plantId, callback);
     }
 
     public void getLedCalibrationForPlant(long plantId, Consumer<LedProfileCalibration> callback,
                                           Consumer<Exception> errorCallback) {
-        calibrationManager.getLedCalibrationForPlant(plantId, callback, errorCallback);
+        calibrationManager().getLedCalibrationForPlant(plantId, callback, errorCallback);
     }
 
     public void saveLedCalibrationForPlant(long plantId, float ambientFactor, float cameraFactor,
                                            Runnable callback) {
-        calibrationManager.saveLedCalibrationForPlant(plantId, ambientFactor, cameraFactor, callback);
+        calibrationManager().saveLedCalibrationForPlant(plantId, ambientFactor, cameraFactor, callback);
     }
 
     public void saveLedCalibrationForPlant(long plantId, float ambientFactor, float cameraFactor,
                                            Runnable callback, Consumer<Exception> errorCallback) {
-        calibrationManager.saveLedCalibrationForPlant(plantId, ambientFactor, cameraFactor, callback, errorCallback);
+        calibrationManager().saveLedCalibrationForPlant(plantId, ambientFactor, cameraFactor, callback, errorCallback);
     }
 
     @Deprecated
     public void getPlantCalibration(long plantId, Consumer<PlantCalibration> callback) {
-        calibrationManager.saveLedCalibrationForPlant(plantId, ambientFactor, cameraFactor, callback, errorCallback);
+        calibrationManager().saveLedCalibrationForPlant(plantId, ambientFactor, cameraFactor, callback, errorCallback);
     }
 
     @Deprecated
     public void getPlantCalibration(long plantId, Consumer<PlantCalibration> callback,
                                     Consumer<Exception> errorCallback) {
-        calibrationManager.getPlantCalibration(plantId, callback, errorCallback);
+        calibrationManager().getPlantCalibration(plantId, callback, errorCallback);
     }
 
     @Deprecated
     public void savePlantCalibration(long plantId, float ambientFactor, float cameraFactor,
                                      Runnable callback) {
-        calibrationManager.getPlantCalibration(plantId, callback, errorCallback);
+        calibrationManager().getPlantCalibration(plantId, callback, errorCallback);
     }
 
     @Deprecated
     public void savePlantCalibration(long plantId, float ambientFactor, float cameraFactor,
                                      Runnable callback, Consumer<Exception> errorCallback) {
-        calibrationManager.savePlantCalibration(plantId, ambientFactor, cameraFactor, callback, errorCallback);
+        calibrationManager().savePlantCalibration(plantId, ambientFactor, cameraFactor, callback, errorCallback);
     }
 
     private void runAsync(Runnable action, Runnable callback, Consumer<Exception> errorCallback) {
@@ -469,7 +498,11 @@ public class PlantRepository implements CareRecommendationDelegate {
 
     private void runAsync(Runnable action, Supplier<Runnable> postActionSupplier, Runnable callback,
                           Consumer<Exception> errorCallback) {
+        CallSiteMetrics metrics = CallSiteMetrics.of(action);
+        long enqueuedAt = System.nanoTime();
         PlantDatabase.databaseWriteExecutor.execute(() -> {
+            long startedAt = metrics.started(enqueuedAt);
+            Tracer.Span span = Tracer.begin(metrics.getName());
             try {
                 action.run();
                 Runnable suppliedPostAction = null;
@@ -499,13 +532,20 @@ public class PlantRepository implements CareRecommendationDelegate {
                 if (errorCallback != null) {
                     mainHandler.post(() -> errorCallback.accept(e));
                 }
+            } finally {
+                span.close();
+                metrics.finished(startedAt);
             }
         });
     }
 
     private <T> void queryAsync(Supplier<T> query, Consumer<T> callback,
                                 Consumer<Exception> errorCallback) {
+        CallSiteMetrics metrics = CallSiteMetrics.of(query);
+        long enqueuedAt = System.nanoTime();
         PlantDatabase.databaseWriteExecutor.execute(() -> {
+            long startedAt = metrics.started(enqueuedAt);
+            Tracer.Span span = Tracer.begin(metrics.getName());
             try {
                 T result = query.get();
                 if (callback != null) {
@@ -515,13 +555,16 @@ public class PlantRepository implements CareRecommendationDelegate {
                 if (errorCallback != null) {
                     mainHandler.post(() -> errorCallback.accept(e));
                 }
+            } finally {
+                span.close();
+                metrics.finished(startedAt);
             }
         });
     }
 
     @Override
     public Runnable refreshCareRecommendationsAsync(long plantId) {
-        return careRecommendationService.refreshCareRecommendationsAsync(plantId);
+        return careRecommendationService().refreshCareRecommendationsAsync(plantId);
     }
 
     public void getAllPlants(Consumer<List<Plant>> callback) {
@@ -560,13 +603,10 @@ public class PlantRepository implements CareRecommendationDelegate {
                 if (query == null || query.isEmpty()) {
                     result = plantDao.getAll();
                 } else {
-                    String normalized = UNSUPPORTED_CHARS.matcher(query).replaceAll(" ");
-                    normalized = RESERVED_FTS.matcher(normalized).replaceAll(" ");
-                    normalized = normalized.trim().replaceAll("\\s+", " ");
-                    if (normalized.isEmpty()) {
+                    String q = SearchIndex.toPrefixQuery(query);
+                    if (q == null) {
                         result = Collections.emptyList();
                     } else {
-                        String q = normalized + "*";
                         try {
                             result = plantDao.search(q);
                         } catch (SQLiteException e) {
@@ -586,6 +626,39 @@ public class PlantRepository implements CareRecommendationDelegate {
         });
     }
 
+    /**
+     * Loads the plant list together with each plant's status from the trigger-maintained
+     * summary table in a single query.
+     *
+     * @param order sort order of the list
+     */
+    public void getPlantListItems(PlantListItem.SortOrder order, Consumer<List<PlantListItem>> callback,
+                                  Consumer<Exception> errorCallback) {
+        queryAsync(() -> plantSummaryDao.getAll(order), callback, errorCallback);
+    }
+
+    /**
+     * Searches the plant list like {@link #searchPlants(String, Consumer, Consumer)}, including the
+     * status of each match. An empty query returns the whole list ordered by name.
+     */
+    public void searchPlantListItems(String query, Consumer<List<PlantListItem>> callback,
+                                     Consumer<Exception> errorCallback) {
+        queryAsync(() -> {
+            if (query == null || query.isEmpty()) {
+                return plantSummaryDao.getAllByName();
+            }
+            String q = SearchIndex.toPrefixQuery(query);
+            if (q == null) {
+                return Collections.<PlantListItem>emptyList();
+            }
+            try {
+                return plantSummaryDao.search(q);
+            } catch (SQLiteException e) {
+                return Collections.<PlantListItem>emptyList();
+            }
+        }, callback, errorCallback);
+    }
+
     public void getPlant(long plantId, Consumer<Plant> callback) {
         getPlant(plantId, callback, null);
     }
@@ -680,9 +753,9 @@ public class PlantRepository implements CareRecommendationDelegate {
         AtomicReference<List<PlantPhoto>> plantPhotosRef = new AtomicReference<>(Collections.emptyList());
         runAsync(() -> {
             long plantId = plant.getId();
-            List<EnvironmentEntry> entries = environmentRepository.getRecentEntriesForPlantSync(plantId, CARE_RECOMMENDATION_ENTRY_LIMIT);
-            remindersRef.set(reminderRepository.getRemindersForPlantSync(plantId));
-            List<PlantPhoto> photos = galleryRepository.getPlantPhotosForPlantSync(plantId);
+            List<EnvironmentEntry> entries = environmentRepository().getRecentEntriesForPlantSync(plantId, CARE_RECOMMENDATION_ENTRY_LIMIT);
+            remindersRef.set(reminderRepository().getRemindersForPlantSync(plantId));
+            List<PlantPhoto> photos = galleryRepository().getPlantPhotosForPlantSync(plantId);
             plantPhotosRef.set(photos);
             plantDao.delete(plant);
             SharedPreferences prefs = context.getSharedPreferences(SettingsKeys.PREFS_NAME, Context.MODE_PRIVATE);
@@ -701,38 +774,38 @@ public class PlantRepository implements CareRecommendationDelegate {
     }
 
     public void addPlantPhoto(long plantId, Uri sourceUri, Consumer<PlantPhoto> callback) {
-        galleryRepository.addPlantPhoto(plantId, sourceUri, callback);
+        galleryRepository().addPlantPhoto(plantId, sourceUri, callback);
     }
 
     public void addPlantPhoto(long plantId, Uri sourceUri, Consumer<PlantPhoto> callback,
                               Consumer<Exception> errorCallback) {
-        galleryRepository.addPlantPhoto(plantId, sourceUri, callback, errorCallback);
+        galleryRepository().addPlantPhoto(plantId, sourceUri, callback, errorCallback);
     }
 
     public void deletePlantPhoto(PlantPhoto photo, Runnable callback) {
-        galleryRepository.deletePlantPhoto(photo, callback);
+        galleryRepository().deletePlantPhoto(photo, callback);
     }
 
     public void deletePlantPhoto(PlantPhoto photo, Runnable callback, Consumer<Exception> errorCallback) {
-        galleryRepository.deletePlantPhoto(photo, callback, errorCallback);
+        galleryRepository().deletePlantPhoto(photo, callback, errorCallback);
     }
 
     public void plantPhotosForPlant(long plantId, Consumer<List<PlantPhoto>> callback) {
-        galleryRepository.plantPhotosForPlant(plantId, callback);
+        galleryRepository().plantPhotosForPlant(plantId, callback);
     }
 
     public void plantPhotosForPlant(long plantId, Consumer<List<PlantPhoto>> callback,
                                     Consumer<Exception> errorCallback) {
-        galleryRepository.plantPhotosForPlant(plantId, callback, errorCallback);
+        galleryRepository().plantPhotosForPlant(plantId, callback, errorCallback);
     }
 
     public void environmentEntriesForPlant(long plantId, Consumer<List<EnvironmentEntry>> callback) {
-        environmentRepository.environmentEntriesForPlant(plantId, callback);
+        environmentRepository().environmentEntriesForPlant(plantId, callback);
     }
 
     public void environmentEntriesForPlant(long plantId, Consumer<List<EnvironmentEntry>> callback,
                                            Consumer<Exception> errorCallback) {
-        environmentRepository.environmentEntriesForPlant(plantId, callback, errorCallback);
+        environmentRepository().environmentEntriesForPlant(plantId, callback, errorCallback);
     }
 
     public void insertEnvironmentEntry(EnvironmentEntry entry, Runnable callback) {
@@ -741,25 +814,25 @@ public class PlantRepository implements CareRecommendationDelegate {
 
     public void insertEnvironmentEntry(EnvironmentEntry entry, Runnable callback,
                                        Consumer<Exception> errorCallback) {
-        environmentRepository.insertEnvironmentEntry(entry, callback, errorCallback);
+        environmentRepository().insertEnvironmentEntry(entry, callback, errorCallback);
     }
 
     public void updateEnvironmentEntry(EnvironmentEntry entry, @Nullable String previousPhotoUri, Runnable callback) {
-        environmentRepository.updateEnvironmentEntry(entry, previousPhotoUri, callback);
+        environmentRepository().updateEnvironmentEntry(entry, previousPhotoUri, callback);
     }
 
     public void updateEnvironmentEntry(EnvironmentEntry entry, @Nullable String previousPhotoUri, Runnable callback,
                                        Consumer<Exception> errorCallback) {
-        environmentRepository.updateEnvironmentEntry(entry, previousPhotoUri, callback, errorCallback);
+        environmentRepository().updateEnvironmentEntry(entry, previousPhotoUri, callback, errorCallback);
     }
 
     public void deleteEnvironmentEntry(EnvironmentEntry entry, Runnable callback) {
-        environmentRepository.deleteEnvironmentEntry(entry, callback);
+        environmentRepository().deleteEnvironmentEntry(entry, callback);
     }
 
     public void deleteEnvironmentEntry(EnvironmentEntry entry, Runnable callback,
                                        Consumer<Exception> errorCallback) {
-        environmentRepository.deleteEnvironmentEntry(entry, callback, errorCallback);
+        environmentRepository().deleteEnvironmentEntry(entry, callback, errorCallback);
     }
 
     public void latestNaturalDliForPlant(long plantId, Consumer<EnvironmentEntry> callback) {
@@ -772,314 +845,314 @@ public class PlantRepository implements CareRecommendationDelegate {
     }
 
     public void latestLightForPlant(long plantId, Consumer<EnvironmentEntry> callback) {
-        environmentRepository.getLatestLight(plantId, callback);
+        environmentRepository().getLatestLight(plantId, callback);
     }
 
     public void latestLightForPlant(long plantId, Consumer<EnvironmentEntry> callback,
                                     Consumer<Exception> errorCallback) {
-        environmentRepository.getLatestLight(plantId, callback, errorCallback);
+        environmentRepository().getLatestLight(plantId, callback, errorCallback);
     }
 
     public void getCareRecommendations(long plantId,
                                        Consumer<List<CareRecommendation>> callback,
                                        Consumer<Exception> errorCallback) {
-        careRecommendationService.getCareRecommendations(plantId, callback, errorCallback);
+        careRecommendationService().getCareRecommendations(plantId, callback, errorCallback);
     }
 
     public void registerCareRecommendationListener(long plantId,
                                                    CareRecommendationService.CareRecommendationListener listener) {
-        careRecommendationService.registerCareRecommendationListener(plantId, listener);
+        careRecommendationService().registerCareRecommendationListener(plantId, listener);
     }
 
     public void unregisterCareRecommendationListener(long plantId,
                                                      CareRecommendationService.CareRecommendationListener listener) {
-        careRecommendationService.unregisterCareRecommendationListener(plantId, listener);
+        careRecommendationService().unregisterCareRecommendationListener(plantId, listener);
     }
 
     public void dismissCareRecommendation(long plantId, String recommendationId) {
-        careRecommendationService.dismissCareRecommendation(plantId, recommendationId);
+        careRecommendationService().dismissCareRecommendation(plantId, recommendationId);
     }
 
     public void dismissCareRecommendation(long plantId, String recommendationId,
                                           @Nullable Runnable callback,
                                           @Nullable Consumer<Exception> errorCallback) {
-        careRecommendationService.dismissCareRecommendation(plantId, recommendationId, callback, errorCallback);
+        careRecommendationService().dismissCareRecommendation(plantId, recommendationId, callback, errorCallback);
     }
 
     public void restoreCareRecommendation(long plantId, String recommendationId) {
-        careRecommendationService.restoreCareRecommendation(plantId, recommendationId);
+        careRecommendationService().restoreCareRecommendation(plantId, recommendationId);
     }
 
     public void restoreCareRecommendation(long plantId, String recommendationId,
                                           @Nullable Runnable callback,
                                           @Nullable Consumer<Exception> errorCallback) {
-        careRecommendationService.restoreCareRecommendation(plantId, recommendationId);
+        careRecommendationService().restoreCareRecommendation(plantId, recommendationId);
     }
 
     public void insertMeasurement(Measurement measurement, Runnable callback) {
-        measurementRepository.insertMeasurement(measurement, callback);
+        measurementRepository().insertMeasurement(measurement, callback);
     }
 
     public void insertMeasurement(Measurement measurement, Runnable callback, Consumer<Exception> errorCallback) {
-        measurementRepository.insertMeasurement(measurement, callback, errorCallback);
+        measurementRepository().insertMeasurement(measurement, callback, errorCallback);
     }
 
     public void updateMeasurement(Measurement measurement, Runnable callback) {
-        measurementRepository.updateMeasurement(measurement, callback);
+        measurementRepository().updateMeasurement(measurement, callback);
     }
 
     public void updateMeasurement(Measurement measurement, Runnable callback, Consumer<Exception> errorCallback) {
-        measurementRepository.updateMeasurement(measurement, callback, errorCallback);
+        measurementRepository().updateMeasurement(measurement, callback, errorCallback);
     }
 
     public void deleteMeasurement(Measurement measurement, Runnable callback) {
-        measurementRepository.deleteMeasurement(measurement, callback);
+        measurementRepository().deleteMeasurement(measurement, callback);
     }
 
     public void deleteMeasurement(Measurement measurement, Runnable callback, Consumer<Exception> errorCallback) {
-        measurementRepository.deleteMeasurement(measurement, callback, errorCallback);
+        measurementRepository().deleteMeasurement(measurement, callback, errorCallback);
     }
 
     public void insertDiaryEntry(DiaryEntry entry, Runnable callback) {
-        diaryRepository.insertDiaryEntry(entry, callback);
+        diaryRepository().insertDiaryEntry(entry, callback);
     }
 
     public void insertDiaryEntry(DiaryEntry entry, Runnable callback, Consumer<Exception> errorCallback) {
-        diaryRepository.insertDiaryEntry(entry, callback, errorCallback);
+        diaryRepository().insertDiaryEntry(entry, callback, errorCallback);
     }
 
     public void updateDiaryEntry(DiaryEntry entry, Runnable callback) {
-        diaryRepository.updateDiaryEntry(entry, callback);
+        diaryRepository().updateDiaryEntry(entry, callback);
     }
 
     public void updateDiaryEntry(DiaryEntry entry, Runnable callback, Consumer<Exception> errorCallback) {
-        diaryRepository.updateDiaryEntry(entry, callback, errorCallback);
+        diaryRepository().updateDiaryEntry(entry, callback, errorCallback);
     }
 
     public void deleteDiaryEntry(DiaryEntry entry, Runnable callback) {
-        diaryRepository.deleteDiaryEntry(entry, callback);
+        diaryRepository().deleteDiaryEntry(entry, callback);
     }
 
     public void deleteDiaryEntry(DiaryEntry entry, Runnable callback, Consumer<Exception> errorCallback) {
-        diaryRepository.deleteDiaryEntry(entry, callback, errorCallback);
+        diaryRepository().deleteDiaryEntry(entry, callback, errorCallback);
     }
 
     public void getAllReminders(Consumer<List<Reminder>> callback) {
-        reminderRepository.getAllReminders(callback);
+        reminderRepository().getAllReminders(callback);
     }
 
     public void getAllReminders(Consumer<List<Reminder>> callback, Consumer<Exception> errorCallback) {
-        reminderRepository.getAllReminders(callback, errorCallback);
+        reminderRepository().getAllReminders(callback, errorCallback);
     }
 
     public boolean insertReminder(Reminder reminder, Runnable callback) {
-        return reminderRepository.insertReminder(reminder, callback, null);
+        return reminderRepository().insertReminder(reminder, callback, null);
     }
 
     public boolean insertReminder(Reminder reminder, Runnable callback, Consumer<Exception> errorCallback) {
-        return reminderRepository.insertReminder(reminder, callback, errorCallback);
+        return reminderRepository().insertReminder(reminder, callback, errorCallback);
     }
 
     public boolean updateReminder(Reminder reminder, Runnable callback) {
-        return reminderRepository.updateReminder(reminder, callback);
+        return reminderRepository().updateReminder(reminder, callback);
     }
 
     public boolean updateReminder(Reminder reminder, Runnable callback, Consumer<Exception> errorCallback) {
-        return reminderRepository.updateReminder(reminder, callback, errorCallback);
+        return reminderRepository().updateReminder(reminder, callback, errorCallback);
     }
 
     public void deleteReminderById(long id, Runnable callback) {
-        reminderRepository.deleteReminderById(id, callback);
+        reminderRepository().deleteReminderById(id, callback);
     }
 
     public void deleteReminderById(long id, Runnable callback, Consumer<Exception> errorCallback) {
-        reminderRepository.deleteReminderById(id, callback, errorCallback);
+        reminderRepository().deleteReminderById(id, callback, errorCallback);
     }
 
     public void getReminderSuggestion(long plantId, Consumer<ReminderSuggestion> callback) {
-        reminderSuggestionManager.getReminderSuggestion(plantId, callback);
+        reminderSuggestionManager().getReminderSuggestion(plantId, callback);
     }
 
     public void getReminderSuggestion(long plantId, Consumer<ReminderSuggestion> callback,
                                       Consumer<Exception> errorCallback) {
-        reminderSuggestionManager.getReminderSuggestion(plantId, callback);
+        reminderSuggestionManager().getReminderSuggestion(plantId, callback);
     }
 
     public void computeReminderSuggestion(long plantId, Consumer<ReminderSuggestion> callback) {
-        reminderSuggestionManager.computeReminderSuggestion(plantId, callback);
+        reminderSuggestionManager().computeReminderSuggestion(plantId, callback);
     }
 
     public void computeReminderSuggestion(long plantId, Consumer<ReminderSuggestion> callback,
                                           Consumer<Exception> errorCallback) {
-        reminderSuggestionManager.computeReminderSuggestion(plantId, callback, errorCallback);
+        reminderSuggestionManager().computeReminderSuggestion(plantId, callback, errorCallback);
     }
 
     public ReminderSuggestion refreshReminderSuggestionSync(long plantId) {
-        return reminderSuggestionManager.refreshReminderSuggestionSync(plantId);
+        return reminderSuggestionManager().refreshReminderSuggestionSync(plantId);
     }
 
     public void refreshAllReminderSuggestionsSync() {
-        return reminderSuggestionManager.refreshReminderSuggestionSync(plantId);
+        reminderSuggestionManager().refreshAllReminderSuggestionsSync();
     }
 
     public void getSpeciesTarget(String speciesKey, Consumer<SpeciesTarget> callback) {
-        speciesRepository.getSpeciesTarget(speciesKey, callback);
+        speciesRepository().getSpeciesTarget(speciesKey, callback);
     }
 
     public void getSpeciesTarget(String speciesKey, Consumer<SpeciesTarget> callback, Consumer<Exception> errorCallback) {
-        speciesRepository.getSpeciesTarget(speciesKey, callback, errorCallback);
+        speciesRepository().getSpeciesTarget(speciesKey, callback, errorCallback);
     }
 
     public void getPlantProfileByCommonName(String commonName, Consumer<PlantProfile> callback) {
-        speciesRepository.getPlantProfileByCommonName(commonName, callback);
+        speciesRepository().getPlantProfileByCommonName(commonName, callback);
     }
 
     public void getPlantProfileByCommonName(String commonName, Consumer<PlantProfile> callback,
                                             Consumer<Exception> errorCallback) {
-        speciesRepository.getPlantProfileByCommonName(commonName, callback, errorCallback);
+        speciesRepository().getPlantProfileByCommonName(commonName, callback, errorCallback);
     }
 
     public void getPlantProfileByScientificName(String scientificName, Consumer<PlantProfile> callback) {
-        speciesRepository.getPlantProfileByScientificName(scientificName, callback);
+        speciesRepository().getPlantProfileByScientificName(scientificName, callback);
     }
 
     public void getPlantProfileByScientificName(String scientificName, Consumer<PlantProfile> callback,
                                                 Consumer<Exception> errorCallback) {
-        speciesRepository.getPlantProfileByScientificName(scientificName, callback, errorCallback);
+        speciesRepository().getPlantProfileByScientificName(scientificName, callback, errorCallback);
     }
 
     public void getAllSpeciesTargets(Consumer<List<SpeciesTarget>> callback) {
-        speciesRepository.getAllSpeciesTargets(callback);
+        speciesRepository().getAllSpeciesTargets(callback);
     }
 
     public void getAllSpeciesTargets(Consumer<List<SpeciesTarget>> callback, Consumer<Exception> errorCallback) {
-        speciesRepository.getAllSpeciesTargets(callback, errorCallback);
+        speciesRepository().getAllSpeciesTargets(callback, errorCallback);
     }
 
     public void getPlantProfilesByCategory(SpeciesTarget.Category category,
                                            Consumer<List<PlantProfile>> callback) {
-        speciesRepository.getPlantProfilesByCategory(category, callback);
+        speciesRepository().getPlantProfilesByCategory(category, callback);
     }
 
     public void getPlantProfilesByCategory(SpeciesTarget.Category category,
                                            Consumer<List<PlantProfile>> callback,
                                            Consumer<Exception> errorCallback) {
-        speciesRepository.getPlantProfilesByCategory(category, callback, errorCallback);
+        speciesRepository().getPlantProfilesByCategory(category, callback, errorCallback);
     }
 
     public void getPlantProfilesByGrowthHabit(String growthHabit, Consumer<List<PlantProfile>> callback) {
-        speciesRepository.getPlantProfilesByGrowthHabit(growthHabit, callback);
+        speciesRepository().getPlantProfilesByGrowthHabit(growthHabit, callback);
     }
 
     public void getPlantProfilesByGrowthHabit(String growthHabit, Consumer<List<PlantProfile>> callback,
                                               Consumer<Exception> errorCallback) {
-        speciesRepository.getPlantProfilesByGrowthHabit(growthHabit, callback, errorCallback);
+        speciesRepository().getPlantProfilesByGrowthHabit(growthHabit, callback, errorCallback);
     }
 
     public void getPlantProfilesByToxicity(boolean isToxic, Consumer<List<PlantProfile>> callback) {
-        speciesRepository.getPlantProfilesByToxicity(isToxic, callback);
+        speciesRepository().getPlantProfilesByToxicity(isToxic, callback);
     }
 
     public void getPlantProfilesByToxicity(boolean isToxic, Consumer<List<PlantProfile>> callback,
                                            Consumer<Exception> errorCallback) {
-        speciesRepository.getPlantProfilesByToxicity(isToxic, callback, errorCallback);
+        speciesRepository().getPlantProfilesByToxicity(isToxic, callback, errorCallback);
     }
 
     public void getPlantProfilesWithUnknownToxicity(Consumer<List<PlantProfile>> callback) {
-        speciesRepository.getPlantProfilesWithUnknownToxicity(callback);
+        speciesRepository().getPlantProfilesWithUnknownToxicity(callback);
     }
 
     public void getPlantProfilesWithUnknownToxicity(Consumer<List<PlantProfile>> callback,
                                                     Consumer<Exception> errorCallback) {
-        speciesRepository.getPlantProfilesWithUnknownToxicity(callback, errorCallback);
+        speciesRepository().getPlantProfilesWithUnknownToxicity(callback, errorCallback);
     }
 
     public void insertSpeciesTarget(SpeciesTarget target, Runnable callback) {
-        speciesRepository.insertSpeciesTarget(target, callback);
+        speciesRepository().insertSpeciesTarget(target, callback);
     }
 
     public void insertSpeciesTarget(SpeciesTarget target, Runnable callback, Consumer<Exception> errorCallback) {
-        speciesRepository.insertSpeciesTarget(target, callback, errorCallback);
+        speciesRepository().insertSpeciesTarget(target, callback, errorCallback);
     }
 
     public void deleteSpeciesTarget(String speciesKey, Runnable callback) {
-        speciesRepository.deleteSpeciesTarget(speciesKey, callback);
+        speciesRepository().deleteSpeciesTarget(speciesKey, callback);
     }
 
     public void deleteSpeciesTarget(String speciesKey, Runnable callback, Consumer<Exception> errorCallback) {
-        speciesRepository.deleteSpeciesTarget(speciesKey, callback, errorCallback);
+        speciesRepository().deleteSpeciesTarget(speciesKey, callback, errorCallback);
     }
 
     public void getMeasurementsForPlant(long plantId, Consumer<List<Measurement>> callback) {
-        measurementRepository.getMeasurementsForPlant(plantId, callback);
+        measurementRepository().getMeasurementsForPlant(plantId, callback);
     }
 
     public void getMeasurementsForPlant(long plantId, Consumer<List<Measurement>> callback, Consumer<Exception> errorCallback) {
-        measurementRepository.getMeasurementsForPlant(plantId, callback, errorCallback);
+        measurementRepository().getMeasurementsForPlant(plantId, callback, errorCallback);
     }
 
     public void recentMeasurementsForPlant(long plantId, int limit, Consumer<List<Measurement>> callback) {
-        measurementRepository.recentMeasurementsForPlant(plantId, limit, callback);
+        measurementRepository().recentMeasurementsForPlant(plantId, limit, callback);
     }
 
     public void recentMeasurementsForPlant(long plantId, int limit, Consumer<List<Measurement>> callback, Consumer<Exception> errorCallback) {
-        measurementRepository.recentMeasurementsForPlant(plantId, limit, callback, errorCallback);
+        measurementRepository().recentMeasurementsForPlant(plantId, limit, callback, errorCallback);
     }
 
     public void measurementsForPlantSince(long plantId, long since, Consumer<List<Measurement>> callback) {
-        measurementRepository.measurementsForPlantSince(plantId, since, callback);
+        measurementRepository().measurementsForPlantSince(plantId, since, callback);
     }
 
     public void measurementsForPlantSince(long plantId, long since, Consumer<List<Measurement>> callback, Consumer<Exception> errorCallback) {
-        measurementRepository.measurementsForPlantSince(plantId, since, callback, errorCallback);
+        measurementRepository().measurementsForPlantSince(plantId, since, callback, errorCallback);
     }
 
     public void measurementsForPlantInRange(long plantId, long start, long end, Consumer<List<Measurement>> callback) {
-        measurementRepository.measurementsForPlantInRange(plantId, start, end, callback);
+        measurementRepository().measurementsForPlantInRange(plantId, start, end, callback);
     }
 
     public void measurementsForPlantInRange(long plantId, long start, long end, Consumer<List<Measurement>> callback, Consumer<Exception> errorCallback) {
-        measurementRepository.measurementsForPlantInRange(plantId, start, end, callback, errorCallback);
+        measurementRepository().measurementsForPlantInRange(plantId, start, end, callback, errorCallback);
     }
 
     public void sumPpfdForRange(long plantId, long start, long end, Consumer<Float> callback) {
-        measurementRepository.sumPpfdForRange(plantId, start, end, callback);
+        measurementRepository().sumPpfdForRange(plantId, start, end, callback);
     }
 
     public void sumPpfdForRange(long plantId, long start, long end, Consumer<Float> callback, Consumer<Exception> errorCallback) {
-        measurementRepository.sumPpfdForRange(plantId, start, end, callback);
+        measurementRepository().sumPpfdForRange(plantId, start, end, callback);
     }
 
     public void countDaysWithData(long plantId, long start, long end, Consumer<Integer> callback) {
-        measurementRepository.countDaysWithData(plantId, start, end, callback);
+        measurementRepository().countDaysWithData(plantId, start, end, callback);
     }
 
     public void countDaysWithData(long plantId, long start, long end, Consumer<Integer> callback, Consumer<Exception> errorCallback) {
-        measurementRepository.countDaysWithData(plantId, start, end, callback, errorCallback);
+        measurementRepository().countDaysWithData(plantId, start, end, callback, errorCallback);
     }
 
     public void sumPpfdAndCountDays(long plantId, long start, long end, Consumer<MeasurementDao.SumAndDays> callback) {
-        measurementRepository.sumPpfdAndCountDays(plantId, start, end, callback);
+        measurementRepository().sumPpfdAndCountDays(plantId, start, end, callback);
     }
 
     public void sumPpfdAndCountDays(long plantId, long start, long end, Consumer<MeasurementDao.SumAndDays> callback, Consumer<Exception> errorCallback) {
-        measurementRepository.sumPpfdAndCountDays(plantId, start, end, callback, errorCallback);
+        measurementRepository().sumPpfdAndCountDays(plantId, start, end, callback, errorCallback);
     }
 
     public void diaryEntriesForPlant(long plantId, Consumer<List<DiaryEntry>> callback) {
-        diaryRepository.diaryEntriesForPlant(plantId, callback);
+        diaryRepository().diaryEntriesForPlant(plantId, callback);
     }
 
     public void diaryEntriesForPlant(long plantId, Consumer<List<DiaryEntry>> callback, Consumer<Exception> errorCallback) {
-        diaryRepository.diaryEntriesForPlant(plantId, callback, errorCallback);
+        diaryRepository().diaryEntriesForPlant(plantId, callback, errorCallback);
     }
 
     public void searchDiaryEntries(long plantId, String query, Consumer<List<DiaryEntry>> callback) {
-        diaryRepository.searchDiaryEntries(plantId, query, callback);
+        diaryRepository().searchDiaryEntries(plantId, query, callback);
     }
 
     public void searchDiaryEntries(long plantId, String query, Consumer<List<DiaryEntry>> callback, Consumer<Exception> errorCallback) {
-        diaryRepository.searchDiaryEntries(plantId, query, callback, errorCallback);
+        diaryRepository().searchDiaryEntries(plantId, query, callback, errorCallback);
     }
 
     /**
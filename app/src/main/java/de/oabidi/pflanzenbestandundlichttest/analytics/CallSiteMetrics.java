@@ -0,0 +1,73 @@
+package de.oabidi.pflanzenbestandundlichttest.analytics;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Queue-wait and execution timers for one asynchronous call site.
+ *
+ * <p>A call site is identified by the class of the lambda handed to the executor, which is
+ * unique per source location and already names the enclosing repository (for example
+ * {@code repo.SpeciesRepository$$ExternalSyntheticLambda3.exec}). Looking up the timers is a
+ * single map read keyed by that class, so instrumenting every submission stays cheap.</p>
+ */
+public final class CallSiteMetrics {
+    private static final ConcurrentHashMap<Class<?>, CallSiteMetrics> SITES = new ConcurrentHashMap<>();
+
+    private final String name;
+    private final Timer queueWait;
+    private final Timer execution;
+
+    private CallSiteMetrics(@NonNull String site) {
+        MetricsRegistry registry = MetricsRegistry.get();
+        name = "repo." + site;
+        queueWait = registry.timer(name + ".wait");
+        execution = registry.timer(name + ".exec");
+    }
+
+    /**
+     * Returns the call site name, also used for its trace spans.
+     */
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the timers for the call site that created {@code task}.
+     */
+    @NonNull
+    public static CallSiteMetrics of(@NonNull Object task) {
+        Class<?> type = task.getClass();
+        CallSiteMetrics metrics = SITES.get(type);
+        if (metrics == null) {
+            metrics = SITES.computeIfAbsent(type, t -> new CallSiteMetrics(siteName(t)));
+        }
+        return metrics;
+    }
+
+    @NonNull
+    private static String siteName(@NonNull Class<?> type) {
+        String name = type.getName();
+        int lastDot = name.lastIndexOf('.');
+        return lastDot >= 0 ? name.substring(lastDot + 1) : name;
+    }
+
+    /**
+     * Records the time between submission at {@code enqueuedAt} and now, and returns now as the
+     * start of execution.
+     */
+    public long started(long enqueuedAt) {
+        long now = System.nanoTime();
+        queueWait.record(now - enqueuedAt);
+        return now;
+    }
+
+    /**
+     * Records the execution time since {@code startedAt}.
+     */
+    public void finished(long startedAt) {
+        execution.stop(startedAt);
+    }
+}
@@ -0,0 +1,38 @@
+package de.oabidi.pflanzenbestandundlichttest.analytics;
+
+import androidx.annotation.NonNull;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic counter that stays cheap under contention.
+ */
+public final class Counter {
+    private final String name;
+    private final LongAdder value = new LongAdder();
+
+    Counter(@NonNull String name) {
+        this.name = name;
+    }
+
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    public void increment() {
+        value.increment();
+    }
+
+    public void add(long delta) {
+        value.add(delta);
+    }
+
+    public long get() {
+        return value.sum();
+    }
+
+    void reset() {
+        value.reset();
+    }
+}
@@ -0,0 +1,177 @@
+package de.oabidi.pflanzenbestandundlichttest.analytics;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Process-wide registry of named {@link Counter counters}, {@link Timer timers} and
+ * {@link Histogram histograms}.
+ *
+ * <p>Metrics are created on first use and live for the lifetime of the process. Callers on hot
+ * paths should keep the returned instance instead of looking it up on every event.</p>
+ */
+public final class MetricsRegistry {
+    private static final MetricsRegistry INSTANCE = new MetricsRegistry();
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    private static final String HIT_SUFFIX = ".hit";
+    private static final String MISS_SUFFIX = ".miss";
+
+    private final ConcurrentHashMap<String, Counter> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final CopyOnWriteArrayList<ReportSection> sections = new CopyOnWriteArrayList<>();
+
+    private MetricsRegistry() {
+    }
+
+    @NonNull
+    public static MetricsRegistry get() {
+        return INSTANCE;
+    }
+
+    @NonNull
+    public Counter counter(@NonNull String name) {
+        Counter counter = counters.get(name);
+        return counter != null ? counter : counters.computeIfAbsent(name, Counter::new);
+    }
+
+    @NonNull
+    public Timer timer(@NonNull String name) {
+        Timer timer = timers.get(name);
+        return timer != null ? timer : timers.computeIfAbsent(name, Timer::new);
+    }
+
+    @NonNull
+    public Histogram histogram(@NonNull String name) {
+        Histogram histogram = histograms.get(name);
+        return histogram != null ? histogram : histograms.computeIfAbsent(name, Histogram::new);
+    }
+
+    /**
+     * Adds a section with its own report format to {@link #dump()}. Sections are reset together
+     * with the registry.
+     */
+    public void addSection(@NonNull ReportSection section) {
+        sections.addIfAbsent(section);
+    }
+
+    /**
+     * Clears all recorded values while keeping the metric instances held by callers valid.
+     */
+    public void reset() {
+        for (Counter counter : counters.values()) {
+            counter.reset();
+        }
+        for (Timer timer : timers.values()) {
+            timer.reset();
+        }
+        for (Histogram histogram : histograms.values()) {
+            histogram.reset();
+        }
+        for (ReportSection section : sections) {
+            section.reset();
+        }
+    }
+
+    /**
+     * Returns a plain-text report of all metrics sorted by name. Timers are reported in
+     * milliseconds.
+     */
+    @NonNull
+    public String dump() {
+        StringBuilder builder = new StringBuilder();
+        Map<String, Counter> sortedCounters = new TreeMap<>(counters);
+        for (Map.Entry<String, Counter> entry : sortedCounters.entrySet()) {
+            builder.append("counter ").append(entry.getKey())
+                .append(' ').append(entry.getValue().get()).append('\n');
+        }
+        // Counter pairs named "<prefix>.hit" and "<prefix>.miss" are also reported as a ratio.
+        for (Map.Entry<String, Counter> entry : sortedCounters.entrySet()) {
+            String name = entry.getKey();
+            if (!name.endsWith(HIT_SUFFIX)) {
+                continue;
+            }
+            String prefix = name.substring(0, name.length() - HIT_SUFFIX.length());
+            Counter misses = sortedCounters.get(prefix + MISS_SUFFIX);
+            long hits = entry.getValue().get();
+            long total = hits + (misses != null ? misses.get() : 0L);
+            if (total > 0L) {
+                builder.append("ratio ").append(prefix).append(".hit_ratio")
+                    .append(String.format(Locale.US, " %.3f", (double) hits / total)).append('\n');
+            }
+        }
+        for (Map.Entry<String, Timer> entry : new TreeMap<>(timers).entrySet()) {
+            Histogram.Snapshot snapshot = entry.getValue().snapshot();
+            if (snapshot.getCount() == 0L) {
+                continue;
+            }
+            builder.append("timer ").append(entry.getKey()).append(String.format(Locale.US,
+                " count=%d mean=%.3fms p50=%.3fms p90=%.3fms p99=%.3fms max=%.3fms total=%.1fms",
+                snapshot.getCount(),
+                snapshot.getMean() / NANOS_PER_MILLI,
+                snapshot.getValueAtPercentile(50) / NANOS_PER_MILLI,
+                snapshot.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                snapshot.getValueAtPercentile(99) / NANOS_PER_MILLI,
+                snapshot.getMax() / NANOS_PER_MILLI,
+                snapshot.getSum() / NANOS_PER_MILLI)).append('\n');
+        }
+        for (Map.Entry<String, Histogram> entry : new TreeMap<>(histograms).entrySet()) {
+            Histogram.Snapshot snapshot = entry.getValue().snapshot();
+            if (snapshot.getCount() == 0L) {
+                continue;
+            }
+            builder.append("histogram ").append(entry.getKey()).append(String.format(Locale.US,
+                " count=%d mean=%.1f p50=%d p90=%d p99=%d max=%d",
+                snapshot.getCount(),
+                snapshot.getMean(),
+                snapshot.getValueAtPercentile(50),
+                snapshot.getValueAtPercentile(90),
+                snapshot.getValueAtPercentile(99),
+                snapshot.getMax())).append('\n');
+        }
+        for (ReportSection section : sections) {
+            StringBuilder sectionText = new StringBuilder();
+            section.appendTo(sectionText);
+            if (sectionText.length() > 0) {
+                builder.append('\n').append(sectionText);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Writes {@link #dump()} to {@code file}, replacing its content.
+     */
+    public void dumpTo(@NonNull File file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writer.write(dump());
+        }
+    }
+
+    /**
+     * Report contributed by a component that keeps its own statistics.
+     */
+    public interface ReportSection {
+        /**
+         * Appends this section's plain-text report to {@code builder}, or nothing if there is
+         * nothing to report.
+         */
+        void appendTo(@NonNull StringBuilder builder);
+
+        /**
+         * Clears the statistics behind this section.
+         */
+        void reset();
+    }
+}
@@ -0,0 +1,52 @@
+package de.oabidi.pflanzenbestandundlichttest.analytics;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Histogram of durations in nanoseconds.
+ *
+ * <pre>
+ * long start = timer.start();
+ * ...
+ * timer.stop(start);
+ * </pre>
+ */
+public final class Timer {
+    private final Histogram histogram;
+
+    Timer(@NonNull String name) {
+        histogram = new Histogram(name);
+    }
+
+    @NonNull
+    public String getName() {
+        return histogram.getName();
+    }
+
+    /**
+     * Returns the current {@link System#nanoTime()} for a later {@link #stop(long)}.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the time elapsed since {@code startNanos}.
+     */
+    public void stop(long startNanos) {
+        histogram.record(System.nanoTime() - startNanos);
+    }
+
+    public void record(long durationNanos) {
+        histogram.record(durationNanos);
+    }
+
+    @NonNull
+    public Histogram.Snapshot snapshot() {
+        return histogram.snapshot();
+    }
+
+    void reset() {
+        histogram.reset();
+    }
+}
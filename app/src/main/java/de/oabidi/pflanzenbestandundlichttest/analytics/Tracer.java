@@ -0,0 +1,288 @@
+package de.oabidi.pflanzenbestandundlichttest.analytics;
+
+import android.os.Build;
+import android.os.Process;
+import android.os.Trace;
+import android.util.JsonWriter;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Records individual operations as spans.
+ *
+ * <p>Every span is emitted as an {@link android.os.Trace} section so it appears in system trace
+ * captures. Completed spans are additionally kept in a bounded in-memory ring buffer that can be
+ * written as a Chrome/Perfetto JSON trace with {@link #exportTo(File)}, which opens directly in
+ * {@code ui.perfetto.dev}.</p>
+ *
+ * <p>{@link #begin(String)} spans must be closed on the thread that opened them. Operations
+ * handed between threads use {@link #beginAsync(String)}; their id can be attached to the spans
+ * of later steps with {@link Span#arg(String, long)} to follow one operation end to end.</p>
+ */
+public final class Tracer {
+    static final int CAPACITY = 2048;
+    private static final int MAX_SECTION_NAME_LENGTH = 127;
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    private static final Record[] buffer = new Record[CAPACITY];
+    private static final AtomicInteger nextId = new AtomicInteger(1);
+    private static int writeIndex;
+    private static int size;
+
+    private Tracer() {
+        // no instances
+    }
+
+    /**
+     * Starts a span that must be closed on the calling thread.
+     */
+    @NonNull
+    public static Span begin(@NonNull String name) {
+        Trace.beginSection(sectionName(name));
+        return new Span(name, false, 0);
+    }
+
+    /**
+     * Starts a span that may be closed on any thread.
+     */
+    @NonNull
+    public static Span beginAsync(@NonNull String name) {
+        int id = nextId.getAndIncrement();
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+            Trace.beginAsyncSection(sectionName(name), id);
+        }
+        return new Span(name, true, id);
+    }
+
+    /**
+     * Returns the recorded spans, oldest first.
+     */
+    @NonNull
+    public static List<Record> snapshot() {
+        synchronized (buffer) {
+            List<Record> records = new ArrayList<>(size);
+            int start = (writeIndex - size + CAPACITY) % CAPACITY;
+            for (int i = 0; i < size; i++) {
+                records.add(buffer[(start + i) % CAPACITY]);
+            }
+            return records;
+        }
+    }
+
+    public static void clear() {
+        synchronized (buffer) {
+            for (int i = 0; i < CAPACITY; i++) {
+                buffer[i] = null;
+            }
+            writeIndex = 0;
+            size = 0;
+        }
+    }
+
+    /**
+     * Writes all recorded spans to {@code file} in the Chrome trace event format, replacing its
+     * content.
+     */
+    public static void exportTo(@NonNull File file) throws IOException {
+        try (Writer writer = new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8)) {
+            writeJson(writer);
+        }
+    }
+
+    /**
+     * Writes all recorded spans as a Chrome trace event JSON object to {@code out}.
+     */
+    public static void writeJson(@NonNull Writer out) throws IOException {
+        List<Record> records = snapshot();
+        int pid = Process.myPid();
+        JsonWriter writer = new JsonWriter(out);
+        writer.beginObject();
+        writer.name("displayTimeUnit").value("ms");
+        writer.name("traceEvents").beginArray();
+        Map<Long, String> threadNames = new LinkedHashMap<>();
+        for (Record record : records) {
+            threadNames.put(record.threadId, record.threadName);
+            if (record.async) {
+                writeEvent(writer, record, pid, "b", record.startNanos, true);
+                writeEvent(writer, record, pid, "e", record.startNanos + record.durationNanos, false);
+            } else {
+                writeEvent(writer, record, pid, "X", record.startNanos, true);
+            }
+        }
+        for (Map.Entry<Long, String> thread : threadNames.entrySet()) {
+            writer.beginObject();
+            writer.name("name").value("thread_name");
+            writer.name("ph").value("M");
+            writer.name("pid").value(pid);
+            writer.name("tid").value(thread.getKey());
+            writer.name("args").beginObject().name("name").value(thread.getValue()).endObject();
+            writer.endObject();
+        }
+        writer.endArray();
+        writer.endObject();
+        writer.flush();
+    }
+
+    private static void writeEvent(JsonWriter writer, Record record, int pid, String phase,
+                                   long timestampNanos, boolean withArgs) throws IOException {
+        writer.beginObject();
+        writer.name("name").value(record.name);
+        writer.name("cat").value(category(record.name));
+        writer.name("ph").value(phase);
+        writer.name("ts").value(timestampNanos / NANOS_PER_MICRO);
+        if ("X".equals(phase)) {
+            writer.name("dur").value(record.durationNanos / NANOS_PER_MICRO);
+        }
+        if (record.async) {
+            writer.name("id").value(record.id);
+        }
+        writer.name("pid").value(pid);
+        writer.name("tid").value(record.threadId);
+        if (withArgs && record.args != null) {
+            writer.name("args").beginObject();
+            for (Map.Entry<String, Object> arg : record.args.entrySet()) {
+                Object value = arg.getValue();
+                writer.name(arg.getKey());
+                if (value instanceof Number) {
+                    writer.value((Number) value);
+                } else {
+                    writer.value(String.valueOf(value));
+                }
+            }
+            writer.endObject();
+        }
+        writer.endObject();
+    }
+
+    @NonNull
+    private static String category(@NonNull String name) {
+        int dot = name.indexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+
+    @NonNull
+    private static String sectionName(@NonNull String name) {
+        return name.length() <= MAX_SECTION_NAME_LENGTH ? name : name.substring(0, MAX_SECTION_NAME_LENGTH);
+    }
+
+    private static void record(@NonNull Record record) {
+        synchronized (buffer) {
+            buffer[writeIndex] = record;
+            writeIndex = (writeIndex + 1) % CAPACITY;
+            if (size < CAPACITY) {
+                size++;
+            }
+        }
+    }
+
+    /**
+     * Open span. Closing it ends the trace section and records the span. Arguments are attached
+     * by the thread that owns the span before it is closed.
+     */
+    public static final class Span implements AutoCloseable {
+        private final String name;
+        private final boolean async;
+        private final int id;
+        private final long startNanos;
+        @Nullable
+        private Map<String, Object> args;
+        private boolean closed;
+
+        private Span(@NonNull String name, boolean async, int id) {
+            this.name = name;
+            this.async = async;
+            this.id = id;
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Returns the id of an async span, used to correlate the steps of one operation, or
+         * {@code 0} for synchronous spans.
+         */
+        public int getId() {
+            return id;
+        }
+
+        @NonNull
+        public Span arg(@NonNull String key, long value) {
+            return putArg(key, value);
+        }
+
+        @NonNull
+        public Span arg(@NonNull String key, @Nullable String value) {
+            return putArg(key, value);
+        }
+
+        @NonNull
+        private Span putArg(@NonNull String key, @Nullable Object value) {
+            if (args == null) {
+                args = new LinkedHashMap<>();
+            }
+            args.put(key, value);
+            return this;
+        }
+
+        @Override
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            long duration = System.nanoTime() - startNanos;
+            if (async) {
+                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.Q) {
+                    Trace.endAsyncSection(sectionName(name), id);
+                }
+            } else {
+                Trace.endSection();
+            }
+            Thread thread = Thread.currentThread();
+            record(new Record(name, async, id, startNanos, duration, thread.getId(),
+                thread.getName(), args));
+        }
+    }
+
+    /**
+     * Completed span as kept in the ring buffer.
+     */
+    public static final class Record {
+        @NonNull
+        public final String name;
+        public final boolean async;
+        public final int id;
+        public final long startNanos;
+        public final long durationNanos;
+        public final long threadId;
+        @NonNull
+        public final String threadName;
+        @Nullable
+        public final Map<String, Object> args;
+
+        Record(@NonNull String name, boolean async, int id, long startNanos, long durationNanos,
+               long threadId, @NonNull String threadName, @Nullable Map<String, Object> args) {
+            this.name = name;
+            this.async = async;
+            this.id = id;
+            this.startNanos = startNanos;
+            this.durationNanos = durationNanos;
+            this.threadId = threadId;
+            this.threadName = threadName;
+            this.args = args;
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package de.oabidi.pflanzenbestandundlichttest.common.util;
+
+import androidx.annotation.NonNull;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe holder that creates its value on first access and returns the same instance
+ * afterwards.
+ *
+ * @param <T> type of the held value
+ */
+public final class Lazy<T> implements Supplier<T> {
+    private Supplier<? extends T> initializer;
+    private volatile T value;
+
+    public Lazy(@NonNull Supplier<? extends T> initializer) {
+        this.initializer = Objects.requireNonNull(initializer, "initializer");
+    }
+
+    @NonNull
+    @Override
+    public T get() {
+        T result = value;
+        if (result == null) {
+            synchronized (this) {
+                result = value;
+                if (result == null) {
+                    result = Objects.requireNonNull(initializer.get(), "initializer result");
+                    value = result;
+                    initializer = null;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns whether the value has been created.
+     */
+    public boolean isInitialized() {
+        return value != null;
+    }
+}
@@ -104,6 +104,18 @@ public final class SettingsKeys {
      * Timestamp for the last successful natural light fetch.
      */
     public static final String KEY_LAST_NATURAL_LIGHT_FETCH_TIME = "last_natural_light_fetch_time";
+    /**
+     * Longest edge, in pixels, that stored photos are downscaled to in the background.
+     */
+    public static final String KEY_PHOTO_MAX_DIMENSION = "photo_max_dimension";
+    /**
+     * JPEG quality (1-100) used when stored photos are transcoded.
+     */
+    public static final String KEY_PHOTO_QUALITY = "photo_quality";
+    /**
+     * Sort order of the plant list, stored as a {@code PlantListItem.SortOrder} name.
+     */
+    public static final String KEY_PLANT_LIST_SORT = "plant_list_sort";
 
     private SettingsKeys() {
         // Utility class
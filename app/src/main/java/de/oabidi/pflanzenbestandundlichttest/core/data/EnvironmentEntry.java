@@ -20,7 +20,7 @@ import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
         onDelete = ForeignKey.CASCADE
     ),
     indices = {
-        @Index("plantId"),
+        @Index({"plantId", "timestamp", "id"}),
         @Index("timestamp")
     }
 )
@@ -26,6 +26,33 @@ public interface EnvironmentEntryDao {
     @Query("SELECT * FROM EnvironmentEntry WHERE plantId = :plantId ORDER BY timestamp DESC, id DESC LIMIT :limit")
     List<EnvironmentEntry> getRecentForPlant(long plantId, int limit);
 
+    /**
+     * Returns the next page of environment entries older than the given keyset position, ordered
+     * by newest timestamp first. Pass {@link Long#MAX_VALUE} for both keys to read the first page.
+     */
+    @Query("SELECT * FROM EnvironmentEntry WHERE plantId = :plantId AND (timestamp < :beforeTimestamp OR (timestamp = :beforeTimestamp AND id < :beforeId)) ORDER BY timestamp DESC, id DESC LIMIT :limit")
+    List<EnvironmentEntry> getPageForPlant(long plantId, long beforeTimestamp, long beforeId, int limit);
+
+    /**
+     * Returns the photo references of all entries of the plant that carry a photo, newest first.
+     */
+    @Query("SELECT id, timestamp, photoUri FROM EnvironmentEntry WHERE plantId = :plantId AND photoUri IS NOT NULL AND photoUri != '' ORDER BY timestamp DESC, id DESC")
+    List<PhotoRef> getPhotoRefsForPlant(long plantId);
+
+    /**
+     * Returns the newest entry that has a natural DLI value recorded.
+     */
+    @Query("SELECT * FROM EnvironmentEntry WHERE plantId = :plantId AND naturalDli IS NOT NULL ORDER BY timestamp DESC, id DESC LIMIT 1")
+    @Nullable
+    EnvironmentEntry getLatestWithNaturalDli(long plantId);
+
+    /**
+     * Returns the newest entry that has an artificial DLI value recorded.
+     */
+    @Query("SELECT * FROM EnvironmentEntry WHERE plantId = :plantId AND artificialDli IS NOT NULL ORDER BY timestamp DESC, id DESC LIMIT 1")
+    @Nullable
+    EnvironmentEntry getLatestWithArtificialDli(long plantId);
+
     /**
      * Inserts the provided entry and returns its generated identifier.
      */
@@ -56,4 +83,13 @@ public interface EnvironmentEntryDao {
     @Query("SELECT * FROM EnvironmentEntry WHERE plantId = :plantId AND (naturalDli IS NOT NULL OR artificialDli IS NOT NULL) ORDER BY timestamp DESC, id DESC LIMIT 1")
     @Nullable
     EnvironmentEntry getLatestWithLight(long plantId);
+
+    /**
+     * Photo reference of a single environment entry.
+     */
+    class PhotoRef {
+        public long id;
+        public long timestamp;
+        public String photoUri;
+    }
 }
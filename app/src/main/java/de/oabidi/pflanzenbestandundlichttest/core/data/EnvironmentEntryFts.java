@@ -0,0 +1,27 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+import androidx.room.PrimaryKey;
+
+/**
+ * Full-text search entity indexing environment entry notes.
+ * <p>
+ * {@link EnvironmentEntry} is the content table, kept in sync by Room's triggers. The
+ * {@code rowid} matches the environment entry id.
+ */
+@Fts4(contentEntity = EnvironmentEntry.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61)
+@Entity(tableName = "EnvironmentEntryFts")
+public class EnvironmentEntryFts {
+    @PrimaryKey
+    @ColumnInfo(name = "rowid")
+    public final long rowId;
+    public final String notes;
+
+    public EnvironmentEntryFts(long rowId, String notes) {
+        this.rowId = rowId;
+        this.notes = notes;
+    }
+}
@@ -0,0 +1,62 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data;
+
+import androidx.annotation.NonNull;
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.Ignore;
+
+/**
+ * One calibration factor of a {@link LedProfile}, keyed by e.g.
+ * {@link LedProfile#CALIBRATION_KEY_AMBIENT}.
+ */
+@Entity(
+    primaryKeys = {"profileId", "calibrationKey"},
+    foreignKeys = @ForeignKey(
+        entity = LedProfile.class,
+        parentColumns = "id",
+        childColumns = "profileId",
+        onDelete = ForeignKey.CASCADE
+    )
+)
+public class LedCalibrationFactor {
+    private long profileId;
+    @NonNull
+    private String calibrationKey;
+    private float factor;
+
+    public LedCalibrationFactor() {
+        this.calibrationKey = "";
+    }
+
+    @Ignore
+    public LedCalibrationFactor(long profileId, @NonNull String calibrationKey, float factor) {
+        this.profileId = profileId;
+        this.calibrationKey = calibrationKey;
+        this.factor = factor;
+    }
+
+    public long getProfileId() {
+        return profileId;
+    }
+
+    public void setProfileId(long profileId) {
+        this.profileId = profileId;
+    }
+
+    @NonNull
+    public String getCalibrationKey() {
+        return calibrationKey;
+    }
+
+    public void setCalibrationKey(@NonNull String calibrationKey) {
+        this.calibrationKey = calibrationKey;
+    }
+
+    public float getFactor() {
+        return factor;
+    }
+
+    public void setFactor(float factor) {
+        this.factor = factor;
+    }
+}
@@ -38,9 +38,13 @@ public class LedProfile {
     @Nullable
     private Float mountingDistanceCm;
 
+    /** Stored as {@link LedCalibrationFactor} rows and loaded through {@link LedProfileWithSettings}. */
+    @Ignore
     @NonNull
     private Map<String, Float> calibrationFactors;
 
+    /** Stored as {@link LedScheduleWindow} rows and loaded through {@link LedProfileWithSettings}. */
+    @Ignore
     @NonNull
     private List<ScheduleEntry> schedule;
 
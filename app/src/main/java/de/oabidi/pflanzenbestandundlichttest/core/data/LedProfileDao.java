@@ -5,42 +5,144 @@ import androidx.room.Delete;
 import androidx.room.Insert;
 import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Transaction;
 import androidx.room.Update;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Data access object for {@link LedProfile} entries.
+ *
+ * <p>Schedules and calibration factors live in {@link LedScheduleWindow} and
+ * {@link LedCalibrationFactor} rows. The methods of this DAO read and write them together with
+ * the profile, so callers keep working with fully populated {@link LedProfile} instances.</p>
  */
 @Dao
 public interface LedProfileDao {
     /**
      * Returns all LED profiles stored in the database ordered by name.
      */
+    default List<LedProfile> getAll() {
+        return LedProfileWithSettings.toProfiles(getAllWithSettings());
+    }
+
+    @Transaction
     @Query("SELECT * FROM LedProfile ORDER BY name ASC")
-    List<LedProfile> getAll();
+    List<LedProfileWithSettings> getAllWithSettings();
 
     /**
      * Finds a LED profile by its identifier.
      */
+    default LedProfile findById(long id) {
+        return LedProfileWithSettings.toProfile(findWithSettingsById(id));
+    }
+
+    @Transaction
     @Query("SELECT * FROM LedProfile WHERE id = :id LIMIT 1")
-    LedProfile findById(long id);
+    LedProfileWithSettings findWithSettingsById(long id);
+
+    /**
+     * Returns the LED profile assigned to the given plant, or {@code null} if it has none.
+     */
+    default LedProfile findForPlant(long plantId) {
+        return LedProfileWithSettings.toProfile(findWithSettingsForPlant(plantId));
+    }
+
+    @Transaction
+    @Query("SELECT LedProfile.* FROM LedProfile JOIN Plant ON Plant.ledProfileId = LedProfile.id "
+        + "WHERE Plant.id = :plantId LIMIT 1")
+    LedProfileWithSettings findWithSettingsForPlant(long plantId);
+
+    /**
+     * Returns the profiles with a schedule window switched on at the given minute of the day,
+     * including windows that cross midnight.
+     *
+     * @param minuteOfDay minutes since midnight, {@code 0} to {@code 1439}
+     */
+    default List<LedProfile> getActiveAt(int minuteOfDay) {
+        return LedProfileWithSettings.toProfiles(getWithSettingsActiveAt(minuteOfDay));
+    }
+
+    @Transaction
+    @Query("SELECT * FROM LedProfile WHERE id IN (SELECT profileId FROM LedScheduleWindow "
+        + "WHERE intensityPercent > 0 AND startMinute >= 0 AND endMinute >= 0 AND ("
+        + "(startMinute < endMinute AND :minuteOfDay >= startMinute AND :minuteOfDay < endMinute) "
+        + "OR (startMinute > endMinute AND (:minuteOfDay >= startMinute OR :minuteOfDay < endMinute)))) "
+        + "ORDER BY name ASC")
+    List<LedProfileWithSettings> getWithSettingsActiveAt(int minuteOfDay);
 
     /**
-     * Inserts a new LED profile.
+     * Inserts a new LED profile together with its schedule and calibration factors.
      */
+    @Transaction
+    default long insert(LedProfile profile) {
+        long id = insertInternal(profile);
+        replaceSettings(id, profile);
+        return id;
+    }
+
     @Insert(onConflict = OnConflictStrategy.REPLACE)
-    long insert(LedProfile profile);
+    long insertInternal(LedProfile profile);
 
     /**
-     * Updates an existing LED profile.
+     * Updates an existing LED profile and replaces its schedule and calibration factors.
      */
+    @Transaction
+    default void update(LedProfile profile) {
+        updateInternal(profile);
+        replaceSettings(profile.getId(), profile);
+    }
+
     @Update
-    void update(LedProfile profile);
+    void updateInternal(LedProfile profile);
 
     /**
-     * Deletes the provided LED profile.
+     * Deletes the provided LED profile. Its schedule and calibration rows are removed by cascade.
      */
     @Delete
     void delete(LedProfile profile);
+
+    @Insert
+    void insertWindows(List<LedScheduleWindow> windows);
+
+    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    void insertFactors(List<LedCalibrationFactor> factors);
+
+    @Query("DELETE FROM LedScheduleWindow WHERE profileId = :profileId")
+    void deleteWindows(long profileId);
+
+    @Query("DELETE FROM LedCalibrationFactor WHERE profileId = :profileId")
+    void deleteFactors(long profileId);
+
+    /**
+     * Rewrites the schedule and calibration rows of {@code profileId} from {@code profile}.
+     */
+    default void replaceSettings(long profileId, LedProfile profile) {
+        deleteWindows(profileId);
+        deleteFactors(profileId);
+        List<LedScheduleWindow> windows = new ArrayList<>();
+        List<LedProfile.ScheduleEntry> schedule = profile.getSchedule();
+        for (int i = 0; i < schedule.size(); i++) {
+            LedProfile.ScheduleEntry entry = schedule.get(i);
+            if (entry != null) {
+                windows.add(new LedScheduleWindow(profileId, i, entry));
+            }
+        }
+        if (!windows.isEmpty()) {
+            insertWindows(windows);
+        }
+        List<LedCalibrationFactor> factors = new ArrayList<>();
+        for (Map.Entry<String, Float> factor : profile.getCalibrationFactors().entrySet()) {
+            String key = factor.getKey();
+            Float value = factor.getValue();
+            if (key != null && !key.isEmpty() && value != null) {
+                factors.add(new LedCalibrationFactor(profileId, key, value));
+            }
+        }
+        if (!factors.isEmpty()) {
+            insertFactors(factors);
+        }
+    }
 }
@@ -0,0 +1,72 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.Embedded;
+import androidx.room.Relation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Room relation loading a {@link LedProfile} together with its schedule windows and calibration
+ * factors. Room fetches the children of all returned profiles with one query per table.
+ */
+public class LedProfileWithSettings {
+    @Embedded
+    public LedProfile profile;
+
+    @Relation(parentColumn = "id", entityColumn = "profileId")
+    public List<LedScheduleWindow> windows;
+
+    @Relation(parentColumn = "id", entityColumn = "profileId")
+    public List<LedCalibrationFactor> factors;
+
+    /**
+     * Returns the profile with its schedule and calibration factors filled in.
+     */
+    @NonNull
+    public LedProfile toProfile() {
+        List<LedScheduleWindow> sorted = windows != null ? new ArrayList<>(windows) : new ArrayList<>();
+        Collections.sort(sorted, (a, b) -> Integer.compare(a.getPosition(), b.getPosition()));
+        List<LedProfile.ScheduleEntry> schedule = new ArrayList<>(sorted.size());
+        for (LedScheduleWindow window : sorted) {
+            schedule.add(window.toScheduleEntry());
+        }
+        Map<String, Float> calibration = new HashMap<>();
+        if (factors != null) {
+            for (LedCalibrationFactor factor : factors) {
+                calibration.put(factor.getCalibrationKey(), factor.getFactor());
+            }
+        }
+        profile.setSchedule(schedule);
+        profile.setCalibrationFactors(calibration);
+        return profile;
+    }
+
+    /**
+     * Converts a nullable single relation result.
+     */
+    @Nullable
+    public static LedProfile toProfile(@Nullable LedProfileWithSettings settings) {
+        return settings != null ? settings.toProfile() : null;
+    }
+
+    /**
+     * Converts a list of relation results, keeping their order.
+     */
+    @NonNull
+    public static List<LedProfile> toProfiles(@Nullable List<LedProfileWithSettings> settings) {
+        if (settings == null || settings.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<LedProfile> profiles = new ArrayList<>(settings.size());
+        for (LedProfileWithSettings item : settings) {
+            profiles.add(item.toProfile());
+        }
+        return profiles;
+    }
+}
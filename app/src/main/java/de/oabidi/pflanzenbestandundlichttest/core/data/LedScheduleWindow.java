@@ -0,0 +1,159 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.Ignore;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * One stored window of a {@link LedProfile} schedule.
+ *
+ * <p>Besides the original {@code HH:mm} strings each row keeps the window as minutes of the day,
+ * so schedules can be queried in SQL. Unparseable times are stored as {@code -1}. Windows crossing
+ * midnight keep a start minute greater than their end minute.</p>
+ */
+@Entity(
+    foreignKeys = @ForeignKey(
+        entity = LedProfile.class,
+        parentColumns = "id",
+        childColumns = "profileId",
+        onDelete = ForeignKey.CASCADE
+    ),
+    indices = @Index("profileId")
+)
+public class LedScheduleWindow {
+    @PrimaryKey(autoGenerate = true)
+    private long id;
+    private long profileId;
+    private int position;
+    @Nullable
+    private String startTime;
+    @Nullable
+    private String endTime;
+    private int startMinute;
+    private int endMinute;
+    private int intensityPercent;
+
+    public LedScheduleWindow() {
+    }
+
+    /**
+     * Creates the row storing {@code entry} at {@code position} of the profile's schedule.
+     */
+    @Ignore
+    public LedScheduleWindow(long profileId, int position, @NonNull LedProfile.ScheduleEntry entry) {
+        this.profileId = profileId;
+        this.position = position;
+        this.startTime = entry.getStartTime();
+        this.endTime = entry.getEndTime();
+        this.startMinute = parseMinuteOfDay(startTime);
+        this.endMinute = parseMinuteOfDay(endTime);
+        this.intensityPercent = entry.getIntensityPercent();
+    }
+
+    /**
+     * Returns the schedule entry represented by this row.
+     */
+    @NonNull
+    public LedProfile.ScheduleEntry toScheduleEntry() {
+        return new LedProfile.ScheduleEntry(startTime, endTime, intensityPercent);
+    }
+
+    /**
+     * Parses a {@code HH:mm} time into minutes since midnight.
+     *
+     * @return minute of the day, or {@code -1} if {@code time} is missing or malformed
+     */
+    public static int parseMinuteOfDay(@Nullable String time) {
+        if (time == null) {
+            return -1;
+        }
+        String trimmed = time.trim();
+        if (trimmed.isEmpty()) {
+            return -1;
+        }
+        int colon = trimmed.indexOf(':');
+        if (colon <= 0 || colon == trimmed.length() - 1) {
+            return -1;
+        }
+        try {
+            int hours = Integer.parseInt(trimmed.substring(0, colon));
+            int minutes = Integer.parseInt(trimmed.substring(colon + 1));
+            if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
+                return -1;
+            }
+            return hours * 60 + minutes;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public long getProfileId() {
+        return profileId;
+    }
+
+    public void setProfileId(long profileId) {
+        this.profileId = profileId;
+    }
+
+    public int getPosition() {
+        return position;
+    }
+
+    public void setPosition(int position) {
+        this.position = position;
+    }
+
+    @Nullable
+    public String getStartTime() {
+        return startTime;
+    }
+
+    public void setStartTime(@Nullable String startTime) {
+        this.startTime = startTime;
+    }
+
+    @Nullable
+    public String getEndTime() {
+        return endTime;
+    }
+
+    public void setEndTime(@Nullable String endTime) {
+        this.endTime = endTime;
+    }
+
+    public int getStartMinute() {
+        return startMinute;
+    }
+
+    public void setStartMinute(int startMinute) {
+        this.startMinute = startMinute;
+    }
+
+    public int getEndMinute() {
+        return endMinute;
+    }
+
+    public void setEndMinute(int endMinute) {
+        this.endMinute = endMinute;
+    }
+
+    public int getIntensityPercent() {
+        return intensityPercent;
+    }
+
+    public void setIntensityPercent(int intensityPercent) {
+        this.intensityPercent = intensityPercent;
+    }
+}
@@ -0,0 +1,72 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Columnar result of a series read: one ascending {@code long[]} of timestamps and, per requested
+ * {@link SeriesMetric}, a parallel {@code float[]} of values in which {@link Float#NaN} marks rows
+ * where that metric was not recorded.
+ *
+ * <p>The arrays are handed out without copying and must be treated as read-only.</p>
+ */
+public final class MetricColumns {
+    private final SeriesMetric[] metrics;
+    private final long[] timestamps;
+    private final float[][] values;
+
+    public MetricColumns(@NonNull SeriesMetric[] metrics, @NonNull long[] timestamps,
+                         @NonNull float[][] values) {
+        if (metrics.length != values.length) {
+            throw new IllegalArgumentException("Expected " + metrics.length + " value columns");
+        }
+        for (float[] column : values) {
+            if (column.length != timestamps.length) {
+                throw new IllegalArgumentException("Value column length differs from timestamps");
+            }
+        }
+        this.metrics = metrics.clone();
+        this.timestamps = timestamps;
+        this.values = values;
+    }
+
+    /**
+     * Returns the number of rows.
+     */
+    public int size() {
+        return timestamps.length;
+    }
+
+    @NonNull
+    public long[] getTimestamps() {
+        return timestamps;
+    }
+
+    /**
+     * Returns the values of the given metric.
+     *
+     * @throws IllegalArgumentException if the metric was not part of the read
+     */
+    @NonNull
+    public float[] getValues(@NonNull SeriesMetric metric) {
+        int index = Arrays.asList(metrics).indexOf(metric);
+        if (index < 0) {
+            throw new IllegalArgumentException("Metric not read: " + metric);
+        }
+        return values[index];
+    }
+
+    /**
+     * Returns how many rows hold a value for the given metric.
+     */
+    public int countPresent(@NonNull SeriesMetric metric) {
+        int count = 0;
+        for (float value : getValues(metric)) {
+            if (!Float.isNaN(value)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,124 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Objects;
+
+/**
+ * One hit of the global search: a plant, diary entry, species or environment entry whose text
+ * matched the query, together with a highlighted excerpt and its relevance score.
+ *
+ * <p>Matched terms in {@link #getSnippet()} are enclosed in {@link #MATCH_START} and
+ * {@link #MATCH_END}, which never occur in user text and are left for the UI to style.</p>
+ */
+public final class SearchResult {
+    public static final char MATCH_START = '\u0002';
+    public static final char MATCH_END = '\u0003';
+
+    /**
+     * Kind of record a result points to.
+     */
+    public enum Kind {
+        PLANT,
+        DIARY,
+        SPECIES,
+        ENVIRONMENT
+    }
+
+    @NonNull
+    private final Kind kind;
+    private final long id;
+    @Nullable
+    private final Long plantId;
+    @Nullable
+    private final String speciesKey;
+    @NonNull
+    private final String title;
+    @NonNull
+    private final String snippet;
+    private final double score;
+
+    public SearchResult(@NonNull Kind kind, long id, @Nullable Long plantId,
+                        @Nullable String speciesKey, @NonNull String title,
+                        @NonNull String snippet, double score) {
+        this.kind = kind;
+        this.id = id;
+        this.plantId = plantId;
+        this.speciesKey = speciesKey;
+        this.title = title;
+        this.snippet = snippet;
+        this.score = score;
+    }
+
+    @NonNull
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * @return row id of the matched record; for species this is the rowid of the target row
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * @return plant the matched record belongs to or {@code null} for species
+     */
+    @Nullable
+    public Long getPlantId() {
+        return plantId;
+    }
+
+    /**
+     * @return key of the matched species or {@code null} for other kinds
+     */
+    @Nullable
+    public String getSpeciesKey() {
+        return speciesKey;
+    }
+
+    /**
+     * @return plant name or species name the result is listed under
+     */
+    @NonNull
+    public String getTitle() {
+        return title;
+    }
+
+    @NonNull
+    public String getSnippet() {
+        return snippet;
+    }
+
+    /**
+     * @return relevance of the result; higher is better and only comparable within one search
+     */
+    public double getScore() {
+        return score;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SearchResult)) {
+            return false;
+        }
+        SearchResult that = (SearchResult) o;
+        return id == that.id
+            && Double.compare(score, that.score) == 0
+            && kind == that.kind
+            && Objects.equals(plantId, that.plantId)
+            && Objects.equals(speciesKey, that.speciesKey)
+            && title.equals(that.title)
+            && snippet.equals(that.snippet);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(kind, id, plantId, speciesKey, title, snippet, score);
+    }
+}
@@ -0,0 +1,66 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Numeric columns that can be read as time series through
+ * {@link de.oabidi.pflanzenbestandundlichttest.core.data.db.SeriesReader}. Each constant names the
+ * table, its timestamp column and the value column, so queries never interpolate caller input.
+ */
+public enum SeriesMetric {
+    TEMPERATURE(Source.ENVIRONMENT, "temperature"),
+    HUMIDITY(Source.ENVIRONMENT, "humidity"),
+    SOIL_MOISTURE(Source.ENVIRONMENT, "soilMoisture"),
+    HEIGHT(Source.ENVIRONMENT, "height"),
+    WIDTH(Source.ENVIRONMENT, "width"),
+    NATURAL_DLI(Source.ENVIRONMENT, "naturalDli"),
+    ARTIFICIAL_DLI(Source.ENVIRONMENT, "artificialDli"),
+    ARTIFICIAL_HOURS(Source.ENVIRONMENT, "artificialHours"),
+    LUX(Source.MEASUREMENT, "luxAvg"),
+    PPFD(Source.MEASUREMENT, "ppfd"),
+    DLI(Source.MEASUREMENT, "dli");
+
+    private final Source source;
+    private final String column;
+
+    SeriesMetric(@NonNull Source source, @NonNull String column) {
+        this.source = source;
+        this.column = column;
+    }
+
+    @NonNull
+    public Source getSource() {
+        return source;
+    }
+
+    @NonNull
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * Table a metric is stored in together with the column holding its timestamp.
+     */
+    public enum Source {
+        ENVIRONMENT("EnvironmentEntry", "timestamp"),
+        MEASUREMENT("Measurement", "timeEpoch");
+
+        private final String table;
+        private final String timestampColumn;
+
+        Source(@NonNull String table, @NonNull String timestampColumn) {
+            this.table = table;
+            this.timestampColumn = timestampColumn;
+        }
+
+        @NonNull
+        public String getTable() {
+            return table;
+        }
+
+        @NonNull
+        public String getTimestampColumn() {
+            return timestampColumn;
+        }
+    }
+}
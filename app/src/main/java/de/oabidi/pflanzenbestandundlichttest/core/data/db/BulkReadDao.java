@@ -2,11 +2,13 @@ package de.oabidi.pflanzenbestandundlichttest.core.data.db;
 
 import androidx.room.Dao;
 import androidx.room.Query;
+import androidx.room.Transaction;
 
 import java.util.List;
 
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfile;
+import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfileWithSettings;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantPhoto;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.DiaryEntry;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Measurement;
@@ -99,16 +101,26 @@ public interface BulkReadDao {
     List<SpeciesTarget> getAllSpeciesTargets();
 
     /**
-     * Retrieves all LED profiles.
+     * Retrieves all LED profiles including their schedules and calibration factors.
      */
+    default List<LedProfile> getAllLedProfiles() {
+        return LedProfileWithSettings.toProfiles(getAllLedProfilesWithSettings());
+    }
+
+    @Transaction
     @Query("SELECT * FROM LedProfile")
-    List<LedProfile> getAllLedProfiles();
+    List<LedProfileWithSettings> getAllLedProfilesWithSettings();
 
     /**
-     * Retrieves a specific LED profile by identifier.
+     * Retrieves a specific LED profile by identifier including its schedule and calibration factors.
      */
+    default LedProfile getLedProfile(long profileId) {
+        return LedProfileWithSettings.toProfile(getLedProfileWithSettings(profileId));
+    }
+
+    @Transaction
     @Query("SELECT * FROM LedProfile WHERE id = :profileId")
-    LedProfile getLedProfile(long profileId);
+    LedProfileWithSettings getLedProfileWithSettings(long profileId);
 
     /**
      * Retrieves all environment log entries.
@@ -91,6 +91,8 @@ public class Converters {
         return epochDay != null ? LocalDate.ofEpochDay(epochDay) : null;
     }
 
+    // LED calibration factors and schedules have their own tables since schema version 6; the JSON
+    // converters below remain for reading the legacy columns in MIGRATION_5_6.
     @TypeConverter
     public static Map<String, Float> fromJsonToCalibrationMap(String json) {
         Map<String, Float> factors = new HashMap<>();
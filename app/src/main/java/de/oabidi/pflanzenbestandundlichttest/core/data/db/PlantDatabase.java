@@ -1,6 +1,7 @@
 package de.oabidi.pflanzenbestandundlichttest.core.data.db;
 
 import android.content.Context;
+import android.content.pm.ApplicationInfo;
 import android.database.Cursor;
 import android.util.Log;
 
@@ -13,6 +14,7 @@ import androidx.room.TypeConverters;
 import androidx.room.migration.Migration;
 
 import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.framework.FrameworkSQLiteOpenHelperFactory;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -27,6 +29,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -39,14 +42,20 @@ import de.oabidi.pflanzenbestandundlichttest.core.data.plant.MeasurementDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantFts;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantSummary;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantSummaryDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTarget;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTargetDao;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTargetFts;
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntryDao;
+import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntryFts;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfile;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfileAssociation;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfileAssociationDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfileDao;
+import de.oabidi.pflanzenbestandundlichttest.core.data.LedCalibrationFactor;
+import de.oabidi.pflanzenbestandundlichttest.core.data.LedScheduleWindow;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantCalibration;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantCalibrationDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantPhoto;
@@ -80,16 +89,21 @@ import de.oabidi.pflanzenbestandundlichttest.feature.plant.PlantProfile;
         ReminderSuggestion.class,
         PlantFts.class,
         DiaryEntryFts.class,
+        SpeciesTargetFts.class,
+        EnvironmentEntryFts.class,
         PlantPhoto.class,
         PlantZone.class,
         PlantCalibration.class,
         EnvironmentEntry.class,
         LedProfile.class,
         LedProfileAssociation.class,
+        LedScheduleWindow.class,
+        LedCalibrationFactor.class,
         ProactiveAlertLog.class,
-        NaturalLightEstimate.class
+        NaturalLightEstimate.class,
+        PlantSummary.class
     },
-    version = 3
+    version = 8
 )
 @TypeConverters({Converters.class})
 public abstract class PlantDatabase extends RoomDatabase {
@@ -189,26 +203,173 @@ public abstract class PlantDatabase extends RoomDatabase {
         }
     };
 
+    public static final Migration MIGRATION_3_4 = new Migration(3, 4) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // Composite indices serve the per-day DLI streak query, reminder deduplication and the
+            // environment log's keyset pages; their leading plantId column replaces the former
+            // single-column indices.
+            database.execSQL("DROP INDEX IF EXISTS `index_Measurement_plantId`");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_Measurement_plantId_timeEpoch` " +
+                "ON `Measurement` (`plantId`, `timeEpoch`)");
+            database.execSQL("DROP INDEX IF EXISTS `index_Reminder_plantId`");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_Reminder_plantId_message` " +
+                "ON `Reminder` (`plantId`, `message`)");
+            database.execSQL("DROP INDEX IF EXISTS `index_EnvironmentEntry_plantId`");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_EnvironmentEntry_plantId_timestamp_id` " +
+                "ON `EnvironmentEntry` (`plantId`, `timestamp`, `id`)");
+        }
+    };
+
+    public static final Migration MIGRATION_4_5 = new Migration(4, 5) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_Reminder_triggerAt` " +
+                "ON `Reminder` (`triggerAt`)");
+        }
+    };
+
+    public static final Migration MIGRATION_5_6 = new Migration(5, 6) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // LED schedules and calibration factors move from JSON columns into their own tables.
+            List<Long> profileIds = new ArrayList<>();
+            List<String> schedules = new ArrayList<>();
+            List<String> calibrations = new ArrayList<>();
+            try (Cursor cursor = database.query(
+                "SELECT id, schedule, calibrationFactors FROM LedProfile")) {
+                while (cursor.moveToNext()) {
+                    profileIds.add(cursor.getLong(0));
+                    schedules.add(cursor.isNull(1) ? null : cursor.getString(1));
+                    calibrations.add(cursor.isNull(2) ? null : cursor.getString(2));
+                }
+            }
+
+            database.execSQL("CREATE TABLE IF NOT EXISTS `LedProfile_new` (" +
+                "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, " +
+                "`name` TEXT NOT NULL, " +
+                "`type` TEXT, " +
+                "`mountingDistanceCm` REAL)");
+            database.execSQL("INSERT INTO `LedProfile_new` (`id`, `name`, `type`, `mountingDistanceCm`) " +
+                "SELECT `id`, `name`, `type`, `mountingDistanceCm` FROM `LedProfile`");
+            database.execSQL("DROP TABLE `LedProfile`");
+            database.execSQL("ALTER TABLE `LedProfile_new` RENAME TO `LedProfile`");
+
+            database.execSQL("CREATE TABLE IF NOT EXISTS `LedScheduleWindow` (" +
+                "`id` INTEGER PRIMARY KEY AUTOINCREMENT NOT NULL, " +
+                "`profileId` INTEGER NOT NULL, " +
+                "`position` INTEGER NOT NULL, " +
+                "`startTime` TEXT, " +
+                "`endTime` TEXT, " +
+                "`startMinute` INTEGER NOT NULL, " +
+                "`endMinute` INTEGER NOT NULL, " +
+                "`intensityPercent` INTEGER NOT NULL, " +
+                "FOREIGN KEY(`profileId`) REFERENCES `LedProfile`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_LedScheduleWindow_profileId` " +
+                "ON `LedScheduleWindow` (`profileId`)");
+            database.execSQL("CREATE TABLE IF NOT EXISTS `LedCalibrationFactor` (" +
+                "`profileId` INTEGER NOT NULL, " +
+                "`calibrationKey` TEXT NOT NULL, " +
+                "`factor` REAL NOT NULL, " +
+                "PRIMARY KEY(`profileId`, `calibrationKey`), " +
+                "FOREIGN KEY(`profileId`) REFERENCES `LedProfile`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )");
+
+            for (int i = 0; i < profileIds.size(); i++) {
+                long profileId = profileIds.get(i);
+                try {
+                    List<LedProfile.ScheduleEntry> schedule = Converters.fromJsonToSchedule(schedules.get(i));
+                    for (int position = 0; position < schedule.size(); position++) {
+                        LedScheduleWindow window =
+                            new LedScheduleWindow(profileId, position, schedule.get(position));
+                        database.execSQL("INSERT INTO `LedScheduleWindow` (`profileId`, `position`, " +
+                                "`startTime`, `endTime`, `startMinute`, `endMinute`, `intensityPercent`) " +
+                                "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                            new Object[]{profileId, position, window.getStartTime(), window.getEndTime(),
+                                window.getStartMinute(), window.getEndMinute(), window.getIntensityPercent()});
+                    }
+                } catch (IllegalArgumentException e) {
+                    Log.w(TAG, "Dropping unreadable schedule of LED profile " + profileId, e);
+                }
+                try {
+                    Map<String, Float> factors = Converters.fromJsonToCalibrationMap(calibrations.get(i));
+                    for (Map.Entry<String, Float> factor : factors.entrySet()) {
+                        database.execSQL("INSERT OR REPLACE INTO `LedCalibrationFactor` " +
+                                "(`profileId`, `calibrationKey`, `factor`) VALUES (?, ?, ?)",
+                            new Object[]{profileId, factor.getKey(), factor.getValue()});
+                    }
+                } catch (IllegalArgumentException e) {
+                    Log.w(TAG, "Dropping unreadable calibration of LED profile " + profileId, e);
+                }
+            }
+        }
+    };
+
+    public static final Migration MIGRATION_6_7 = new Migration(6, 7) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            database.execSQL("CREATE TABLE IF NOT EXISTS `PlantSummary` (" +
+                "`plantId` INTEGER NOT NULL, " +
+                "`name` TEXT, " +
+                "`lastMeasurementEpoch` INTEGER, " +
+                "`latestPpfd` REAL, " +
+                "`latestDli` REAL, " +
+                "`lastEnvironmentEpoch` INTEGER, " +
+                "`lastDiaryEpoch` INTEGER, " +
+                "`nextReminderAt` INTEGER, " +
+                "`recentAlertCount` INTEGER NOT NULL, " +
+                "PRIMARY KEY(`plantId`), " +
+                "FOREIGN KEY(`plantId`) REFERENCES `Plant`(`id`) ON UPDATE NO ACTION ON DELETE CASCADE )");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_PlantSummary_name` " +
+                "ON `PlantSummary` (`name`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_PlantSummary_lastMeasurementEpoch` " +
+                "ON `PlantSummary` (`lastMeasurementEpoch`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_PlantSummary_nextReminderAt` " +
+                "ON `PlantSummary` (`nextReminderAt`)");
+            database.execSQL("CREATE INDEX IF NOT EXISTS `index_PlantSummary_recentAlertCount_name` " +
+                "ON `PlantSummary` (`recentAlertCount` DESC, `name` ASC)");
+            PlantSummaryTriggers.install(database);
+            PlantSummaryTriggers.rebuild(database);
+        }
+    };
+
+    public static final Migration MIGRATION_7_8 = new Migration(7, 8) {
+        @Override
+        public void migrate(@NonNull SupportSQLiteDatabase database) {
+            // The old indexes stored their own copy of the text and were filled by the DAOs.
+            database.execSQL("DROP TABLE IF EXISTS `PlantFts`");
+            database.execSQL("DROP TABLE IF EXISTS `DiaryEntryFts`");
+            SearchIndex.install(database);
+            SearchIndex.rebuild(database);
+        }
+    };
+
     public static PlantDatabase getDatabase(Context context) {
         if (INSTANCE == null) {
             synchronized (PlantDatabase.class) {
                 if (INSTANCE == null) {
                     Context appContext = context.getApplicationContext();
-                    INSTANCE = Room.databaseBuilder(appContext,
+                    RoomDatabase.Builder<PlantDatabase> builder = Room.databaseBuilder(appContext,
                             PlantDatabase.class, "plant_database")
-                        .addMigrations(MIGRATION_1_2, MIGRATION_2_3)
+                        .addMigrations(MIGRATION_1_2, MIGRATION_2_3, MIGRATION_3_4,
+                            MIGRATION_4_5, MIGRATION_5_6, MIGRATION_6_7, MIGRATION_7_8)
                         // Fall back to destructive migrations when future schema diffs lack
                         // explicit migration paths (e.g., during development builds).
                         .fallbackToDestructiveMigration()
                         .fallbackToDestructiveMigrationOnDowngrade()
+                        .addCallback(new PlantSummaryTriggers())
                         .addCallback(new RoomDatabase.Callback() {
                             @Override
                             public void onCreate(@NonNull androidx.sqlite.db.SupportSQLiteDatabase db) {
                                 super.onCreate(db);
                                 databaseWriteExecutor.execute(() -> seedDatabase(appContext));
                             }
-                        })
-                        .build();
+                        });
+                    if ((appContext.getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0) {
+                        // Debug builds time every statement and capture plans of slow ones.
+                        builder.openHelperFactory(new ProfilingOpenHelperFactory(
+                            new FrameworkSQLiteOpenHelperFactory(), QueryProfiler.get()));
+                    }
+                    INSTANCE = builder.build();
                 }
             }
         }
@@ -403,6 +564,11 @@ public abstract class PlantDatabase extends RoomDatabase {
 
     public abstract PlantDao plantDao();
 
+    /**
+     * Provides the plant list with its per-plant status columns.
+     */
+    public abstract PlantSummaryDao plantSummaryDao();
+
     public abstract LedProfileDao ledProfileDao();
 
     public abstract LedProfileAssociationDao ledProfileAssociationDao();
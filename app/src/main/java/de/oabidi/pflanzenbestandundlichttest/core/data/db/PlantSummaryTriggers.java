@@ -0,0 +1,178 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.db;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantSummary;
+
+/**
+ * SQLite triggers that keep the {@link PlantSummary} table in sync with its source tables.
+ *
+ * <p>Inserts only compare the new row with the stored value. Deletes and updates re-read the
+ * affected plant's latest or earliest row, which the {@code plantId} indices of the source tables
+ * turn into a short index lookup, and only when the changed row could have been the one stored.
+ * Alert counts are always recounted, so rows replaced on conflict are not counted twice. They
+ * cover every alert still in the log, which the alert manager prunes to its retention window.</p>
+ *
+ * <p>Room does not manage triggers, so they are installed as a {@link RoomDatabase.Callback} on
+ * creation, by the migration that introduced the table and again on every open. The latter covers
+ * destructive migrations, which recreate the tables without calling {@link #onCreate}; the table
+ * is rebuilt whenever it does not hold one row per plant.</p>
+ */
+public final class PlantSummaryTriggers extends RoomDatabase.Callback {
+    static final String COLUMNS = "`plantId`, `name`, `lastMeasurementEpoch`, `latestPpfd`, " +
+        "`latestDli`, `lastEnvironmentEpoch`, `lastDiaryEpoch`, `nextReminderAt`, `recentAlertCount`";
+    static final String SELECT_FROM_PLANT = "SELECT p.`id`, p.`name`, " +
+        "(SELECT MAX(`timeEpoch`) FROM `Measurement` WHERE `plantId` = p.`id`), " +
+        "(SELECT `ppfd` FROM `Measurement` WHERE `plantId` = p.`id` " +
+        "ORDER BY `timeEpoch` DESC, `id` DESC LIMIT 1), " +
+        "(SELECT `dli` FROM `Measurement` WHERE `plantId` = p.`id` " +
+        "ORDER BY `timeEpoch` DESC, `id` DESC LIMIT 1), " +
+        "(SELECT MAX(`timestamp`) FROM `EnvironmentEntry` WHERE `plantId` = p.`id`), " +
+        "(SELECT MAX(`timeEpoch`) FROM `DiaryEntry` WHERE `plantId` = p.`id`), " +
+        "(SELECT MIN(`triggerAt`) FROM `Reminder` WHERE `plantId` = p.`id`), " +
+        "(SELECT COUNT(*) FROM `ProactiveAlertLog` WHERE `plantId` = p.`id`) " +
+        "FROM `Plant` p";
+
+    private static final String[] TRIGGERS = {
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_plant_insert` AFTER INSERT ON `Plant` BEGIN " +
+            "INSERT OR REPLACE INTO `PlantSummary` (" + COLUMNS + ") " +
+            SELECT_FROM_PLANT + " WHERE p.`id` = NEW.`id`; END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_plant_rename` AFTER UPDATE OF `name` ON `Plant` BEGIN " +
+            "UPDATE `PlantSummary` SET `name` = NEW.`name` WHERE `plantId` = NEW.`id`; END",
+
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_measurement_insert` AFTER INSERT ON `Measurement` BEGIN " +
+            "UPDATE `PlantSummary` SET `lastMeasurementEpoch` = NEW.`timeEpoch`, " +
+            "`latestPpfd` = NEW.`ppfd`, `latestDli` = NEW.`dli` " +
+            "WHERE `plantId` = NEW.`plantId` " +
+            "AND (`lastMeasurementEpoch` IS NULL OR `lastMeasurementEpoch` <= NEW.`timeEpoch`); END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_measurement_delete` AFTER DELETE ON `Measurement` BEGIN " +
+            refreshMeasurement("OLD") + " AND `lastMeasurementEpoch` <= OLD.`timeEpoch`; END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_measurement_update` " +
+            "AFTER UPDATE OF `plantId`, `timeEpoch`, `ppfd`, `dli` ON `Measurement` BEGIN " +
+            refreshMeasurement("OLD") + "; " + refreshMeasurement("NEW") + "; END",
+
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_environment_insert` AFTER INSERT ON `EnvironmentEntry` BEGIN " +
+            "UPDATE `PlantSummary` SET `lastEnvironmentEpoch` = NEW.`timestamp` " +
+            "WHERE `plantId` = NEW.`plantId` " +
+            "AND (`lastEnvironmentEpoch` IS NULL OR `lastEnvironmentEpoch` < NEW.`timestamp`); END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_environment_delete` AFTER DELETE ON `EnvironmentEntry` BEGIN " +
+            refreshEnvironment("OLD") + " AND `lastEnvironmentEpoch` <= OLD.`timestamp`; END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_environment_update` " +
+            "AFTER UPDATE OF `plantId`, `timestamp` ON `EnvironmentEntry` BEGIN " +
+            refreshEnvironment("OLD") + "; " + refreshEnvironment("NEW") + "; END",
+
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_diary_insert` AFTER INSERT ON `DiaryEntry` BEGIN " +
+            "UPDATE `PlantSummary` SET `lastDiaryEpoch` = NEW.`timeEpoch` " +
+            "WHERE `plantId` = NEW.`plantId` " +
+            "AND (`lastDiaryEpoch` IS NULL OR `lastDiaryEpoch` < NEW.`timeEpoch`); END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_diary_delete` AFTER DELETE ON `DiaryEntry` BEGIN " +
+            refreshDiary("OLD") + " AND `lastDiaryEpoch` <= OLD.`timeEpoch`; END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_diary_update` " +
+            "AFTER UPDATE OF `plantId`, `timeEpoch` ON `DiaryEntry` BEGIN " +
+            refreshDiary("OLD") + "; " + refreshDiary("NEW") + "; END",
+
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_reminder_insert` AFTER INSERT ON `Reminder` BEGIN " +
+            "UPDATE `PlantSummary` SET `nextReminderAt` = NEW.`triggerAt` " +
+            "WHERE `plantId` = NEW.`plantId` " +
+            "AND (`nextReminderAt` IS NULL OR `nextReminderAt` > NEW.`triggerAt`); END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_reminder_delete` AFTER DELETE ON `Reminder` BEGIN " +
+            refreshReminder("OLD") + " AND `nextReminderAt` >= OLD.`triggerAt`; END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_reminder_update` " +
+            "AFTER UPDATE OF `plantId`, `triggerAt` ON `Reminder` BEGIN " +
+            refreshReminder("OLD") + "; " + refreshReminder("NEW") + "; END",
+
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_alert_insert` AFTER INSERT ON `ProactiveAlertLog` BEGIN " +
+            refreshAlerts("NEW") + "; END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_alert_delete` AFTER DELETE ON `ProactiveAlertLog` BEGIN " +
+            refreshAlerts("OLD") + "; END",
+        "CREATE TRIGGER IF NOT EXISTS `plant_summary_alert_update` " +
+            "AFTER UPDATE OF `plantId` ON `ProactiveAlertLog` BEGIN " +
+            refreshAlerts("OLD") + "; " + refreshAlerts("NEW") + "; END"
+    };
+
+    @Override
+    public void onCreate(@NonNull SupportSQLiteDatabase db) {
+        super.onCreate(db);
+        install(db);
+    }
+
+    @Override
+    public void onOpen(@NonNull SupportSQLiteDatabase db) {
+        super.onOpen(db);
+        install(db);
+        if (countRows(db, "PlantSummary") != countRows(db, "Plant")) {
+            rebuild(db);
+        }
+    }
+
+    /**
+     * Creates all triggers that are not present yet.
+     */
+    public static void install(@NonNull SupportSQLiteDatabase db) {
+        for (String trigger : TRIGGERS) {
+            db.execSQL(trigger);
+        }
+    }
+
+    /**
+     * Recomputes every {@link PlantSummary} row from the source tables.
+     */
+    public static void rebuild(@NonNull SupportSQLiteDatabase db) {
+        db.execSQL("DELETE FROM `PlantSummary`");
+        db.execSQL("INSERT INTO `PlantSummary` (" + COLUMNS + ") " + SELECT_FROM_PLANT);
+    }
+
+    private static long countRows(@NonNull SupportSQLiteDatabase db, @NonNull String table) {
+        try (Cursor cursor = db.query("SELECT COUNT(*) FROM `" + table + "`")) {
+            return cursor.moveToFirst() ? cursor.getLong(0) : 0L;
+        }
+    }
+
+    @NonNull
+    private static String refreshMeasurement(@NonNull String row) {
+        String plantId = row + ".`plantId`";
+        return "UPDATE `PlantSummary` SET " +
+            "`lastMeasurementEpoch` = (SELECT MAX(`timeEpoch`) FROM `Measurement` WHERE `plantId` = " + plantId + "), " +
+            "`latestPpfd` = (SELECT `ppfd` FROM `Measurement` WHERE `plantId` = " + plantId +
+            " ORDER BY `timeEpoch` DESC, `id` DESC LIMIT 1), " +
+            "`latestDli` = (SELECT `dli` FROM `Measurement` WHERE `plantId` = " + plantId +
+            " ORDER BY `timeEpoch` DESC, `id` DESC LIMIT 1) " +
+            "WHERE `plantId` = " + plantId;
+    }
+
+    @NonNull
+    private static String refreshEnvironment(@NonNull String row) {
+        String plantId = row + ".`plantId`";
+        return "UPDATE `PlantSummary` SET `lastEnvironmentEpoch` = " +
+            "(SELECT MAX(`timestamp`) FROM `EnvironmentEntry` WHERE `plantId` = " + plantId + ") " +
+            "WHERE `plantId` = " + plantId;
+    }
+
+    @NonNull
+    private static String refreshDiary(@NonNull String row) {
+        String plantId = row + ".`plantId`";
+        return "UPDATE `PlantSummary` SET `lastDiaryEpoch` = " +
+            "(SELECT MAX(`timeEpoch`) FROM `DiaryEntry` WHERE `plantId` = " + plantId + ") " +
+            "WHERE `plantId` = " + plantId;
+    }
+
+    @NonNull
+    private static String refreshReminder(@NonNull String row) {
+        String plantId = row + ".`plantId`";
+        return "UPDATE `PlantSummary` SET `nextReminderAt` = " +
+            "(SELECT MIN(`triggerAt`) FROM `Reminder` WHERE `plantId` = " + plantId + ") " +
+            "WHERE `plantId` = " + plantId;
+    }
+
+    @NonNull
+    private static String refreshAlerts(@NonNull String row) {
+        String plantId = row + ".`plantId`";
+        return "UPDATE `PlantSummary` SET `recentAlertCount` = " +
+            "(SELECT COUNT(*) FROM `ProactiveAlertLog` WHERE `plantId` = " + plantId + ") " +
+            "WHERE `plantId` = " + plantId;
+    }
+}
@@ -0,0 +1,546 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.db;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.CursorWrapper;
+import android.database.SQLException;
+import android.database.sqlite.SQLiteTransactionListener;
+import android.os.CancellationSignal;
+import android.util.Pair;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+import androidx.sqlite.db.SupportSQLiteOpenHelper;
+import androidx.sqlite.db.SupportSQLiteProgram;
+import androidx.sqlite.db.SupportSQLiteQuery;
+import androidx.sqlite.db.SupportSQLiteStatement;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * {@link SupportSQLiteOpenHelper.Factory} that times every statement Room runs and reports it to
+ * {@link QueryProfiler}.
+ *
+ * <p>Queries are timed from execution until their cursor is closed, because SQLite only steps
+ * through the result while the cursor is read. Compiled statements are timed per execution.</p>
+ */
+public final class ProfilingOpenHelperFactory implements SupportSQLiteOpenHelper.Factory {
+    private final SupportSQLiteOpenHelper.Factory delegate;
+    private final QueryProfiler profiler;
+
+    public ProfilingOpenHelperFactory(@NonNull SupportSQLiteOpenHelper.Factory delegate,
+                                      @NonNull QueryProfiler profiler) {
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.profiler = Objects.requireNonNull(profiler, "profiler");
+    }
+
+    @NonNull
+    @Override
+    public SupportSQLiteOpenHelper create(@NonNull SupportSQLiteOpenHelper.Configuration configuration) {
+        return new ProfilingOpenHelper(delegate.create(configuration), profiler);
+    }
+
+    private static final class ProfilingOpenHelper implements SupportSQLiteOpenHelper {
+        private final SupportSQLiteOpenHelper delegate;
+        private final QueryProfiler profiler;
+        private volatile ProfilingDatabase writable;
+        private volatile ProfilingDatabase readable;
+
+        ProfilingOpenHelper(@NonNull SupportSQLiteOpenHelper delegate, @NonNull QueryProfiler profiler) {
+            this.delegate = delegate;
+            this.profiler = profiler;
+        }
+
+        @Nullable
+        @Override
+        public String getDatabaseName() {
+            return delegate.getDatabaseName();
+        }
+
+        @Override
+        public void setWriteAheadLoggingEnabled(boolean enabled) {
+            delegate.setWriteAheadLoggingEnabled(enabled);
+        }
+
+        @NonNull
+        @Override
+        public SupportSQLiteDatabase getWritableDatabase() {
+            SupportSQLiteDatabase database = delegate.getWritableDatabase();
+            ProfilingDatabase wrapper = writable;
+            if (wrapper == null || wrapper.delegate != database) {
+                wrapper = new ProfilingDatabase(database, profiler);
+                writable = wrapper;
+            }
+            return wrapper;
+        }
+
+        @NonNull
+        @Override
+        public SupportSQLiteDatabase getReadableDatabase() {
+            SupportSQLiteDatabase database = delegate.getReadableDatabase();
+            ProfilingDatabase wrapper = readable;
+            if (wrapper == null || wrapper.delegate != database) {
+                wrapper = new ProfilingDatabase(database, profiler);
+                readable = wrapper;
+            }
+            return wrapper;
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+    }
+
+    private static final class ProfilingDatabase implements SupportSQLiteDatabase {
+        final SupportSQLiteDatabase delegate;
+        private final QueryProfiler profiler;
+
+        ProfilingDatabase(@NonNull SupportSQLiteDatabase delegate, @NonNull QueryProfiler profiler) {
+            this.delegate = delegate;
+            this.profiler = profiler;
+        }
+
+        @NonNull
+        @Override
+        public SupportSQLiteStatement compileStatement(@NonNull String sql) {
+            return new ProfilingStatement(delegate.compileStatement(sql), sql, this);
+        }
+
+        @Override
+        public void beginTransaction() {
+            delegate.beginTransaction();
+        }
+
+        @Override
+        public void beginTransactionNonExclusive() {
+            delegate.beginTransactionNonExclusive();
+        }
+
+        @Override
+        public void beginTransactionWithListener(@NonNull SQLiteTransactionListener transactionListener) {
+            delegate.beginTransactionWithListener(transactionListener);
+        }
+
+        @Override
+        public void beginTransactionWithListenerNonExclusive(
+            @NonNull SQLiteTransactionListener transactionListener) {
+            delegate.beginTransactionWithListenerNonExclusive(transactionListener);
+        }
+
+        @Override
+        public void endTransaction() {
+            delegate.endTransaction();
+        }
+
+        @Override
+        public void setTransactionSuccessful() {
+            delegate.setTransactionSuccessful();
+        }
+
+        @Override
+        public boolean inTransaction() {
+            return delegate.inTransaction();
+        }
+
+        @Override
+        public boolean isDbLockedByCurrentThread() {
+            return delegate.isDbLockedByCurrentThread();
+        }
+
+        @Override
+        public boolean yieldIfContendedSafely() {
+            return delegate.yieldIfContendedSafely();
+        }
+
+        @Override
+        public boolean yieldIfContendedSafely(long sleepAfterYieldDelayMillis) {
+            return delegate.yieldIfContendedSafely(sleepAfterYieldDelayMillis);
+        }
+
+        @Override
+        public boolean isExecPerConnectionSQLSupported() {
+            return delegate.isExecPerConnectionSQLSupported();
+        }
+
+        @Override
+        public void execPerConnectionSQL(@NonNull String sql, @Nullable Object[] bindArgs) {
+            delegate.execPerConnectionSQL(sql, bindArgs);
+        }
+
+        @Override
+        public int getVersion() {
+            return delegate.getVersion();
+        }
+
+        @Override
+        public void setVersion(int version) {
+            delegate.setVersion(version);
+        }
+
+        @Override
+        public long getMaximumSize() {
+            return delegate.getMaximumSize();
+        }
+
+        @Override
+        public long setMaximumSize(long numBytes) {
+            return delegate.setMaximumSize(numBytes);
+        }
+
+        @Override
+        public long getPageSize() {
+            return delegate.getPageSize();
+        }
+
+        @Override
+        public void setPageSize(long pageSize) {
+            delegate.setPageSize(pageSize);
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull String query) {
+            long start = System.nanoTime();
+            return new ProfilingCursor(delegate.query(query), query, null, start, this);
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull String query, @NonNull Object[] bindArgs) {
+            long start = System.nanoTime();
+            return new ProfilingCursor(delegate.query(query, bindArgs), query, bindArgs, start, this);
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull SupportSQLiteQuery query) {
+            long start = System.nanoTime();
+            return new ProfilingCursor(delegate.query(query), query.getSql(), captureArgs(query),
+                start, this);
+        }
+
+        @NonNull
+        @Override
+        public Cursor query(@NonNull SupportSQLiteQuery query,
+                            @Nullable CancellationSignal cancellationSignal) {
+            long start = System.nanoTime();
+            return new ProfilingCursor(delegate.query(query, cancellationSignal), query.getSql(),
+                captureArgs(query), start, this);
+        }
+
+        @Override
+        public long insert(@NonNull String table, int conflictAlgorithm, @NonNull ContentValues values)
+            throws SQLException {
+            long start = System.nanoTime();
+            long rowId = delegate.insert(table, conflictAlgorithm, values);
+            record("INSERT INTO " + table, start, rowId != -1L ? 1L : 0L, null);
+            return rowId;
+        }
+
+        @Override
+        public int delete(@NonNull String table, @Nullable String whereClause,
+                          @Nullable Object[] whereArgs) {
+            long start = System.nanoTime();
+            int deleted = delegate.delete(table, whereClause, whereArgs);
+            record("DELETE FROM " + table + (whereClause != null ? " WHERE " + whereClause : ""),
+                start, deleted, whereArgs);
+            return deleted;
+        }
+
+        @Override
+        public int update(@NonNull String table, int conflictAlgorithm, @NonNull ContentValues values,
+                          @Nullable String whereClause, @Nullable Object[] whereArgs) {
+            long start = System.nanoTime();
+            int updated = delegate.update(table, conflictAlgorithm, values, whereClause, whereArgs);
+            record("UPDATE " + table + (whereClause != null ? " WHERE " + whereClause : ""),
+                start, updated, whereArgs);
+            return updated;
+        }
+
+        @Override
+        public void execSQL(@NonNull String sql) throws SQLException {
+            long start = System.nanoTime();
+            delegate.execSQL(sql);
+            record(sql, start, -1L, null);
+        }
+
+        @Override
+        public void execSQL(@NonNull String sql, @NonNull Object[] bindArgs) throws SQLException {
+            long start = System.nanoTime();
+            delegate.execSQL(sql, bindArgs);
+            record(sql, start, -1L, bindArgs);
+        }
+
+        @Override
+        public boolean isReadOnly() {
+            return delegate.isReadOnly();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public boolean needUpgrade(int newVersion) {
+            return delegate.needUpgrade(newVersion);
+        }
+
+        @Nullable
+        @Override
+        public String getPath() {
+            return delegate.getPath();
+        }
+
+        @Override
+        public void setLocale(@NonNull Locale locale) {
+            delegate.setLocale(locale);
+        }
+
+        @Override
+        public void setMaxSqlCacheSize(int cacheSize) {
+            delegate.setMaxSqlCacheSize(cacheSize);
+        }
+
+        @Override
+        public void setForeignKeyConstraintsEnabled(boolean enabled) {
+            delegate.setForeignKeyConstraintsEnabled(enabled);
+        }
+
+        @Override
+        public boolean enableWriteAheadLogging() {
+            return delegate.enableWriteAheadLogging();
+        }
+
+        @Override
+        public void disableWriteAheadLogging() {
+            delegate.disableWriteAheadLogging();
+        }
+
+        @Override
+        public boolean isWriteAheadLoggingEnabled() {
+            return delegate.isWriteAheadLoggingEnabled();
+        }
+
+        @Nullable
+        @Override
+        public List<Pair<String, String>> getAttachedDbs() {
+            return delegate.getAttachedDbs();
+        }
+
+        @Override
+        public boolean isDatabaseIntegrityOk() {
+            return delegate.isDatabaseIntegrityOk();
+        }
+
+        @Override
+        public void close() {
+            delegate.close();
+        }
+
+        void record(@NonNull String sql, long startNanos, long rows, @Nullable Object[] bindArgs) {
+            profiler.record(sql, System.nanoTime() - startNanos, rows, bindArgs, delegate);
+        }
+
+        @Nullable
+        private static Object[] captureArgs(@NonNull SupportSQLiteQuery query) {
+            if (query.getArgCount() == 0) {
+                return null;
+            }
+            ArgumentCapture capture = new ArgumentCapture();
+            query.bindTo(capture);
+            return capture.toArray();
+        }
+    }
+
+    /**
+     * Cursor reporting the time from execution until it is closed, together with its row count.
+     */
+    private static final class ProfilingCursor extends CursorWrapper {
+        private final String sql;
+        @Nullable
+        private final Object[] bindArgs;
+        private final long startNanos;
+        private final ProfilingDatabase database;
+        private boolean recorded;
+
+        ProfilingCursor(@NonNull Cursor cursor, @NonNull String sql, @Nullable Object[] bindArgs,
+                        long startNanos, @NonNull ProfilingDatabase database) {
+            super(cursor);
+            this.sql = sql;
+            this.bindArgs = bindArgs;
+            this.startNanos = startNanos;
+            this.database = database;
+        }
+
+        @Override
+        public void close() {
+            if (!recorded && !isClosed()) {
+                recorded = true;
+                long end = System.nanoTime();
+                int rows = getCount();
+                super.close();
+                database.profiler.record(sql, end - startNanos, rows, bindArgs, database.delegate);
+                return;
+            }
+            super.close();
+        }
+    }
+
+    /**
+     * Compiled statement timing each execution and remembering its bound arguments.
+     */
+    private static final class ProfilingStatement implements SupportSQLiteStatement {
+        private final SupportSQLiteStatement delegate;
+        private final String sql;
+        private final ProfilingDatabase database;
+        private final ArgumentCapture arguments = new ArgumentCapture();
+
+        ProfilingStatement(@NonNull SupportSQLiteStatement delegate, @NonNull String sql,
+                           @NonNull ProfilingDatabase database) {
+            this.delegate = delegate;
+            this.sql = sql;
+            this.database = database;
+        }
+
+        @Override
+        public void execute() {
+            long start = System.nanoTime();
+            delegate.execute();
+            database.record(sql, start, -1L, arguments.toArray());
+        }
+
+        @Override
+        public int executeUpdateDelete() {
+            long start = System.nanoTime();
+            int changed = delegate.executeUpdateDelete();
+            database.record(sql, start, changed, arguments.toArray());
+            return changed;
+        }
+
+        @Override
+        public long executeInsert() {
+            long start = System.nanoTime();
+            long rowId = delegate.executeInsert();
+            database.record(sql, start, rowId != -1L ? 1L : 0L, arguments.toArray());
+            return rowId;
+        }
+
+        @Override
+        public long simpleQueryForLong() {
+            long start = System.nanoTime();
+            long result = delegate.simpleQueryForLong();
+            database.record(sql, start, 1L, arguments.toArray());
+            return result;
+        }
+
+        @Nullable
+        @Override
+        public String simpleQueryForString() {
+            long start = System.nanoTime();
+            String result = delegate.simpleQueryForString();
+            database.record(sql, start, 1L, arguments.toArray());
+            return result;
+        }
+
+        @Override
+        public void bindNull(int index) {
+            arguments.bindNull(index);
+            delegate.bindNull(index);
+        }
+
+        @Override
+        public void bindLong(int index, long value) {
+            arguments.bindLong(index, value);
+            delegate.bindLong(index, value);
+        }
+
+        @Override
+        public void bindDouble(int index, double value) {
+            arguments.bindDouble(index, value);
+            delegate.bindDouble(index, value);
+        }
+
+        @Override
+        public void bindString(int index, @NonNull String value) {
+            arguments.bindString(index, value);
+            delegate.bindString(index, value);
+        }
+
+        @Override
+        public void bindBlob(int index, @NonNull byte[] value) {
+            arguments.bindBlob(index, value);
+            delegate.bindBlob(index, value);
+        }
+
+        @Override
+        public void clearBindings() {
+            arguments.clearBindings();
+            delegate.clearBindings();
+        }
+
+        @Override
+        public void close() throws java.io.IOException {
+            delegate.close();
+        }
+    }
+
+    /**
+     * Program that only records bound values by their 1-based index.
+     */
+    private static final class ArgumentCapture implements SupportSQLiteProgram {
+        private final List<Object> values = new ArrayList<>();
+
+        @Override
+        public void bindNull(int index) {
+            set(index, null);
+        }
+
+        @Override
+        public void bindLong(int index, long value) {
+            set(index, value);
+        }
+
+        @Override
+        public void bindDouble(int index, double value) {
+            set(index, value);
+        }
+
+        @Override
+        public void bindString(int index, @NonNull String value) {
+            set(index, value);
+        }
+
+        @Override
+        public void bindBlob(int index, @NonNull byte[] value) {
+            set(index, value);
+        }
+
+        @Override
+        public void clearBindings() {
+            values.clear();
+        }
+
+        @Override
+        public void close() {
+            values.clear();
+        }
+
+        @Nullable
+        Object[] toArray() {
+            return values.isEmpty() ? null : values.toArray();
+        }
+
+        private void set(int index, @Nullable Object value) {
+            while (values.size() < index) {
+                values.add(null);
+            }
+            values.set(index - 1, value);
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.db;
+
+import android.database.Cursor;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import de.oabidi.pflanzenbestandundlichttest.analytics.Histogram;
+import de.oabidi.pflanzenbestandundlichttest.analytics.MetricsRegistry;
+
+/**
+ * Per-statement latency and row statistics of all SQL run through
+ * {@link ProfilingOpenHelperFactory}.
+ *
+ * <p>Statements slower than {@link #SLOW_QUERY_THRESHOLD_NANOS} are captured together with their
+ * bind arguments and the output of {@code EXPLAIN QUERY PLAN}, so full table scans on real data
+ * show up without a profiler attached. The report is part of the {@link MetricsRegistry} dump.</p>
+ *
+ * <p>Statements are keyed by their SQL with bind lists such as {@code IN (?, ?, ?)} and repeated
+ * {@code UNION ALL} arms collapsed, so batch reads of different sizes share one entry. At most
+ * {@link #MAX_STATEMENTS} keys get their own histogram; further ones are pooled under
+ * {@link #OTHER_STATEMENTS}.</p>
+ */
+public final class QueryProfiler implements MetricsRegistry.ReportSection {
+    private static final String TAG = "QueryProfiler";
+    static final long SLOW_QUERY_THRESHOLD_NANOS = 16_000_000L;
+    private static final int MAX_SLOW_QUERIES = 50;
+    static final int MAX_STATEMENTS = 200;
+    static final String OTHER_STATEMENTS = "(other statements)";
+    private static final String UNION_ALL = " UNION ALL ";
+    private static final Pattern BIND_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+    private static final int REPORT_LIMIT = 25;
+    private static final int MAX_SQL_LENGTH = 200;
+    private static final int MAX_ARG_LENGTH = 40;
+    private static final double NANOS_PER_MILLI = 1_000_000d;
+    private static final QueryProfiler INSTANCE = new QueryProfiler();
+
+    private final ConcurrentHashMap<String, QueryStats> stats = new ConcurrentHashMap<>();
+    private final Map<String, SlowQuery> slowQueries = new LinkedHashMap<String, SlowQuery>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SlowQuery> eldest) {
+            return size() > MAX_SLOW_QUERIES;
+        }
+    };
+
+    private QueryProfiler() {
+        MetricsRegistry.get().addSection(this);
+    }
+
+    @NonNull
+    public static QueryProfiler get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records one executed statement. When it was slow, its plan is read from {@code database} on
+     * the calling thread, which still holds the connection the statement ran on.
+     *
+     * @param rows     rows returned or changed, or {@code -1} if unknown
+     * @param bindArgs arguments bound to the statement, if any
+     */
+    void record(@NonNull String sql, long durationNanos, long rows, @Nullable Object[] bindArgs,
+                @NonNull SupportSQLiteDatabase database) {
+        String key = statementKey(sql);
+        QueryStats queryStats = stats.get(key);
+        if (queryStats == null) {
+            // The bound is checked without locking, so it may be exceeded by a few racing keys.
+            if (stats.size() >= MAX_STATEMENTS) {
+                key = OTHER_STATEMENTS;
+            }
+            queryStats = stats.computeIfAbsent(key, QueryStats::new);
+        }
+        queryStats.latency.record(durationNanos);
+        if (rows > 0L) {
+            queryStats.rows.add(rows);
+        }
+        if (durationNanos < SLOW_QUERY_THRESHOLD_NANOS) {
+            return;
+        }
+        SlowQuery slowQuery = new SlowQuery(sql, durationNanos, rows, formatArgs(bindArgs),
+            explain(database, sql, bindArgs));
+        synchronized (slowQueries) {
+            // Re-inserting moves the statement to the end, so the latest capture survives eviction.
+            slowQueries.remove(key);
+            slowQueries.put(key, slowQuery);
+        }
+        Log.w(TAG, String.format(Locale.US, "Slow query (%.1f ms, %d rows): %s",
+            durationNanos / NANOS_PER_MILLI, rows, slowQuery.sql));
+    }
+
+    @Override
+    public void appendTo(@NonNull StringBuilder builder) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        List<ReportRow> rows = new ArrayList<>(stats.size());
+        for (QueryStats queryStats : stats.values()) {
+            rows.add(new ReportRow(queryStats.sql, queryStats.latency.snapshot(), queryStats.rows.sum()));
+        }
+        Collections.sort(rows, (a, b) -> Long.compare(b.latency.getSum(), a.latency.getSum()));
+        builder.append("sql statements by total time (top ").append(REPORT_LIMIT).append(" of ")
+            .append(rows.size()).append(")\n");
+        int limit = Math.min(REPORT_LIMIT, rows.size());
+        for (int i = 0; i < limit; i++) {
+            ReportRow row = rows.get(i);
+            builder.append(String.format(Locale.US,
+                "sql count=%d mean=%.3fms p90=%.3fms max=%.3fms total=%.1fms rows=%d ",
+                row.latency.getCount(),
+                row.latency.getMean() / NANOS_PER_MILLI,
+                row.latency.getValueAtPercentile(90) / NANOS_PER_MILLI,
+                row.latency.getMax() / NANOS_PER_MILLI,
+                row.latency.getSum() / NANOS_PER_MILLI,
+                row.rows)).append(abbreviate(row.sql)).append('\n');
+        }
+        List<SlowQuery> captured;
+        synchronized (slowQueries) {
+            captured = new ArrayList<>(slowQueries.values());
+        }
+        if (captured.isEmpty()) {
+            return;
+        }
+        builder.append(String.format(Locale.US, "\nslow statements (>= %.0f ms), latest last\n",
+            SLOW_QUERY_THRESHOLD_NANOS / NANOS_PER_MILLI));
+        for (SlowQuery slowQuery : captured) {
+            builder.append(String.format(Locale.US, "slow %.1fms rows=%d ",
+                    slowQuery.durationNanos / NANOS_PER_MILLI, slowQuery.rows))
+                .append(slowQuery.sql).append('\n');
+            if (!slowQuery.args.isEmpty()) {
+                builder.append("  args ").append(slowQuery.args).append('\n');
+            }
+            for (String step : slowQuery.plan) {
+                builder.append("  plan ").append(step).append('\n');
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        stats.clear();
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+
+    /**
+     * Returns {@code sql} with every bind list reduced to {@code (?, …)} and consecutive identical
+     * {@code UNION ALL} arms reduced to one followed by {@code UNION ALL …}.
+     */
+    @NonNull
+    static String statementKey(@NonNull String sql) {
+        String key = sql;
+        if (key.contains("?,") || key.contains("? ,") || key.contains(", ?")) {
+            key = BIND_LIST.matcher(key).replaceAll("(?, …)");
+        }
+        int union = key.indexOf(UNION_ALL);
+        if (union < 0) {
+            return key;
+        }
+        String[] arms = key.split(Pattern.quote(UNION_ALL), -1);
+        StringBuilder builder = new StringBuilder(arms[0]);
+        String previous = arms[0];
+        boolean repeated = false;
+        for (int i = 1; i < arms.length; i++) {
+            String arm = arms[i];
+            // The last arm also carries the ORDER BY of the whole compound statement.
+            if (i == arms.length - 1 && arm.startsWith(previous)) {
+                return builder.append(UNION_ALL).append('…')
+                    .append(arm.substring(previous.length())).toString();
+            }
+            if (arm.equals(previous)) {
+                repeated = true;
+                continue;
+            }
+            if (repeated) {
+                builder.append(UNION_ALL).append('…');
+                repeated = false;
+            }
+            builder.append(UNION_ALL).append(arm);
+            previous = arm;
+        }
+        if (repeated) {
+            builder.append(UNION_ALL).append('…');
+        }
+        return builder.toString();
+    }
+
+    @NonNull
+    private static List<String> explain(@NonNull SupportSQLiteDatabase database, @NonNull String sql,
+                                        @Nullable Object[] bindArgs) {
+        if (!isExplainable(sql)) {
+            return Collections.emptyList();
+        }
+        List<String> plan = new ArrayList<>();
+        Object[] args = bindArgs != null ? bindArgs : new Object[0];
+        try (Cursor cursor = database.query("EXPLAIN QUERY PLAN " + sql, args)) {
+            int detailIndex = cursor.getColumnIndex("detail");
+            while (cursor.moveToNext()) {
+                plan.add(detailIndex >= 0 ? cursor.getString(detailIndex) : cursor.getString(0));
+            }
+        } catch (RuntimeException e) {
+            plan.add("unavailable: " + e.getMessage());
+        }
+        return plan;
+    }
+
+    private static boolean isExplainable(@NonNull String sql) {
+        String head = sql.trim();
+        int end = 0;
+        while (end < head.length() && Character.isLetter(head.charAt(end))) {
+            end++;
+        }
+        String keyword = head.substring(0, end).toUpperCase(Locale.US);
+        return keyword.equals("SELECT") || keyword.equals("WITH") || keyword.equals("UPDATE")
+            || keyword.equals("DELETE") || keyword.equals("INSERT") || keyword.equals("REPLACE");
+    }
+
+    @NonNull
+    private static String formatArgs(@Nullable Object[] bindArgs) {
+        if (bindArgs == null || bindArgs.length == 0) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < bindArgs.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            Object arg = bindArgs[i];
+            if (arg instanceof byte[]) {
+                builder.append("<blob ").append(((byte[]) arg).length).append(" bytes>");
+            } else if (arg instanceof String) {
+                String value = (String) arg;
+                builder.append('\'')
+                    .append(value.length() > MAX_ARG_LENGTH ? value.substring(0, MAX_ARG_LENGTH) + "…" : value)
+                    .append('\'');
+            } else {
+                builder.append(arg);
+            }
+        }
+        return builder.append(']').toString();
+    }
+
+    @NonNull
+    private static String abbreviate(@NonNull String sql) {
+        String collapsed = sql.replaceAll("\\s+", " ").trim();
+        return collapsed.length() > MAX_SQL_LENGTH
+            ? collapsed.substring(0, MAX_SQL_LENGTH) + "…"
+            : collapsed;
+    }
+
+    private static final class QueryStats {
+        final String sql;
+        final Histogram latency;
+        final LongAdder rows = new LongAdder();
+
+        QueryStats(@NonNull String sql) {
+            this.sql = sql;
+            this.latency = new Histogram(sql);
+        }
+    }
+
+    private static final class ReportRow {
+        final String sql;
+        final Histogram.Snapshot latency;
+        final long rows;
+
+        ReportRow(@NonNull String sql, @NonNull Histogram.Snapshot latency, long rows) {
+            this.sql = sql;
+            this.latency = latency;
+            this.rows = rows;
+        }
+    }
+
+    private static final class SlowQuery {
+        final String sql;
+        final long durationNanos;
+        final long rows;
+        final String args;
+        final List<String> plan;
+
+        SlowQuery(@NonNull String sql, long durationNanos, long rows, @NonNull String args,
+                  @NonNull List<String> plan) {
+            this.sql = abbreviate(sql);
+            this.durationNanos = durationNanos;
+            this.rows = rows;
+            this.args = args;
+            this.plan = plan;
+        }
+    }
+}
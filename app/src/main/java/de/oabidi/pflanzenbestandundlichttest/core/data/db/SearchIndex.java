@@ -0,0 +1,335 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.db;
+
+import android.database.Cursor;
+import android.os.CancellationSignal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SimpleSQLiteQuery;
+import androidx.sqlite.db.SupportSQLiteDatabase;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.regex.Pattern;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.SearchResult;
+
+/**
+ * Global full-text search over the content-synced FTS tables of plants, diary entries, species
+ * and environment entries.
+ *
+ * <p>The FTS tables store no text of their own. Room creates them together with triggers that
+ * mirror every insert, update and delete of the content tables; the same statements are kept here
+ * for the migration that introduced them and so bulk imports can suspend the triggers and rebuild
+ * each index once at the end.</p>
+ *
+ * <p>FTS4 offers no ranking function, so {@link #search} ranks in two passes: the first reads only
+ * {@code matchinfo} of every match and scores it in Java, the second loads titles and snippets for
+ * the best {@code limit} rows only.</p>
+ */
+public final class SearchIndex {
+    private static final Pattern TERM_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final String ELLIPSIS = "…";
+    private static final int SNIPPET_TOKENS = 12;
+
+    private static final Table PLANT = new Table(SearchResult.Kind.PLANT, "PlantFts", "Plant",
+        new String[]{"name", "species", "locationHint", "description"},
+        new double[]{4, 2, 1, 1},
+        "p.`id`, NULL, p.`name`",
+        "JOIN `Plant` p ON p.`id` = `PlantFts`.`docid`");
+    private static final Table DIARY = new Table(SearchResult.Kind.DIARY, "DiaryEntryFts", "DiaryEntry",
+        new String[]{"note", "type"},
+        new double[]{1, 0.5},
+        "d.`plantId`, NULL, p.`name`",
+        "JOIN `DiaryEntry` d ON d.`id` = `DiaryEntryFts`.`docid` JOIN `Plant` p ON p.`id` = d.`plantId`");
+    private static final Table SPECIES = new Table(SearchResult.Kind.SPECIES, "SpeciesTargetFts", "SpeciesTarget",
+        new String[]{"speciesKey", "commonName", "scientificName"},
+        new double[]{2, 3, 3},
+        "NULL, s.`speciesKey`, COALESCE(s.`commonName`, s.`scientificName`, s.`speciesKey`)",
+        "JOIN `SpeciesTarget` s ON s.`rowid` = `SpeciesTargetFts`.`docid`");
+    private static final Table ENVIRONMENT = new Table(SearchResult.Kind.ENVIRONMENT, "EnvironmentEntryFts",
+        "EnvironmentEntry",
+        new String[]{"notes"},
+        new double[]{1},
+        "e.`plantId`, NULL, p.`name`",
+        "JOIN `EnvironmentEntry` e ON e.`id` = `EnvironmentEntryFts`.`docid` " +
+            "JOIN `Plant` p ON p.`id` = e.`plantId`");
+    private static final Table[] TABLES = {PLANT, DIARY, SPECIES, ENVIRONMENT};
+
+    private final RoomDatabase database;
+
+    public SearchIndex(@NonNull RoomDatabase database) {
+        this.database = database;
+    }
+
+    /**
+     * Turns free text into an FTS query matching every word as a prefix, or returns {@code null}
+     * if no searchable word is left. Operators and special characters are dropped.
+     */
+    @Nullable
+    public static String toPrefixQuery(@Nullable String text) {
+        if (text == null) {
+            return null;
+        }
+        StringBuilder query = new StringBuilder();
+        for (String term : TERM_SEPARATOR.split(text)) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            // Lower case keeps AND, OR, NOT and NEAR from being read as operators.
+            query.append(term.toLowerCase(Locale.ROOT)).append('*');
+        }
+        return query.length() == 0 ? null : query.toString();
+    }
+
+    /**
+     * Searches all indexed tables and returns the best matches, highest score first.
+     *
+     * @param ftsQuery query in FTS syntax, usually built by {@link #toPrefixQuery(String)}
+     * @param limit    maximum number of results
+     * @param signal   optional signal that aborts the running statement when cancelled
+     * @throws android.os.OperationCanceledException if the signal is cancelled
+     */
+    @WorkerThread
+    @NonNull
+    public List<SearchResult> search(@NonNull String ftsQuery, int limit,
+                                     @Nullable CancellationSignal signal) {
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        PriorityQueue<Hit> best = new PriorityQueue<>(limit, Hit.BY_SCORE);
+        for (Table table : TABLES) {
+            String sql = "SELECT `docid`, matchinfo(`" + table.name + "`, 'pcx') FROM `" + table.name
+                + "` WHERE `" + table.name + "` MATCH ?";
+            try (Cursor cursor = database.query(new SimpleSQLiteQuery(sql, new Object[]{ftsQuery}), signal)) {
+                while (cursor.moveToNext()) {
+                    Hit hit = new Hit(table, cursor.getLong(0), table.score(cursor.getBlob(1)));
+                    if (best.size() < limit) {
+                        best.add(hit);
+                    } else if (Hit.BY_SCORE.compare(hit, best.peek()) > 0) {
+                        best.poll();
+                        best.add(hit);
+                    }
+                }
+            }
+        }
+
+        Map<SearchResult.Kind, List<Hit>> hitsByKind = new EnumMap<>(SearchResult.Kind.class);
+        for (Hit hit : best) {
+            List<Hit> hits = hitsByKind.get(hit.table.kind);
+            if (hits == null) {
+                hits = new ArrayList<>();
+                hitsByKind.put(hit.table.kind, hits);
+            }
+            hits.add(hit);
+        }
+        List<SearchResult> results = new ArrayList<>(best.size());
+        for (Table table : TABLES) {
+            List<Hit> hits = hitsByKind.get(table.kind);
+            if (hits != null) {
+                readResults(table, ftsQuery, hits, signal, results);
+            }
+        }
+        Collections.sort(results, (a, b) -> Double.compare(b.getScore(), a.getScore()));
+        return results;
+    }
+
+    /**
+     * Rebuilds every FTS table from its content table.
+     */
+    @WorkerThread
+    public void rebuild() {
+        database.runInTransaction(() -> rebuild(database.getOpenHelper().getWritableDatabase()));
+    }
+
+    /**
+     * Creates the FTS tables and their sync triggers if they do not exist yet.
+     */
+    public static void install(@NonNull SupportSQLiteDatabase db) {
+        for (Table table : TABLES) {
+            db.execSQL("CREATE VIRTUAL TABLE IF NOT EXISTS `" + table.name + "` USING FTS4("
+                + table.columnList(" TEXT") + ", tokenize=unicode61, content=`" + table.content + "`)");
+        }
+        createSyncTriggers(db);
+    }
+
+    /**
+     * Creates the triggers mirroring content table changes into the FTS tables. The statements
+     * match the ones Room generates for content entities.
+     */
+    public static void createSyncTriggers(@NonNull SupportSQLiteDatabase db) {
+        for (Table table : TABLES) {
+            String delete = "DELETE FROM `" + table.name + "` WHERE `docid`=OLD.`rowid`";
+            String insert = "INSERT INTO `" + table.name + "`(`docid`, " + table.columnList("") + ") VALUES ("
+                + "NEW.`rowid`, " + table.prefixedColumnList("NEW.") + ")";
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS " + table.triggerName("BEFORE_UPDATE")
+                + " BEFORE UPDATE ON `" + table.content + "` BEGIN " + delete + "; END");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS " + table.triggerName("BEFORE_DELETE")
+                + " BEFORE DELETE ON `" + table.content + "` BEGIN " + delete + "; END");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS " + table.triggerName("AFTER_UPDATE")
+                + " AFTER UPDATE ON `" + table.content + "` BEGIN " + insert + "; END");
+            db.execSQL("CREATE TRIGGER IF NOT EXISTS " + table.triggerName("AFTER_INSERT")
+                + " AFTER INSERT ON `" + table.content + "` BEGIN " + insert + "; END");
+        }
+    }
+
+    /**
+     * Drops the sync triggers so bulk writes skip per-row index maintenance. Callers must
+     * {@link #createSyncTriggers recreate} them and {@link #rebuild(SupportSQLiteDatabase) rebuild}
+     * the indexes within the same transaction.
+     */
+    public static void dropSyncTriggers(@NonNull SupportSQLiteDatabase db) {
+        for (Table table : TABLES) {
+            for (String suffix : new String[]{"BEFORE_UPDATE", "BEFORE_DELETE", "AFTER_UPDATE", "AFTER_INSERT"}) {
+                db.execSQL("DROP TRIGGER IF EXISTS " + table.triggerName(suffix));
+            }
+        }
+    }
+
+    /**
+     * Rebuilds every FTS table from its content table.
+     */
+    public static void rebuild(@NonNull SupportSQLiteDatabase db) {
+        for (Table table : TABLES) {
+            db.execSQL("INSERT INTO `" + table.name + "`(`" + table.name + "`) VALUES('rebuild')");
+        }
+    }
+
+    private void readResults(@NonNull Table table, @NonNull String ftsQuery, @NonNull List<Hit> hits,
+                             @Nullable CancellationSignal signal, @NonNull List<SearchResult> out) {
+        Map<Long, Double> scores = new HashMap<>();
+        StringBuilder placeholders = new StringBuilder();
+        Object[] args = new Object[4 + hits.size()];
+        args[0] = String.valueOf(SearchResult.MATCH_START);
+        args[1] = String.valueOf(SearchResult.MATCH_END);
+        args[2] = ELLIPSIS;
+        args[3] = ftsQuery;
+        for (int i = 0; i < hits.size(); i++) {
+            Hit hit = hits.get(i);
+            scores.put(hit.docId, hit.score);
+            placeholders.append(i == 0 ? "?" : ", ?");
+            args[4 + i] = hit.docId;
+        }
+        String sql = "SELECT `" + table.name + "`.`docid`, " + table.resultColumns
+            + ", snippet(`" + table.name + "`, ?, ?, ?, -1, " + SNIPPET_TOKENS + ") FROM `" + table.name
+            + "` " + table.joins + " WHERE `" + table.name + "` MATCH ? AND `" + table.name
+            + "`.`docid` IN (" + placeholders + ")";
+        try (Cursor cursor = database.query(new SimpleSQLiteQuery(sql, args), signal)) {
+            while (cursor.moveToNext()) {
+                long docId = cursor.getLong(0);
+                Double score = scores.get(docId);
+                out.add(new SearchResult(table.kind, docId,
+                    cursor.isNull(1) ? null : cursor.getLong(1),
+                    cursor.isNull(2) ? null : cursor.getString(2),
+                    cursor.isNull(3) ? "" : cursor.getString(3),
+                    cursor.isNull(4) ? "" : cursor.getString(4),
+                    score == null ? 0 : score));
+            }
+        }
+    }
+
+    /**
+     * One indexed table together with its column weights and the columns a result row needs:
+     * plant id, species key and title.
+     */
+    private static final class Table {
+        final SearchResult.Kind kind;
+        final String name;
+        final String content;
+        final String[] columns;
+        final double[] weights;
+        final String resultColumns;
+        final String joins;
+
+        Table(SearchResult.Kind kind, String name, String content, String[] columns, double[] weights,
+              String resultColumns, String joins) {
+            this.kind = kind;
+            this.name = name;
+            this.content = content;
+            this.columns = columns;
+            this.weights = weights;
+            this.resultColumns = resultColumns;
+            this.joins = joins;
+        }
+
+        String triggerName(String suffix) {
+            return "room_fts_content_sync_" + name + "_" + suffix;
+        }
+
+        String columnList(String suffix) {
+            StringBuilder builder = new StringBuilder();
+            for (String column : columns) {
+                if (builder.length() > 0) {
+                    builder.append(", ");
+                }
+                builder.append('`').append(column).append('`').append(suffix);
+            }
+            return builder.toString();
+        }
+
+        String prefixedColumnList(String prefix) {
+            StringBuilder builder = new StringBuilder();
+            for (String column : columns) {
+                if (builder.length() > 0) {
+                    builder.append(", ");
+                }
+                builder.append(prefix).append('`').append(column).append('`');
+            }
+            return builder.toString();
+        }
+
+        /**
+         * Scores a row from its {@code matchinfo(..., 'pcx')} blob: for every phrase and column,
+         * the column weight times the share of all the phrase's hits in that column that fall in
+         * this row. Terms that are rare in the table therefore weigh more than common ones.
+         */
+        double score(@Nullable byte[] matchInfo) {
+            if (matchInfo == null) {
+                return 0;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(matchInfo).order(ByteOrder.nativeOrder());
+            int phrases = buffer.getInt(0);
+            int columnCount = buffer.getInt(4);
+            double score = 0;
+            for (int phrase = 0; phrase < phrases; phrase++) {
+                for (int column = 0; column < columnCount && column < weights.length; column++) {
+                    int offset = 8 + 12 * (phrase * columnCount + column);
+                    int hitsInRow = buffer.getInt(offset);
+                    int hitsInTable = buffer.getInt(offset + 4);
+                    if (hitsInRow > 0 && hitsInTable > 0) {
+                        score += weights[column] * hitsInRow / hitsInTable;
+                    }
+                }
+            }
+            return score;
+        }
+    }
+
+    private static final class Hit {
+        static final Comparator<Hit> BY_SCORE = (a, b) -> Double.compare(a.score, b.score);
+
+        final Table table;
+        final long docId;
+        final double score;
+
+        Hit(Table table, long docId, double score) {
+            this.table = table;
+            this.docId = docId;
+            this.score = score;
+        }
+    }
+}
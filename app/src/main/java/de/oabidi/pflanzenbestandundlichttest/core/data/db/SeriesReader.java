@@ -0,0 +1,184 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.db;
+
+import android.database.Cursor;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SimpleSQLiteQuery;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.MetricColumns;
+import de.oabidi.pflanzenbestandundlichttest.core.data.SeriesMetric;
+
+/**
+ * Reads metric time series straight from a cursor into primitive arrays, bypassing entity
+ * construction. Only the timestamp and the requested value columns are selected, so notes, photo
+ * uris and unrelated metrics are never loaded.
+ */
+public final class SeriesReader {
+    /**
+     * Upper bound for bound plant ids per statement, below SQLite's default variable limit.
+     */
+    public static final int MAX_IDS_PER_QUERY = 900;
+    /**
+     * Upper bound for plants per {@code UNION ALL}, below SQLite's default compound select limit.
+     */
+    private static final int MAX_PLANTS_PER_UNION = 250;
+
+    private final RoomDatabase database;
+
+    public SeriesReader(@NonNull RoomDatabase database) {
+        this.database = database;
+    }
+
+    /**
+     * Reads the given metrics of one plant for timestamps in {@code [start, end)}, ordered by
+     * ascending time. Rows in which none of the metrics is set are skipped; other missing values
+     * are reported as {@link Float#NaN}.
+     *
+     * @throws IllegalArgumentException if no metric is given or the metrics live in different tables
+     */
+    @WorkerThread
+    @NonNull
+    public MetricColumns read(long plantId, long start, long end, @NonNull SeriesMetric... metrics) {
+        SeriesMetric.Source source = requireSingleSource(metrics);
+        String timestampColumn = source.getTimestampColumn();
+        String sql = "SELECT " + timestampColumn + valueColumns("", metrics)
+            + " FROM " + source.getTable()
+            + " WHERE plantId = ? AND " + timestampColumn + " >= ? AND "
+            + timestampColumn + " < ? AND (" + presentClause("", metrics) + ")"
+            + " ORDER BY " + timestampColumn + " ASC, id ASC";
+
+        try (Cursor cursor = database.query(
+            new SimpleSQLiteQuery(sql, new Object[]{plantId, start, end}))) {
+            int count = cursor.getCount();
+            long[] timestamps = new long[count];
+            float[][] values = new float[metrics.length][count];
+            int row = 0;
+            while (row < count && cursor.moveToNext()) {
+                timestamps[row] = cursor.getLong(0);
+                for (int m = 0; m < metrics.length; m++) {
+                    values[m][row] = cursor.isNull(m + 1) ? Float.NaN : cursor.getFloat(m + 1);
+                }
+                row++;
+            }
+            return new MetricColumns(metrics, timestamps, values);
+        }
+    }
+
+    /**
+     * Reads the most recent {@code limit} rows holding any of the given metrics for each of the
+     * given plants with a single statement per batch of plants. Each plant's rows are returned in
+     * ascending time order; plants without data are omitted from the result.
+     *
+     * @throws IllegalArgumentException if no metric is given or the metrics live in different tables
+     */
+    @WorkerThread
+    @NonNull
+    public Map<Long, MetricColumns> readRecent(@NonNull List<Long> plantIds, int limit,
+                                               @NonNull SeriesMetric... metrics) {
+        SeriesMetric.Source source = requireSingleSource(metrics);
+        Map<Long, MetricColumns> result = new LinkedHashMap<>();
+        if (limit <= 0) {
+            return result;
+        }
+        for (int from = 0; from < plantIds.size(); from += MAX_PLANTS_PER_UNION) {
+            List<Long> batch = plantIds.subList(from,
+                Math.min(plantIds.size(), from + MAX_PLANTS_PER_UNION));
+            readRecentBatch(source, batch, limit, metrics, result);
+        }
+        return result;
+    }
+
+    private void readRecentBatch(@NonNull SeriesMetric.Source source, @NonNull List<Long> plantIds,
+                                 int limit, @NonNull SeriesMetric[] metrics,
+                                 @NonNull Map<Long, MetricColumns> result) {
+        String ts = source.getTimestampColumn();
+        // One LIMIT subselect per plant walks the (plantId, timestamp) index backwards and stops
+        // after the plant's newest rows, so the cost grows with plants times limit only.
+        String select = "SELECT * FROM (SELECT plantId, " + ts + ", id" + valueColumns("", metrics)
+            + " FROM " + source.getTable()
+            + " WHERE plantId = ? AND (" + presentClause("", metrics) + ")"
+            + " ORDER BY " + ts + " DESC, id DESC LIMIT " + limit + ")";
+        StringBuilder sql = new StringBuilder();
+        Object[] args = new Object[plantIds.size()];
+        for (int i = 0; i < plantIds.size(); i++) {
+            if (i > 0) {
+                sql.append(" UNION ALL ");
+            }
+            sql.append(select);
+            args[i] = plantIds.get(i);
+        }
+        sql.append(" ORDER BY 1 ASC, 2 ASC, 3 ASC");
+
+        try (Cursor cursor = database.query(new SimpleSQLiteQuery(sql.toString(), args))) {
+            int count = cursor.getCount();
+            long[] plants = new long[count];
+            long[] timestamps = new long[count];
+            float[][] values = new float[metrics.length][count];
+            int rows = 0;
+            while (rows < count && cursor.moveToNext()) {
+                plants[rows] = cursor.getLong(0);
+                timestamps[rows] = cursor.getLong(1);
+                for (int m = 0; m < metrics.length; m++) {
+                    values[m][rows] = cursor.isNull(m + 3) ? Float.NaN : cursor.getFloat(m + 3);
+                }
+                rows++;
+            }
+            int start = 0;
+            while (start < rows) {
+                int end = start;
+                while (end < rows && plants[end] == plants[start]) {
+                    end++;
+                }
+                float[][] slice = new float[metrics.length][];
+                for (int m = 0; m < metrics.length; m++) {
+                    slice[m] = Arrays.copyOfRange(values[m], start, end);
+                }
+                result.put(plants[start], new MetricColumns(metrics,
+                    Arrays.copyOfRange(timestamps, start, end), slice));
+                start = end;
+            }
+        }
+    }
+
+    @NonNull
+    private static SeriesMetric.Source requireSingleSource(@NonNull SeriesMetric[] metrics) {
+        if (metrics.length == 0) {
+            throw new IllegalArgumentException("At least one metric required");
+        }
+        SeriesMetric.Source source = metrics[0].getSource();
+        for (SeriesMetric metric : metrics) {
+            if (metric.getSource() != source) {
+                throw new IllegalArgumentException("Metrics must share a table: " + metric);
+            }
+        }
+        return source;
+    }
+
+    @NonNull
+    private static String valueColumns(@NonNull String alias, @NonNull SeriesMetric[] metrics) {
+        StringBuilder columns = new StringBuilder();
+        for (SeriesMetric metric : metrics) {
+            columns.append(", ").append(alias).append(metric.getColumn());
+        }
+        return columns.toString();
+    }
+
+    @NonNull
+    private static String presentClause(@NonNull String alias, @NonNull SeriesMetric[] metrics) {
+        StringBuilder clause = new StringBuilder();
+        for (SeriesMetric metric : metrics) {
+            if (clause.length() > 0) {
+                clause.append(" OR ");
+            }
+            clause.append(alias).append(metric.getColumn()).append(" IS NOT NULL");
+        }
+        return clause.toString();
+    }
+}
@@ -3,9 +3,7 @@ package de.oabidi.pflanzenbestandundlichttest.core.data.plant;
 import androidx.room.Dao;
 import androidx.room.Delete;
 import androidx.room.Insert;
-import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
-import androidx.room.Transaction;
 import androidx.room.Update;
 
 import java.util.List;
@@ -16,25 +14,13 @@ import java.util.List;
 @Dao
 public interface DiaryDao {
     /**
-     * Inserts a diary entry into the database.
+     * Inserts a diary entry into the database. {@link DiaryEntryFts} is updated by triggers.
      *
      * @param entry the entity to insert
      * @return the generated row ID
      */
     @Insert
-    long insertInternal(DiaryEntry entry);
-
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
-    void insertFts(DiaryEntryFts entryFts);
-
-    @Transaction
-    default long insert(DiaryEntry entry) {
-        long id = insertInternal(entry);
-        insertFts(new DiaryEntryFts(id,
-            entry.getNote() == null ? "" : entry.getNote(),
-            entry.getType()));
-        return id;
-    }
+    long insert(DiaryEntry entry);
 
     /**
      * Removes a diary entry from the database.
@@ -42,16 +28,7 @@ public interface DiaryDao {
      * @param entry the entity to delete
      */
     @Delete
-    void deleteInternal(DiaryEntry entry);
-
-    @Query("DELETE FROM DiaryEntryFts WHERE rowid = :rowid")
-    void deleteFts(long rowid);
-
-    @Transaction
-    default void delete(DiaryEntry entry) {
-        deleteInternal(entry);
-        deleteFts(entry.getId());
-    }
+    void delete(DiaryEntry entry);
 
     /**
      * Updates an existing diary entry in the database.
@@ -59,13 +36,7 @@ public interface DiaryDao {
      * @param entry the entity to update
      */
     @Update
-    void updateInternal(DiaryEntry entry);
-
-    @Transaction
-    default void update(DiaryEntry entry) {
-        updateInternal(entry);
-        insertFts(new DiaryEntryFts(entry.getId(), entry.getNote() == null ? "" : entry.getNote(), entry.getType()));
-    }
+    void update(DiaryEntry entry);
 
     /**
      * Retrieves all diary entries for the given plant ordered by most recent first.
@@ -79,6 +50,15 @@ public interface DiaryDao {
     @Query("SELECT id, plantId, timeEpoch, type, note, photoUri FROM DiaryEntry WHERE plantId = :plantId ORDER BY timeEpoch DESC LIMIT 1")
     DiaryEntry latestForPlant(long plantId);
 
+    /**
+     * Counts diary entries per plant and entry type for the given plants.
+     *
+     * @param plantIds identifiers of the plants
+     * @return one row per plant and type that has at least one entry
+     */
+    @Query("SELECT plantId, type, COUNT(*) AS count FROM DiaryEntry WHERE plantId IN (:plantIds) GROUP BY plantId, type")
+    List<TypeCount> countTypesForPlants(List<Long> plantIds);
+
     @Query("SELECT DiaryEntry.id, DiaryEntry.plantId, DiaryEntry.timeEpoch, DiaryEntry.type, DiaryEntry.note, DiaryEntry.photoUri FROM DiaryEntry JOIN DiaryEntryFts ON DiaryEntry.id = DiaryEntryFts.rowid WHERE DiaryEntry.plantId = :plantId AND DiaryEntryFts MATCH :query ORDER BY DiaryEntry.timeEpoch DESC")
     List<DiaryEntry> searchDiaryEntries(long plantId, String query);
 
@@ -89,4 +69,13 @@ public interface DiaryDao {
      */
     @Query("SELECT id, plantId, timeEpoch, type, note, photoUri FROM DiaryEntry")
     List<DiaryEntry> getAll();
+
+    /**
+     * Number of diary entries of one type for a plant.
+     */
+    class TypeCount {
+        public long plantId;
+        public String type;
+        public int count;
+    }
 }
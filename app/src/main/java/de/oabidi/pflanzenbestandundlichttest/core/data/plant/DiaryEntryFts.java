@@ -3,15 +3,16 @@ package de.oabidi.pflanzenbestandundlichttest.core.data.plant;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Fts4;
+import androidx.room.FtsOptions;
 import androidx.room.PrimaryKey;
 
 /**
  * Full-text search entity indexing diary entry notes.
  * <p>
- * The {@code rowid} matches the  to facilitate
- * efficient lookups.
+ * {@link DiaryEntry} is the content table, kept in sync by Room's triggers. The {@code rowid}
+ * matches the diary entry id to facilitate efficient lookups.
  */
-@Fts4
+@Fts4(contentEntity = DiaryEntry.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61)
 @Entity(tableName = "DiaryEntryFts")
 public class DiaryEntryFts {
     @PrimaryKey
@@ -20,7 +20,7 @@ import androidx.room.PrimaryKey;
         childColumns = "plantId",
         onDelete = ForeignKey.CASCADE
     ),
-    indices = @Index("plantId")
+    indices = @Index({"plantId", "timeEpoch"})
 )
 public class Measurement {
     @PrimaryKey(autoGenerate = true)
@@ -105,6 +105,34 @@ public interface MeasurementDao {
     @Query("SELECT SUM(ppfd) AS sum, COUNT(DISTINCT date(timeEpoch/86400000)) AS days FROM Measurement WHERE plantId=:id AND timeEpoch BETWEEN :start AND :end")
     SumAndDays sumPpfdAndCountDays(long id, long start, long end);
 
+    /**
+     * Sums PPFD measurements and counts distinct days within the specified time range for each of
+     * the given plants. Plants without measurements in the range are omitted.
+     *
+     * @param plantIds identifiers of the plants
+     * @param start    start of the time range (inclusive)
+     * @param end      end of the time range (inclusive)
+     * @return one aggregated row per plant
+     */
+    @Query("SELECT plantId, SUM(ppfd) AS sum, COUNT(DISTINCT date(timeEpoch/86400000)) AS days FROM Measurement WHERE plantId IN (:plantIds) AND timeEpoch BETWEEN :start AND :end GROUP BY plantId")
+    List<PlantSumAndDays> sumPpfdAndCountDaysForPlants(List<Long> plantIds, long start, long end);
+
+    /**
+     * Returns the latest measurement of each day within {@code [start, start + days * 86400000)},
+     * one row per day that has data. Days are counted in fixed 24 hour steps from {@code start},
+     * so {@code dayIndex} 0 is the day beginning at {@code start}.
+     *
+     * <p>SQLite returns the bare {@code dli} and {@code ppfd} columns from the row that holds the
+     * {@code MAX(timeEpoch)} of each group, so no per-day query is needed.</p>
+     *
+     * @param plantId identifier of the plant
+     * @param start   start of the first day (inclusive)
+     * @param days    number of days to cover
+     * @return daily rows ordered from the most recent day backwards
+     */
+    @Query("SELECT (timeEpoch - :start) / 86400000 AS dayIndex, MAX(timeEpoch) AS latestEpoch, dli, ppfd FROM Measurement WHERE plantId = :plantId AND timeEpoch >= :start AND timeEpoch < :start + :days * 86400000 GROUP BY dayIndex ORDER BY dayIndex DESC")
+    List<DailyLight> getLatestPerDay(long plantId, long start, int days);
+
     /**
      * Retrieves all stored measurements.
      *
@@ -129,4 +157,21 @@ public interface MeasurementDao {
         public Float sum;
         public int days;
     }
+
+    /**
+     * PPFD sum and day count for a single plant of a batched query.
+     */
+    class PlantSumAndDays extends SumAndDays {
+        public long plantId;
+    }
+
+    /**
+     * Light values of the latest measurement of a single day.
+     */
+    class DailyLight {
+        public long dayIndex;
+        public long latestEpoch;
+        public Float dli;
+        public Float ppfd;
+    }
 }
@@ -3,9 +3,7 @@ package de.oabidi.pflanzenbestandundlichttest.core.data.plant;
 import androidx.room.Dao;
 import androidx.room.Delete;
 import androidx.room.Insert;
-import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
-import androidx.room.Transaction;
 import androidx.room.Update;
 
 import java.util.List;
@@ -35,29 +33,13 @@ public interface PlantDao {
      * Inserts the given {@link Plant} into the database.
      * <p>
      * Note: Should be called off the main thread for production usage. Returns the
-     * newly generated row ID of the inserted entity.
+     * newly generated row ID of the inserted entity. {@link PlantFts} is updated by triggers.
      *
      * @param plant the plant entity to insert
      * @return the database identifier for the inserted plant
      */
     @Insert
-    long insertInternal(Plant plant);
-
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
-    void insertFts(PlantFts plantFts);
-
-    @Transaction
-    default long insert(Plant plant) {
-        final long id = insertInternal(plant);
-        insertFts(new PlantFts(
-            id,
-            plant.getName(),
-            plant.getSpecies() == null ? "" : plant.getSpecies(),
-            plant.getLocationHint() == null ? "" : plant.getLocationHint(),
-            plant.getDescription() == null ? "" : plant.getDescription()
-        ));
-        return id;
-    }
+    long insert(Plant plant);
 
     /**
      * Updates the given {@link Plant} in the database.
@@ -68,19 +50,7 @@ public interface PlantDao {
      * @param plant the plant entity to update
      */
     @Update
-    void updateInternal(Plant plant);
-
-    @Transaction
-    default void update(Plant plant) {
-        updateInternal(plant);
-        insertFts(new PlantFts(
-            plant.getId(),
-            plant.getName(),
-            plant.getSpecies() == null ? "" : plant.getSpecies(),
-            plant.getLocationHint() == null ? "" : plant.getLocationHint(),
-            plant.getDescription() == null ? "" : plant.getDescription()
-        ));
-    }
+    void update(Plant plant);
 
     /**
      * Deletes the given {@link Plant} from the database.
@@ -91,16 +61,7 @@ public interface PlantDao {
      * @param plant the plant entity to delete
      */
     @Delete
-    void deleteInternal(Plant plant);
-
-    @Query("DELETE FROM PlantFts WHERE rowid = :rowid")
-    void deleteFts(long rowid);
-
-    @Transaction
-    default void delete(Plant plant) {
-        deleteInternal(plant);
-        deleteFts(plant.getId());
-    }
+    void delete(Plant plant);
 
     /**
      * Finds a plant by its identifier.
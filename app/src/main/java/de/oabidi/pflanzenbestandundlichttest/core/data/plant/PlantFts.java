@@ -3,15 +3,17 @@ package de.oabidi.pflanzenbestandundlichttest.core.data.plant;
 import androidx.room.ColumnInfo;
 import androidx.room.Entity;
 import androidx.room.Fts4;
+import androidx.room.FtsOptions;
 import androidx.room.PrimaryKey;
 
 /**
  * Full-text search entity indexing plant names, species, locations and notes.
  * <p>
- * The {@code rowid} of this table mirrors the  allowing fast
- * joins between the FTS index and the content table.
+ * The index stores no copy of the text: {@link Plant} is its content table and Room keeps the
+ * index in sync through triggers. The {@code rowid} of this table mirrors the plant id, allowing
+ * fast joins between the FTS index and the content table.
  */
-@Fts4
+@Fts4(contentEntity = Plant.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61)
 @Entity(tableName = "PlantFts")
 public class PlantFts {
     @PrimaryKey
@@ -0,0 +1,53 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.plant;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.room.Embedded;
+
+import java.util.Objects;
+
+/**
+ * Row of the plant list: the {@link Plant} together with its {@link PlantSummary} status columns.
+ */
+public class PlantListItem {
+    @Embedded
+    @NonNull
+    public Plant plant = new Plant();
+    @Nullable
+    public Long lastMeasurementEpoch;
+    @Nullable
+    public Float latestPpfd;
+    @Nullable
+    public Float latestDli;
+    @Nullable
+    public Long lastEnvironmentEpoch;
+    @Nullable
+    public Long lastDiaryEpoch;
+    @Nullable
+    public Long nextReminderAt;
+    public int recentAlertCount;
+
+    /**
+     * Orders in which the plant list can be shown. Each one is served by an index of
+     * {@link PlantSummary}.
+     */
+    public enum SortOrder {
+        NAME,
+        LAST_MEASUREMENT,
+        NEXT_REMINDER,
+        ALERTS
+    }
+
+    /**
+     * @return whether the status columns of both items are equal
+     */
+    public boolean hasSameStatus(@NonNull PlantListItem other) {
+        return recentAlertCount == other.recentAlertCount
+            && Objects.equals(lastMeasurementEpoch, other.lastMeasurementEpoch)
+            && Objects.equals(latestPpfd, other.latestPpfd)
+            && Objects.equals(latestDli, other.latestDli)
+            && Objects.equals(lastEnvironmentEpoch, other.lastEnvironmentEpoch)
+            && Objects.equals(lastDiaryEpoch, other.lastDiaryEpoch)
+            && Objects.equals(nextReminderAt, other.nextReminderAt);
+    }
+}
@@ -0,0 +1,138 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.plant;
+
+import androidx.room.Entity;
+import androidx.room.ForeignKey;
+import androidx.room.Index;
+import androidx.room.PrimaryKey;
+
+/**
+ * Denormalised per-plant status shown in the plant list.
+ *
+ * <p>Rows are never written by the app itself. SQLite triggers installed by
+ * {@code PlantSummaryTriggers} keep one row per plant in sync with the plant's measurements,
+ * environment entries, diary entries, reminders and proactive alerts, so the list can be read
+ * and sorted with a single indexed query.</p>
+ */
+@Entity(
+    foreignKeys = @ForeignKey(
+        entity = Plant.class,
+        parentColumns = "id",
+        childColumns = "plantId",
+        onDelete = ForeignKey.CASCADE
+    ),
+    indices = {
+        @Index("name"),
+        @Index("lastMeasurementEpoch"),
+        @Index("nextReminderAt"),
+        @Index(value = {"recentAlertCount", "name"}, orders = {Index.Order.DESC, Index.Order.ASC})
+    }
+)
+public class PlantSummary {
+    @PrimaryKey
+    private long plantId;
+    private String name;
+    private Long lastMeasurementEpoch;
+    private Float latestPpfd;
+    private Float latestDli;
+    private Long lastEnvironmentEpoch;
+    private Long lastDiaryEpoch;
+    private Long nextReminderAt;
+    private int recentAlertCount;
+
+    /**
+     * Default constructor required by Room.
+     */
+    public PlantSummary() {
+    }
+
+    public long getPlantId() {
+        return plantId;
+    }
+
+    public void setPlantId(long plantId) {
+        this.plantId = plantId;
+    }
+
+    /**
+     * @return copy of the plant's name, used to sort the list without touching {@link Plant}
+     */
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return time of the most recent light measurement or {@code null} if none was taken
+     */
+    public Long getLastMeasurementEpoch() {
+        return lastMeasurementEpoch;
+    }
+
+    public void setLastMeasurementEpoch(Long lastMeasurementEpoch) {
+        this.lastMeasurementEpoch = lastMeasurementEpoch;
+    }
+
+    /**
+     * @return PPFD of the most recent light measurement or {@code null}
+     */
+    public Float getLatestPpfd() {
+        return latestPpfd;
+    }
+
+    public void setLatestPpfd(Float latestPpfd) {
+        this.latestPpfd = latestPpfd;
+    }
+
+    /**
+     * @return DLI of the most recent light measurement or {@code null}
+     */
+    public Float getLatestDli() {
+        return latestDli;
+    }
+
+    public void setLatestDli(Float latestDli) {
+        this.latestDli = latestDli;
+    }
+
+    public Long getLastEnvironmentEpoch() {
+        return lastEnvironmentEpoch;
+    }
+
+    public void setLastEnvironmentEpoch(Long lastEnvironmentEpoch) {
+        this.lastEnvironmentEpoch = lastEnvironmentEpoch;
+    }
+
+    public Long getLastDiaryEpoch() {
+        return lastDiaryEpoch;
+    }
+
+    public void setLastDiaryEpoch(Long lastDiaryEpoch) {
+        this.lastDiaryEpoch = lastDiaryEpoch;
+    }
+
+    /**
+     * @return earliest trigger time of the plant's stored reminders or {@code null} if none
+     */
+    public Long getNextReminderAt() {
+        return nextReminderAt;
+    }
+
+    public void setNextReminderAt(Long nextReminderAt) {
+        this.nextReminderAt = nextReminderAt;
+    }
+
+    /**
+     * @return number of proactive alerts logged for the plant within the 30 day retention window,
+     * whether or not their cause is still present
+     */
+    public int getRecentAlertCount() {
+        return recentAlertCount;
+    }
+
+    public void setRecentAlertCount(int recentAlertCount) {
+        this.recentAlertCount = recentAlertCount;
+    }
+}
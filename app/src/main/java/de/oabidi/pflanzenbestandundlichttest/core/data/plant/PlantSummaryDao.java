@@ -0,0 +1,78 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.plant;
+
+import androidx.room.Dao;
+import androidx.room.Query;
+import androidx.room.Transaction;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read access to the trigger-maintained {@link PlantSummary} table.
+ *
+ * <p>Every list query starts from {@code PlantSummary} so its sort column is read in index order,
+ * followed by a primary-key lookup of the plant.</p>
+ */
+@Dao
+public interface PlantSummaryDao {
+    String LIST_COLUMNS = "Plant.*, s.lastMeasurementEpoch, s.latestPpfd, s.latestDli, "
+        + "s.lastEnvironmentEpoch, s.lastDiaryEpoch, s.nextReminderAt, s.recentAlertCount";
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM PlantSummary s JOIN Plant ON Plant.id = s.plantId "
+        + "ORDER BY s.name")
+    List<PlantListItem> getAllByName();
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM PlantSummary s JOIN Plant ON Plant.id = s.plantId "
+        + "ORDER BY s.lastMeasurementEpoch DESC")
+    List<PlantListItem> getAllByLastMeasurement();
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM PlantSummary s JOIN Plant ON Plant.id = s.plantId "
+        + "ORDER BY s.recentAlertCount DESC, s.name")
+    List<PlantListItem> getAllByAlerts();
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM PlantSummary s JOIN Plant ON Plant.id = s.plantId "
+        + "WHERE s.nextReminderAt IS NOT NULL ORDER BY s.nextReminderAt")
+    List<PlantListItem> getWithReminderByNextReminder();
+
+    @Query("SELECT " + LIST_COLUMNS + " FROM PlantSummary s JOIN Plant ON Plant.id = s.plantId "
+        + "WHERE s.nextReminderAt IS NULL ORDER BY s.name")
+    List<PlantListItem> getWithoutReminderByName();
+
+    /**
+     * Plants with upcoming reminders first, soonest first, followed by the rest by name.
+     * Split in two queries so both parts are read in index order.
+     */
+    @Transaction
+    default List<PlantListItem> getAllByNextReminder() {
+        List<PlantListItem> items = new ArrayList<>(getWithReminderByNextReminder());
+        items.addAll(getWithoutReminderByName());
+        return items;
+    }
+
+    /**
+     * Returns all plants in the requested order.
+     */
+    default List<PlantListItem> getAll(PlantListItem.SortOrder order) {
+        switch (order) {
+            case LAST_MEASUREMENT:
+                return getAllByLastMeasurement();
+            case NEXT_REMINDER:
+                return getAllByNextReminder();
+            case ALERTS:
+                return getAllByAlerts();
+            case NAME:
+            default:
+                return getAllByName();
+        }
+    }
+
+    /**
+     * Searches plants whose name or notes match the given FTS query.
+     *
+     * @param q full-text search query
+     * @return list of matching plants ordered by name
+     */
+    @Query("SELECT " + LIST_COLUMNS + " FROM Plant JOIN PlantFts ON Plant.id = PlantFts.rowid "
+        + "JOIN PlantSummary s ON s.plantId = Plant.id WHERE PlantFts MATCH :q ORDER BY Plant.name")
+    List<PlantListItem> search(String q);
+}
@@ -0,0 +1,71 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.plant;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Objects;
+
+/**
+ * Lightweight projection of a {@link SpeciesTarget} holding only what species lists render.
+ *
+ * <p>The light range spans all growth stages: the lowest configured minimum up to the highest
+ * configured maximum. The full target is loaded on demand when a species is opened.</p>
+ */
+public class SpeciesSummary {
+    @NonNull
+    public String speciesKey = "";
+    @Nullable
+    public String commonName;
+    @Nullable
+    public String scientificName;
+    @NonNull
+    public SpeciesTarget.Category category = SpeciesTarget.Category.OTHER;
+    @Nullable
+    public Boolean toxicToPets;
+    @Nullable
+    public String wateringTolerance;
+    public boolean hasWateringInfo;
+    @Nullable
+    public Float ppfdMin;
+    @Nullable
+    public Float ppfdMax;
+    @Nullable
+    public Float dliMin;
+    @Nullable
+    public Float dliMax;
+
+    /**
+     * Returns whether any growth stage defines a PPFD or DLI bound.
+     */
+    public boolean hasLightRange() {
+        return ppfdMin != null || ppfdMax != null || dliMin != null || dliMax != null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SpeciesSummary)) {
+            return false;
+        }
+        SpeciesSummary that = (SpeciesSummary) o;
+        return hasWateringInfo == that.hasWateringInfo
+            && speciesKey.equals(that.speciesKey)
+            && Objects.equals(commonName, that.commonName)
+            && Objects.equals(scientificName, that.scientificName)
+            && category == that.category
+            && Objects.equals(toxicToPets, that.toxicToPets)
+            && Objects.equals(wateringTolerance, that.wateringTolerance)
+            && Objects.equals(ppfdMin, that.ppfdMin)
+            && Objects.equals(ppfdMax, that.ppfdMax)
+            && Objects.equals(dliMin, that.dliMin)
+            && Objects.equals(dliMax, that.dliMax);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(speciesKey, commonName, scientificName, category, toxicToPets,
+            wateringTolerance, hasWateringInfo, ppfdMin, ppfdMax, dliMin, dliMax);
+    }
+}
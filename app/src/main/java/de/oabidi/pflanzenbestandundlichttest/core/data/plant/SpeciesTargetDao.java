@@ -1,9 +1,8 @@
 package de.oabidi.pflanzenbestandundlichttest.core.data.plant;
 
 import androidx.room.Dao;
-import androidx.room.Insert;
-import androidx.room.OnConflictStrategy;
 import androidx.room.Query;
+import androidx.room.Upsert;
 
 import java.util.List;
 
@@ -99,12 +98,62 @@ public interface SpeciesTargetDao {
     List<SpeciesTarget> searchSpeciesTargets(String query);
 
     /**
-     * Insert or replace a species target in the database.
-     * *
+     * Columns of {@link SpeciesSummary}. Only plain columns are read, so neither the embedded
+     * stage objects nor the JSON converters for care tips and sources run. Each COALESCE falls
+     * back to the other stages so that a missing stage bound does not null the whole MIN/MAX.
+     */
+    String SUMMARY_COLUMNS = "speciesKey, commonName, scientificName, category, toxicToPets, "
+        + "watering_tolerance AS wateringTolerance, "
+        + "(IFNULL(watering_watering_schedule, '') != '' OR IFNULL(watering_watering_soil, '') != '' "
+        + "OR IFNULL(watering_tolerance, '') != '') AS hasWateringInfo, "
+        + "MIN(COALESCE(seedling_ppfd_min, vegetative_ppfd_min, flower_ppfd_min), "
+        + "COALESCE(vegetative_ppfd_min, flower_ppfd_min, seedling_ppfd_min), "
+        + "COALESCE(flower_ppfd_min, seedling_ppfd_min, vegetative_ppfd_min)) AS ppfdMin, "
+        + "MAX(COALESCE(seedling_ppfd_max, vegetative_ppfd_max, flower_ppfd_max), "
+        + "COALESCE(vegetative_ppfd_max, flower_ppfd_max, seedling_ppfd_max), "
+        + "COALESCE(flower_ppfd_max, seedling_ppfd_max, vegetative_ppfd_max)) AS ppfdMax, "
+        + "MIN(COALESCE(seedling_dli_min, vegetative_dli_min, flower_dli_min), "
+        + "COALESCE(vegetative_dli_min, flower_dli_min, seedling_dli_min), "
+        + "COALESCE(flower_dli_min, seedling_dli_min, vegetative_dli_min)) AS dliMin, "
+        + "MAX(COALESCE(seedling_dli_max, vegetative_dli_max, flower_dli_max), "
+        + "COALESCE(vegetative_dli_max, flower_dli_max, seedling_dli_max), "
+        + "COALESCE(flower_dli_max, seedling_dli_max, vegetative_dli_max)) AS dliMax";
+
+    /**
+     * Statement of {@link #getAllSummaries()}, also run as a cancellable raw query.
+     */
+    String ALL_SUMMARIES = "SELECT " + SUMMARY_COLUMNS + " FROM SpeciesTarget ORDER BY speciesKey";
+
+    /**
+     * Statement of {@link #searchSummaries(String)}, also run as a cancellable raw query. Both
+     * occurrences of {@code :query} share one bind argument.
+     */
+    String SEARCH_SUMMARIES = "SELECT " + SUMMARY_COLUMNS + " FROM SpeciesTarget "
+        + "WHERE (commonName LIKE '%' || :query || '%' COLLATE NOCASE"
+        + " OR scientificName LIKE '%' || :query || '%' COLLATE NOCASE) "
+        + "ORDER BY commonName COLLATE NOCASE, scientificName COLLATE NOCASE, speciesKey";
+
+    /**
+     * Returns a summary of every species target ordered by key, for list rendering.
+     */
+    @Query(ALL_SUMMARIES)
+    List<SpeciesSummary> getAllSummaries();
+
+    /**
+     * Same as {@link #searchSpeciesTargets(String)} but returns summaries only.
+     */
+    @Query(SEARCH_SUMMARIES)
+    List<SpeciesSummary> searchSummaries(String query);
+
+    /**
+     * Insert or update a species target in the database.
+     * <p>
+     * An upsert updates an existing row in place instead of deleting and re-inserting it, so the
+     * triggers keeping {@link SpeciesTargetFts} in sync see the change.
      *
      * @param target entity to persist
      */
-    @Insert(onConflict = OnConflictStrategy.REPLACE)
+    @Upsert
     void insert(SpeciesTarget target);
 
     /**
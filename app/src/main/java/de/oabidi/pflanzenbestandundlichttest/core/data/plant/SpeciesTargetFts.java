@@ -0,0 +1,35 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.plant;
+
+import androidx.room.ColumnInfo;
+import androidx.room.Entity;
+import androidx.room.Fts4;
+import androidx.room.FtsOptions;
+import androidx.room.PrimaryKey;
+
+/**
+ * Full-text search entity indexing species keys and names.
+ * <p>
+ * {@link SpeciesTarget} is the content table, kept in sync by Room's triggers. As species are
+ * keyed by text, the {@code rowid} refers to the implicit rowid of the species target row. That
+ * rowid is not stable across {@code VACUUM}, so anything that vacuums the database must rebuild
+ * this index afterwards, e.g. with
+ * {@link de.oabidi.pflanzenbestandundlichttest.core.data.db.SearchIndex#rebuild()}. The app does
+ * not vacuum today.
+ */
+@Fts4(contentEntity = SpeciesTarget.class, tokenizer = FtsOptions.TOKENIZER_UNICODE61)
+@Entity(tableName = "SpeciesTargetFts")
+public class SpeciesTargetFts {
+    @PrimaryKey
+    @ColumnInfo(name = "rowid")
+    public final long rowId;
+    public final String speciesKey;
+    public final String commonName;
+    public final String scientificName;
+
+    public SpeciesTargetFts(long rowId, String speciesKey, String commonName, String scientificName) {
+        this.rowId = rowId;
+        this.speciesKey = speciesKey;
+        this.commonName = commonName;
+        this.scientificName = scientificName;
+    }
+}
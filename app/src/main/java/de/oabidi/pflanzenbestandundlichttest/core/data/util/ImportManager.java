@@ -19,6 +19,7 @@ import android.util.JsonToken;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
+import androidx.sqlite.db.SupportSQLiteDatabase;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -43,10 +44,13 @@ import java.util.zip.ZipInputStream;
 import java.text.NumberFormat;
 import java.util.concurrent.ExecutorService;
 
+import de.oabidi.pflanzenbestandundlichttest.analytics.MetricsRegistry;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
 import de.oabidi.pflanzenbestandundlichttest.core.system.ExecutorProvider;
 
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -58,6 +62,7 @@ import de.oabidi.pflanzenbestandundlichttest.core.data.plant.DiaryEntry;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Measurement;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
 import de.oabidi.pflanzenbestandundlichttest.core.data.db.PlantDatabase;
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.SearchIndex;
 import de.oabidi.pflanzenbestandundlichttest.feature.plant.PlantProfile;
 import de.oabidi.pflanzenbestandundlichttest.R;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTarget;
@@ -91,6 +96,7 @@ public class ImportManager {
     private final Handler mainHandler = new Handler(Looper.getMainLooper());
     private final ExecutorService executor;
     private int importVersion = CURRENT_VERSION;
+    private final AtomicLong importedRows = new AtomicLong();
 
     public ImportManager(@NonNull Context context) {
         this(context, resolveExecutor(context));
@@ -133,27 +139,7 @@ public class ImportManager {
     }
 
     static List<String> parseCsv(String line) {
-        List<String> tokens = new ArrayList<>();
-        StringBuilder sb = new StringBuilder();
-        boolean inQuotes = false;
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            if (c == '"') {
-                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    sb.append('"');
-                    i++;
-                } else {
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {
-                tokens.add(sb.toString());
-                sb.setLength(0);
-            } else {
-                sb.append(c);
-            }
-        }
-        tokens.add(sb.toString());
-        return tokens;
+        return CsvParser.parseLine(line);
     }
 
     /**
@@ -172,6 +158,10 @@ public class ImportManager {
     public void importData(@NonNull Uri uri, @NonNull Mode mode, @NonNull Callback callback,
                            @Nullable ProgressCallback progressCallback) {
         executor.execute(() -> {
+            long startedAt = System.nanoTime();
+            Tracer.Span span = Tracer.begin("import.run").arg("mode", mode.name());
+            long rowsBefore = importedRows.get();
+            long inputBytes = 0L;
             boolean success = false;
             ImportError error = null;
             List<ImportWarning> warnings = new ArrayList<>();
@@ -194,6 +184,7 @@ public class ImportManager {
                         int len;
                         while ((len = is.read(buffer)) != -1) {
                             os.write(buffer, 0, len);
+                            inputBytes += len;
                         }
                     } catch (IOException e) {
                         Log.e(TAG, "Failed to read JSON import", e);
@@ -285,6 +276,7 @@ public class ImportManager {
                                 tracker.update(countingIs.getCount());
                             }
                             tracker.complete();
+                            inputBytes = countingIs.getCount();
                             boolean useJson = jsonFile != null
                                 && (archiveKind == ArchiveKind.JSON_ZIP || csvFile == null);
                             File dataFile = useJson ? jsonFile : csvFile;
@@ -308,6 +300,11 @@ public class ImportManager {
             } else {
                 error = ImportError.IO_ERROR;
             }
+            if (success) {
+                recordThroughput(startedAt, importedRows.get() - rowsBefore, inputBytes);
+            }
+            span.arg("rows", importedRows.get() - rowsBefore).arg("bytes", inputBytes)
+                .arg("success", success ? 1L : 0L).close();
             final boolean result = success;
             final ImportError finalError = error;
             final List<ImportWarning> warningList = new ArrayList<>(warnings);
@@ -318,6 +315,29 @@ public class ImportManager {
         });
     }
 
+    /**
+     * Adds rows processed by a section parser to the throughput metrics of the running import.
+     */
+    void countRows(int rows) {
+        if (rows > 0) {
+            importedRows.addAndGet(rows);
+        }
+    }
+
+    /**
+     * Records duration, row count, input size and rows per second of a successful import.
+     */
+    private static void recordThroughput(long startedAtNanos, long rows, long bytes) {
+        MetricsRegistry registry = MetricsRegistry.get();
+        long elapsedNanos = System.nanoTime() - startedAtNanos;
+        registry.timer("import.duration").record(elapsedNanos);
+        registry.counter("import.rows").add(rows);
+        registry.counter("import.bytes").add(bytes);
+        if (elapsedNanos > 0L) {
+            registry.histogram("import.rows_per_second").record(rows * 1_000_000_000L / elapsedNanos);
+        }
+    }
+
     void stepProgress(@NonNull AtomicInteger progress,
                       @Nullable ProgressCallback progressCallback,
                       int totalSteps) {
@@ -813,15 +833,10 @@ public class ImportManager {
             }
             String message = parts.get(3);
             Reminder r = new Reminder(triggerAt, message, plantId);
-            long reminderId;
-            if (mode == Mode.MERGE) {
-                reminderId = db.reminderDao().insert(r);
-            } else {
+            if (mode != Mode.MERGE) {
                 r.setId(id);
-                db.reminderDao().insert(r);
-                reminderId = id;
             }
-            ReminderScheduler.scheduleReminderAt(context, triggerAt, message, reminderId, plantId);
+            db.reminderDao().insert(r);
             return true;
         } catch (Exception e) {
             Log.e(TAG, "Malformed reminder row: " + parts, e);
@@ -1438,6 +1453,7 @@ public class ImportManager {
                                       @NonNull AtomicInteger totalSteps,
                                       @NonNull AtomicInteger progress,
                                       @Nullable ProgressCallback progressCallback) {
+        countRows(result.workUnits);
         if (result.workUnits > 0) {
             int newTotal = totalSteps.addAndGet(result.workUnits);
             stepProgress(progress, progressCallback, newTotal, result.workUnits);
@@ -2366,6 +2382,10 @@ public class ImportManager {
                             throw new RuntimeException(e);
                         }
                     }
+                    // Index the imported text once at the end instead of row by row; a failed
+                    // import rolls back the dropped triggers together with the data.
+                    SupportSQLiteDatabase sqlDb = db.getOpenHelper().getWritableDatabase();
+                    SearchIndex.dropSyncTriggers(sqlDb);
                     if (errorHolder[0] == null) {
                         try {
                             if (isJson) {
@@ -2397,11 +2417,17 @@ public class ImportManager {
                             throw new RuntimeException(e);
                         }
                     }
+                    SearchIndex.createSyncTriggers(sqlDb);
+                    SearchIndex.rebuild(sqlDb);
                 });
             } catch (RuntimeException e) {
                 // Transaction failure; errorHolder already set
             }
         }
+        if (successHolder[0]) {
+            // Re-arm the dispatch wakeup once for all imported reminders, after the commit.
+            ReminderScheduler.onRemindersChanged(context);
+        }
         if (mode == Mode.REPLACE && successHolder[0] && !cleanupTasks.isEmpty()) {
             List<Runnable> tasks = new ArrayList<>(cleanupTasks);
             Runnable cleanupRunnable = () -> {
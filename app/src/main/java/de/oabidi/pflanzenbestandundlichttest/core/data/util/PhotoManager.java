@@ -2,28 +2,76 @@ package de.oabidi.pflanzenbestandundlichttest.core.data.util;
 
 import android.content.ContentResolver;
 import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.media.ExifInterface;
 import android.net.Uri;
 import android.util.Log;
 import android.webkit.MimeTypeMap;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
 
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import de.oabidi.pflanzenbestandundlichttest.core.system.PhotoTranscodeScheduler;
 
 /**
  * Utility class for managing photo files associated with plants or diary entries.
- * Provides methods to delete images referenced by {@link Uri} or string paths.
+ * Provides methods to delete images referenced by {@link Uri} or string paths, allocate pending
+ * capture files that are moved into app storage once the owning edit is saved, and downscale
+ * stored photos in the background.
  */
 public final class PhotoManager {
+    /**
+     * Default longest edge, in pixels, that stored photos are transcoded to.
+     */
+    public static final int DEFAULT_MAX_DIMENSION = 2560;
+    /**
+     * Smallest configurable longest edge, in pixels; below it photos lose detail the gallery and
+     * detail views still show.
+     */
+    public static final int MIN_MAX_DIMENSION = 1024;
+    /**
+     * Default JPEG quality used when transcoding stored photos.
+     */
+    public static final int DEFAULT_JPEG_QUALITY = 85;
     private static final String TAG = "PhotoManager";
     private static final String DIR_PLANT_PHOTOS = "plant_photos";
     private static final String DIR_ENVIRONMENT_PHOTOS = "environment_photos";
+    private static final String DIR_PENDING_CAPTURES = "pending_captures";
+    private static final String PREFIX_CAPTURE = "capture_";
+    private static final long PENDING_CAPTURE_MAX_AGE_MS = TimeUnit.DAYS.toMillis(1);
+    private static final String PREFIX_PLANT = "plant_";
+    private static final String PREFIX_ENVIRONMENT = "environment_";
+    private static final String EXTENSION_JPEG = ".jpg";
+    private static final String[] PRESERVED_EXIF_TAGS = {
+        ExifInterface.TAG_ORIENTATION,
+        ExifInterface.TAG_DATETIME,
+        ExifInterface.TAG_DATETIME_ORIGINAL,
+        ExifInterface.TAG_MAKE,
+        ExifInterface.TAG_MODEL,
+        ExifInterface.TAG_GPS_LATITUDE,
+        ExifInterface.TAG_GPS_LATITUDE_REF,
+        ExifInterface.TAG_GPS_LONGITUDE,
+        ExifInterface.TAG_GPS_LONGITUDE_REF
+    };
+
+    /**
+     * Kind of stored photo, selecting its directory and the thumbnails generated for it.
+     */
+    public enum Kind {
+        PLANT,
+        ENVIRONMENT
+    }
 
     private PhotoManager() {
     }
@@ -70,7 +118,8 @@ public final class PhotoManager {
 
     /**
      * Copies the content referenced by {@code sourceUri} into the application's private gallery
-     * directory and returns a {@link Uri} pointing to the stored file.
+     * directory and returns a {@link Uri} pointing to the stored file. Pending captures from
+     * {@link #createCaptureFile} are moved instead of copied.
      *
      * @param context   context used to resolve the input URI
      * @param sourceUri original image URI that should be persisted
@@ -79,12 +128,46 @@ public final class PhotoManager {
      */
     @NonNull
     public static Uri savePlantPhoto(@NonNull Context context, @NonNull Uri sourceUri) throws IOException {
-        return savePhoto(context, sourceUri, DIR_PLANT_PHOTOS, "plant_");
+        return savePhoto(context, sourceUri, Kind.PLANT);
     }
 
     @NonNull
     public static Uri saveEnvironmentPhoto(@NonNull Context context, @NonNull Uri sourceUri) throws IOException {
-        return savePhoto(context, sourceUri, DIR_ENVIRONMENT_PHOTOS, "environment_");
+        return savePhoto(context, sourceUri, Kind.ENVIRONMENT);
+    }
+
+    /**
+     * Allocates a new, not yet existing JPEG file for a camera capture. The file stays pending until
+     * {@link #savePlantPhoto} or {@link #saveEnvironmentPhoto} moves it into the photo directory of
+     * its kind, or {@link #discardCapture} removes it when the edit is cancelled. Pending captures
+     * older than a day are purged here, which covers edits that never reported back.
+     *
+     * @throws IOException if the capture directory cannot be created
+     */
+    @NonNull
+    public static File createCaptureFile(@NonNull Context context) throws IOException {
+        File directory = pendingCaptureDirectory(context);
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Failed to create capture directory: " + directory);
+        }
+        purgeStaleCaptures(directory);
+        return allocateDestination(directory, PREFIX_CAPTURE, EXTENSION_JPEG);
+    }
+
+    /**
+     * Returns whether the uri references a capture that has not been saved yet.
+     */
+    public static boolean isPendingCapture(@NonNull Context context, @Nullable Uri uri) {
+        return uri != null && fileInDirectory(pendingCaptureDirectory(context), uri) != null;
+    }
+
+    /**
+     * Deletes the capture behind {@code uri} if it is still pending. Stored photos are left alone.
+     */
+    public static void discardCapture(@NonNull Context context, @Nullable Uri uri) {
+        if (isPendingCapture(context, uri)) {
+            deletePhoto(context, uri);
+        }
     }
 
     public static boolean isEnvironmentPhoto(@NonNull Context context, @Nullable String uriString) {
@@ -116,17 +199,81 @@ public final class PhotoManager {
 
     @NonNull
     private static Uri savePhoto(@NonNull Context context, @NonNull Uri sourceUri,
-                                 @NonNull String directoryName, @NonNull String prefix) throws IOException {
-        File directory = new File(context.getFilesDir(), directoryName);
-        if (!directory.exists() && !directory.mkdirs()) {
-            throw new IOException("Failed to create photo directory: " + directory);
+                                 @NonNull Kind kind) throws IOException {
+        File directory = ensureDirectory(context, kind);
+        if (fileInDirectory(directory, sourceUri) != null) {
+            return sourceUri;
+        }
+        File capture = fileInDirectory(pendingCaptureDirectory(context), sourceUri);
+        if (capture != null) {
+            File destination = allocateDestination(directory, prefixFor(kind), EXTENSION_JPEG);
+            if (!capture.renameTo(destination)) {
+                throw new IOException("Failed to move capture: " + capture);
+            }
+            Uri stored = Uri.fromFile(destination);
+            PhotoTranscodeScheduler.schedule(context, stored, kind);
+            return stored;
         }
 
         String extension = extractExtension(context, sourceUri);
         if (extension.isEmpty()) {
-            extension = ".jpg";
+            extension = EXTENSION_JPEG;
+        }
+        File destination = allocateDestination(directory, prefixFor(kind), extension);
+
+        try (InputStream in = context.getContentResolver().openInputStream(sourceUri);
+             OutputStream out = new FileOutputStream(destination)) {
+            if (in == null) {
+                throw new IOException("Cannot open source URI: " + sourceUri);
+            }
+            byte[] buffer = new byte[8192];
+            int len;
+            while ((len = in.read(buffer)) != -1) {
+                out.write(buffer, 0, len);
+            }
+        }
+
+        Uri stored = Uri.fromFile(destination);
+        PhotoTranscodeScheduler.schedule(context, stored, kind);
+        return stored;
+    }
+
+    @NonNull
+    private static File pendingCaptureDirectory(@NonNull Context context) {
+        return new File(context.getFilesDir(), DIR_PENDING_CAPTURES);
+    }
+
+    private static void purgeStaleCaptures(@NonNull File directory) {
+        File[] captures = directory.listFiles();
+        if (captures == null) {
+            return;
         }
+        long cutoff = System.currentTimeMillis() - PENDING_CAPTURE_MAX_AGE_MS;
+        for (File capture : captures) {
+            if (capture.lastModified() < cutoff && !capture.delete()) {
+                Log.w(TAG, "Failed to purge pending capture " + capture);
+            }
+        }
+    }
+
+    @NonNull
+    private static File ensureDirectory(@NonNull Context context, @NonNull Kind kind) throws IOException {
+        String directoryName = kind == Kind.ENVIRONMENT ? DIR_ENVIRONMENT_PHOTOS : DIR_PLANT_PHOTOS;
+        File directory = new File(context.getFilesDir(), directoryName);
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Failed to create photo directory: " + directory);
+        }
+        return directory;
+    }
 
+    @NonNull
+    private static String prefixFor(@NonNull Kind kind) {
+        return kind == Kind.ENVIRONMENT ? PREFIX_ENVIRONMENT : PREFIX_PLANT;
+    }
+
+    @NonNull
+    private static File allocateDestination(@NonNull File directory, @NonNull String prefix,
+                                            @NonNull String extension) {
         String baseName = prefix + System.currentTimeMillis();
         File destination;
         int suffix = 0;
@@ -135,20 +282,106 @@ public final class PhotoManager {
             destination = new File(directory, candidate);
             suffix++;
         } while (destination.exists());
+        return destination;
+    }
 
-        try (InputStream in = context.getContentResolver().openInputStream(sourceUri);
-             OutputStream out = new FileOutputStream(destination)) {
-            if (in == null) {
-                throw new IOException("Cannot open source URI: " + sourceUri);
+    @Nullable
+    private static File fileInDirectory(@NonNull File directory, @NonNull Uri uri) {
+        if (!"file".equals(uri.getScheme()) || uri.getPath() == null) {
+            return null;
+        }
+        File file = new File(uri.getPath());
+        try {
+            return file.getCanonicalPath().startsWith(directory.getCanonicalPath() + File.separator)
+                ? file : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Downscales a stored JPEG in place so its longest edge does not exceed {@code maxDimension},
+     * re-encoding it with the given quality. EXIF orientation and capture metadata are carried over
+     * to the new file, which atomically replaces the original. Files that are already small enough
+     * or are not JPEGs are left untouched.
+     *
+     * @return {@code true} if the file was rewritten
+     * @throws IOException if the source cannot be read or the replacement cannot be written
+     */
+    @WorkerThread
+    public static boolean transcode(@NonNull File file, int maxDimension, int quality) throws IOException {
+        String name = file.getName().toLowerCase(Locale.ROOT);
+        if (!name.endsWith(".jpg") && !name.endsWith(".jpeg")) {
+            return false;
+        }
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(file.getAbsolutePath(), bounds);
+        int longest = Math.max(bounds.outWidth, bounds.outHeight);
+        if (longest <= 0) {
+            throw new IOException("Unreadable image: " + file);
+        }
+        if (longest <= maxDimension) {
+            return false;
+        }
+
+        BitmapFactory.Options decode = new BitmapFactory.Options();
+        int sampleSize = 1;
+        while (longest / (sampleSize * 2) >= maxDimension) {
+            sampleSize *= 2;
+        }
+        decode.inSampleSize = sampleSize;
+        Bitmap sampled = BitmapFactory.decodeFile(file.getAbsolutePath(), decode);
+        if (sampled == null) {
+            throw new IOException("Failed to decode image: " + file);
+        }
+        float scale = (float) maxDimension / Math.max(sampled.getWidth(), sampled.getHeight());
+        Bitmap output = sampled;
+        if (scale < 1f) {
+            output = Bitmap.createScaledBitmap(sampled,
+                Math.max(1, Math.round(sampled.getWidth() * scale)),
+                Math.max(1, Math.round(sampled.getHeight() * scale)), true);
+            if (output != sampled) {
+                sampled.recycle();
             }
-            byte[] buffer = new byte[8192];
-            int len;
-            while ((len = in.read(buffer)) != -1) {
-                out.write(buffer, 0, len);
+        }
+
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try {
+            try (OutputStream out = new FileOutputStream(temp)) {
+                if (!output.compress(Bitmap.CompressFormat.JPEG, quality, out)) {
+                    throw new IOException("Failed to encode image: " + file);
+                }
+            } finally {
+                output.recycle();
+            }
+            copyExif(file, temp);
+            if (!temp.renameTo(file)) {
+                throw new IOException("Failed to replace image: " + file);
+            }
+            return true;
+        } finally {
+            if (temp.exists()) {
+                //noinspection ResultOfMethodCallIgnored
+                temp.delete();
             }
         }
+    }
 
-        return Uri.fromFile(destination);
+    private static void copyExif(@NonNull File source, @NonNull File target) {
+        try {
+            ExifInterface from = new ExifInterface(source.getAbsolutePath());
+            ExifInterface to = new ExifInterface(target.getAbsolutePath());
+            for (String tag : PRESERVED_EXIF_TAGS) {
+                String value = from.getAttribute(tag);
+                if (value != null) {
+                    to.setAttribute(tag, value);
+                }
+            }
+            to.saveAttributes();
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to copy EXIF metadata for " + source, e);
+        }
     }
 
     @NonNull
@@ -12,6 +12,8 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
+
 @VisibleForTesting
 class SectionCoordinator {
     private final ImportManager manager;
@@ -77,9 +79,13 @@ class SectionCoordinator {
             if (cancelled.get()) {
                 break;
             }
-            if (task.parser.parseSection(task.chunk, context)) {
-                importedAny = true;
+            try (Tracer.Span span = Tracer.begin("import.section")) {
+                span.arg("section", task.chunk.getSection().getHeader()).arg("rows", task.workUnits);
+                if (task.parser.parseSection(task.chunk, context)) {
+                    importedAny = true;
+                }
             }
+            manager.countRows(task.workUnits);
             if (task.workUnits > 0) {
                 manager.stepProgress(progress, progressCallback, totalSteps.get(), task.workUnits);
             }
@@ -9,6 +9,7 @@ import android.util.Log;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
 
 import java.io.BufferedWriter;
 import java.io.File;
@@ -31,6 +32,8 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 
+import de.oabidi.pflanzenbestandundlichttest.analytics.MetricsRegistry;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
 import de.oabidi.pflanzenbestandundlichttest.core.data.db.BulkReadDao;
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
@@ -139,53 +142,82 @@ public class ExportManager {
         exportInternal(uri, plantId, Format.JSON, callback, progressCallback);
     }
 
+    /**
+     * Writes a full JSON export on the calling thread. Used by background maintenance, which
+     * already runs off the main thread and needs the result before continuing.
+     *
+     * @param uri destination of the archive
+     * @return {@code true} if the export succeeded
+     */
+    @WorkerThread
+    public boolean exportJsonSync(@NonNull Uri uri) {
+        return exportBlocking(uri, -1, Format.JSON, null);
+    }
+
     private void exportInternal(@NonNull Uri uri, long plantId, @NonNull Format format,
                                 @NonNull Callback callback,
                                 @Nullable ProgressCallback progressCallback) {
         executor.execute(() -> {
-            ExportData data;
-            try {
-                data = loadData(plantId);
-            } catch (IOException e) {
-                Log.e(TAG, "Export failed", e);
-                mainHandler.post(() -> callback.onComplete(false));
-                return;
-            }
+            boolean result = exportBlocking(uri, plantId, format, progressCallback);
+            mainHandler.post(() -> callback.onComplete(result));
+        });
+    }
 
-            boolean success = false;
-            File tempDir = new File(context.getCacheDir(), "export_" + System.currentTimeMillis());
-            if (!tempDir.mkdirs()) {
-                tempDir = null;
-            }
+    private boolean exportBlocking(@NonNull Uri uri, long plantId, @NonNull Format format,
+                                   @Nullable ProgressCallback progressCallback) {
+        try (Tracer.Span span = Tracer.begin("export.run")) {
+            span.arg("plant_id", plantId).arg("format", format.name());
+            boolean success = exportBlocking(uri, plantId, format, progressCallback, span);
+            span.arg("success", success ? 1L : 0L);
+            return success;
+        }
+    }
 
-            int totalSteps = 3;
-            int[] progress = {0};
+    private boolean exportBlocking(@NonNull Uri uri, long plantId, @NonNull Format format,
+                                   @Nullable ProgressCallback progressCallback,
+                                   @NonNull Tracer.Span span) {
+        long startedAt = System.nanoTime();
+        ExportData data;
+        try {
+            data = loadData(plantId);
+        } catch (IOException e) {
+            Log.e(TAG, "Export failed", e);
+            return false;
+        }
 
-            if (tempDir != null) {
-                try {
-                    notifyProgress(progressCallback, progress, totalSteps);
+        boolean success = false;
+        File tempDir = new File(context.getCacheDir(), "export_" + System.currentTimeMillis());
+        if (!tempDir.mkdirs()) {
+            tempDir = null;
+        }
 
-                    if (format == Format.JSON) {
-                        writeJson(tempDir, data);
-                    } else {
-                        writeCsv(tempDir, data);
-                    }
-                    notifyProgress(progressCallback, progress, totalSteps);
+        int totalSteps = 3;
+        int[] progress = {0};
 
-                    zipFiles(uri, tempDir);
-                    notifyProgress(progressCallback, progress, totalSteps);
+        if (tempDir != null) {
+            try {
+                notifyProgress(progressCallback, progress, totalSteps);
 
-                    success = true;
-                } catch (IOException e) {
-                    Log.e(TAG, "Export failed", e);
-                } finally {
-                    FileUtils.deleteRecursive(tempDir);
+                if (format == Format.JSON) {
+                    writeJson(tempDir, data);
+                } else {
+                    writeCsv(tempDir, data);
                 }
-            }
+                notifyProgress(progressCallback, progress, totalSteps);
 
-            boolean result = success;
-            mainHandler.post(() -> callback.onComplete(result));
-        });
+                long bytes = zipFiles(uri, tempDir);
+                notifyProgress(progressCallback, progress, totalSteps);
+
+                success = true;
+                recordThroughput(startedAt, data.rowCount(), bytes);
+                span.arg("rows", data.rowCount()).arg("bytes", bytes);
+            } catch (IOException e) {
+                Log.e(TAG, "Export failed", e);
+            } finally {
+                FileUtils.deleteRecursive(tempDir);
+            }
+        }
+        return success;
     }
 
     private ExportData loadData(long plantId) throws IOException {
@@ -563,7 +595,27 @@ public class ExportManager {
         }
     }
 
-    private void zipFiles(Uri uri, File tempDir) throws IOException {
+    /**
+     * Records duration, row count, uncompressed payload size and rows per second of a successful
+     * export.
+     */
+    private static void recordThroughput(long startedAtNanos, long rows, long bytes) {
+        MetricsRegistry registry = MetricsRegistry.get();
+        long elapsedNanos = System.nanoTime() - startedAtNanos;
+        registry.timer("export.duration").record(elapsedNanos);
+        registry.counter("export.rows").add(rows);
+        registry.counter("export.bytes").add(bytes);
+        if (elapsedNanos > 0L) {
+            registry.histogram("export.rows_per_second").record(rows * 1_000_000_000L / elapsedNanos);
+        }
+    }
+
+    /**
+     * Zips all files of {@code tempDir} into {@code uri} and returns the number of uncompressed
+     * bytes written.
+     */
+    private long zipFiles(Uri uri, File tempDir) throws IOException {
+        long written = 0L;
         try (OutputStream os = context.getContentResolver().openOutputStream(uri);
              ZipOutputStream zos = new ZipOutputStream(os)) {
             File[] files = tempDir.listFiles();
@@ -575,6 +627,7 @@ public class ExportManager {
                         int len;
                         while ((len = fis.read(buffer)) != -1) {
                             zos.write(buffer, 0, len);
+                            written += len;
                         }
                         zos.closeEntry();
                     }
@@ -584,6 +637,7 @@ public class ExportManager {
             Log.e(TAG, "Error creating ZIP", e);
             throw e;
         }
+        return written;
     }
 
     private void notifyProgress(@Nullable ProgressCallback progressCallback, int[] progress, int totalSteps) {
@@ -832,5 +886,11 @@ public class ExportManager {
             this.environmentEntries = environmentEntries;
             this.reminderSuggestions = reminderSuggestions;
         }
+
+        long rowCount() {
+            return (long) plants.size() + measurements.size() + diaryEntries.size()
+                + reminders.size() + targets.size() + plantPhotos.size() + ledProfiles.size()
+                + environmentEntries.size() + reminderSuggestions.size();
+        }
     }
 }
@@ -0,0 +1,33 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system;
+
+import android.content.Context;
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
+
+/**
+ * Schedules background transcoding of photos stored by {@link PhotoManager}.
+ */
+public interface PhotoTranscodeScheduler {
+    /**
+     * Schedules transcoding through the application if it implements
+     * {@link PhotoTranscodeScheduler}; otherwise the photo is kept as stored.
+     *
+     * @param context any context whose application may implement {@link PhotoTranscodeScheduler}
+     * @param uri     uri of the stored photo
+     * @param kind    kind of the stored photo
+     */
+    static void schedule(@NonNull Context context, @NonNull Uri uri, @NonNull PhotoManager.Kind kind) {
+        Context appContext = context.getApplicationContext();
+        if (appContext instanceof PhotoTranscodeScheduler) {
+            ((PhotoTranscodeScheduler) appContext).scheduleTranscode(uri, kind);
+        }
+    }
+
+    /**
+     * Queues downscaling of the stored photo and regeneration of its thumbnails.
+     */
+    void scheduleTranscode(@NonNull Uri uri, @NonNull PhotoManager.Kind kind);
+}
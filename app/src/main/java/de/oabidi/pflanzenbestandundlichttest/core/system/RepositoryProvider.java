@@ -10,6 +10,7 @@ import de.oabidi.pflanzenbestandundlichttest.repository.MeasurementRepository;
 import de.oabidi.pflanzenbestandundlichttest.repository.NaturalLightRepository;
 import de.oabidi.pflanzenbestandundlichttest.repository.ProactiveAlertRepository;
 import de.oabidi.pflanzenbestandundlichttest.repository.ReminderRepository;
+import de.oabidi.pflanzenbestandundlichttest.repository.SearchRepository;
 import de.oabidi.pflanzenbestandundlichttest.repository.SpeciesRepository;
 
 /**
@@ -51,6 +52,10 @@ public interface RepositoryProvider {
         return getRepository(context).speciesRepository();
     }
 
+    static SearchRepository getSearchRepository(Context context) {
+        return getRepository(context).searchRepository();
+    }
+
     static GalleryRepository getGalleryRepository(Context context) {
         return getRepository(context).galleryRepository();
     }
@@ -88,6 +93,10 @@ public interface RepositoryProvider {
         return getRepository().speciesRepository();
     }
 
+    default SearchRepository getSearchRepository() {
+        return getRepository().searchRepository();
+    }
+
     default GalleryRepository getGalleryRepository() {
         return getRepository().galleryRepository();
     }
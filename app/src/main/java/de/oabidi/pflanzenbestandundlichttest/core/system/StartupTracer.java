@@ -0,0 +1,142 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
+
+/**
+ * Records the phases of a cold start. Every phase is emitted as a {@link Tracer} span, so it
+ * shows up in Perfetto/systrace captures and exported traces, and its duration is logged and
+ * kept in memory. The time from process start to the first drawn frame is recorded once via
+ * {@link #markFirstFrame()}, but only if an activity launch started the process; processes started
+ * for a worker, receiver or widget update sit idle before their first activity and would overstate
+ * it.
+ */
+public final class StartupTracer {
+    private static final String TAG = "StartupTracer";
+    private static final String SECTION_PREFIX = "startup:";
+    private static final Map<String, Long> phaseDurations = new LinkedHashMap<>();
+    private static long firstFrameMs = -1L;
+    private static boolean firstFrameHandled;
+    // Main-thread only: whether the first activity was created before the launch window closed.
+    private static boolean launchWindowOpen;
+    private static boolean activityStartedProcess;
+
+    private StartupTracer() {
+        // no instances
+    }
+
+    /**
+     * Starts a phase. The returned section must be closed on the same thread.
+     *
+     * @param phase short name of the phase
+     */
+    @NonNull
+    public static Section begin(@NonNull String phase) {
+        Tracer.Span span = Tracer.begin(SECTION_PREFIX + phase);
+        return new Section(phase, span, SystemClock.elapsedRealtime());
+    }
+
+    /**
+     * Opens the launch window at the end of {@code Application.onCreate()}. If the process was
+     * started to show an activity, the system creates it before the main thread gets to the message
+     * posted here, which closes the window. Must be called on the main thread.
+     */
+    public static void markApplicationCreated() {
+        launchWindowOpen = true;
+        new Handler(Looper.getMainLooper()).post(() -> launchWindowOpen = false);
+    }
+
+    /**
+     * Notes the creation of an activity; only the first one inside the launch window counts as
+     * having started the process. Must be called on the main thread.
+     */
+    public static void markActivityCreated() {
+        if (launchWindowOpen) {
+            activityStartedProcess = true;
+            launchWindowOpen = false;
+        }
+    }
+
+    /**
+     * Records the time from process start to the first frame if an activity started the process.
+     * Only the first call has an effect. Must be called on the main thread.
+     */
+    public static void markFirstFrame() {
+        long elapsed = SystemClock.elapsedRealtime() - Process.getStartElapsedRealtime();
+        synchronized (phaseDurations) {
+            if (firstFrameHandled) {
+                return;
+            }
+            firstFrameHandled = true;
+            if (!activityStartedProcess) {
+                Log.i(TAG, "Process was not started by an activity; first frame not recorded");
+                return;
+            }
+            firstFrameMs = elapsed;
+        }
+        Log.i(TAG, "Cold start to first frame took " + elapsed + " ms");
+    }
+
+    /**
+     * Returns the time from process start to the first frame, or {@code -1} if not yet drawn.
+     */
+    public static long getFirstFrameMs() {
+        synchronized (phaseDurations) {
+            return firstFrameMs;
+        }
+    }
+
+    /**
+     * Returns the recorded phases in completion order as {@code name -> duration in ms}.
+     */
+    @NonNull
+    public static Map<String, Long> getPhaseDurations() {
+        synchronized (phaseDurations) {
+            return Collections.unmodifiableMap(new LinkedHashMap<>(phaseDurations));
+        }
+    }
+
+    private static void record(@NonNull String phase, long durationMs) {
+        synchronized (phaseDurations) {
+            phaseDurations.put(phase, durationMs);
+        }
+        Log.i(TAG, "Startup phase " + phase + " took " + durationMs + " ms");
+    }
+
+    /**
+     * Open startup phase. Closing it ends the trace section and records the duration.
+     */
+    public static final class Section implements AutoCloseable {
+        private final String phase;
+        private final Tracer.Span span;
+        private final long startedAt;
+        private boolean closed;
+
+        private Section(@NonNull String phase, @NonNull Tracer.Span span, long startedAt) {
+            this.phase = phase;
+            this.span = span;
+            this.startedAt = startedAt;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            span.close();
+            record(phase, SystemClock.elapsedRealtime() - startedAt);
+        }
+    }
+}
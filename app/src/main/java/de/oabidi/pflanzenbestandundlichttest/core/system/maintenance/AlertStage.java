@@ -0,0 +1,30 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system.maintenance;
+
+import androidx.annotation.NonNull;
+
+import java.util.List;
+
+import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
+import de.oabidi.pflanzenbestandundlichttest.feature.alerts.ProactiveAlert;
+import de.oabidi.pflanzenbestandundlichttest.feature.alerts.ProactiveAlertNotifier;
+
+/**
+ * Evaluates proactive care alerts for the snapshot's plants and posts the new ones.
+ */
+final class AlertStage implements MaintenanceStage {
+    @NonNull
+    @Override
+    public String getName() {
+        return "alerts";
+    }
+
+    @Override
+    public void run(@NonNull MaintenanceSnapshot snapshot) {
+        if (!snapshot.getSettings().getBoolean(SettingsKeys.KEY_PROACTIVE_ALERTS_ENABLED, true)) {
+            return;
+        }
+        List<ProactiveAlert> alerts =
+            snapshot.getAlertManager().evaluateNewAlerts(snapshot.getPlants());
+        new ProactiveAlertNotifier(snapshot.getContext()).dispatch(alerts);
+    }
+}
@@ -0,0 +1,54 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system.maintenance;
+
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
+import de.oabidi.pflanzenbestandundlichttest.core.system.ExportManager;
+
+/**
+ * Writes a weekly JSON export to the app's external files directory when automatic backups are
+ * enabled.
+ */
+final class BackupStage implements MaintenanceStage {
+    static final String FILE_PREFIX = "backup-";
+    private static final long BACKUP_INTERVAL_MS = TimeUnit.DAYS.toMillis(7);
+    private static final String KEY_LAST_BACKUP = "last_backup_at";
+
+    @NonNull
+    @Override
+    public String getName() {
+        return "backup";
+    }
+
+    @Override
+    public void run(@NonNull MaintenanceSnapshot snapshot) throws IOException {
+        if (!snapshot.getSettings().getBoolean(SettingsKeys.KEY_AUTO_BACKUP, false)) {
+            return;
+        }
+        long lastBackup = snapshot.getState().getLong(KEY_LAST_BACKUP, 0L);
+        if (snapshot.getStartedAt() - lastBackup < BACKUP_INTERVAL_MS) {
+            return;
+        }
+        File dir = snapshot.getContext().getExternalFilesDir(null);
+        if (dir == null) {
+            throw new IOException("External files directory unavailable");
+        }
+        String timestamp = new SimpleDateFormat("yyyyMMdd-HHmmss", Locale.US)
+            .format(new Date(snapshot.getStartedAt()));
+        File out = new File(dir, FILE_PREFIX + timestamp + ".json.zip");
+        ExportManager exportManager = new ExportManager(snapshot.getContext(), snapshot.getRepository());
+        if (!exportManager.exportJsonSync(Uri.fromFile(out))) {
+            throw new IOException("Backup export failed");
+        }
+        snapshot.getState().edit().putLong(KEY_LAST_BACKUP, snapshot.getStartedAt()).apply();
+    }
+}
@@ -0,0 +1,82 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system.maintenance;
+
+import android.app.AlarmManager;
+import android.app.PendingIntent;
+import android.content.ComponentName;
+import android.content.Context;
+import android.content.Intent;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.ExistingPeriodicWorkPolicy;
+import androidx.work.NetworkType;
+import androidx.work.PeriodicWorkRequest;
+import androidx.work.WorkManager;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Schedules the {@link MaintenanceWorker} that replaces the separate natural light, proactive
+ * alert and backup schedules with one periodic run while the device is charging, idle and online.
+ *
+ * <p>The network constraint is for the weather fetch of {@link NaturalLightStage}; the other
+ * stages are local, and a charging idle device is nearly always connected as well.</p>
+ */
+public final class MaintenanceScheduler {
+    static final String PREFS_NAME = "MaintenancePipeline";
+    private static final String WORK_NAME = "maintenance-pipeline";
+    private static final long REPEAT_INTERVAL_HOURS = 6L;
+    private static final String[] LEGACY_WORK_NAMES = {
+        "daily-natural-light",
+        "proactive-care-evaluation"
+    };
+    private static final String LEGACY_BACKUP_RECEIVER =
+        "de.oabidi.pflanzenbestandundlichttest.core.system.BackupScheduler";
+    private static final int LEGACY_BACKUP_REQUEST_CODE = 42;
+
+    private MaintenanceScheduler() {
+        // no instances
+    }
+
+    /**
+     * Enqueues the maintenance pipeline, updating the constraints of an already scheduled one, and
+     * removes the schedules of earlier versions.
+     */
+    public static void ensureScheduled(@NonNull Context context) {
+        Constraints constraints = new Constraints.Builder()
+            .setRequiresCharging(true)
+            .setRequiresDeviceIdle(true)
+            .setRequiredNetworkType(NetworkType.CONNECTED)
+            .build();
+        PeriodicWorkRequest request = new PeriodicWorkRequest.Builder(MaintenanceWorker.class,
+            REPEAT_INTERVAL_HOURS, TimeUnit.HOURS)
+            .setConstraints(constraints)
+            .build();
+        WorkManager workManager = WorkManager.getInstance(context);
+        // UPDATE keeps the schedule of existing work but applies changed constraints to it.
+        workManager.enqueueUniquePeriodicWork(WORK_NAME, ExistingPeriodicWorkPolicy.UPDATE, request);
+        for (String legacyWorkName : LEGACY_WORK_NAMES) {
+            workManager.cancelUniqueWork(legacyWorkName);
+        }
+        cancelLegacyBackupAlarm(context);
+    }
+
+    private static void cancelLegacyBackupAlarm(@NonNull Context context) {
+        AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+        if (alarmManager == null) {
+            return;
+        }
+        Intent intent = new Intent();
+        intent.setComponent(new ComponentName(context.getPackageName(), LEGACY_BACKUP_RECEIVER));
+        PendingIntent pendingIntent = PendingIntent.getBroadcast(
+            context,
+            LEGACY_BACKUP_REQUEST_CODE,
+            intent,
+            PendingIntent.FLAG_NO_CREATE | PendingIntent.FLAG_IMMUTABLE
+        );
+        if (pendingIntent != null) {
+            alarmManager.cancel(pendingIntent);
+            pendingIntent.cancel();
+        }
+    }
+}
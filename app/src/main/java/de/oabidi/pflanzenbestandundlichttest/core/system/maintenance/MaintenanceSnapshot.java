@@ -0,0 +1,95 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system.maintenance;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.annotation.NonNull;
+
+import java.util.Collections;
+import java.util.List;
+
+import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
+import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
+import de.oabidi.pflanzenbestandundlichttest.feature.alerts.ProactiveAlertManager;
+
+/**
+ * Data loaded once per maintenance run and shared by every stage, so the plant set and settings
+ * are not re-read and the alert manager is not rebuilt by each of them.
+ */
+final class MaintenanceSnapshot {
+    private final Context context;
+    private final PlantRepository repository;
+    private final ProactiveAlertManager alertManager;
+    private final SharedPreferences settings;
+    private final SharedPreferences state;
+    private final List<Plant> plants;
+    private final long startedAt;
+
+    private MaintenanceSnapshot(@NonNull Context context, @NonNull PlantRepository repository,
+                                @NonNull ProactiveAlertManager alertManager,
+                                @NonNull List<Plant> plants, long startedAt) {
+        this.context = context;
+        this.repository = repository;
+        this.alertManager = alertManager;
+        this.settings = context.getSharedPreferences(SettingsKeys.PREFS_NAME, Context.MODE_PRIVATE);
+        this.state = context.getSharedPreferences(MaintenanceScheduler.PREFS_NAME, Context.MODE_PRIVATE);
+        this.plants = plants;
+        this.startedAt = startedAt;
+    }
+
+    @NonNull
+    static MaintenanceSnapshot load(@NonNull Context context, @NonNull PlantRepository repository,
+                                    @NonNull ProactiveAlertManager alertManager) {
+        List<Plant> plants = repository.getAllPlantsSync();
+        return new MaintenanceSnapshot(context, repository, alertManager,
+            plants != null ? Collections.unmodifiableList(plants) : Collections.emptyList(),
+            System.currentTimeMillis());
+    }
+
+    @NonNull
+    Context getContext() {
+        return context;
+    }
+
+    @NonNull
+    PlantRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * Returns the alert manager shared by the alert and retention stages.
+     */
+    @NonNull
+    ProactiveAlertManager getAlertManager() {
+        return alertManager;
+    }
+
+    /**
+     * Returns the user settings.
+     */
+    @NonNull
+    SharedPreferences getSettings() {
+        return settings;
+    }
+
+    /**
+     * Returns the pipeline's own bookkeeping preferences.
+     */
+    @NonNull
+    SharedPreferences getState() {
+        return state;
+    }
+
+    @NonNull
+    List<Plant> getPlants() {
+        return plants;
+    }
+
+    /**
+     * Returns the wall-clock time at which the run started.
+     */
+    long getStartedAt() {
+        return startedAt;
+    }
+}
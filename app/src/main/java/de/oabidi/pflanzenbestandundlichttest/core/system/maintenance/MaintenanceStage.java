@@ -0,0 +1,24 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system.maintenance;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+/**
+ * One step of the background maintenance pipeline run by {@link MaintenanceWorker}.
+ */
+interface MaintenanceStage {
+    /**
+     * Returns a short stable name used for logging and timing records.
+     */
+    @NonNull
+    String getName();
+
+    /**
+     * Runs the stage. A failing stage is logged and does not prevent later stages from running.
+     *
+     * @param snapshot data shared by all stages of the current run
+     * @throws Exception if the stage could not complete
+     */
+    @WorkerThread
+    void run(@NonNull MaintenanceSnapshot snapshot) throws Exception;
+}
@@ -0,0 +1,115 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system.maintenance;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.os.SystemClock;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import java.util.Arrays;
+import java.util.List;
+
+import de.oabidi.pflanzenbestandundlichttest.analytics.MetricsRegistry;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Timer;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
+import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
+import de.oabidi.pflanzenbestandundlichttest.core.system.RepositoryProvider;
+import de.oabidi.pflanzenbestandundlichttest.feature.alerts.ProactiveAlertManager;
+
+/**
+ * Periodic worker running all background maintenance stages in order over one shared
+ * {@link MaintenanceSnapshot}. The duration and outcome of every stage is logged and kept in the
+ * pipeline's preferences.
+ */
+public class MaintenanceWorker extends Worker {
+    private static final String TAG = "MaintenanceWorker";
+    static final String KEY_LAST_RUN = "last_run_at";
+    static final String KEY_DURATION_PREFIX = "duration_ms_";
+    static final String KEY_FAILED_PREFIX = "failed_";
+    static final String SNAPSHOT_STAGE = "snapshot";
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    public MaintenanceWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    /**
+     * Returns the stages in execution order. Retention runs before the backup so the new archive
+     * is never the one removed.
+     */
+    static List<MaintenanceStage> createStages() {
+        return Arrays.asList(
+            new NaturalLightStage(),
+            new AlertStage(),
+            new ReminderSuggestionStage(),
+            new RetentionStage(),
+            new BackupStage());
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        Timer timer = MetricsRegistry.get().timer("worker.MaintenanceWorker");
+        long start = timer.start();
+        Tracer.Span span = Tracer.begin("worker.MaintenanceWorker");
+        try {
+            return runStages();
+        } finally {
+            span.close();
+            timer.stop(start);
+        }
+    }
+
+    @NonNull
+    private Result runStages() {
+        Context context = getApplicationContext();
+        PlantRepository repository = RepositoryProvider.getRepository(context);
+
+        long start = SystemClock.elapsedRealtime();
+        MaintenanceSnapshot snapshot;
+        try {
+            ProactiveAlertManager alertManager = new ProactiveAlertManager(context,
+                repository,
+                repository.environmentRepository(),
+                repository.diaryRepository(),
+                repository.speciesRepository(),
+                repository.alertRepository());
+            snapshot = MaintenanceSnapshot.load(context, repository, alertManager);
+        } catch (Exception e) {
+            Log.w(TAG, "Failed to load maintenance snapshot", e);
+            return Result.retry();
+        }
+        SharedPreferences.Editor timings = snapshot.getState().edit();
+        timings.putLong(KEY_DURATION_PREFIX + SNAPSHOT_STAGE, SystemClock.elapsedRealtime() - start);
+
+        for (MaintenanceStage stage : createStages()) {
+            if (isStopped()) {
+                break;
+            }
+            long stageStart = SystemClock.elapsedRealtime();
+            boolean failed = false;
+            try (Tracer.Span stageSpan = Tracer.begin("maintenance." + stage.getName())) {
+                stageSpan.arg("rows", snapshot.getPlants().size());
+                try {
+                    stage.run(snapshot);
+                } catch (Exception e) {
+                    failed = true;
+                    stageSpan.arg("error", e.getClass().getSimpleName());
+                    Log.w(TAG, "Maintenance stage " + stage.getName() + " failed", e);
+                }
+            }
+            long duration = SystemClock.elapsedRealtime() - stageStart;
+            MetricsRegistry.get().timer("maintenance." + stage.getName())
+                .record(duration * NANOS_PER_MILLI);
+            Log.i(TAG, "Maintenance stage " + stage.getName() + " took " + duration + " ms");
+            timings.putLong(KEY_DURATION_PREFIX + stage.getName(), duration);
+            timings.putBoolean(KEY_FAILED_PREFIX + stage.getName(), failed);
+        }
+        timings.putLong(KEY_LAST_RUN, snapshot.getStartedAt()).apply();
+        // Failed stages are retried by the next periodic run rather than by re-running all stages.
+        return Result.success();
+    }
+}
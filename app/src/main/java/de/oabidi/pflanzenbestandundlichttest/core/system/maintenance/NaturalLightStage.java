@@ -1,22 +1,13 @@
-package de.oabidi.pflanzenbestandundlichttest.feature.naturallight;
-
-import android.content.Context;
+package de.oabidi.pflanzenbestandundlichttest.core.system.maintenance;
 
 import androidx.annotation.NonNull;
-import androidx.work.Worker;
-import androidx.work.WorkerParameters;
-
-import org.json.JSONException;
 
-import java.io.IOException;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
 
 import de.oabidi.pflanzenbestandundlichttest.LightMath;
-import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository.LastKnownLocation;
-import de.oabidi.pflanzenbestandundlichttest.core.system.RepositoryProvider;
 import de.oabidi.pflanzenbestandundlichttest.core.data.NaturalLightEstimate;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantZone;
 import de.oabidi.pflanzenbestandundlichttest.repository.NaturalLightRepository;
@@ -24,51 +15,44 @@ import de.oabidi.pflanzenbestandundlichttest.weather.WeatherClient;
 import de.oabidi.pflanzenbestandundlichttest.weather.WeatherSnapshot;
 
 /**
- * Periodic worker computing natural light availability for plant zones.
+ * Computes today's natural light availability for all plant zones once per day and location.
  */
-public class NaturalLightWorker extends Worker {
+final class NaturalLightStage implements MaintenanceStage {
     private final WeatherClient weatherClient = new WeatherClient();
 
-    public NaturalLightWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
-        super(context, workerParams);
+    @NonNull
+    @Override
+    public String getName() {
+        return "natural-light";
     }
 
-    @NonNull
     @Override
-    public Result doWork() {
-        Context context = getApplicationContext();
-        PlantRepository repository = RepositoryProvider.getRepository(context);
-        LastKnownLocation lastKnownLocation = repository.getLastKnownLocation();
+    public void run(@NonNull MaintenanceSnapshot snapshot) throws Exception {
+        LastKnownLocation lastKnownLocation = snapshot.getRepository().getLastKnownLocation();
         if (lastKnownLocation == null) {
-            return Result.retry();
+            return;
         }
-        NaturalLightRepository naturalLightRepository = repository.naturalLightRepository();
+        NaturalLightRepository naturalLightRepository = snapshot.getRepository().naturalLightRepository();
         NaturalLightRepository.FetchMetadata previous = naturalLightRepository.getLastFetchMetadata();
         LocalDate today = LocalDate.now(ZoneId.systemDefault());
         if (previous != null
             && previous.getDate().equals(today)
             && Math.abs(previous.getLatitude() - lastKnownLocation.getLatitude()) < 0.0001
             && Math.abs(previous.getLongitude() - lastKnownLocation.getLongitude()) < 0.0001) {
-            return Result.success();
-        }
-
-        WeatherSnapshot snapshot;
-        try {
-            snapshot = weatherClient.fetchDailySnapshot(lastKnownLocation.getLatitude(),
-                lastKnownLocation.getLongitude(), today);
-        } catch (IOException | JSONException e) {
-            return Result.retry();
+            return;
         }
 
         List<PlantZone> zones = naturalLightRepository.getAllZonesSync();
         if (zones.isEmpty()) {
             naturalLightRepository.updateFetchMetadata(today, lastKnownLocation.getLatitude(),
-                lastKnownLocation.getLongitude(), System.currentTimeMillis());
-            return Result.success();
+                lastKnownLocation.getLongitude(), snapshot.getStartedAt());
+            return;
         }
 
-        float baseDli = LightMath.dliFromShortwaveRadiation(snapshot.getShortwaveRadiationMj());
-        baseDli = LightMath.applyCloudCover(baseDli, snapshot.getMeanCloudCover());
+        WeatherSnapshot weather = weatherClient.fetchDailySnapshot(lastKnownLocation.getLatitude(),
+            lastKnownLocation.getLongitude(), today);
+        float baseDli = LightMath.dliFromShortwaveRadiation(weather.getShortwaveRadiationMj());
+        baseDli = LightMath.applyCloudCover(baseDli, weather.getMeanCloudCover());
         double daylightHours = LightMath.daylightDurationHours(lastKnownLocation.getLatitude(), today);
         long now = System.currentTimeMillis();
         for (PlantZone zone : zones) {
@@ -76,13 +60,12 @@ public class NaturalLightWorker extends Worker {
             NaturalLightEstimate estimate = new NaturalLightEstimate(
                 zone.getId(), today, (float) daylightHours,
                 baseDli * orientationFactor,
-                snapshot.getShortwaveRadiationMj(),
-                snapshot.getMeanCloudCover(),
+                weather.getShortwaveRadiationMj(),
+                weather.getMeanCloudCover(),
                 now);
             naturalLightRepository.insertEstimateSync(estimate);
         }
         naturalLightRepository.updateFetchMetadata(today, lastKnownLocation.getLatitude(),
             lastKnownLocation.getLongitude(), now);
-        return Result.success();
     }
 }
@@ -0,0 +1,20 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system.maintenance;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Recomputes the smart watering reminder suggestions of the snapshot's plants.
+ */
+final class ReminderSuggestionStage implements MaintenanceStage {
+    @NonNull
+    @Override
+    public String getName() {
+        return "reminder-suggestions";
+    }
+
+    @Override
+    public void run(@NonNull MaintenanceSnapshot snapshot) {
+        snapshot.getRepository().reminderSuggestionManager()
+            .refreshReminderSuggestionsSync(snapshot.getPlants());
+    }
+}
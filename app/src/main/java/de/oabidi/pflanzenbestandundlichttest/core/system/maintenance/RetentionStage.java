@@ -0,0 +1,41 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system.maintenance;
+
+import androidx.annotation.NonNull;
+
+import java.io.File;
+import java.util.Arrays;
+
+/**
+ * Drops expired alert history and all but the newest automatic backups.
+ */
+final class RetentionStage implements MaintenanceStage {
+    private static final int BACKUP_RETENTION_COUNT = 5;
+
+    @NonNull
+    @Override
+    public String getName() {
+        return "retention";
+    }
+
+    @Override
+    public void run(@NonNull MaintenanceSnapshot snapshot) {
+        snapshot.getAlertManager().pruneHistory();
+
+        File dir = snapshot.getContext().getExternalFilesDir(null);
+        if (dir != null) {
+            cleanupOldBackups(dir);
+        }
+    }
+
+    private static void cleanupOldBackups(File dir) {
+        File[] backups = dir.listFiles((d, name) -> name.startsWith(BackupStage.FILE_PREFIX)
+            && name.endsWith(".zip"));
+        if (backups == null) return;
+        Arrays.sort(backups, (a, b) -> Long.compare(b.lastModified(), a.lastModified()));
+        if (backups.length <= BACKUP_RETENTION_COUNT) return;
+        for (int i = BACKUP_RETENTION_COUNT; i < backups.length; i++) {
+            //noinspection ResultOfMethodCallIgnored
+            backups[i].delete();
+        }
+    }
+}
@@ -19,7 +19,10 @@ import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
         childColumns = "plantId",
         onDelete = ForeignKey.CASCADE
     ),
-    indices = @Index("plantId")
+    indices = {
+        @Index({"plantId", "message"}),
+        @Index("triggerAt")
+    }
 )
 public class Reminder {
     @PrimaryKey(autoGenerate = true)
@@ -1,5 +1,6 @@
 package de.oabidi.pflanzenbestandundlichttest.core.system.reminder;
 
+import androidx.annotation.Nullable;
 import androidx.room.Dao;
 import androidx.room.Insert;
 import androidx.room.Query;
@@ -53,4 +54,58 @@ public interface ReminderDao {
      */
     @Query("SELECT id, triggerAt, message, plantId FROM Reminder WHERE plantId = :plantId")
     List<Reminder> getForPlant(long plantId);
+
+    /**
+     * Checks whether the plant already has a reminder with the given message.
+     *
+     * @param plantId identifier of the plant
+     * @param message reminder text to look for
+     * @return {@code true} if a matching reminder exists
+     */
+    @Query("SELECT EXISTS(SELECT 1 FROM Reminder WHERE plantId = :plantId AND message = :message)")
+    boolean existsForPlant(long plantId, String message);
+
+    /**
+     * Returns the next reminders due at or after the given time, earliest first.
+     *
+     * @param now   lower bound for the trigger time in milliseconds
+     * @param limit maximum number of reminders to return
+     * @return upcoming reminders ordered by trigger time
+     */
+    @Query("SELECT id, triggerAt, message, plantId FROM Reminder WHERE triggerAt >= :now ORDER BY triggerAt ASC, id ASC LIMIT :limit")
+    List<Reminder> getNextDue(long now, int limit);
+
+    /**
+     * Returns the reminder with the earliest trigger time, including overdue ones.
+     *
+     * @return the earliest reminder or {@code null} if none exist
+     */
+    @Query("SELECT id, triggerAt, message, plantId FROM Reminder ORDER BY triggerAt ASC, id ASC LIMIT 1")
+    @Nullable
+    Reminder getEarliest();
+
+    /**
+     * Returns all reminders due at or before the given time, earliest first.
+     *
+     * @param until upper bound for the trigger time in milliseconds
+     * @return due reminders ordered by trigger time
+     */
+    @Query("SELECT id, triggerAt, message, plantId FROM Reminder WHERE triggerAt <= :until ORDER BY triggerAt ASC, id ASC")
+    List<Reminder> getDueUntil(long until);
+
+    /**
+     * Deletes the reminders with the given identifiers.
+     *
+     * @param ids identifiers of the reminders to remove
+     */
+    @Query("DELETE FROM Reminder WHERE id IN (:ids)")
+    void deleteByIds(List<Long> ids);
+
+    /**
+     * Deletes all reminders whose trigger time lies before the given time.
+     *
+     * @param before exclusive upper bound for the trigger time in milliseconds
+     */
+    @Query("DELETE FROM Reminder WHERE triggerAt < :before")
+    void deleteDueBefore(long before);
 }
@@ -0,0 +1,126 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system.reminder;
+
+import android.app.AlarmManager;
+import android.app.PendingIntent;
+import android.content.Context;
+import android.content.Intent;
+import android.os.Build;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.PlantDatabase;
+
+/**
+ * Keeps exactly one wakeup armed for the earliest due reminder.
+ *
+ * <p>Instead of one alarm per reminder, the dispatcher arms a single exact alarm (or a single
+ * unique work request on Android 12+) for the earliest reminder in the database. When it fires,
+ * {@link ReminderReceiver} takes every reminder due within {@link #COALESCE_WINDOW_MS} in one
+ * transaction, posts them as one notification and re-arms for the next reminder.</p>
+ */
+public final class ReminderDispatcher {
+    /**
+     * Reminders due this long after the wakeup are delivered together with it.
+     */
+    static final long COALESCE_WINDOW_MS = 15 * 60 * 1000L;
+    // Reminder ids start at 1, so this request code never clashes with legacy per-reminder alarms.
+    private static final int ALARM_REQUEST_CODE = 0;
+    private static final AtomicBoolean rearmPending = new AtomicBoolean();
+
+    private ReminderDispatcher() {
+        // no instances
+    }
+
+    /**
+     * Re-arms the wakeup on the database executor. Requests arriving while a re-arm is still
+     * queued are coalesced into it.
+     *
+     * @param context context used to access the database and system services
+     */
+    public static void rearmAsync(@NonNull Context context) {
+        if (!rearmPending.compareAndSet(false, true)) {
+            return;
+        }
+        Context appContext = context.getApplicationContext();
+        PlantDatabase.databaseWriteExecutor.execute(() -> {
+            rearmPending.set(false);
+            rearm(appContext, PlantDatabase.getDatabase(appContext).reminderDao());
+        });
+    }
+
+    /**
+     * Arms the wakeup for the earliest reminder, or cancels it if no reminder remains. Overdue
+     * reminders are dispatched immediately.
+     *
+     * @param context context used to access system services
+     * @param dao     reminder DAO to query the earliest reminder from
+     */
+    @WorkerThread
+    static void rearm(@NonNull Context context, @NonNull ReminderDao dao) {
+        Reminder earliest = dao.getEarliest();
+        if (earliest == null) {
+            cancel(context);
+            return;
+        }
+        long triggerAt = Math.max(earliest.getTriggerAt(), System.currentTimeMillis());
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+            ReminderWorkManager.scheduleDispatch(context, triggerAt);
+        } else {
+            AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+            if (alarmManager != null) {
+                alarmManager.setExactAndAllowWhileIdle(AlarmManager.RTC_WAKEUP, triggerAt,
+                    createPendingIntent(context));
+            }
+        }
+    }
+
+    /**
+     * Removes and returns all reminders due up to {@code now} plus the coalescing window.
+     *
+     * @param database database holding the reminders
+     * @param now      current time in milliseconds
+     * @return the due reminders ordered by trigger time
+     */
+    @WorkerThread
+    @NonNull
+    static List<Reminder> takeDue(@NonNull PlantDatabase database, long now) {
+        ReminderDao dao = database.reminderDao();
+        return database.runInTransaction(() -> {
+            List<Reminder> due = dao.getDueUntil(now + COALESCE_WINDOW_MS);
+            if (!due.isEmpty()) {
+                List<Long> ids = new ArrayList<>(due.size());
+                for (Reminder reminder : due) {
+                    ids.add(reminder.getId());
+                }
+                dao.deleteByIds(ids);
+            }
+            return due;
+        });
+    }
+
+    private static void cancel(@NonNull Context context) {
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+            ReminderWorkManager.cancelDispatch(context);
+        }
+        AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
+        if (alarmManager != null) {
+            alarmManager.cancel(createPendingIntent(context));
+        }
+    }
+
+    private static PendingIntent createPendingIntent(@NonNull Context context) {
+        Intent intent = new Intent(context, ReminderReceiver.class);
+        intent.setAction(ReminderScheduler.ACTION_SHOW_REMINDER);
+        return PendingIntent.getBroadcast(
+            context,
+            ALARM_REQUEST_CODE,
+            intent,
+            PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
+        );
+    }
+}
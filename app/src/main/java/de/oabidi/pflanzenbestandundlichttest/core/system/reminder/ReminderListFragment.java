@@ -152,11 +152,6 @@ public class ReminderListFragment extends Fragment {
                             if (!isAdded()) {
                                 return;
                             }
-                            ReminderScheduler.scheduleReminderAt(requireContext(),
-                                reminder.getTriggerAt(),
-                                reminder.getMessage(),
-                                reminder.getId(),
-                                reminder.getPlantId());
                             loadReminders();
                         }, ReminderListFragment.this::handleReminderError);
                         if (!accepted) {
@@ -271,8 +266,6 @@ public class ReminderListFragment extends Fragment {
                         if (!isAdded()) {
                             return;
                         }
-                        ReminderScheduler.scheduleReminderAt(requireContext(), triggerAt, message,
-                            reminder.getId(), reminder.getPlantId());
                         loadReminders();
                     }, this::handleReminderError);
                 } else {
@@ -284,8 +277,6 @@ public class ReminderListFragment extends Fragment {
                         if (!isAdded()) {
                             return;
                         }
-                        ReminderScheduler.scheduleReminderAt(requireContext(), triggerAt, message,
-                            newReminder.getId(), newReminder.getPlantId());
                         loadReminders();
                     }, this::handleReminderError);
                 }
@@ -14,6 +14,8 @@ import android.graphics.Color;
 import android.os.Build;
 import android.util.Log;
 
+import java.util.List;
+
 import androidx.core.app.ActivityCompat;
 import androidx.core.app.NotificationCompat;
 import androidx.core.app.NotificationManagerCompat;
@@ -26,7 +28,8 @@ import de.oabidi.pflanzenbestandundlichttest.feature.main.MainActivity;
 import de.oabidi.pflanzenbestandundlichttest.feature.plant.PlantDetailActivity;
 
 /**
- * Receives reminder alarms and displays notifications with action buttons.
+ * Receives reminder alarms and displays notifications with action buttons. Reminders that fall
+ * due together are delivered as one grouped notification whose actions apply to all of them.
  */
 public class ReminderReceiver extends BroadcastReceiver {
     public static final String CHANNEL_ID = "reminders";
@@ -35,6 +38,9 @@ public class ReminderReceiver extends BroadcastReceiver {
     public static final String ACTION_SNOOZE =
         "de.oabidi.pflanzenbestandundlichttest.action.SNOOZE";
     private static final String EXTRA_NOTIFICATION_ID = "notification_id";
+    private static final String EXTRA_IDS = "extra_ids";
+    private static final String EXTRA_MESSAGES = "extra_messages";
+    private static final String EXTRA_PLANT_IDS = "extra_plant_ids";
     private final PlantRepository repository;
 
     public ReminderReceiver() {
@@ -53,115 +59,170 @@ public class ReminderReceiver extends BroadcastReceiver {
             : RepositoryProvider.getRepository(context);
         if (ACTION_MARK_DONE.equals(action)) {
             int id = intent.getIntExtra(EXTRA_NOTIFICATION_ID, 0);
-            long reminderId = intent.getLongExtra(ReminderScheduler.EXTRA_ID, -1);
             NotificationManagerCompat.from(context).cancel(id);
-            repo.deleteReminderById(reminderId, null);
+            for (long reminderId : readIds(intent)) {
+                repo.deleteReminderById(reminderId, null);
+            }
             return;
         } else if (ACTION_SNOOZE.equals(action)) {
-            String message = intent.getStringExtra(ReminderScheduler.EXTRA_MESSAGE);
-            long plantId = intent.getLongExtra(ReminderScheduler.EXTRA_PLANT_ID, -1);
-            boolean scheduled = ReminderScheduler.scheduleReminder(
-                context,
-                repo,
-                1,
-                message,
-                plantId,
-                e -> Log.w("ReminderReceiver", "Failed to reschedule reminder for snooze", e)
-            );
-            if (!scheduled) {
-                Log.w("ReminderReceiver", "Failed to reschedule reminder for snooze");
+            long[] reminderIds = readIds(intent);
+            String[] messages = intent.getStringArrayExtra(EXTRA_MESSAGES);
+            long[] plantIds = intent.getLongArrayExtra(EXTRA_PLANT_IDS);
+            if (messages == null || plantIds == null) {
+                // Notifications posted by earlier versions carry a single reminder.
+                messages = new String[]{intent.getStringExtra(ReminderScheduler.EXTRA_MESSAGE)};
+                plantIds = new long[]{intent.getLongExtra(ReminderScheduler.EXTRA_PLANT_ID, -1)};
+            }
+            for (int i = 0; i < messages.length && i < plantIds.length; i++) {
+                boolean scheduled = ReminderScheduler.scheduleReminder(
+                    repo,
+                    1,
+                    messages[i],
+                    plantIds[i],
+                    e -> Log.w("ReminderReceiver", "Failed to reschedule reminder for snooze", e)
+                );
+                if (!scheduled) {
+                    Log.w("ReminderReceiver", "Failed to reschedule reminder for snooze");
+                }
             }
             int id = intent.getIntExtra(EXTRA_NOTIFICATION_ID, 0);
-            long reminderId = intent.getLongExtra(ReminderScheduler.EXTRA_ID, -1);
             NotificationManagerCompat.from(context).cancel(id);
-            repo.deleteReminderById(reminderId, null);
+            for (long reminderId : reminderIds) {
+                repo.deleteReminderById(reminderId, null);
+            }
             return;
         }
 
-        String message = intent.getStringExtra(ReminderScheduler.EXTRA_MESSAGE);
-        long reminderId = intent.getLongExtra(ReminderScheduler.EXTRA_ID, -1);
-        long plantId = intent.getLongExtra(ReminderScheduler.EXTRA_PLANT_ID, -1);
-        String safeMessage = message != null ? message : "";
+        // Any other broadcast is the dispatcher's wakeup, including alarms armed per reminder by
+        // earlier versions. Deliver everything that is due and re-arm for the next reminder.
+        PendingResult result = goAsync();
+        PlantDatabase.databaseWriteExecutor.execute(() -> {
+            try {
+                PlantDatabase db = PlantDatabase.getDatabase(context);
+                List<Reminder> due = ReminderDispatcher.takeDue(db, System.currentTimeMillis());
+                if (!due.isEmpty()) {
+                    deliver(context, repo, db, due);
+                }
+                ReminderScheduler.onRemindersChanged(context);
+            } finally {
+                result.finish();
+            }
+        });
+    }
 
+    private void deliver(Context context, PlantRepository repo, PlantDatabase db, List<Reminder> due) {
         if (ActivityCompat.checkSelfPermission(context, Manifest.permission.POST_NOTIFICATIONS) != PackageManager.PERMISSION_GRANTED) {
             Log.w(
                 "ReminderReceiver",
-                "Notification permission missing. Scheduling fallback reminder"
-            );
-            NotificationPermissionFallback.recordMissingPermission(context, reminderId, plantId, safeMessage);
-            boolean rescheduled = ReminderScheduler.scheduleReminder(
-                context,
-                repo,
-                1,
-                safeMessage,
-                plantId,
-                e -> Log.w("ReminderReceiver", "Failed to reschedule reminder after permission denial", e)
+                "Notification permission missing. Scheduling fallback reminders"
             );
-            if (!rescheduled) {
-                Log.w(
-                    "ReminderReceiver",
-                    "Unable to enqueue retry reminder after permission denial"
+            for (Reminder reminder : due) {
+                String safeMessage = reminder.getMessage() != null ? reminder.getMessage() : "";
+                NotificationPermissionFallback.recordMissingPermission(context, reminder.getId(),
+                    reminder.getPlantId(), safeMessage);
+                boolean rescheduled = ReminderScheduler.scheduleReminder(
+                    repo,
+                    1,
+                    safeMessage,
+                    reminder.getPlantId(),
+                    e -> Log.w("ReminderReceiver", "Failed to reschedule reminder after permission denial", e)
                 );
+                if (!rescheduled) {
+                    Log.w(
+                        "ReminderReceiver",
+                        "Unable to enqueue retry reminder after permission denial"
+                    );
+                }
             }
-            repo.deleteReminderById(reminderId, null);
             return;
         }
 
         createChannel(context);
         int notificationId = (int) System.currentTimeMillis();
+        int count = due.size();
+        long[] reminderIds = new long[count];
+        String[] messages = new String[count];
+        long[] plantIds = new long[count];
+        for (int i = 0; i < count; i++) {
+            Reminder reminder = due.get(i);
+            reminderIds[i] = reminder.getId();
+            messages[i] = reminder.getMessage() != null ? reminder.getMessage() : "";
+            plantIds[i] = reminder.getPlantId();
+        }
 
-        PlantDatabase.databaseWriteExecutor.execute(() -> {
-            repo.deleteReminderById(reminderId, null);
-            Plant plant = PlantDatabase.getDatabase(context).plantDao().findById(plantId);
-
-            Intent doneIntent = new Intent(context, ReminderReceiver.class);
-            doneIntent.setAction(ACTION_MARK_DONE);
-            doneIntent.putExtra(EXTRA_NOTIFICATION_ID, notificationId);
-            doneIntent.putExtra(ReminderScheduler.EXTRA_ID, reminderId);
-            PendingIntent donePending = PendingIntent.getBroadcast(
-                context,
-                notificationId,
-                doneIntent,
-                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
-            );
-
-            Intent snoozeIntent = new Intent(context, ReminderReceiver.class);
-            snoozeIntent.setAction(ACTION_SNOOZE);
-            snoozeIntent.putExtra(EXTRA_NOTIFICATION_ID, notificationId);
-            snoozeIntent.putExtra(ReminderScheduler.EXTRA_MESSAGE, safeMessage);
-            snoozeIntent.putExtra(ReminderScheduler.EXTRA_ID, reminderId);
-            snoozeIntent.putExtra(ReminderScheduler.EXTRA_PLANT_ID, plantId);
-            PendingIntent snoozePending = PendingIntent.getBroadcast(
-                context,
-                notificationId + 1,
-                snoozeIntent,
-                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
-            );
-
-            Intent contentIntent;
-            if (plant != null) {
-                contentIntent = MainActivity.createPlantDetailIntent(context, plant);
-            } else {
-                contentIntent = new Intent(context, PlantDetailActivity.class);
+        Intent doneIntent = new Intent(context, ReminderReceiver.class);
+        doneIntent.setAction(ACTION_MARK_DONE);
+        doneIntent.putExtra(EXTRA_NOTIFICATION_ID, notificationId);
+        doneIntent.putExtra(EXTRA_IDS, reminderIds);
+        PendingIntent donePending = PendingIntent.getBroadcast(
+            context,
+            notificationId,
+            doneIntent,
+            PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
+        );
+
+        Intent snoozeIntent = new Intent(context, ReminderReceiver.class);
+        snoozeIntent.setAction(ACTION_SNOOZE);
+        snoozeIntent.putExtra(EXTRA_NOTIFICATION_ID, notificationId);
+        snoozeIntent.putExtra(EXTRA_IDS, reminderIds);
+        snoozeIntent.putExtra(EXTRA_MESSAGES, messages);
+        snoozeIntent.putExtra(EXTRA_PLANT_IDS, plantIds);
+        PendingIntent snoozePending = PendingIntent.getBroadcast(
+            context,
+            notificationId + 1,
+            snoozeIntent,
+            PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
+        );
+
+        Intent contentIntent;
+        Plant plant = count == 1 ? db.plantDao().findById(plantIds[0]) : null;
+        if (plant != null) {
+            contentIntent = MainActivity.createPlantDetailIntent(context, plant);
+        } else if (count == 1) {
+            contentIntent = new Intent(context, PlantDetailActivity.class);
+        } else {
+            contentIntent = new Intent(context, MainActivity.class);
+        }
+        PendingIntent contentPending = PendingIntent.getActivity(
+            context,
+            notificationId + 2,
+            contentIntent,
+            PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
+        );
+
+        NotificationCompat.Builder builder = new NotificationCompat.Builder(context, CHANNEL_ID)
+            .setSmallIcon(R.mipmap.ic_launcher)
+            .setAutoCancel(true)
+            .setContentIntent(contentPending)
+            .addAction(0, context.getString(R.string.reminder_mark_done), donePending)
+            .addAction(0, context.getString(R.string.reminder_snooze), snoozePending);
+        if (count == 1) {
+            builder.setContentTitle(context.getString(R.string.app_name))
+                .setContentText(messages[0]);
+        } else {
+            String title = context.getResources().getQuantityString(
+                R.plurals.format_reminder_group_title, count, count);
+            NotificationCompat.InboxStyle style = new NotificationCompat.InboxStyle()
+                .setBigContentTitle(title);
+            for (String message : messages) {
+                style.addLine(message);
             }
-            PendingIntent contentPending = PendingIntent.getActivity(
-                context,
-                notificationId + 2,
-                contentIntent,
-                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
-            );
+            builder.setContentTitle(title)
+                .setContentText(messages[0])
+                .setNumber(count)
+                .setStyle(style);
+        }
 
-            NotificationCompat.Builder builder = new NotificationCompat.Builder(context, CHANNEL_ID)
-                .setSmallIcon(R.mipmap.ic_launcher)
-                .setContentTitle(context.getString(R.string.app_name))
-                .setContentText(safeMessage)
-                .setAutoCancel(true)
-                .setContentIntent(contentPending)
-                .addAction(0, context.getString(R.string.reminder_mark_done), donePending)
-                .addAction(0, context.getString(R.string.reminder_snooze), snoozePending);
+        NotificationManagerCompat.from(context).notify(notificationId, builder.build());
+    }
 
-            NotificationManagerCompat.from(context).notify(notificationId, builder.build());
-        });
+    private static long[] readIds(Intent intent) {
+        long[] ids = intent.getLongArrayExtra(EXTRA_IDS);
+        if (ids != null) {
+            return ids;
+        }
+        long id = intent.getLongExtra(ReminderScheduler.EXTRA_ID, -1);
+        return id >= 0 ? new long[]{id} : new long[0];
     }
 
     private void createChannel(Context context) {
@@ -14,7 +14,7 @@ import java.util.function.Consumer;
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 
 /**
- * Schedules reminder alarms using the {@link AlarmManager}.
+ * Entry point for scheduling reminders. Delivery itself is handled by {@link ReminderDispatcher}.
  */
 public class ReminderScheduler {
     /**
@@ -45,7 +45,6 @@ public class ReminderScheduler {
     /**
      * Schedule a reminder to be shown after the specified number of days.
      *
-     * @param context       context used to access system services
      * @param repository    repository used to persist reminder information
      * @param days          number of days until the reminder should trigger
      * @param message       message displayed in the reminder notification
@@ -53,7 +52,7 @@ public class ReminderScheduler {
      * @param errorCallback callback invoked when scheduling the reminder fails
      * @return {@code true} if the reminder was scheduled, {@code false} if the input was invalid
      */
-    public static boolean scheduleReminder(Context context, PlantRepository repository, int days,
+    public static boolean scheduleReminder(PlantRepository repository, int days,
                                            String message, long plantId,
                                            Consumer<Exception> errorCallback) {
         if (days <= 0) {
@@ -62,9 +61,8 @@ public class ReminderScheduler {
         }
         long triggerAt = System.currentTimeMillis() + days * AlarmManager.INTERVAL_DAY;
         Reminder reminder = new Reminder(triggerAt, message, plantId);
-        boolean accepted = repository.insertReminder(reminder,
-            () -> scheduleReminderAt(context, triggerAt, message, reminder.getId(), plantId),
-            errorCallback);
+        // Storing the reminder re-arms the dispatch wakeup; see ReminderRepository.
+        boolean accepted = repository.insertReminder(reminder, null, errorCallback);
         if (!accepted) {
             Log.w("ReminderScheduler", "Failed to schedule reminder due to invalid plant association");
             return false;
@@ -72,15 +70,6 @@ public class ReminderScheduler {
         return true;
     }
 
-    public static void scheduleReminderAt(Context context, long triggerAt, String message, long id, long plantId) {
-        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
-            ReminderWorkManager.schedule(context, triggerAt, message, id, plantId);
-        } else {
-            scheduleWithAlarmManager(context, triggerAt, id, message, plantId);
-        }
-        sendWidgetUpdateBroadcast(context);
-    }
-
     /**
      * Cancels a previously scheduled reminder alarm.
      *
@@ -88,21 +77,23 @@ public class ReminderScheduler {
      * @param id      identifier of the reminder to cancel
      */
     public static void cancelReminder(Context context, long id) {
+        // Clean up wakeups armed per reminder by earlier versions of the app.
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
             ReminderWorkManager.cancel(context, id);
         }
         cancelWithAlarmManager(context, id);
-        sendWidgetUpdateBroadcast(context);
+        onRemindersChanged(context);
     }
 
-    private static void scheduleWithAlarmManager(Context context, long triggerAt, long id,
-                                                 String message, long plantId) {
-        AlarmManager alarmManager = (AlarmManager) context.getSystemService(Context.ALARM_SERVICE);
-        if (alarmManager == null) {
-            return;
-        }
-        PendingIntent pendingIntent = createPendingIntent(context, id, message, plantId);
-        alarmManager.setExactAndAllowWhileIdle(AlarmManager.RTC_WAKEUP, triggerAt, pendingIntent);
+    /**
+     * Re-arms the dispatch wakeup and refreshes the widget snapshot after reminders were
+     * inserted, updated or deleted.
+     *
+     * @param context context used to access system services
+     */
+    public static void onRemindersChanged(Context context) {
+        ReminderDispatcher.rearmAsync(context);
+        ReminderWidgetSnapshot.refreshAsync(context);
     }
 
     private static void cancelWithAlarmManager(Context context, long id) {
@@ -110,19 +101,15 @@ public class ReminderScheduler {
         if (alarmManager == null) {
             return;
         }
-        PendingIntent pendingIntent = createPendingIntent(context, id, null, -1);
+        PendingIntent pendingIntent = createPendingIntent(context, id);
         alarmManager.cancel(pendingIntent);
     }
 
-    private static PendingIntent createPendingIntent(Context context, long id, String message,
-                                                     long plantId) {
+    private static PendingIntent createPendingIntent(Context context, long id) {
         Intent intent = new Intent(context, ReminderReceiver.class);
         intent.setAction(ACTION_SHOW_REMINDER);
-        if (message != null) {
-            intent.putExtra(EXTRA_MESSAGE, message);
-        }
         intent.putExtra(EXTRA_ID, id);
-        intent.putExtra(EXTRA_PLANT_ID, plantId);
+        intent.putExtra(EXTRA_PLANT_ID, -1L);
         return PendingIntent.getBroadcast(
             context,
             (int) id,
@@ -131,7 +118,7 @@ public class ReminderScheduler {
         );
     }
 
-    private static void sendWidgetUpdateBroadcast(Context context) {
+    static void sendWidgetUpdateBroadcast(Context context) {
         AppWidgetManager appWidgetManager = AppWidgetManager.getInstance(context);
         int[] ids = appWidgetManager.getAppWidgetIds(new ComponentName(context, ReminderWidgetProvider.class));
         Intent update = new Intent(context, ReminderWidgetProvider.class);
@@ -19,6 +19,9 @@ import de.oabidi.pflanzenbestandundlichttest.repository.ReminderRepository;
 
 /**
  * Home screen widget provider showing the next pending reminder.
+ *
+ * <p>Widget updates read the next reminder from {@link ReminderWidgetSnapshot} rather than the
+ * database, so updating any number of widgets takes constant time.</p>
  */
 public class ReminderWidgetProvider extends AppWidgetProvider {
     private static final String ACTION_MARK_DONE =
@@ -80,53 +83,39 @@ public class ReminderWidgetProvider extends AppWidgetProvider {
             PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE);
         views.setOnClickPendingIntent(R.id.widget_log_button, logPending);
 
-        ReminderRepository repo = reminderRepository != null
-            ? reminderRepository
-            : RepositoryProvider.getReminderRepository(context);
-        final long now = System.currentTimeMillis();
-        final String statusMessage = consumeStatus(context, appWidgetId);
-        repo.getAllReminders(reminders -> {
-            Reminder next = null;
-            for (Reminder r : reminders) {
-                if (r.getTriggerAt() >= now && (next == null || r.getTriggerAt() < next.getTriggerAt())) {
-                    next = r;
-                }
-            }
-
-            if (statusMessage != null) {
-                views.setTextViewText(R.id.widget_reminder_text, statusMessage);
-                views.setViewVisibility(R.id.widget_mark_done_button, View.GONE);
-            } else if (next != null) {
-                views.setTextViewText(R.id.widget_reminder_text, next.getMessage());
-                views.setViewVisibility(R.id.widget_mark_done_button, View.VISIBLE);
-
-                Intent doneIntent = new Intent(context, ReminderWidgetProvider.class);
-                doneIntent.setAction(ACTION_MARK_DONE);
-                doneIntent.putExtra(AppWidgetManager.EXTRA_APPWIDGET_ID, appWidgetId);
-                doneIntent.putExtra(EXTRA_REMINDER_ID, next.getId());
-                doneIntent.setData(Uri.parse("widget://reminder/" + appWidgetId + "/" + next.getId()));
-                PendingIntent donePending = PendingIntent.getBroadcast(
-                    context,
-                    0,
-                    doneIntent,
-                    PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
-                );
-                views.setOnClickPendingIntent(R.id.widget_mark_done_button, donePending);
-            } else {
-                views.setTextViewText(R.id.widget_reminder_text, context.getString(R.string.widget_no_reminders));
-                views.setViewVisibility(R.id.widget_mark_done_button, View.GONE);
-            }
+        long now = System.currentTimeMillis();
+        String statusMessage = consumeStatus(context, appWidgetId);
+        if (ReminderWidgetSnapshot.isStale(context, now)) {
+            // Redraws all widgets once the snapshot has been rebuilt.
+            ReminderWidgetSnapshot.refreshAsync(context);
+        }
+        ReminderWidgetSnapshot.Entry next = ReminderWidgetSnapshot.next(context, now);
 
-            appWidgetManager.updateAppWidget(appWidgetId, views);
-        }, e -> {
-            if (statusMessage != null) {
-                views.setTextViewText(R.id.widget_reminder_text, statusMessage);
-            } else {
-                views.setTextViewText(R.id.widget_reminder_text, context.getString(R.string.widget_no_reminders));
-            }
+        if (statusMessage != null) {
+            views.setTextViewText(R.id.widget_reminder_text, statusMessage);
             views.setViewVisibility(R.id.widget_mark_done_button, View.GONE);
-            appWidgetManager.updateAppWidget(appWidgetId, views);
-        });
+        } else if (next != null) {
+            views.setTextViewText(R.id.widget_reminder_text, next.message);
+            views.setViewVisibility(R.id.widget_mark_done_button, View.VISIBLE);
+
+            Intent doneIntent = new Intent(context, ReminderWidgetProvider.class);
+            doneIntent.setAction(ACTION_MARK_DONE);
+            doneIntent.putExtra(AppWidgetManager.EXTRA_APPWIDGET_ID, appWidgetId);
+            doneIntent.putExtra(EXTRA_REMINDER_ID, next.id);
+            doneIntent.setData(Uri.parse("widget://reminder/" + appWidgetId + "/" + next.id));
+            PendingIntent donePending = PendingIntent.getBroadcast(
+                context,
+                0,
+                doneIntent,
+                PendingIntent.FLAG_UPDATE_CURRENT | PendingIntent.FLAG_IMMUTABLE
+            );
+            views.setOnClickPendingIntent(R.id.widget_mark_done_button, donePending);
+        } else {
+            views.setTextViewText(R.id.widget_reminder_text, context.getString(R.string.widget_no_reminders));
+            views.setViewVisibility(R.id.widget_mark_done_button, View.GONE);
+        }
+
+        appWidgetManager.updateAppWidget(appWidgetId, views);
     }
 
     private void handleMarkDone(Context context, Intent intent) {
@@ -0,0 +1,130 @@
+package de.oabidi.pflanzenbestandundlichttest.core.system.reminder;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.PlantDatabase;
+
+/**
+ * Small persisted copy of the next due reminders consumed by {@link ReminderWidgetProvider}.
+ *
+ * <p>The snapshot is rewritten whenever reminders are inserted, updated, deleted or (re)scheduled,
+ * so widget updates only read a handful of in-memory preference values instead of querying the
+ * database inside the broadcast receiver's time budget. A few upcoming reminders are kept so the
+ * widget can skip past ones that fired since the last refresh.</p>
+ */
+public final class ReminderWidgetSnapshot {
+    static final int SIZE = 5;
+    private static final String PREFS_NAME = "ReminderWidgetSnapshot";
+    private static final String KEY_COUNT = "count";
+    private static final String KEY_TRUNCATED = "truncated";
+    private static final String KEY_ID = "id_";
+    private static final String KEY_TRIGGER_AT = "trigger_at_";
+    private static final String KEY_MESSAGE = "message_";
+    private static final AtomicBoolean refreshPending = new AtomicBoolean();
+
+    private ReminderWidgetSnapshot() {
+        // no instances
+    }
+
+    /**
+     * Rewrites the snapshot from the database. Must be called off the main thread.
+     *
+     * @param context context used to access preferences
+     * @param dao     reminder DAO to query the next due reminders from
+     */
+    @WorkerThread
+    public static void refresh(@NonNull Context context, @NonNull ReminderDao dao) {
+        List<Reminder> next = dao.getNextDue(System.currentTimeMillis(), SIZE);
+        SharedPreferences.Editor editor = prefs(context).edit().clear();
+        editor.putInt(KEY_COUNT, next.size());
+        editor.putBoolean(KEY_TRUNCATED, next.size() == SIZE);
+        for (int i = 0; i < next.size(); i++) {
+            Reminder reminder = next.get(i);
+            editor.putLong(KEY_ID + i, reminder.getId());
+            editor.putLong(KEY_TRIGGER_AT + i, reminder.getTriggerAt());
+            editor.putString(KEY_MESSAGE + i, reminder.getMessage());
+        }
+        editor.apply();
+    }
+
+    /**
+     * Refreshes the snapshot on the database executor and asks all widgets to redraw afterwards.
+     * Requests arriving while a refresh is still queued are coalesced into it.
+     *
+     * @param context context used to access the database and widgets
+     */
+    public static void refreshAsync(@NonNull Context context) {
+        if (!refreshPending.compareAndSet(false, true)) {
+            return;
+        }
+        Context appContext = context.getApplicationContext();
+        PlantDatabase.databaseWriteExecutor.execute(() -> {
+            refreshPending.set(false);
+            refresh(appContext, PlantDatabase.getDatabase(appContext).reminderDao());
+            ReminderScheduler.sendWidgetUpdateBroadcast(appContext);
+        });
+    }
+
+    /**
+     * Returns the earliest snapshot reminder due at or after {@code now}.
+     *
+     * @param context context used to access preferences
+     * @param now     current time in milliseconds
+     * @return the next reminder, or {@code null} if the snapshot holds none
+     */
+    @Nullable
+    static Entry next(@NonNull Context context, long now) {
+        SharedPreferences prefs = prefs(context);
+        int count = prefs.getInt(KEY_COUNT, 0);
+        for (int i = 0; i < count; i++) {
+            long triggerAt = prefs.getLong(KEY_TRIGGER_AT + i, 0L);
+            if (triggerAt >= now) {
+                return new Entry(prefs.getLong(KEY_ID + i, -1L), triggerAt,
+                    prefs.getString(KEY_MESSAGE + i, ""));
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the snapshot must be rebuilt before it can answer {@link #next}: either it
+     * was never written or every stored reminder is due while more may exist in the database.
+     *
+     * @param context context used to access preferences
+     * @param now     current time in milliseconds
+     */
+    static boolean isStale(@NonNull Context context, long now) {
+        SharedPreferences prefs = prefs(context);
+        if (!prefs.contains(KEY_COUNT)) {
+            return true;
+        }
+        return prefs.getBoolean(KEY_TRUNCATED, false) && next(context, now) == null;
+    }
+
+    private static SharedPreferences prefs(@NonNull Context context) {
+        return context.getSharedPreferences(PREFS_NAME, Context.MODE_PRIVATE);
+    }
+
+    /**
+     * Reminder as stored in the snapshot.
+     */
+    static final class Entry {
+        final long id;
+        final long triggerAt;
+        final String message;
+
+        Entry(long id, long triggerAt, String message) {
+            this.id = id;
+            this.triggerAt = triggerAt;
+            this.message = message;
+        }
+    }
+}
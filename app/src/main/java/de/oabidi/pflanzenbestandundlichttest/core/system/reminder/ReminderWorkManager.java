@@ -6,7 +6,6 @@ import android.content.Context;
 import android.os.Build;
 
 import androidx.annotation.NonNull;
-import androidx.work.Data;
 import androidx.work.ExistingWorkPolicy;
 import androidx.work.OneTimeWorkRequest;
 import androidx.work.OutOfQuotaPolicy;
@@ -16,30 +15,27 @@ import java.lang.reflect.Method;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Helper that routes reminder scheduling through {@link WorkManager} on
+ * Helper that routes the reminder dispatch wakeup through {@link WorkManager} on
  * Android 12 (API level 31) and higher. Older devices continue to fall back to
- * {@link android.app.AlarmManager}.
+ * {@link android.app.AlarmManager}; see {@link ReminderDispatcher}.
  */
 final class ReminderWorkManager {
     static final String WORK_NAME_PREFIX = "reminder-";
+    static final String DISPATCH_WORK_NAME = "reminder-dispatch";
 
     private ReminderWorkManager() {
         // no instances
     }
 
-    static void schedule(@NonNull Context context, long triggerAt, @NonNull String message,
-                         long id, long plantId) {
+    /**
+     * Schedules the single dispatch run for the earliest due reminder, replacing any previous one.
+     */
+    static void scheduleDispatch(@NonNull Context context, long triggerAt) {
         WorkManager workManager = WorkManager.getInstance(context);
-        Data input = new Data.Builder()
-            .putString(ReminderWorker.KEY_MESSAGE, message)
-            .putLong(ReminderWorker.KEY_ID, id)
-            .putLong(ReminderWorker.KEY_PLANT_ID, plantId)
-            .build();
         long delay = Math.max(0L, triggerAt - System.currentTimeMillis());
         OneTimeWorkRequest.Builder builder = new OneTimeWorkRequest.Builder(ReminderWorker.class)
-            .setInputData(input)
             .setInitialDelay(delay, TimeUnit.MILLISECONDS)
-            .addTag(workName(id));
+            .addTag(DISPATCH_WORK_NAME);
         if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
             if (canScheduleExactAlarms(context)) {
                 setScheduleRequestedAt(builder, triggerAt);
@@ -47,9 +43,16 @@ final class ReminderWorkManager {
                 builder.setExpedited(OutOfQuotaPolicy.RUN_AS_NON_EXPEDITED_WORK_REQUEST);
             }
         }
-        workManager.enqueueUniqueWork(workName(id), ExistingWorkPolicy.REPLACE, builder.build());
+        workManager.enqueueUniqueWork(DISPATCH_WORK_NAME, ExistingWorkPolicy.REPLACE, builder.build());
     }
 
+    static void cancelDispatch(@NonNull Context context) {
+        WorkManager.getInstance(context).cancelUniqueWork(DISPATCH_WORK_NAME);
+    }
+
+    /**
+     * Cancels work enqueued per reminder by earlier versions of the app.
+     */
     static void cancel(@NonNull Context context, long id) {
         WorkManager.getInstance(context).cancelUniqueWork(workName(id));
     }
@@ -7,15 +7,16 @@ import androidx.annotation.NonNull;
 import androidx.work.Worker;
 import androidx.work.WorkerParameters;
 
+import de.oabidi.pflanzenbestandundlichttest.analytics.MetricsRegistry;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Timer;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
+
 /**
  * Worker responsible for dispatching reminder broadcasts when WorkManager
- * alarms fire.
+ * alarms fire. The dispatch run carries no input; the receiver reads all due
+ * reminders from the database.
  */
 public class ReminderWorker extends Worker {
-    static final String KEY_MESSAGE = "key_message";
-    static final String KEY_ID = "key_id";
-    static final String KEY_PLANT_ID = "key_plant_id";
-
     public ReminderWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
         super(context, workerParams);
     }
@@ -23,13 +24,18 @@ public class ReminderWorker extends Worker {
     @NonNull
     @Override
     public Result doWork() {
-        Context context = getApplicationContext();
-        Intent intent = new Intent(context, ReminderReceiver.class);
-        intent.setAction(ReminderScheduler.ACTION_SHOW_REMINDER);
-        intent.putExtra(ReminderScheduler.EXTRA_MESSAGE, getInputData().getString(KEY_MESSAGE));
-        intent.putExtra(ReminderScheduler.EXTRA_ID, getInputData().getLong(KEY_ID, -1));
-        intent.putExtra(ReminderScheduler.EXTRA_PLANT_ID, getInputData().getLong(KEY_PLANT_ID, -1));
-        context.sendBroadcast(intent);
-        return Result.success();
+        Timer timer = MetricsRegistry.get().timer("worker.ReminderWorker");
+        long start = timer.start();
+        Tracer.Span span = Tracer.begin("worker.ReminderWorker");
+        try {
+            Context context = getApplicationContext();
+            Intent intent = new Intent(context, ReminderReceiver.class);
+            intent.setAction(ReminderScheduler.ACTION_SHOW_REMINDER);
+            context.sendBroadcast(intent);
+            return Result.success();
+        } finally {
+            span.close();
+            timer.stop(start);
+        }
     }
 }
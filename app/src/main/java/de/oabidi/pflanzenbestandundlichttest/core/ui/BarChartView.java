@@ -13,12 +13,9 @@ import androidx.annotation.Nullable;
 import androidx.core.content.ContextCompat;
 
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Set;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
@@ -27,6 +24,9 @@ import de.oabidi.pflanzenbestandundlichttest.R;
 
 /**
  * Very small custom view drawing a bar chart for PPFD values of measurements.
+ *
+ * <p>Bars, ticks and labels are laid out into primitive arrays whenever the data or the view size
+ * changes, so {@link #onDraw(Canvas)} only replays them without allocating.</p>
  */
 public class BarChartView extends View {
     private static final int[] SERIES_COLORS = {
@@ -35,14 +35,31 @@ public class BarChartView extends View {
         R.color.chartSeries3,
         R.color.chartSeries4
     };
-    private final List<List<Float>> seriesValues = new ArrayList<>();
-    private final List<String> seriesLabels = new ArrayList<>();
+    private static final int Y_STEPS = 4;
+    private static final float[] EMPTY_COORDS = new float[0];
+    private static final String[] EMPTY_LABELS = new String[0];
+
+    private final List<TimeSeries> series = new ArrayList<>();
     private final List<Paint> seriesPaints = new ArrayList<>();
-    private final List<Long> timestamps = new ArrayList<>();
     private final Paint axisPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private SimpleDateFormat dateFormat;
+    private long[] timestamps = new long[0];
     private float maxValue = 0f;
 
+    // Layout computed by rebuildLayout() and replayed by onDraw().
+    private boolean layoutReady;
+    private float[][] barRects = new float[0][];
+    private float[] axisLines = EMPTY_COORDS;
+    private String[] yLabels = EMPTY_LABELS;
+    private float[] yLabelPositions = EMPTY_COORDS;
+    private float yLabelX;
+    private String[] xLabels = EMPTY_LABELS;
+    private float[] xLabelPositions = EMPTY_COORDS;
+    private float xLabelY;
+    private float[] legendPositions = EMPTY_COORDS;
+    private float legendY;
+
     public BarChartView(Context context) {
         super(context);
         init();
@@ -65,66 +82,89 @@ public class BarChartView extends View {
         axisPaint.setStrokeWidth(getResources().getDisplayMetrics().density);
         textPaint.setColor(axisColor);
         textPaint.setTextSize(12 * getResources().getDisplayMetrics().scaledDensity);
+        dateFormat = new SimpleDateFormat(getResources().getString(R.string.chart_date_pattern),
+            Locale.getDefault());
     }
 
     /**
      * Sets the measurements to display grouped by series label. Only PPFD values are visualised.
      */
     public void setMeasurements(@Nullable Map<String, List<Measurement>> measurements) {
-        seriesValues.clear();
-        seriesLabels.clear();
-        seriesPaints.clear();
-        timestamps.clear();
-        maxValue = 0f;
-        if (measurements != null && !measurements.isEmpty()) {
-            Set<Long> timeSet = new HashSet<>();
-            for (List<Measurement> list : measurements.values()) {
-                for (Measurement m : list) {
-                    timeSet.add(m.getTimeEpoch());
-                    if (m.getPpfd() > maxValue) {
-                        maxValue = m.getPpfd();
-                    }
-                }
+        if (measurements == null) {
+            setSeries(null);
+            return;
+        }
+        List<TimeSeries> data = new ArrayList<>(measurements.size());
+        for (Map.Entry<String, List<Measurement>> entry : measurements.entrySet()) {
+            List<Measurement> list = entry.getValue();
+            long[] times = new long[list.size()];
+            float[] values = new float[list.size()];
+            for (int i = 0; i < list.size(); i++) {
+                Measurement m = list.get(i);
+                Float ppfd = m.getPpfd();
+                times[i] = m.getTimeEpoch();
+                values[i] = ppfd != null ? ppfd : Float.NaN;
             }
-            timestamps.addAll(timeSet);
-            Collections.sort(timestamps);
+            data.add(new TimeSeries(entry.getKey(), times, values));
+        }
+        setSeries(data);
+    }
 
+    /**
+     * Sets the series to display as grouped bars, one group per distinct timestamp. Series without
+     * a sample for a timestamp, or with a {@link Float#NaN} sample, leave their bar empty.
+     */
+    public void setSeries(@Nullable List<TimeSeries> data) {
+        series.clear();
+        seriesPaints.clear();
+        maxValue = 0f;
+        if (data != null) {
             Context context = getContext();
             int colorIndex = 0;
-            for (Map.Entry<String, List<Measurement>> entry : measurements.entrySet()) {
-                Map<Long, Float> map = new HashMap<>();
-                for (Measurement m : entry.getValue()) {
-                    map.put(m.getTimeEpoch(), m.getPpfd());
+            for (TimeSeries s : data) {
+                if (s == null) {
+                    continue;
                 }
-                List<Float> vals = new ArrayList<>();
-                for (Long t : timestamps) {
-                    Float v = map.get(t);
-                    vals.add(v != null ? v : 0f);
+                for (int i = 0; i < s.size(); i++) {
+                    if (s.getValue(i) > maxValue) {
+                        maxValue = s.getValue(i);
+                    }
                 }
-                seriesValues.add(vals);
-                seriesLabels.add(entry.getKey());
+                series.add(s);
                 Paint p = new Paint(Paint.ANTI_ALIAS_FLAG);
                 int colorRes = SERIES_COLORS[colorIndex % SERIES_COLORS.length];
                 p.setColor(ContextCompat.getColor(context, colorRes));
                 seriesPaints.add(p);
                 colorIndex++;
             }
+        }
+        timestamps = TimeSeries.mergeTimestamps(series);
+        if (!series.isEmpty()) {
             setContentDescription(getContext().getString(
                 R.string.format_stats_chart_content_description, maxValue));
         } else {
             setContentDescription(getContext().getString(R.string.stats_chart_default_content_description));
         }
+        rebuildLayout();
         invalidate();
     }
 
     @Override
-    protected void onDraw(@NonNull Canvas canvas) {
-        super.onDraw(canvas);
-        if (seriesValues.isEmpty() || timestamps.isEmpty() || maxValue <= 0) {
-            return;
-        }
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        rebuildLayout();
+    }
+
+    /**
+     * Projects the current data onto the current view size. Called only when either changes.
+     */
+    private void rebuildLayout() {
+        layoutReady = false;
         float width = getWidth();
         float height = getHeight();
+        if (series.isEmpty() || timestamps.length == 0 || maxValue <= 0 || width <= 0f || height <= 0f) {
+            return;
+        }
 
         // Reserve space for labels
         float textHeight = textPaint.getTextSize();
@@ -132,63 +172,130 @@ public class BarChartView extends View {
         float bottomPadding = textHeight * 4f;
         float chartWidth = width - leftPadding;
         float chartHeight = height - bottomPadding;
+        if (chartWidth <= 0f || chartHeight <= 0f) {
+            return;
+        }
 
-        int entryCount = timestamps.size();
-        int seriesCount = seriesValues.size();
+        int entryCount = timestamps.length;
+        int seriesCount = series.size();
         float groupWidth = chartWidth / entryCount;
         float barWidth = groupWidth / seriesCount;
-        for (int i = 0; i < entryCount; i++) {
-            for (int s = 0; s < seriesCount; s++) {
-                List<Float> vals = seriesValues.get(s);
-                float v = i < vals.size() ? vals.get(i) : 0f;
-                float barHeight = (v / maxValue) * chartHeight;
-                float left = leftPadding + i * groupWidth + s * barWidth;
-                float right = left + barWidth * 0.8f; // small gap between bars
-                float top = chartHeight - barHeight;
-                canvas.drawRect(left, top, right, chartHeight, seriesPaints.get(s));
+        barRects = new float[seriesCount][];
+        for (int s = 0; s < seriesCount; s++) {
+            TimeSeries data = series.get(s);
+            int[] indices = data.indicesIn(timestamps);
+            float[] rects = new float[data.size() * 4];
+            int count = 0;
+            int lastBarIndex = -1;
+            for (int i = 0; i < data.size(); i++) {
+                float v = data.getValue(i);
+                // A later sample with the same timestamp replaces the earlier bar.
+                if (indices[i] == lastBarIndex) {
+                    count -= 4;
+                    lastBarIndex = -1;
+                }
+                if (!(v > 0f)) {
+                    continue;
+                }
+                lastBarIndex = indices[i];
+                float left = leftPadding + indices[i] * groupWidth + s * barWidth;
+                rects[count++] = left;
+                rects[count++] = chartHeight - (v / maxValue) * chartHeight;
+                rects[count++] = left + barWidth * 0.8f; // small gap between bars
+                rects[count++] = chartHeight;
             }
+            barRects[s] = Arrays.copyOf(rects, count);
         }
 
-        // Draw axes
-        canvas.drawLine(leftPadding, 0, leftPadding, chartHeight, axisPaint);
-        canvas.drawLine(leftPadding, chartHeight, width, chartHeight, axisPaint);
-
         float tick = 4 * getResources().getDisplayMetrics().density;
 
-        // Y-axis ticks and labels
-        textPaint.setTextAlign(Paint.Align.RIGHT);
-        int steps = 4;
-        for (int i = 0; i <= steps; i++) {
-            float value = (maxValue / steps) * i;
+        // Only label as many groups as fit side by side without overlapping.
+        float labelWidth = textPaint.measureText(dateFormat.format(new Date(timestamps[0])));
+        int stride = Math.max(1, (int) Math.ceil((labelWidth + tick * 2) / groupWidth));
+        int xLabelCount = (entryCount - 1) / stride + 1;
+
+        axisLines = new float[(2 + (Y_STEPS + 1) + xLabelCount) * 4];
+        int a = 0;
+        a = putLine(axisLines, a, leftPadding, 0, leftPadding, chartHeight);
+        a = putLine(axisLines, a, leftPadding, chartHeight, width, chartHeight);
+
+        yLabels = new String[Y_STEPS + 1];
+        yLabelPositions = new float[Y_STEPS + 1];
+        yLabelX = leftPadding - tick * 1.5f;
+        for (int i = 0; i <= Y_STEPS; i++) {
+            float value = (maxValue / Y_STEPS) * i;
             float y = chartHeight - (value / maxValue) * chartHeight;
-            canvas.drawLine(leftPadding - tick, y, leftPadding, y, axisPaint);
-            canvas.drawText(String.format(Locale.getDefault(), "%.0f", value),
-                leftPadding - tick * 1.5f, y + textHeight / 3f, textPaint);
+            a = putLine(axisLines, a, leftPadding - tick, y, leftPadding, y);
+            yLabels[i] = String.format(Locale.getDefault(), "%.0f", value);
+            yLabelPositions[i] = y + textHeight / 3f;
         }
 
-        // X-axis ticks and labels
-        textPaint.setTextAlign(Paint.Align.CENTER);
-        SimpleDateFormat dateFormat = new SimpleDateFormat(getResources().getString(R.string.chart_date_pattern),
-            Locale.getDefault());
-        for (int i = 0; i < entryCount; i++) {
+        xLabels = new String[xLabelCount];
+        xLabelPositions = new float[xLabelCount];
+        xLabelY = height - tick;
+        for (int l = 0; l < xLabelCount; l++) {
+            int i = l * stride;
             float x = leftPadding + i * groupWidth + (groupWidth * 0.5f);
-            canvas.drawLine(x, chartHeight, x, chartHeight + tick, axisPaint);
-            String label;
-            label = dateFormat.format(new Date(timestamps.get(i)));
-            canvas.drawText(label, x, height - tick, textPaint);
+            a = putLine(axisLines, a, x, chartHeight, x, chartHeight + tick);
+            xLabels[l] = dateFormat.format(new Date(timestamps[i]));
+            xLabelPositions[l] = x;
         }
 
-        // Legend
-        float legendY = chartHeight + textHeight * 1.5f;
+        legendY = chartHeight + textHeight * 1.5f;
+        legendPositions = new float[seriesCount];
         float legendX = leftPadding;
-        textPaint.setTextAlign(Paint.Align.LEFT);
         for (int s = 0; s < seriesCount; s++) {
-            Paint p = seriesPaints.get(s);
-            canvas.drawRect(legendX, legendY, legendX + textHeight, legendY + textHeight, p);
-            float textX = legendX + textHeight + tick;
-            float textY = legendY + textHeight * 0.8f;
-            canvas.drawText(seriesLabels.get(s), textX, textY, textPaint);
-            legendX += textHeight + textPaint.measureText(seriesLabels.get(s)) + tick * 4;
+            legendPositions[s] = legendX;
+            legendX += textHeight + textPaint.measureText(series.get(s).getLabel()) + tick * 4;
+        }
+        layoutReady = true;
+    }
+
+    private static int putLine(@NonNull float[] target, int offset,
+                               float startX, float startY, float stopX, float stopY) {
+        target[offset] = startX;
+        target[offset + 1] = startY;
+        target[offset + 2] = stopX;
+        target[offset + 3] = stopY;
+        return offset + 4;
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+        if (!layoutReady) {
+            return;
+        }
+        for (int s = 0; s < barRects.length; s++) {
+            float[] rects = barRects[s];
+            Paint paint = seriesPaints.get(s);
+            for (int r = 0; r < rects.length; r += 4) {
+                canvas.drawRect(rects[r], rects[r + 1], rects[r + 2], rects[r + 3], paint);
+            }
+        }
+
+        canvas.drawLines(axisLines, axisPaint);
+
+        textPaint.setTextAlign(Paint.Align.RIGHT);
+        for (int i = 0; i < yLabels.length; i++) {
+            canvas.drawText(yLabels[i], yLabelX, yLabelPositions[i], textPaint);
+        }
+
+        textPaint.setTextAlign(Paint.Align.CENTER);
+        for (int i = 0; i < xLabels.length; i++) {
+            canvas.drawText(xLabels[i], xLabelPositions[i], xLabelY, textPaint);
+        }
+
+        // Legend
+        textPaint.setTextAlign(Paint.Align.LEFT);
+        float textHeight = textPaint.getTextSize();
+        float tick = 4 * getResources().getDisplayMetrics().density;
+        for (int s = 0; s < legendPositions.length; s++) {
+            float legendX = legendPositions[s];
+            canvas.drawRect(legendX, legendY, legendX + textHeight, legendY + textHeight,
+                seriesPaints.get(s));
+            canvas.drawText(series.get(s).getLabel(), legendX + textHeight + tick,
+                legendY + textHeight * 0.8f, textPaint);
         }
     }
 }
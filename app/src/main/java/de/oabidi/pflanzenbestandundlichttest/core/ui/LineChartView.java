@@ -4,28 +4,38 @@ import android.content.Context;
 import android.graphics.Canvas;
 import android.graphics.Paint;
 import android.util.AttributeSet;
+import android.view.GestureDetector;
+import android.view.MotionEvent;
+import android.view.ScaleGestureDetector;
 import android.view.View;
+import android.view.ViewParent;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 import androidx.core.content.ContextCompat;
 
+import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.Date;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
-import java.util.Set;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
 
 /**
  * Lightweight line chart view used for visualising environment metrics over time.
+ *
+ * <p>Line segments, point markers, ticks and labels are laid out into primitive arrays whenever the
+ * data, the view size or the visible range changes, so {@link #onDraw(Canvas)} only replays them
+ * without allocating.</p>
+ *
+ * <p>With {@link #setZoomEnabled(boolean)} the x axis becomes proportional to time and the chart
+ * can be zoomed by pinching, panned by dragging and reset by double tapping. Series are then drawn
+ * from a {@link LodPyramid} level matching the pixel density of the visible range, and tapping
+ * shows a crosshair with the values of the nearest sample.</p>
  */
 public class LineChartView extends View {
     private static final int[] SERIES_COLORS = {
@@ -34,19 +44,69 @@ public class LineChartView extends View {
         R.color.chartSeries3,
         R.color.chartSeries4
     };
-
-    private final List<Map<Long, Float>> seriesValues = new ArrayList<>();
-    private final List<String> seriesLabels = new ArrayList<>();
+    private static final int Y_STEPS = 4;
+    private static final float[] EMPTY_COORDS = new float[0];
+    private static final String[] EMPTY_LABELS = new String[0];
+    private static final float BUCKET_WIDTH_DP = 2f;
+    private static final float MARKER_SPACING_DP = 8f;
+    private static final long MIN_VISIBLE_SPAN_MS = 60L * 60L * 1000L;
+    private static final long MAX_ZOOM = 1000L;
+    private static final long TIME_LABEL_SPAN_MS = 2L * 24L * 60L * 60L * 1000L;
+    private static final long NO_CROSSHAIR = Long.MIN_VALUE;
+
+    private final List<TimeSeries> series = new ArrayList<>();
     private final List<Paint> seriesPaints = new ArrayList<>();
     private final List<Paint> pointPaints = new ArrayList<>();
-    private final List<Long> timestamps = new ArrayList<>();
     private final Paint axisPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
     private final Paint textPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private final Paint tooltipPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+    private SimpleDateFormat dateFormat;
+    private DateFormat timeFormat;
+    private long[] timestamps = new long[0];
+    private int[][] axisIndices = new int[0][];
     private float minValue = 0f;
     private float maxValue = 0f;
     private float density = 1f;
     private float scaledDensity = 1f;
 
+    // Zoom state, only used while zoom is enabled.
+    private boolean zoomEnabled;
+    private LodPyramid[] pyramids = new LodPyramid[0];
+    private long fullStart;
+    private long fullEnd;
+    private long viewStart;
+    private long viewEnd;
+    private ScaleGestureDetector scaleDetector;
+    private GestureDetector gestureDetector;
+    private long crosshairTime = NO_CROSSHAIR;
+    private String[] tooltipLines = EMPTY_LABELS;
+
+    // Layout computed by rebuildLayout() and replayed by onDraw().
+    private boolean layoutReady;
+    private float chartLeft;
+    private float chartTop;
+    private float chartRight;
+    private float chartBottom;
+    private float[][] lineSegments = new float[0][];
+    private int[] lineSegmentCounts = new int[0];
+    private float[][] pointCoords = new float[0][];
+    private int[] pointCoordCounts = new int[0];
+    private float[] axisLines = EMPTY_COORDS;
+    private String[] yLabels = EMPTY_LABELS;
+    private float[] yLabelPositions = EMPTY_COORDS;
+    private float yLabelX;
+    private String[] xLabels = EMPTY_LABELS;
+    private float[] xLabelPositions = EMPTY_COORDS;
+    private float xLabelY;
+    private float[] legendPositions = EMPTY_COORDS;
+    private float legendY;
+    private boolean crosshairVisible;
+    private float crosshairX;
+    private float tooltipLeft;
+    private float tooltipTop;
+    private float tooltipRight;
+    private float tooltipBottom;
+
     public LineChartView(Context context) {
         super(context);
         init();
@@ -72,64 +132,134 @@ public class LineChartView extends View {
 
         textPaint.setColor(axisColor);
         textPaint.setTextSize(12f * scaledDensity);
+        tooltipPaint.setColor(ContextCompat.getColor(getContext(), R.color.colorSurfaceVariant));
+        tooltipPaint.setStyle(Paint.Style.FILL);
+        dateFormat = new SimpleDateFormat(
+            getResources().getString(R.string.chart_date_pattern), Locale.getDefault());
+        timeFormat = DateFormat.getTimeInstance(DateFormat.SHORT, Locale.getDefault());
+
+        scaleDetector = new ScaleGestureDetector(getContext(),
+            new ScaleGestureDetector.SimpleOnScaleGestureListener() {
+                @Override
+                public boolean onScaleBegin(@NonNull ScaleGestureDetector detector) {
+                    disallowParentIntercept(true);
+                    return true;
+                }
+
+                @Override
+                public boolean onScale(@NonNull ScaleGestureDetector detector) {
+                    zoomBy(detector.getScaleFactor(), detector.getFocusX());
+                    return true;
+                }
+            });
+        gestureDetector = new GestureDetector(getContext(),
+            new GestureDetector.SimpleOnGestureListener() {
+                @Override
+                public boolean onDown(@NonNull MotionEvent e) {
+                    return true;
+                }
+
+                @Override
+                public boolean onScroll(@Nullable MotionEvent e1, @NonNull MotionEvent e2,
+                                        float distanceX, float distanceY) {
+                    if (Math.abs(distanceX) <= Math.abs(distanceY)
+                        || viewEnd - viewStart >= fullEnd - fullStart) {
+                        return false;
+                    }
+                    disallowParentIntercept(true);
+                    panBy(distanceX);
+                    return true;
+                }
+
+                @Override
+                public boolean onSingleTapConfirmed(@NonNull MotionEvent e) {
+                    selectNearest(e.getX());
+                    performClick();
+                    return true;
+                }
+
+                @Override
+                public boolean onDoubleTap(@NonNull MotionEvent e) {
+                    crosshairTime = NO_CROSSHAIR;
+                    setViewport(fullStart, fullEnd - fullStart);
+                    return true;
+                }
+            });
+    }
+
+    /**
+     * Enables or disables zooming and panning. While enabled, samples are placed proportionally to
+     * their timestamp instead of at evenly spaced positions.
+     */
+    public void setZoomEnabled(boolean enabled) {
+        if (zoomEnabled == enabled) {
+            return;
+        }
+        zoomEnabled = enabled;
+        resetZoomState();
+        rebuildLayout();
+        invalidate();
     }
 
     /**
-     * Updates the chart with the provided series. Each series is mapped by timestamp.
+     * Updates the chart with the provided series. Without zoom, samples of different series
+     * sharing a timestamp are drawn at the same x position and a series' line is interrupted
+     * wherever it has no sample for a timestamp present in another series.
      */
-    public void setSeries(@Nullable List<LineSeries> series) {
-        seriesValues.clear();
-        seriesLabels.clear();
+    public void setSeries(@Nullable List<TimeSeries> data) {
+        series.clear();
         seriesPaints.clear();
         pointPaints.clear();
-        timestamps.clear();
         minValue = Float.MAX_VALUE;
         maxValue = -Float.MAX_VALUE;
 
-        if (series != null && !series.isEmpty()) {
-            Set<Long> timestampSet = new HashSet<>();
+        if (data != null) {
             Context context = getContext();
             int colorIndex = 0;
-            for (LineSeries s : series) {
-                if (s == null) {
+            for (TimeSeries s : data) {
+                if (s == null || s.size() == 0) {
                     continue;
                 }
-                Map<Long, Float> values = new HashMap<>();
-                for (Point point : s.getPoints()) {
-                    if (point == null) {
-                        continue;
+                for (int i = 0; i < s.size(); i++) {
+                    float value = s.getValue(i);
+                    if (!Float.isNaN(value)) {
+                        maxValue = Math.max(maxValue, value);
+                        minValue = Math.min(minValue, value);
                     }
-                    values.put(point.getTimestamp(), point.getValue());
-                    timestampSet.add(point.getTimestamp());
-                    maxValue = Math.max(maxValue, point.getValue());
-                    minValue = Math.min(minValue, point.getValue());
-                }
-                if (!values.isEmpty()) {
-                    seriesValues.add(values);
-                    seriesLabels.add(s.getLabel());
-                    int colorRes = SERIES_COLORS[colorIndex % SERIES_COLORS.length];
-                    int color = ContextCompat.getColor(context, colorRes);
-                    Paint linePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-                    linePaint.setColor(color);
-                    linePaint.setStyle(Paint.Style.STROKE);
-                    linePaint.setStrokeCap(Paint.Cap.ROUND);
-                    linePaint.setStrokeWidth(2f * density);
-                    seriesPaints.add(linePaint);
-
-                    Paint pointPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-                    pointPaint.setColor(color);
-                    pointPaint.setStyle(Paint.Style.FILL);
-                    pointPaints.add(pointPaint);
-                    colorIndex++;
                 }
-            }
-            if (!timestampSet.isEmpty()) {
-                timestamps.addAll(timestampSet);
-                Collections.sort(timestamps);
+                series.add(s);
+                int colorRes = SERIES_COLORS[colorIndex % SERIES_COLORS.length];
+                int color = ContextCompat.getColor(context, colorRes);
+                Paint linePaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+                linePaint.setColor(color);
+                linePaint.setStyle(Paint.Style.STROKE);
+                linePaint.setStrokeCap(Paint.Cap.ROUND);
+                linePaint.setStrokeWidth(2f * density);
+                seriesPaints.add(linePaint);
+
+                Paint pointPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+                pointPaint.setColor(color);
+                pointPaint.setStyle(Paint.Style.FILL);
+                pointPaint.setStrokeCap(Paint.Cap.ROUND);
+                pointPaint.setStrokeWidth(6f * density);
+                pointPaints.add(pointPaint);
+                colorIndex++;
             }
         }
-
-        if (seriesValues.isEmpty() || timestamps.size() < 2) {
+        timestamps = TimeSeries.mergeTimestamps(series);
+        axisIndices = new int[series.size()][];
+        for (int s = 0; s < series.size(); s++) {
+            axisIndices[s] = series.get(s).indicesIn(timestamps);
+        }
+        lineSegments = new float[series.size()][];
+        lineSegmentCounts = new int[series.size()];
+        pointCoords = new float[series.size()][];
+        pointCoordCounts = new int[series.size()];
+        Arrays.fill(lineSegments, EMPTY_COORDS);
+        Arrays.fill(pointCoords, EMPTY_COORDS);
+        pyramids = new LodPyramid[0];
+
+        if (series.isEmpty() || timestamps.length < 2) {
             minValue = 0f;
             maxValue = 0f;
             setContentDescription(getContext().getString(
@@ -147,20 +277,47 @@ public class LineChartView extends View {
                 minValue -= adjustment;
             }
             setContentDescription(getContext().getString(
-                R.string.environment_chart_content_description, timestamps.size()));
+                R.string.environment_chart_content_description, timestamps.length));
         }
+        resetZoomState();
+        rebuildLayout();
         invalidate();
     }
 
-    @Override
-    protected void onDraw(@NonNull Canvas canvas) {
-        super.onDraw(canvas);
-        if (seriesValues.isEmpty() || timestamps.size() < 2) {
+    private void resetZoomState() {
+        crosshairTime = NO_CROSSHAIR;
+        tooltipLines = EMPTY_LABELS;
+        if (!zoomEnabled || timestamps.length == 0) {
+            pyramids = new LodPyramid[0];
             return;
         }
+        if (pyramids.length != series.size()) {
+            pyramids = new LodPyramid[series.size()];
+            for (int s = 0; s < series.size(); s++) {
+                pyramids[s] = new LodPyramid(series.get(s));
+            }
+        }
+        fullStart = timestamps[0];
+        fullEnd = timestamps[timestamps.length - 1];
+        viewStart = fullStart;
+        viewEnd = fullEnd;
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+        rebuildLayout();
+    }
+
+    /**
+     * Projects the current data onto the current view size and visible range. Called only when
+     * one of them changes.
+     */
+    private void rebuildLayout() {
+        layoutReady = false;
         float width = getWidth();
         float height = getHeight();
-        if (width <= 0f || height <= 0f) {
+        if (series.isEmpty() || timestamps.length < 2 || width <= 0f || height <= 0f) {
             return;
         }
 
@@ -174,138 +331,405 @@ public class LineChartView extends View {
         if (chartWidth <= 0f || chartHeight <= 0f) {
             return;
         }
+        chartLeft = leftPadding;
+        chartTop = topPadding;
+        chartRight = leftPadding + chartWidth;
+        chartBottom = height - bottomPadding;
+
+        float tick = 4f * density;
+        int maxLabels;
+        int xLabelCount;
+        int stride = 1;
+        String sampleLabel = formatAxisTime(zoomEnabled ? viewStart : timestamps[0]);
+        float labelWidth = textPaint.measureText(sampleLabel);
+        // Only label as many positions as fit side by side without overlapping.
+        maxLabels = Math.max(2, (int) (chartWidth / (labelWidth + tick * 2f)) + 1);
+        if (zoomEnabled) {
+            layoutSeriesByTime();
+            xLabelCount = maxLabels;
+        } else {
+            layoutSeriesByIndex();
+            stride = Math.max(1, (timestamps.length - 1 + maxLabels - 2) / (maxLabels - 1));
+            xLabelCount = (timestamps.length - 1) / stride + 1;
+        }
+
+        axisLines = new float[(2 + (Y_STEPS + 1) + xLabelCount) * 4];
+        int a = 0;
+        a = putLine(axisLines, a, chartLeft, chartTop, chartLeft, chartBottom);
+        a = putLine(axisLines, a, chartLeft, chartBottom, chartRight, chartBottom);
 
-        float originY = height - bottomPadding;
-        float stepX = chartWidth / (timestamps.size() - 1);
+        yLabels = new String[Y_STEPS + 1];
+        yLabelPositions = new float[Y_STEPS + 1];
+        yLabelX = chartLeft - tick * 1.5f;
         float range = maxValue - minValue;
-        if (range <= 0f) {
-            range = 1f;
+        for (int i = 0; i <= Y_STEPS; i++) {
+            float value = minValue + ((range / Y_STEPS) * i);
+            float y = valueToY(value);
+            a = putLine(axisLines, a, chartLeft - tick, y, chartLeft, y);
+            yLabels[i] = String.format(Locale.getDefault(), "%.1f", value);
+            yLabelPositions[i] = y + textHeight / 3f;
+        }
+
+        xLabels = new String[xLabelCount];
+        xLabelPositions = new float[xLabelCount];
+        xLabelY = height - tick;
+        float stepX = chartWidth / (timestamps.length - 1);
+        for (int l = 0; l < xLabelCount; l++) {
+            float x;
+            long time;
+            if (zoomEnabled) {
+                float fraction = (float) l / (xLabelCount - 1);
+                x = chartLeft + chartWidth * fraction;
+                time = viewStart + (long) ((viewEnd - viewStart) * (double) fraction);
+            } else {
+                int i = l * stride;
+                x = chartLeft + (stepX * i);
+                time = timestamps[i];
+            }
+            a = putLine(axisLines, a, x, chartBottom, x, chartBottom + tick);
+            xLabels[l] = formatAxisTime(time);
+            xLabelPositions[l] = x;
         }
 
-        for (int s = 0; s < seriesValues.size(); s++) {
-            Map<Long, Float> values = seriesValues.get(s);
-            Paint linePaint = seriesPaints.get(s);
-            Paint pointPaint = pointPaints.get(s);
-            Float lastX = null;
-            Float lastY = null;
-            for (int i = 0; i < timestamps.size(); i++) {
-                long timestamp = timestamps.get(i);
-                Float value = values.get(timestamp);
-                if (value == null) {
-                    lastX = null;
-                    lastY = null;
+        legendY = chartBottom + textHeight * 1.5f;
+        legendPositions = new float[series.size()];
+        float legendX = chartLeft;
+        for (int s = 0; s < series.size(); s++) {
+            legendPositions[s] = legendX;
+            legendX += textHeight + textPaint.measureText(series.get(s).getLabel()) + tick * 4f;
+        }
+        layoutCrosshair();
+        layoutReady = true;
+    }
+
+    /**
+     * Places every sample at an evenly spaced slot of the merged timestamp axis.
+     */
+    private void layoutSeriesByIndex() {
+        float stepX = (chartRight - chartLeft) / (timestamps.length - 1);
+        for (int s = 0; s < series.size(); s++) {
+            TimeSeries data = series.get(s);
+            int[] indices = axisIndices[s];
+            float[] segments = ensureCapacity(lineSegments[s], Math.max(0, data.size() - 1) * 4);
+            float[] points = ensureCapacity(pointCoords[s], data.size() * 2);
+            int segmentCount = 0;
+            int pointCount = 0;
+            int lastIndex = -2;
+            float lastX = 0f;
+            float lastY = 0f;
+            for (int i = 0; i < data.size(); i++) {
+                float value = data.getValue(i);
+                if (Float.isNaN(value)) {
+                    lastIndex = -2;
                     continue;
                 }
-                float x = leftPadding + (stepX * i);
-                float y = originY - ((value - minValue) / range) * chartHeight;
-                if (lastX != null) {
-                    canvas.drawLine(lastX, lastY, x, y, linePaint);
+                float x = chartLeft + stepX * indices[i];
+                float y = valueToY(value);
+                if (indices[i] == lastIndex + 1) {
+                    segmentCount = putLine(segments, segmentCount, lastX, lastY, x, y);
                 }
-                canvas.drawCircle(x, y, 3f * density, pointPaint);
+                points[pointCount++] = x;
+                points[pointCount++] = y;
+                lastIndex = indices[i];
                 lastX = x;
                 lastY = y;
             }
+            lineSegments[s] = segments;
+            lineSegmentCounts[s] = segmentCount;
+            pointCoords[s] = points;
+            pointCoordCounts[s] = pointCount;
         }
+    }
 
-        // Draw axes
-        canvas.drawLine(leftPadding, originY - chartHeight, leftPadding, originY, axisPaint);
-        canvas.drawLine(leftPadding, originY, leftPadding + chartWidth, originY, axisPaint);
-        float tick = 4f * density;
-
-        // Y-axis labels
-        textPaint.setTextAlign(Paint.Align.RIGHT);
-        int steps = 4;
-        for (int i = 0; i <= steps; i++) {
-            float value = minValue + ((range / steps) * i);
-            float y = originY - ((value - minValue) / range) * chartHeight;
-            canvas.drawLine(leftPadding - tick, y, leftPadding, y, axisPaint);
-            canvas.drawText(String.format(Locale.getDefault(), "%.1f", value),
-                leftPadding - tick * 1.5f, y + textHeight / 3f, textPaint);
+    /**
+     * Places samples proportionally to their timestamp within the visible range, drawing each
+     * series from the pyramid level whose bucket count matches the chart's pixel width. Aggregated
+     * buckets are connected through their averages and show their min/max envelope as a vertical
+     * stroke.
+     */
+    private void layoutSeriesByTime() {
+        float chartWidth = chartRight - chartLeft;
+        double pixelsPerMs = chartWidth / (double) Math.max(1L, viewEnd - viewStart);
+        int maxBuckets = Math.max(1, (int) (chartWidth / (BUCKET_WIDTH_DP * density)));
+        for (int s = 0; s < pyramids.length; s++) {
+            LodPyramid pyramid = pyramids[s];
+            int size = pyramid.size();
+            // Include one sample beyond each edge so lines continue to the chart border.
+            int first = Math.max(0, pyramid.lowerBound(viewStart) - 1);
+            int last = Math.min(size - 1, pyramid.lowerBound(viewEnd) + 1);
+            if (first > last) {
+                lineSegmentCounts[s] = 0;
+                pointCoordCounts[s] = 0;
+                continue;
+            }
+            int level = pyramid.chooseLevel(last - first + 1, maxBuckets);
+            int firstBucket = LodPyramid.bucketOf(level, first);
+            int lastBucket = LodPyramid.bucketOf(level, last);
+            int buckets = lastBucket - firstBucket + 1;
+            boolean markers = level == 0 && buckets * MARKER_SPACING_DP * density <= chartWidth;
+            float[] segments = ensureCapacity(lineSegments[s], buckets * 8);
+            float[] points = markers ? ensureCapacity(pointCoords[s], buckets * 2) : pointCoords[s];
+            int segmentCount = 0;
+            int pointCount = 0;
+            boolean connected = false;
+            float lastX = 0f;
+            float lastY = 0f;
+            for (int b = firstBucket; b <= lastBucket; b++) {
+                float avg = pyramid.avg(level, b);
+                if (Float.isNaN(avg)) {
+                    connected = false;
+                    continue;
+                }
+                float x = chartLeft + (float) ((pyramid.time(level, b) - viewStart) * pixelsPerMs);
+                float y = valueToY(avg);
+                if (connected) {
+                    segmentCount = putLine(segments, segmentCount, lastX, lastY, x, y);
+                }
+                if (level > 0) {
+                    float top = valueToY(pyramid.max(level, b));
+                    float bottom = valueToY(pyramid.min(level, b));
+                    if (bottom - top >= 1f) {
+                        segmentCount = putLine(segments, segmentCount, x, top, x, bottom);
+                    }
+                }
+                if (markers) {
+                    points[pointCount++] = x;
+                    points[pointCount++] = y;
+                }
+                connected = true;
+                lastX = x;
+                lastY = y;
+            }
+            lineSegments[s] = segments;
+            lineSegmentCounts[s] = segmentCount;
+            pointCoords[s] = points;
+            pointCoordCounts[s] = pointCount;
         }
+    }
 
-        // X-axis labels
-        textPaint.setTextAlign(Paint.Align.CENTER);
-        SimpleDateFormat dateFormat = new SimpleDateFormat(
-            getResources().getString(R.string.chart_date_pattern), Locale.getDefault());
-        for (int i = 0; i < timestamps.size(); i++) {
-            float x = leftPadding + (stepX * i);
-            canvas.drawLine(x, originY, x, originY + tick, axisPaint);
-            String label = dateFormat.format(new Date(timestamps.get(i)));
-            canvas.drawText(label, x, height - tick, textPaint);
+    private void layoutCrosshair() {
+        crosshairVisible = false;
+        if (!zoomEnabled || crosshairTime == NO_CROSSHAIR || tooltipLines.length == 0) {
+            return;
         }
-
-        // Legend
-        textPaint.setTextAlign(Paint.Align.LEFT);
-        float legendY = originY + textHeight * 1.5f;
-        float legendX = leftPadding;
-        for (int s = 0; s < seriesLabels.size(); s++) {
-            Paint markerPaint = pointPaints.get(s);
-            canvas.drawRect(legendX, legendY, legendX + textHeight, legendY + textHeight, markerPaint);
-            float textX = legendX + textHeight + tick;
-            float textY = legendY + textHeight * 0.8f;
-            canvas.drawText(seriesLabels.get(s), textX, textY, textPaint);
-            legendX += textHeight + textPaint.measureText(seriesLabels.get(s)) + tick * 4f;
+        float x = chartLeft + (float) ((crosshairTime - viewStart)
+            * (double) (chartRight - chartLeft) / Math.max(1L, viewEnd - viewStart));
+        if (x < chartLeft || x > chartRight) {
+            return;
+        }
+        float textHeight = textPaint.getTextSize();
+        float padding = 4f * density;
+        float boxWidth = 0f;
+        for (String line : tooltipLines) {
+            boxWidth = Math.max(boxWidth, textPaint.measureText(line));
         }
+        boxWidth += padding * 2f;
+        float boxHeight = tooltipLines.length * textHeight * 1.2f + padding * 2f;
+        crosshairX = x;
+        tooltipLeft = x + padding + boxWidth <= chartRight ? x + padding : x - padding - boxWidth;
+        tooltipLeft = Math.max(0f, tooltipLeft);
+        tooltipTop = chartTop;
+        tooltipRight = tooltipLeft + boxWidth;
+        tooltipBottom = tooltipTop + boxHeight;
+        crosshairVisible = true;
     }
 
     /**
-     * Returns the number of rendered series.
+     * Moves the crosshair to the sample nearest to the tapped position using a binary search per
+     * series and collects the values of all series at that timestamp.
      */
-    @VisibleForTesting
-    public int getSeriesCount() {
-        return seriesValues.size();
+    private void selectNearest(float x) {
+        if (!zoomEnabled || !layoutReady) {
+            return;
+        }
+        float fraction = (x - chartLeft) / (chartRight - chartLeft);
+        long target = viewStart + (long) ((viewEnd - viewStart) * (double) fraction);
+        long best = NO_CROSSHAIR;
+        long bestDistance = Long.MAX_VALUE;
+        for (LodPyramid pyramid : pyramids) {
+            int index = pyramid.nearestIndex(target);
+            if (index < 0) {
+                continue;
+            }
+            long distance = Math.abs(pyramid.timestamp(index) - target);
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = pyramid.timestamp(index);
+            }
+        }
+        crosshairTime = best;
+        List<String> lines = new ArrayList<>();
+        if (best != NO_CROSSHAIR) {
+            Date date = new Date(best);
+            lines.add(dateFormat.format(date) + " " + timeFormat.format(date));
+            for (int s = 0; s < pyramids.length; s++) {
+                int index = pyramids[s].nearestIndex(best);
+                if (index >= 0 && pyramids[s].timestamp(index) == best) {
+                    lines.add(String.format(Locale.getDefault(), "%s: %.1f",
+                        series.get(s).getLabel(), pyramids[s].value(index)));
+                }
+            }
+        }
+        tooltipLines = lines.toArray(new String[0]);
+        layoutCrosshair();
+        invalidate();
     }
 
-    /**
-     * Returns the timestamps currently used by the chart.
-     */
-    @NonNull
-    @VisibleForTesting
-    public List<Long> getTimestamps() {
-        return new ArrayList<>(timestamps);
+    private void zoomBy(float scaleFactor, float focusX) {
+        if (!zoomEnabled || !layoutReady || scaleFactor <= 0f) {
+            return;
+        }
+        long span = viewEnd - viewStart;
+        long fullSpan = fullEnd - fullStart;
+        long minSpan = Math.min(fullSpan, Math.max(MIN_VISIBLE_SPAN_MS, fullSpan / MAX_ZOOM));
+        double focus = Math.max(0d, Math.min(1d, (focusX - chartLeft) / (chartRight - chartLeft)));
+        long focusTime = viewStart + (long) (span * focus);
+        long newSpan = Math.max(minSpan, Math.min(fullSpan, (long) (span / scaleFactor)));
+        setViewport(focusTime - (long) (newSpan * focus), newSpan);
     }
 
-    /**
-     * Represents a single series composed of timestamp-value pairs.
-     */
-    public static class LineSeries {
-        private final String label;
-        private final List<Point> points;
+    private void panBy(float distanceX) {
+        if (!layoutReady) {
+            return;
+        }
+        long span = viewEnd - viewStart;
+        long shift = (long) (distanceX / (chartRight - chartLeft) * (double) span);
+        setViewport(viewStart + shift, span);
+    }
 
-        public LineSeries(@NonNull String label, @NonNull List<Point> points) {
-            this.label = label;
-            this.points = new ArrayList<>(points);
+    private void setViewport(long start, long span) {
+        long clampedStart = Math.max(fullStart, Math.min(fullEnd - span, start));
+        if (clampedStart == viewStart && clampedStart + span == viewEnd) {
+            return;
         }
+        viewStart = clampedStart;
+        viewEnd = clampedStart + span;
+        rebuildLayout();
+        invalidate();
+    }
 
-        @NonNull
-        public String getLabel() {
-            return label;
+    private void disallowParentIntercept(boolean disallow) {
+        ViewParent parent = getParent();
+        if (parent != null) {
+            parent.requestDisallowInterceptTouchEvent(disallow);
         }
+    }
 
-        @NonNull
-        public List<Point> getPoints() {
-            return Collections.unmodifiableList(points);
+    @Override
+    public boolean onTouchEvent(MotionEvent event) {
+        if (!zoomEnabled || !layoutReady) {
+            return super.onTouchEvent(event);
+        }
+        boolean handled = scaleDetector.onTouchEvent(event);
+        handled = gestureDetector.onTouchEvent(event) || handled;
+        int action = event.getActionMasked();
+        if (action == MotionEvent.ACTION_UP || action == MotionEvent.ACTION_CANCEL) {
+            disallowParentIntercept(false);
         }
+        return handled || super.onTouchEvent(event);
     }
 
-    /**
-     * Represents a single data point for a series.
-     */
-    public static class Point {
-        private final long timestamp;
-        private final float value;
+    @Override
+    public boolean performClick() {
+        return super.performClick();
+    }
 
-        public Point(long timestamp, float value) {
-            this.timestamp = timestamp;
-            this.value = value;
+    @NonNull
+    private String formatAxisTime(long time) {
+        Date date = new Date(time);
+        if (zoomEnabled && viewEnd - viewStart < TIME_LABEL_SPAN_MS) {
+            return timeFormat.format(date);
         }
+        return dateFormat.format(date);
+    }
 
-        public long getTimestamp() {
-            return timestamp;
+    private float valueToY(float value) {
+        float range = maxValue - minValue;
+        if (range <= 0f) {
+            range = 1f;
         }
+        return chartBottom - ((value - minValue) / range) * (chartBottom - chartTop);
+    }
 
-        public float getValue() {
-            return value;
+    @NonNull
+    private static float[] ensureCapacity(@NonNull float[] array, int capacity) {
+        return array.length >= capacity ? array : new float[capacity];
+    }
+
+    private static int putLine(@NonNull float[] target, int offset,
+                               float startX, float startY, float stopX, float stopY) {
+        target[offset] = startX;
+        target[offset + 1] = startY;
+        target[offset + 2] = stopX;
+        target[offset + 3] = stopY;
+        return offset + 4;
+    }
+
+    @Override
+    protected void onDraw(@NonNull Canvas canvas) {
+        super.onDraw(canvas);
+        if (!layoutReady) {
+            return;
+        }
+        int saveCount = canvas.save();
+        if (zoomEnabled) {
+            canvas.clipRect(chartLeft, 0f, chartRight, chartBottom);
+        }
+        for (int s = 0; s < lineSegments.length; s++) {
+            canvas.drawLines(lineSegments[s], 0, lineSegmentCounts[s], seriesPaints.get(s));
+            canvas.drawPoints(pointCoords[s], 0, pointCoordCounts[s], pointPaints.get(s));
+        }
+        canvas.restoreToCount(saveCount);
+
+        canvas.drawLines(axisLines, axisPaint);
+
+        textPaint.setTextAlign(Paint.Align.RIGHT);
+        for (int i = 0; i < yLabels.length; i++) {
+            canvas.drawText(yLabels[i], yLabelX, yLabelPositions[i], textPaint);
+        }
+
+        textPaint.setTextAlign(Paint.Align.CENTER);
+        for (int i = 0; i < xLabels.length; i++) {
+            canvas.drawText(xLabels[i], xLabelPositions[i], xLabelY, textPaint);
         }
+
+        // Legend
+        textPaint.setTextAlign(Paint.Align.LEFT);
+        float textHeight = textPaint.getTextSize();
+        float tick = 4f * density;
+        for (int s = 0; s < legendPositions.length; s++) {
+            float legendX = legendPositions[s];
+            canvas.drawRect(legendX, legendY, legendX + textHeight, legendY + textHeight,
+                pointPaints.get(s));
+            canvas.drawText(series.get(s).getLabel(), legendX + textHeight + tick,
+                legendY + textHeight * 0.8f, textPaint);
+        }
+
+        if (crosshairVisible) {
+            canvas.drawLine(crosshairX, chartTop, crosshairX, chartBottom, axisPaint);
+            canvas.drawRect(tooltipLeft, tooltipTop, tooltipRight, tooltipBottom, tooltipPaint);
+            float padding = 4f * density;
+            for (int i = 0; i < tooltipLines.length; i++) {
+                canvas.drawText(tooltipLines[i], tooltipLeft + padding,
+                    tooltipTop + padding + textHeight * (1.2f * i + 1f), textPaint);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of rendered series.
+     */
+    @VisibleForTesting
+    public int getSeriesCount() {
+        return series.size();
+    }
+
+    /**
+     * Returns the timestamps currently used by the chart.
+     */
+    @NonNull
+    @VisibleForTesting
+    public long[] getTimestamps() {
+        return timestamps.clone();
     }
 }
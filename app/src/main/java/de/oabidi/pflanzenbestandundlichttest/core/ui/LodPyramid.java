@@ -0,0 +1,213 @@
+package de.oabidi.pflanzenbestandundlichttest.core.ui;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Min/max/average decimation pyramid over a {@link TimeSeries}. Level 0 holds the raw samples and
+ * every further level merges pairs of buckets of the level below, so a level can be picked whose
+ * bucket count matches the horizontal pixel density of the viewport. Rendering from the chosen
+ * level keeps the number of drawn primitives proportional to the chart width rather than the
+ * length of the history, while the min/max envelope still shows spikes that averaging would hide.
+ */
+final class LodPyramid {
+    private static final int MIN_TOP_LEVEL_BUCKETS = 64;
+
+    private final List<Level> levels = new ArrayList<>();
+    // Raw indices of the samples that are not gaps, in time order, for crosshair lookups.
+    private final int[] validIndices;
+
+    LodPyramid(@NonNull TimeSeries series) {
+        int size = series.size();
+        Level raw = new Level(size);
+        int[] valid = new int[size];
+        int validCount = 0;
+        for (int i = 0; i < size; i++) {
+            long timestamp = series.getTimestamp(i);
+            float value = series.getValue(i);
+            raw.start[i] = timestamp;
+            raw.end[i] = timestamp;
+            raw.min[i] = value;
+            raw.max[i] = value;
+            raw.avg[i] = value;
+            raw.count[i] = Float.isNaN(value) ? 0 : 1;
+            if (raw.count[i] != 0) {
+                valid[validCount++] = i;
+            }
+        }
+        validIndices = validCount == size ? valid : Arrays.copyOf(valid, validCount);
+        levels.add(raw);
+        Level previous = raw;
+        while (previous.size() > MIN_TOP_LEVEL_BUCKETS) {
+            previous = merge(previous);
+            levels.add(previous);
+        }
+    }
+
+    @NonNull
+    private static Level merge(@NonNull Level below) {
+        int size = (below.size() + 1) / 2;
+        Level level = new Level(size);
+        for (int b = 0; b < size; b++) {
+            int first = b * 2;
+            int last = Math.min(first + 1, below.size() - 1);
+            level.start[b] = below.start[first];
+            level.end[b] = below.end[last];
+            float min = Float.NaN;
+            float max = Float.NaN;
+            double sum = 0d;
+            int count = 0;
+            for (int i = first; i <= last; i++) {
+                int weight = below.count[i];
+                if (weight == 0) {
+                    continue;
+                }
+                min = Float.isNaN(min) ? below.min[i] : Math.min(min, below.min[i]);
+                max = Float.isNaN(max) ? below.max[i] : Math.max(max, below.max[i]);
+                sum += (double) below.avg[i] * weight;
+                count += weight;
+            }
+            level.min[b] = min;
+            level.max[b] = max;
+            level.avg[b] = count > 0 ? (float) (sum / count) : Float.NaN;
+            level.count[b] = count;
+        }
+        return level;
+    }
+
+    /**
+     * Returns the number of raw samples.
+     */
+    int size() {
+        return levels.get(0).size();
+    }
+
+    /**
+     * Returns the finest level whose buckets covering {@code sampleCount} raw samples number at
+     * most {@code maxBuckets}.
+     */
+    int chooseLevel(int sampleCount, int maxBuckets) {
+        int level = 0;
+        int buckets = sampleCount;
+        while (buckets > Math.max(1, maxBuckets) && level < levels.size() - 1) {
+            buckets = (buckets + 1) / 2;
+            level++;
+        }
+        return level;
+    }
+
+    /**
+     * Returns the index of the bucket at {@code level} that contains raw sample {@code index}.
+     */
+    static int bucketOf(int level, int index) {
+        return index >> level;
+    }
+
+    int bucketCount(int level) {
+        return levels.get(level).size();
+    }
+
+    /**
+     * Returns the representative timestamp of a bucket, the midpoint of the samples it covers.
+     */
+    long time(int level, int bucket) {
+        Level l = levels.get(level);
+        return l.start[bucket] + (l.end[bucket] - l.start[bucket]) / 2;
+    }
+
+    float min(int level, int bucket) {
+        return levels.get(level).min[bucket];
+    }
+
+    float max(int level, int bucket) {
+        return levels.get(level).max[bucket];
+    }
+
+    float avg(int level, int bucket) {
+        return levels.get(level).avg[bucket];
+    }
+
+    long timestamp(int index) {
+        return levels.get(0).start[index];
+    }
+
+    float value(int index) {
+        return levels.get(0).avg[index];
+    }
+
+    /**
+     * Returns the index of the first raw sample at or after {@code timestamp}, or {@link #size()}
+     * if every sample is earlier.
+     */
+    int lowerBound(long timestamp) {
+        long[] timestamps = levels.get(0).start;
+        int low = 0;
+        int high = timestamps.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the raw sample closest in time to {@code timestamp}, skipping gaps, or
+     * {@code -1} if the series holds no valid sample. Searches the valid samples directly, so the
+     * cost does not grow with the length of the gaps around {@code timestamp}.
+     */
+    int nearestIndex(long timestamp) {
+        int validCount = validIndices.length;
+        if (validCount == 0) {
+            return -1;
+        }
+        long[] timestamps = levels.get(0).start;
+        int low = 0;
+        int high = validCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[validIndices[mid]] < timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        if (low == 0) {
+            return validIndices[0];
+        }
+        if (low == validCount) {
+            return validIndices[validCount - 1];
+        }
+        int before = validIndices[low - 1];
+        int after = validIndices[low];
+        return timestamp - timestamps[before] <= timestamps[after] - timestamp ? before : after;
+    }
+
+    private static final class Level {
+        final long[] start;
+        final long[] end;
+        final float[] min;
+        final float[] max;
+        final float[] avg;
+        final int[] count;
+
+        Level(int size) {
+            start = new long[size];
+            end = new long[size];
+            min = new float[size];
+            max = new float[size];
+            avg = new float[size];
+            count = new int[size];
+        }
+
+        int size() {
+            return start.length;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package de.oabidi.pflanzenbestandundlichttest.core.ui;
+
+import androidx.annotation.NonNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable chart series backed by parallel primitive arrays sorted by ascending timestamp.
+ * Missing samples may be stored as {@link Float#NaN}; charts treat them as gaps.
+ */
+public final class TimeSeries {
+    private final String label;
+    private final long[] timestamps;
+    private final float[] values;
+
+    /**
+     * Creates a series from parallel arrays. The arrays are copied and sorted by timestamp if
+     * they are not already in ascending order.
+     *
+     * @throws IllegalArgumentException if the arrays differ in length
+     */
+    public TimeSeries(@NonNull String label, @NonNull long[] timestamps, @NonNull float[] values) {
+        this(label, timestamps, values, timestamps.length);
+    }
+
+    /**
+     * Creates a series from the first {@code size} elements of the given parallel arrays.
+     *
+     * @throws IllegalArgumentException if either array is shorter than {@code size}
+     */
+    public TimeSeries(@NonNull String label, @NonNull long[] timestamps, @NonNull float[] values,
+                      int size) {
+        if (size < 0 || timestamps.length < size || values.length < size) {
+            throw new IllegalArgumentException("Series arrays shorter than " + size);
+        }
+        this.label = label;
+        this.timestamps = Arrays.copyOf(timestamps, size);
+        this.values = Arrays.copyOf(values, size);
+        if (!isSorted(this.timestamps)) {
+            sortByTimestamp(this.timestamps, this.values);
+        }
+    }
+
+    @NonNull
+    public String getLabel() {
+        return label;
+    }
+
+    public int size() {
+        return timestamps.length;
+    }
+
+    public long getTimestamp(int index) {
+        return timestamps[index];
+    }
+
+    public float getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Returns the sorted union of the timestamps of all given series without duplicates.
+     */
+    @NonNull
+    static long[] mergeTimestamps(@NonNull List<TimeSeries> series) {
+        int total = 0;
+        for (TimeSeries s : series) {
+            total += s.size();
+        }
+        long[] merged = new long[total];
+        int offset = 0;
+        for (TimeSeries s : series) {
+            System.arraycopy(s.timestamps, 0, merged, offset, s.size());
+            offset += s.size();
+        }
+        if (series.size() > 1) {
+            Arrays.sort(merged);
+        }
+        int unique = 0;
+        for (int i = 0; i < merged.length; i++) {
+            if (unique == 0 || merged[i] != merged[unique - 1]) {
+                merged[unique++] = merged[i];
+            }
+        }
+        return unique == merged.length ? merged : Arrays.copyOf(merged, unique);
+    }
+
+    /**
+     * Maps every sample of this series to its position within {@code axis}, which must be a sorted
+     * superset of this series' timestamps such as returned by {@link #mergeTimestamps(List)}.
+     */
+    @NonNull
+    int[] indicesIn(@NonNull long[] axis) {
+        int[] indices = new int[timestamps.length];
+        int a = 0;
+        for (int i = 0; i < timestamps.length; i++) {
+            while (axis[a] < timestamps[i]) {
+                a++;
+            }
+            indices[i] = a;
+        }
+        return indices;
+    }
+
+    private static boolean isSorted(@NonNull long[] timestamps) {
+        for (int i = 1; i < timestamps.length; i++) {
+            if (timestamps[i] < timestamps[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void sortByTimestamp(@NonNull long[] timestamps, @NonNull float[] values) {
+        int size = timestamps.length;
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(timestamps[a], timestamps[b]));
+        long[] sortedTimestamps = new long[size];
+        float[] sortedValues = new float[size];
+        for (int i = 0; i < size; i++) {
+            sortedTimestamps[i] = timestamps[order[i]];
+            sortedValues[i] = values[order[i]];
+        }
+        System.arraycopy(sortedTimestamps, 0, timestamps, 0, size);
+        System.arraycopy(sortedValues, 0, values, 0, size);
+    }
+}
@@ -12,6 +12,7 @@ import java.util.concurrent.TimeUnit;
 
 import de.oabidi.pflanzenbestandundlichttest.CareRecommendationEngine;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
+import de.oabidi.pflanzenbestandundlichttest.feature.plant.CareRecommendationResources;
 import de.oabidi.pflanzenbestandundlichttest.feature.plant.PlantProfile;
 import de.oabidi.pflanzenbestandundlichttest.R;
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
@@ -38,7 +39,7 @@ public class ProactiveAlertEvaluator {
 
         if (!safeEntries.isEmpty()) {
             List<CareRecommendationEngine.CareRecommendation> recommendations =
-                careEngine.evaluate(profile, safeEntries, resources);
+                careEngine.evaluate(profile, safeEntries);
             for (CareRecommendationEngine.CareRecommendation recommendation : recommendations) {
                 if (recommendation == null) {
                     continue;
@@ -53,11 +54,8 @@ public class ProactiveAlertEvaluator {
                 if (severity == ProactiveAlert.Severity.INFO) {
                     continue;
                 }
-                CharSequence message = resolveMessage(recommendation, resources, plant.getName());
-                if (message == null) {
-                    continue;
-                }
-                alerts.add(new ProactiveAlert(plant, trigger, severity, message.toString(), now));
+                String message = CareRecommendationResources.formatMessage(resources, recommendation);
+                alerts.add(new ProactiveAlert(plant, trigger, severity, message, now));
             }
         }
 
@@ -80,23 +78,4 @@ public class ProactiveAlertEvaluator {
         long delta = now - mostRecent;
         return delta >= DIARY_INACTIVITY_THRESHOLD_MS;
     }
-
-    @Nullable
-    private CharSequence resolveMessage(CareRecommendationEngine.CareRecommendation recommendation,
-                                        Resources resources,
-                                        String plantName) {
-        Integer resId = recommendation.getMessageResId();
-        Object[] args = recommendation.getFormatArgs();
-        if (resId != null) {
-            if (args != null && args.length > 0) {
-                return resources.getString(resId, args);
-            }
-            return resources.getString(resId);
-        }
-        CharSequence message = recommendation.getMessage();
-        if (message == null || message.length() == 0) {
-            return resources.getString(R.string.alert_generic_message, plantName);
-        }
-        return message;
-    }
 }
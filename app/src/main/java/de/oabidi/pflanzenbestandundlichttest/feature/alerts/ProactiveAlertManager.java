@@ -52,7 +52,15 @@ public class ProactiveAlertManager {
     }
 
     public List<ProactiveAlert> evaluateNewAlerts() {
-        List<Plant> plants = plantRepository.getAllPlantsSync();
+        List<ProactiveAlert> alerts = evaluateNewAlerts(plantRepository.getAllPlantsSync());
+        pruneHistory();
+        return alerts;
+    }
+
+    /**
+     * Evaluates alerts for an already loaded set of plants without pruning the alert history.
+     */
+    public List<ProactiveAlert> evaluateNewAlerts(@Nullable List<Plant> plants) {
         if (plants == null || plants.isEmpty()) {
             return new ArrayList<>();
         }
@@ -62,7 +70,6 @@ public class ProactiveAlertManager {
             PlantProfile profile = resolveProfile(plant);
             freshAlerts.addAll(handlePlantAlerts(plant, profile, entries));
         }
-        pruneHistory();
         return freshAlerts;
     }
 
@@ -96,7 +103,10 @@ public class ProactiveAlertManager {
         return !TextUtils.equals(previous.getMessage(), alert.getMessage());
     }
 
-    private void pruneHistory() {
+    /**
+     * Removes alert history entries older than the retention window.
+     */
+    public void pruneHistory() {
         long threshold = System.currentTimeMillis() - RETENTION_WINDOW_MS;
         if (threshold > 0L) {
             alertRepository.deleteOlderThan(threshold);
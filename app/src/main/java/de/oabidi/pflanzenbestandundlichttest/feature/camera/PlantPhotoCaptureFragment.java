@@ -6,7 +6,6 @@ import android.content.pm.PackageManager;
 import android.net.Uri;
 import android.os.Build;
 import android.os.Bundle;
-import android.os.Environment;
 import android.os.Handler;
 import android.os.Looper;
 import android.view.LayoutInflater;
@@ -26,27 +25,27 @@ import androidx.camera.core.Preview;
 import androidx.camera.lifecycle.ProcessCameraProvider;
 import androidx.camera.view.PreviewView;
 import androidx.core.content.ContextCompat;
-import androidx.core.content.FileProvider;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentManager;
 
 import com.google.common.util.concurrent.ListenableFuture;
 
 import java.io.File;
-import java.text.SimpleDateFormat;
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
-import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
 
 /**
- * Full-screen fragment that captures plant photos using CameraX.
+ * Full-screen fragment that captures plant photos using CameraX. Captures are written to a pending
+ * file in app storage; callers receive its {@code file://} uri and either save it through
+ * {@link PhotoManager}, which moves it into place without a copy, or discard it.
  */
 public class PlantPhotoCaptureFragment extends Fragment {
     public static final String RESULT_KEY = "plant_photo_capture_result";
@@ -204,13 +203,13 @@ public class PlantPhotoCaptureFragment extends Fragment {
             return;
         }
         Context context = requireContext();
-        File directory = new File(context.getExternalFilesDir(Environment.DIRECTORY_PICTURES), "plants");
-        if (!directory.exists() && !directory.mkdirs()) {
+        File photoFile;
+        try {
+            photoFile = PhotoManager.createCaptureFile(context);
+        } catch (IOException e) {
             Toast.makeText(context, R.string.photo_capture_failed, Toast.LENGTH_SHORT).show();
             return;
         }
-        String timestamp = new SimpleDateFormat("yyyyMMdd_HHmmss", Locale.US).format(new Date());
-        File photoFile = new File(directory, "plant_" + timestamp + ".jpg");
         ImageCapture.OutputFileOptions options =
             new ImageCapture.OutputFileOptions.Builder(photoFile).build();
         capture.takePicture(options, cameraExecutor, new ImageCapture.OnImageSavedCallback() {
@@ -238,8 +237,7 @@ public class PlantPhotoCaptureFragment extends Fragment {
             return;
         }
         Context context = requireContext();
-        Uri uri = FileProvider.getUriForFile(context,
-            context.getPackageName() + ".fileprovider", photoFile);
+        Uri uri = Uri.fromFile(photoFile);
         Bundle result = new Bundle();
         result.putString(EXTRA_PHOTO_URI, uri.toString());
         getParentFragmentManager().setFragmentResult(RESULT_KEY, result);
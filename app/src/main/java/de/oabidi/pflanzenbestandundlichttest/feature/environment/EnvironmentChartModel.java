@@ -0,0 +1,188 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.environment;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import java.util.Arrays;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
+import de.oabidi.pflanzenbestandundlichttest.core.data.MetricColumns;
+import de.oabidi.pflanzenbestandundlichttest.core.data.SeriesMetric;
+
+/**
+ * Mutable per-metric sample store backing one environment chart. Samples are kept sorted by
+ * timestamp in primitive arrays, so a single added, edited or removed entry is applied with a
+ * binary search and one array shift instead of re-reading and re-sorting the plant's history.
+ *
+ * <p>Instances are not thread-safe; the presenter confines each model to its chart executor.</p>
+ */
+final class EnvironmentChartModel {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final SeriesMetric[] metrics;
+    private final long[][] timestamps;
+    private final float[][] values;
+    private final int[] sizes;
+
+    EnvironmentChartModel(@NonNull SeriesMetric... metrics) {
+        this.metrics = metrics.clone();
+        timestamps = new long[metrics.length][];
+        values = new float[metrics.length][];
+        sizes = new int[metrics.length];
+        for (int m = 0; m < metrics.length; m++) {
+            timestamps[m] = new long[INITIAL_CAPACITY];
+            values[m] = new float[INITIAL_CAPACITY];
+        }
+    }
+
+    @NonNull
+    SeriesMetric[] getMetrics() {
+        return metrics.clone();
+    }
+
+    /**
+     * Replaces all samples with the present values of {@code columns}, which must be sorted by
+     * timestamp as returned by the series reader.
+     */
+    @WorkerThread
+    void load(@NonNull MetricColumns columns) {
+        long[] columnTimestamps = columns.getTimestamps();
+        for (int m = 0; m < metrics.length; m++) {
+            float[] columnValues = columns.getValues(metrics[m]);
+            int present = columns.countPresent(metrics[m]);
+            timestamps[m] = new long[Math.max(INITIAL_CAPACITY, present)];
+            values[m] = new float[timestamps[m].length];
+            int count = 0;
+            for (int i = 0; i < columnValues.length; i++) {
+                if (!Float.isNaN(columnValues[i])) {
+                    timestamps[m][count] = columnTimestamps[i];
+                    values[m][count] = columnValues[i];
+                    count++;
+                }
+            }
+            sizes[m] = count;
+        }
+    }
+
+    /**
+     * Adds the metric values of a new or edited entry.
+     */
+    @WorkerThread
+    void add(@NonNull EnvironmentEntry entry) {
+        for (int m = 0; m < metrics.length; m++) {
+            Float value = valueOf(entry, metrics[m]);
+            if (value != null) {
+                insert(m, entry.getTimestamp(), value);
+            }
+        }
+    }
+
+    /**
+     * Removes the metric values of a deleted entry, or of the previous state of an edited one.
+     * Samples are matched by timestamp and value; duplicates are interchangeable for charting.
+     */
+    @WorkerThread
+    void remove(@NonNull EnvironmentEntry entry) {
+        for (int m = 0; m < metrics.length; m++) {
+            Float value = valueOf(entry, metrics[m]);
+            if (value != null) {
+                delete(m, entry.getTimestamp(), value);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of samples of {@code metric}.
+     */
+    int size(@NonNull SeriesMetric metric) {
+        return sizes[indexOf(metric)];
+    }
+
+    @NonNull
+    long[] timestamps(@NonNull SeriesMetric metric) {
+        return timestamps[indexOf(metric)];
+    }
+
+    @NonNull
+    float[] values(@NonNull SeriesMetric metric) {
+        return values[indexOf(metric)];
+    }
+
+    private int indexOf(@NonNull SeriesMetric metric) {
+        for (int m = 0; m < metrics.length; m++) {
+            if (metrics[m] == metric) {
+                return m;
+            }
+        }
+        throw new IllegalArgumentException("Metric not charted: " + metric);
+    }
+
+    private void insert(int m, long timestamp, float value) {
+        int size = sizes[m];
+        if (size == timestamps[m].length) {
+            int capacity = size * 2;
+            timestamps[m] = Arrays.copyOf(timestamps[m], capacity);
+            values[m] = Arrays.copyOf(values[m], capacity);
+        }
+        // Insert after existing samples with the same timestamp to mirror the reader's id order.
+        int index = upperBound(timestamps[m], size, timestamp);
+        System.arraycopy(timestamps[m], index, timestamps[m], index + 1, size - index);
+        System.arraycopy(values[m], index, values[m], index + 1, size - index);
+        timestamps[m][index] = timestamp;
+        values[m][index] = value;
+        sizes[m] = size + 1;
+    }
+
+    private void delete(int m, long timestamp, float value) {
+        int size = sizes[m];
+        int index = upperBound(timestamps[m], size, timestamp) - 1;
+        while (index >= 0 && timestamps[m][index] == timestamp) {
+            if (Float.compare(values[m][index], value) == 0) {
+                System.arraycopy(timestamps[m], index + 1, timestamps[m], index, size - index - 1);
+                System.arraycopy(values[m], index + 1, values[m], index, size - index - 1);
+                sizes[m] = size - 1;
+                return;
+            }
+            index--;
+        }
+    }
+
+    private static int upperBound(@NonNull long[] timestamps, int size, long timestamp) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (timestamps[mid] <= timestamp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Nullable
+    static Float valueOf(@NonNull EnvironmentEntry entry, @NonNull SeriesMetric metric) {
+        switch (metric) {
+            case TEMPERATURE:
+                return entry.getTemperature();
+            case HUMIDITY:
+                return entry.getHumidity();
+            case SOIL_MOISTURE:
+                return entry.getSoilMoisture();
+            case HEIGHT:
+                return entry.getHeight();
+            case WIDTH:
+                return entry.getWidth();
+            case NATURAL_DLI:
+                return entry.getNaturalDli();
+            case ARTIFICIAL_DLI:
+                return entry.getArtificialDli();
+            case ARTIFICIAL_HOURS:
+                return entry.getArtificialHours();
+            default:
+                throw new IllegalArgumentException("Not an environment metric: " + metric);
+        }
+    }
+}
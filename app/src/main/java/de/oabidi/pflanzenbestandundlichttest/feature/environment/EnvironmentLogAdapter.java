@@ -1,6 +1,5 @@
 package de.oabidi.pflanzenbestandundlichttest.feature.environment;
 
-import android.net.Uri;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -12,6 +11,7 @@ import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.feature.gallery.PlantPhotoLoader;
 
 import com.google.android.material.imageview.ShapeableImageView;
 
@@ -44,10 +44,12 @@ public class EnvironmentLogAdapter extends ListAdapter<EnvironmentLogPresenter.E
             }
         };
     private final Callbacks callbacks;
+    private final PlantPhotoLoader photoLoader;
 
-    public EnvironmentLogAdapter(@NonNull Callbacks callbacks) {
+    public EnvironmentLogAdapter(@NonNull Callbacks callbacks, @NonNull PlantPhotoLoader photoLoader) {
         super(DIFF_CALLBACK);
         this.callbacks = callbacks;
+        this.photoLoader = photoLoader;
     }
 
     @NonNull
@@ -55,7 +57,7 @@ public class EnvironmentLogAdapter extends ListAdapter<EnvironmentLogPresenter.E
     public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
         View view = LayoutInflater.from(parent.getContext())
             .inflate(R.layout.item_environment_entry, parent, false);
-        return new ViewHolder(view);
+        return new ViewHolder(view, photoLoader);
     }
 
     @Override
@@ -64,6 +66,12 @@ public class EnvironmentLogAdapter extends ListAdapter<EnvironmentLogPresenter.E
         holder.bind(item, callbacks);
     }
 
+    @Override
+    public void onViewRecycled(@NonNull ViewHolder holder) {
+        super.onViewRecycled(holder);
+        holder.recycle();
+    }
+
     /**
      * Callbacks for item interactions.
      */
@@ -89,9 +97,11 @@ public class EnvironmentLogAdapter extends ListAdapter<EnvironmentLogPresenter.E
         private final TextView metricsView;
         private final TextView notesView;
         private final ShapeableImageView photoView;
+        private final PlantPhotoLoader photoLoader;
 
-        ViewHolder(@NonNull View itemView) {
+        ViewHolder(@NonNull View itemView, @NonNull PlantPhotoLoader photoLoader) {
             super(itemView);
+            this.photoLoader = photoLoader;
             timestampView = itemView.findViewById(R.id.environment_log_item_timestamp);
             metricsView = itemView.findViewById(R.id.environment_log_item_metrics);
             notesView = itemView.findViewById(R.id.environment_log_item_notes);
@@ -112,15 +122,11 @@ public class EnvironmentLogAdapter extends ListAdapter<EnvironmentLogPresenter.E
             String photoUri = item.getPhotoUri();
             if (photoUri == null || photoUri.isEmpty()) {
                 photoView.setVisibility(View.GONE);
-                photoView.setImageDrawable(null);
+                photoLoader.clear(photoView);
                 photoView.setOnClickListener(null);
             } else {
                 photoView.setVisibility(View.VISIBLE);
-                try {
-                    photoView.setImageURI(Uri.parse(photoUri));
-                } catch (Exception e) {
-                    photoView.setImageResource(android.R.drawable.ic_menu_gallery);
-                }
+                photoLoader.loadThumbnail(photoView, photoUri);
                 photoView.setOnClickListener(v -> callbacks.onPhotoClicked(item));
             }
             itemView.setOnClickListener(v -> callbacks.onEdit(item));
@@ -129,5 +135,9 @@ public class EnvironmentLogAdapter extends ListAdapter<EnvironmentLogPresenter.E
                 return true;
             });
         }
+
+        void recycle() {
+            photoLoader.clear(photoView);
+        }
     }
 }
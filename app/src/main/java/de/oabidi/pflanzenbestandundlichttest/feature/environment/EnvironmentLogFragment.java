@@ -15,6 +15,7 @@ import androidx.activity.result.ActivityResultLauncher;
 import androidx.activity.result.contract.ActivityResultContracts;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.core.widget.NestedScrollView;
 import androidx.fragment.app.Fragment;
 import androidx.fragment.app.FragmentManager;
 import androidx.recyclerview.widget.LinearLayoutManager;
@@ -35,6 +36,7 @@ import de.oabidi.pflanzenbestandundlichttest.core.ui.LineChartView;
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LightSummary;
 import de.oabidi.pflanzenbestandundlichttest.feature.camera.PlantPhotoCaptureFragment;
+import de.oabidi.pflanzenbestandundlichttest.feature.gallery.PlantPhotoLoader;
 import de.oabidi.pflanzenbestandundlichttest.feature.gallery.PlantPhotoViewerFragment;
 import de.oabidi.pflanzenbestandundlichttest.feature.environment.EnvironmentPhotoAdapter;
 import de.oabidi.pflanzenbestandundlichttest.repository.EnvironmentRepository;
@@ -265,6 +267,8 @@ public class EnvironmentLogFragment extends Fragment implements EnvironmentLogVi
         overviewChartEmptyView = view.findViewById(R.id.environment_chart_overview_empty);
         trendsChartView = view.findViewById(R.id.environment_chart_trends);
         trendsChartEmptyView = view.findViewById(R.id.environment_chart_trends_empty);
+        overviewChartView.setZoomEnabled(true);
+        trendsChartView.setZoomEnabled(true);
         listView = view.findViewById(R.id.environment_log_list);
         loadingView = view.findViewById(R.id.environment_log_loading);
         photoPreview = view.findViewById(R.id.environment_photo_preview);
@@ -301,7 +305,7 @@ public class EnvironmentLogFragment extends Fragment implements EnvironmentLogVi
                 public void onPhotoClicked(EnvironmentLogPresenter.EnvironmentLogItem item) {
                     openPhotoUri(item.getPhotoUri());
                 }
-            });
+            }, PlantPhotoLoader.getInstance(requireContext()));
             listView.setAdapter(adapter);
         }
 
@@ -344,11 +348,26 @@ public class EnvironmentLogFragment extends Fragment implements EnvironmentLogVi
         }
         if (photoHighlightsView != null) {
             photoHighlightsView.setLayoutManager(new LinearLayoutManager(requireContext(), LinearLayoutManager.HORIZONTAL, false));
-            photoHighlightsAdapter = new EnvironmentPhotoAdapter(uriString -> openPhotoUri(uriString));
+            photoHighlightsAdapter = new EnvironmentPhotoAdapter(uriString -> openPhotoUri(uriString),
+                PlantPhotoLoader.getInstance(requireContext()));
             photoHighlightsView.setAdapter(photoHighlightsAdapter);
         }
         updatePhotoPreview();
 
+        if (view instanceof NestedScrollView) {
+            // The list does not scroll itself, so page in older entries as the screen nears its end.
+            NestedScrollView scrollView = (NestedScrollView) view;
+            scrollView.setOnScrollChangeListener((NestedScrollView.OnScrollChangeListener)
+                (v, scrollX, scrollY, oldScrollX, oldScrollY) -> {
+                    View content = v.getChildAt(0);
+                    EnvironmentLogPresenter current = presenter;
+                    if (content != null && current != null
+                        && content.getBottom() - (scrollY + v.getHeight()) < v.getHeight()) {
+                        current.loadMoreEntries();
+                    }
+                });
+        }
+
         EnvironmentLogPresenter p = presenter;
         if (p != null) {
             p.loadEntries();
@@ -665,6 +684,7 @@ public class EnvironmentLogFragment extends Fragment implements EnvironmentLogVi
             return;
         }
         if (currentPhotoUri == null) {
+            PlantPhotoLoader.getInstance(requireContext()).clear(photoPreview);
             photoPreview.setImageResource(android.R.drawable.ic_menu_gallery);
             photoPreview.setScaleType(ImageView.ScaleType.CENTER_INSIDE);
             if (photoRemoveButton != null) {
@@ -672,7 +692,8 @@ public class EnvironmentLogFragment extends Fragment implements EnvironmentLogVi
             }
         } else {
             photoPreview.setScaleType(ImageView.ScaleType.CENTER_CROP);
-            photoPreview.setImageURI(currentPhotoUri);
+            PlantPhotoLoader.getInstance(requireContext())
+                .loadThumbnail(photoPreview, currentPhotoUri.toString());
             if (photoRemoveButton != null) {
                 photoRemoveButton.setVisibility(View.VISIBLE);
             }
@@ -707,15 +728,7 @@ public class EnvironmentLogFragment extends Fragment implements EnvironmentLogVi
             emptyChartView.setVisibility(View.VISIBLE);
             return;
         }
-        List<LineChartView.LineSeries> series = new ArrayList<>();
-        for (EnvironmentLogPresenter.ChartSeries chartSeries : data.getSeries()) {
-            List<LineChartView.Point> points = new ArrayList<>();
-            for (EnvironmentLogPresenter.ChartPoint point : chartSeries.getPoints()) {
-                points.add(new LineChartView.Point(point.getTimestamp(), point.getValue()));
-            }
-            series.add(new LineChartView.LineSeries(chartSeries.getLabel(), points));
-        }
-        chartView.setSeries(series);
+        chartView.setSeries(data.getSeries());
         chartView.setVisibility(View.VISIBLE);
         emptyChartView.setVisibility(View.GONE);
     }
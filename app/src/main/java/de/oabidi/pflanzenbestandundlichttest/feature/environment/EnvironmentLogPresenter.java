@@ -1,45 +1,90 @@
 package de.oabidi.pflanzenbestandundlichttest.feature.environment;
 
 import android.content.Context;
+import android.net.Uri;
+import android.os.Handler;
+import android.os.Looper;
 import android.text.TextUtils;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.StringRes;
 
 import java.text.DateFormat;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LightSummary;
+import de.oabidi.pflanzenbestandundlichttest.core.data.SeriesMetric;
+import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
+import de.oabidi.pflanzenbestandundlichttest.core.ui.TimeSeries;
 import de.oabidi.pflanzenbestandundlichttest.repository.EnvironmentRepository;
 
 /**
  * Presenter coordinating the environment log between the repository and the view.
+ *
+ * <p>Entries are read in keyset-paginated pages and formatted on the database thread. Chart
+ * series live in {@link EnvironmentChartModel}s confined to a serial background executor, so
+ * saving, editing or deleting a single entry patches the list, the charts and the photo
+ * highlights in place instead of reloading the plant's full history.</p>
  */
 public class EnvironmentLogPresenter {
     public static final String EVENT_SAVED = "saved";
     public static final String EVENT_UPDATED = "updated";
     public static final String EVENT_DELETED = "deleted";
+    static final int PAGE_SIZE = 50;
+    private static final int CHARTS_LOADING = -1;
+    private static final ExecutorService CHART_EXECUTOR = Executors.newSingleThreadExecutor();
+    private static final SeriesMetric[] GROWTH_METRICS = {SeriesMetric.HEIGHT, SeriesMetric.WIDTH};
+    private static final SeriesMetric[] CLIMATE_METRICS = {
+        SeriesMetric.TEMPERATURE,
+        SeriesMetric.HUMIDITY,
+        SeriesMetric.NATURAL_DLI,
+        SeriesMetric.ARTIFICIAL_DLI
+    };
 
     private final EnvironmentLogView view;
     private final EnvironmentRepository environmentRepository;
     private final long plantId;
     private final Context context;
     private final DateFormat dateFormat = DateFormat.getDateTimeInstance(DateFormat.MEDIUM, DateFormat.SHORT);
+    private final Executor chartExecutor;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final EnvironmentChartModel growthModel = new EnvironmentChartModel(GROWTH_METRICS);
+    private final EnvironmentChartModel climateModel = new EnvironmentChartModel(CLIMATE_METRICS);
+    private final List<EnvironmentLogItem> items = new ArrayList<>();
+    private final List<PhotoHighlight> highlights = new ArrayList<>();
+    // Bumped by every full reload so callbacks of superseded loads are dropped.
+    private int generation;
+    private int chartGeneration;
+    private int pendingChartLoads;
+    private boolean hasMoreEntries;
+    private boolean loadingPage;
     @Nullable
     private EnvironmentEntry editingEntry;
     @Nullable
+    private EnvironmentEntry editingOriginal;
+    @Nullable
     private String pendingPhotoUri;
     @Nullable
     private String editingOriginalPhotoUri;
 
     public EnvironmentLogPresenter(@NonNull EnvironmentLogView view, @NonNull EnvironmentRepository environmentRepository,
                                    long plantId, @NonNull Context context) {
+        this(view, environmentRepository, plantId, context, CHART_EXECUTOR);
+    }
+
+    EnvironmentLogPresenter(@NonNull EnvironmentLogView view, @NonNull EnvironmentRepository environmentRepository,
+                            long plantId, @NonNull Context context, @NonNull Executor chartExecutor) {
+        this.chartExecutor = chartExecutor;
         this.view = view;
         this.environmentRepository = environmentRepository;
         this.plantId = plantId;
@@ -47,7 +92,8 @@ public class EnvironmentLogPresenter {
     }
 
     /**
-     * Loads all environment entries for the current plant.
+     * Reloads the first page of entries together with charts, photo highlights and the light
+     * summary for the current plant.
      */
     public void loadEntries() {
         if (plantId <= 0) {
@@ -58,24 +104,57 @@ public class EnvironmentLogPresenter {
             view.showLoading(false);
             return;
         }
+        generation++;
+        items.clear();
+        highlights.clear();
+        hasMoreEntries = true;
+        loadingPage = false;
+        view.showLoading(true);
+        loadCharts();
+        loadPhotoHighlights();
+        loadLightSummary();
+        loadNextPage();
+    }
+
+    /**
+     * Loads the next page of older entries if any remain and no page is currently loading.
+     */
+    public void loadMoreEntries() {
+        if (plantId <= 0 || !hasMoreEntries || loadingPage) {
+            return;
+        }
         view.showLoading(true);
-        environmentRepository.environmentEntriesForPlant(plantId, entries -> {
-            List<EnvironmentLogItem> items = new ArrayList<>(entries.size());
-            for (EnvironmentEntry entry : entries) {
-                items.add(toItem(entry));
+        loadNextPage();
+    }
+
+    private void loadNextPage() {
+        int requested = generation;
+        loadingPage = true;
+        EnvironmentEntry after = items.isEmpty() ? null : items.get(items.size() - 1).getEntry();
+        environmentRepository.environmentEntryPage(plantId, after, PAGE_SIZE, this::toItem, page -> {
+            if (requested != generation) {
+                return;
             }
-            view.showEntries(items);
-            view.showEmptyState(items.isEmpty());
-            view.showPhotoHighlights(buildPhotoHighlights(entries));
-            refreshCharts(entries);
-            view.showLightSummary(extractLightSummary(entries));
+            loadingPage = false;
+            hasMoreEntries = page.size() == PAGE_SIZE;
+            items.addAll(page);
+            publishEntries();
             view.showLoading(false);
         }, e -> {
+            if (requested != generation) {
+                return;
+            }
+            loadingPage = false;
             view.showLoading(false);
             view.showError(context.getString(R.string.error_database));
         });
     }
 
+    private void publishEntries() {
+        view.showEntries(new ArrayList<>(items));
+        view.showEmptyState(items.isEmpty());
+    }
+
     /**
      * Handles form submission either inserting a new entry or updating the current one.
      */
@@ -94,6 +173,7 @@ public class EnvironmentLogPresenter {
             entry.setPlantId(plantId);
             entry.setTimestamp(System.currentTimeMillis());
             applyFormData(entry, data);
+            int chartsAtDispatch = settledChartGeneration();
             view.showLoading(true);
             environmentRepository.insertEnvironmentEntry(entry, () -> {
                 view.showMessage(context.getString(R.string.environment_log_saved));
@@ -102,24 +182,30 @@ public class EnvironmentLogPresenter {
                 view.notifyLogEvent(EVENT_SAVED, entry.getId());
                 pendingPhotoUri = null;
                 editingOriginalPhotoUri = null;
-                loadEntries();
+                applyEntryChange(null, entry, chartsAtDispatch);
+                view.showLoading(false);
             }, e -> {
                 view.showLoading(false);
                 view.showError(context.getString(R.string.error_database));
             });
         } else {
             String previousPhoto = editingOriginalPhotoUri;
-            applyFormData(editingEntry, data);
+            EnvironmentEntry original = editingOriginal;
+            EnvironmentEntry updated = editingEntry;
+            applyFormData(updated, data);
+            int chartsAtDispatch = settledChartGeneration();
             view.showLoading(true);
-            environmentRepository.updateEnvironmentEntry(editingEntry, previousPhoto, () -> {
+            environmentRepository.updateEnvironmentEntry(updated, previousPhoto, () -> {
                 view.showMessage(context.getString(R.string.environment_log_updated));
                 view.clearForm();
                 view.showEditingState(false);
-                view.notifyLogEvent(EVENT_UPDATED, editingEntry.getId());
+                view.notifyLogEvent(EVENT_UPDATED, updated.getId());
                 editingEntry = null;
+                editingOriginal = null;
                 pendingPhotoUri = null;
                 editingOriginalPhotoUri = null;
-                loadEntries();
+                applyEntryChange(original, updated, chartsAtDispatch);
+                view.showLoading(false);
             }, e -> {
                 view.showLoading(false);
                 view.showError(context.getString(R.string.error_database));
@@ -134,7 +220,8 @@ public class EnvironmentLogPresenter {
         if (item == null) {
             return;
         }
-        editingEntry = copyEntry(item.getEntry());
+        editingOriginal = item.getEntry();
+        editingEntry = copyEntry(editingOriginal);
         editingOriginalPhotoUri = editingEntry.getPhotoUri();
         pendingPhotoUri = editingOriginalPhotoUri;
         view.populateForm(editingEntry);
@@ -146,7 +233,9 @@ public class EnvironmentLogPresenter {
      * Cancels the current edit flow.
      */
     public void onCancelEdit() {
+        discardPendingCapture();
         editingEntry = null;
+        editingOriginal = null;
         pendingPhotoUri = null;
         editingOriginalPhotoUri = null;
         view.clearForm();
@@ -158,6 +247,9 @@ public class EnvironmentLogPresenter {
      * Registers a newly selected photo for the current form.
      */
     public void onPhotoSelected(@NonNull String uri) {
+        if (!uri.equals(pendingPhotoUri)) {
+            discardPendingCapture();
+        }
         pendingPhotoUri = uri;
         view.showPhotoPreview(uri);
     }
@@ -166,10 +258,20 @@ public class EnvironmentLogPresenter {
      * Clears any pending photo from the form.
      */
     public void onPhotoRemoved() {
+        discardPendingCapture();
         pendingPhotoUri = null;
         view.showPhotoPreview(null);
     }
 
+    /**
+     * Deletes the pending photo if it is a camera capture that was never saved with an entry.
+     */
+    private void discardPendingCapture() {
+        if (!TextUtils.isEmpty(pendingPhotoUri)) {
+            PhotoManager.discardCapture(context, Uri.parse(pendingPhotoUri));
+        }
+    }
+
     /**
      * Restores the pending photo after configuration changes.
      */
@@ -189,6 +291,7 @@ public class EnvironmentLogPresenter {
             return;
         }
         EnvironmentEntry entry = item.getEntry();
+        int chartsAtDispatch = settledChartGeneration();
         view.showLoading(true);
         environmentRepository.deleteEnvironmentEntry(entry, () -> {
             if (editingEntry != null && editingEntry.getId() == entry.getId()) {
@@ -196,7 +299,8 @@ public class EnvironmentLogPresenter {
             }
             view.showMessage(context.getString(R.string.environment_log_deleted));
             view.notifyLogEvent(EVENT_DELETED, entry.getId());
-            loadEntries();
+            applyEntryChange(entry, null, chartsAtDispatch);
+            view.showLoading(false);
         }, e -> {
             view.showLoading(false);
             view.showError(context.getString(R.string.error_database));
@@ -213,50 +317,186 @@ public class EnvironmentLogPresenter {
         entry.setPhotoUri(pendingPhotoUri);
     }
 
+    /**
+     * Patches the loaded state after a single entry was saved, edited or deleted. Either argument
+     * may be {@code null} for inserts and deletes respectively. {@code chartsAtDispatch} is the
+     * {@link #settledChartGeneration()} taken when the write was dispatched.
+     */
+    private void applyEntryChange(@Nullable EnvironmentEntry previous, @Nullable EnvironmentEntry current,
+                                  int chartsAtDispatch) {
+        long id = current != null ? current.getId() : previous != null ? previous.getId() : -1L;
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getEntry().getId() == id) {
+                items.remove(i);
+                break;
+            }
+        }
+        if (current != null) {
+            int index = 0;
+            while (index < items.size() && isNewer(items.get(index).getEntry(), current)) {
+                index++;
+            }
+            // Entries older than the last loaded one arrive with their page.
+            if (index < items.size() || !hasMoreEntries) {
+                items.add(index, toItem(current));
+            }
+        }
+        publishEntries();
+
+        for (int i = 0; i < highlights.size(); i++) {
+            if (highlights.get(i).getEntryId() == id) {
+                highlights.remove(i);
+                break;
+            }
+        }
+        if (current != null && !TextUtils.isEmpty(current.getPhotoUri())) {
+            highlights.add(toHighlight(current.getId(), current.getTimestamp(), current.getPhotoUri()));
+            highlights.sort((a, b) -> Long.compare(b.getTimestamp(), a.getTimestamp()));
+        }
+        view.showPhotoHighlights(new ArrayList<>(highlights));
+
+        loadLightSummary();
+        updateCharts(previous, current, chartsAtDispatch);
+    }
+
     private EnvironmentLogItem toItem(EnvironmentEntry entry) {
-        String timestamp = dateFormat.format(new Date(entry.getTimestamp()));
+        String timestamp = formatTimestamp(entry.getTimestamp());
         String metrics = buildMetricsSummary(entry);
         String notes = entry.getNotes();
         return new EnvironmentLogItem(copyEntry(entry), timestamp, metrics, notes, entry.getPhotoUri());
     }
 
-    private void refreshCharts(List<EnvironmentEntry> entries) {
-        if (entries == null || entries.isEmpty()) {
-            view.showGrowthChart(null);
-            view.showClimateChart(null);
+    private PhotoHighlight toHighlight(long entryId, long timestamp, String photoUri) {
+        return new PhotoHighlight(entryId, timestamp, formatTimestamp(timestamp), photoUri);
+    }
+
+    /**
+     * Formats a timestamp; called from both the main and the database thread.
+     */
+    private String formatTimestamp(long timestamp) {
+        synchronized (dateFormat) {
+            return dateFormat.format(new Date(timestamp));
+        }
+    }
+
+    private void loadPhotoHighlights() {
+        int requested = generation;
+        environmentRepository.environmentPhotosForPlant(plantId,
+            ref -> toHighlight(ref.id, ref.timestamp, ref.photoUri), result -> {
+                if (requested != generation) {
+                    return;
+                }
+                highlights.clear();
+                highlights.addAll(result);
+                view.showPhotoHighlights(new ArrayList<>(highlights));
+            }, e -> {
+                if (requested != generation) {
+                    return;
+                }
+                highlights.clear();
+                view.showPhotoHighlights(Collections.emptyList());
+            });
+    }
+
+    private void loadLightSummary() {
+        environmentRepository.lightSummaryForPlant(plantId, view::showLightSummary,
+            e -> view.showLightSummary(new LightSummary(null, null, null, null)));
+    }
+
+    /**
+     * Loads both chart models from columnar metric reads; entity objects are not involved.
+     */
+    private void loadCharts() {
+        int requested = ++chartGeneration;
+        pendingChartLoads = 2;
+        loadChart(requested, growthModel, view::showGrowthChart);
+        loadChart(requested, climateModel, view::showClimateChart);
+    }
+
+    private void loadChart(int requested, EnvironmentChartModel model,
+                           Consumer<ChartData> target) {
+        environmentRepository.environmentSeriesForPlant(plantId, Long.MIN_VALUE, Long.MAX_VALUE,
+            model.getMetrics(), columns -> {
+                if (requested != chartGeneration) {
+                    return;
+                }
+                pendingChartLoads--;
+                chartExecutor.execute(() -> {
+                    model.load(columns);
+                    publishChart(requested, model, target);
+                });
+            }, e -> {
+                if (requested != chartGeneration) {
+                    return;
+                }
+                pendingChartLoads--;
+                target.accept(null);
+            });
+    }
+
+    /**
+     * Returns the chart generation if no chart read is in flight, or {@link #CHARTS_LOADING}.
+     */
+    private int settledChartGeneration() {
+        return pendingChartLoads == 0 ? chartGeneration : CHARTS_LOADING;
+    }
+
+    /**
+     * Applies a single entry change to both chart models on the chart executor. The patch is only
+     * safe if no chart read overlapped the write: a read running on another database thread may
+     * already contain the committed change, and patching on top of it would count the entry twice.
+     * Otherwise the charts are reloaded.
+     */
+    private void updateCharts(@Nullable EnvironmentEntry previous, @Nullable EnvironmentEntry current,
+                              int chartsAtDispatch) {
+        if (chartsAtDispatch != chartGeneration || pendingChartLoads > 0) {
+            loadCharts();
             return;
         }
-        List<EnvironmentEntry> sorted = new ArrayList<>(entries);
-        sorted.sort(Comparator.comparingLong(EnvironmentEntry::getTimestamp));
-        ChartData growth = buildChartData(sorted,
-            new MetricSpec(context.getString(R.string.environment_log_chart_label_height), EnvironmentEntry::getHeight),
-            new MetricSpec(context.getString(R.string.environment_log_chart_label_width), EnvironmentEntry::getWidth));
-        ChartData climate = buildChartData(sorted,
-            new MetricSpec(context.getString(R.string.environment_log_chart_label_temperature), EnvironmentEntry::getTemperature),
-            new MetricSpec(context.getString(R.string.environment_log_chart_label_humidity), EnvironmentEntry::getHumidity),
-            new MetricSpec(context.getString(R.string.environment_log_chart_label_natural_dli), EnvironmentEntry::getNaturalDli),
-            new MetricSpec(context.getString(R.string.environment_log_chart_label_artificial_dli), EnvironmentEntry::getArtificialDli));
-        view.showGrowthChart(growth);
-        view.showClimateChart(climate);
+        int requested = chartGeneration;
+        EnvironmentEntry removed = previous != null ? copyEntry(previous) : null;
+        EnvironmentEntry added = current != null ? copyEntry(current) : null;
+        chartExecutor.execute(() -> {
+            applyToModel(growthModel, removed, added);
+            applyToModel(climateModel, removed, added);
+            publishChart(requested, growthModel, view::showGrowthChart);
+            publishChart(requested, climateModel, view::showClimateChart);
+        });
+    }
+
+    private static void applyToModel(EnvironmentChartModel model, @Nullable EnvironmentEntry removed,
+                                     @Nullable EnvironmentEntry added) {
+        if (removed != null) {
+            model.remove(removed);
+        }
+        if (added != null) {
+            model.add(added);
+        }
+    }
+
+    /**
+     * Builds chart data from {@code model} on the chart executor and hands it to the main thread.
+     */
+    private void publishChart(int requested, EnvironmentChartModel model,
+                              Consumer<ChartData> target) {
+        ChartData data = buildChartData(model);
+        mainHandler.post(() -> {
+            if (requested == chartGeneration) {
+                target.accept(data);
+            }
+        });
     }
 
     @Nullable
-    private ChartData buildChartData(List<EnvironmentEntry> entries, MetricSpec... specs) {
-        List<ChartSeries> series = new ArrayList<>();
-        for (MetricSpec spec : specs) {
-            if (spec == null) {
+    private ChartData buildChartData(EnvironmentChartModel model) {
+        List<TimeSeries> series = new ArrayList<>();
+        for (SeriesMetric metric : model.getMetrics()) {
+            int size = model.size(metric);
+            if (size < 2) {
                 continue;
             }
-            List<ChartPoint> points = new ArrayList<>();
-            for (EnvironmentEntry entry : entries) {
-                Float value = spec.extractor.extract(entry);
-                if (value != null) {
-                    points.add(new ChartPoint(entry.getTimestamp(), value));
-                }
-            }
-            if (points.size() >= 2) {
-                series.add(new ChartSeries(spec.label, points));
-            }
+            series.add(new TimeSeries(context.getString(labelFor(metric)),
+                model.timestamps(metric), model.values(metric), size));
         }
         if (series.isEmpty()) {
             return null;
@@ -264,6 +504,26 @@ public class EnvironmentLogPresenter {
         return new ChartData(series);
     }
 
+    @StringRes
+    private static int labelFor(SeriesMetric metric) {
+        switch (metric) {
+            case HEIGHT:
+                return R.string.environment_log_chart_label_height;
+            case WIDTH:
+                return R.string.environment_log_chart_label_width;
+            case TEMPERATURE:
+                return R.string.environment_log_chart_label_temperature;
+            case HUMIDITY:
+                return R.string.environment_log_chart_label_humidity;
+            case NATURAL_DLI:
+                return R.string.environment_log_chart_label_natural_dli;
+            case ARTIFICIAL_DLI:
+                return R.string.environment_log_chart_label_artificial_dli;
+            default:
+                throw new IllegalArgumentException("No chart label for " + metric);
+        }
+    }
+
     private String buildMetricsSummary(EnvironmentEntry entry) {
         List<String> parts = new ArrayList<>();
         if (entry.getTemperature() != null) {
@@ -318,32 +578,6 @@ public class EnvironmentLogPresenter {
         return copy;
     }
 
-    private LightSummary extractLightSummary(List<EnvironmentEntry> entries) {
-        if (entries == null || entries.isEmpty()) {
-            return new LightSummary(null, null, null, null);
-        }
-        EnvironmentEntry latestNatural = null;
-        EnvironmentEntry latestArtificial = null;
-        for (EnvironmentEntry entry : entries) {
-            if (entry == null) {
-                continue;
-            }
-            Float natural = entry.getNaturalDli();
-            if (natural != null && isNewer(entry, latestNatural)) {
-                latestNatural = entry;
-            }
-            Float artificial = entry.getArtificialDli();
-            if (artificial != null && isNewer(entry, latestArtificial)) {
-                latestArtificial = entry;
-            }
-        }
-        Float naturalValue = latestNatural != null ? latestNatural.getNaturalDli() : null;
-        Long naturalTimestamp = latestNatural != null ? latestNatural.getTimestamp() : null;
-        Float artificialValue = latestArtificial != null ? latestArtificial.getArtificialDli() : null;
-        Long artificialTimestamp = latestArtificial != null ? latestArtificial.getTimestamp() : null;
-        return new LightSummary(naturalValue, naturalTimestamp, artificialValue, artificialTimestamp);
-    }
-
     private boolean isNewer(EnvironmentEntry candidate, @Nullable EnvironmentEntry current) {
         if (candidate == null) {
             return false;
@@ -358,101 +592,21 @@ public class EnvironmentLogPresenter {
             && candidate.getId() > current.getId();
     }
 
-    private List<PhotoHighlight> buildPhotoHighlights(List<EnvironmentEntry> entries) {
-        if (entries == null || entries.isEmpty()) {
-            return Collections.emptyList();
-        }
-        List<PhotoHighlight> highlights = new ArrayList<>();
-        for (EnvironmentEntry entry : entries) {
-            if (entry == null) {
-                continue;
-            }
-            String uri = entry.getPhotoUri();
-            if (uri == null || uri.isEmpty()) {
-                continue;
-            }
-            highlights.add(new PhotoHighlight(entry.getId(), entry.getTimestamp(),
-                dateFormat.format(new Date(entry.getTimestamp())), uri));
-        }
-        if (highlights.size() <= 1) {
-            return highlights;
-        }
-        highlights.sort((a, b) -> Long.compare(b.getTimestamp(), a.getTimestamp()));
-        return highlights;
-    }
-
-    private interface ValueExtractor {
-        @Nullable
-        Float extract(EnvironmentEntry entry);
-    }
-
-    private static class MetricSpec {
-        final String label;
-        final ValueExtractor extractor;
-
-        MetricSpec(String label, ValueExtractor extractor) {
-            this.label = label;
-            this.extractor = extractor;
-        }
-    }
-
     /**
      * Representation of chart data to be consumed by the view layer.
      */
     public static class ChartData {
-        private final List<ChartSeries> series;
+        private final List<TimeSeries> series;
 
-        ChartData(List<ChartSeries> series) {
+        ChartData(List<TimeSeries> series) {
             this.series = Collections.unmodifiableList(new ArrayList<>(series));
         }
 
-        public List<ChartSeries> getSeries() {
+        public List<TimeSeries> getSeries() {
             return series;
         }
     }
 
-    /**
-     * Single series of chart data points.
-     */
-    public static class ChartSeries {
-        private final String label;
-        private final List<ChartPoint> points;
-
-        ChartSeries(String label, List<ChartPoint> points) {
-            this.label = label;
-            this.points = Collections.unmodifiableList(new ArrayList<>(points));
-        }
-
-        public String getLabel() {
-            return label;
-        }
-
-        public List<ChartPoint> getPoints() {
-            return points;
-        }
-    }
-
-    /**
-     * Individual point within a chart series.
-     */
-    public static class ChartPoint {
-        private final long timestamp;
-        private final float value;
-
-        ChartPoint(long timestamp, float value) {
-            this.timestamp = timestamp;
-            this.value = value;
-        }
-
-        public long getTimestamp() {
-            return timestamp;
-        }
-
-        public float getValue() {
-            return value;
-        }
-    }
-
     /**
      * Representation of an entry adapted for the RecyclerView.
      */
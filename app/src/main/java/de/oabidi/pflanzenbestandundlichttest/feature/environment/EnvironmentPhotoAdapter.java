@@ -1,6 +1,5 @@
 package de.oabidi.pflanzenbestandundlichttest.feature.environment;
 
-import android.net.Uri;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -14,6 +13,7 @@ import androidx.recyclerview.widget.RecyclerView;
 import com.google.android.material.imageview.ShapeableImageView;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.feature.gallery.PlantPhotoLoader;
 
 /**
  * Adapter showing a horizontal strip of photo highlights for environment entries.
@@ -39,10 +39,13 @@ class EnvironmentPhotoAdapter extends ListAdapter<EnvironmentLogPresenter.PhotoH
         };
     @NonNull
     private final Callback callback;
+    @NonNull
+    private final PlantPhotoLoader photoLoader;
 
-    EnvironmentPhotoAdapter(@NonNull Callback callback) {
+    EnvironmentPhotoAdapter(@NonNull Callback callback, @NonNull PlantPhotoLoader photoLoader) {
         super(DIFF_CALLBACK);
         this.callback = callback;
+        this.photoLoader = photoLoader;
     }
 
     @NonNull
@@ -50,7 +53,7 @@ class EnvironmentPhotoAdapter extends ListAdapter<EnvironmentLogPresenter.PhotoH
     public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
         View view = LayoutInflater.from(parent.getContext())
             .inflate(R.layout.item_environment_photo_preview, parent, false);
-        return new ViewHolder(view);
+        return new ViewHolder(view, photoLoader);
     }
 
     @Override
@@ -58,6 +61,12 @@ class EnvironmentPhotoAdapter extends ListAdapter<EnvironmentLogPresenter.PhotoH
         holder.bind(getItem(position), callback);
     }
 
+    @Override
+    public void onViewRecycled(@NonNull ViewHolder holder) {
+        super.onViewRecycled(holder);
+        holder.recycle();
+    }
+
     void submit(java.util.List<EnvironmentLogPresenter.PhotoHighlight> items) {
         submitList(items == null ? java.util.Collections.emptyList() : new java.util.ArrayList<>(items));
     }
@@ -69,21 +78,23 @@ class EnvironmentPhotoAdapter extends ListAdapter<EnvironmentLogPresenter.PhotoH
     static class ViewHolder extends RecyclerView.ViewHolder {
         private final ShapeableImageView imageView;
         private final TextView labelView;
+        private final PlantPhotoLoader photoLoader;
 
-        ViewHolder(@NonNull View itemView) {
+        ViewHolder(@NonNull View itemView, @NonNull PlantPhotoLoader photoLoader) {
             super(itemView);
+            this.photoLoader = photoLoader;
             imageView = itemView.findViewById(R.id.environment_photo_thumbnail);
             labelView = itemView.findViewById(R.id.environment_photo_label);
         }
 
         void bind(EnvironmentLogPresenter.PhotoHighlight highlight, Callback callback) {
-            try {
-                imageView.setImageURI(Uri.parse(highlight.getPhotoUri()));
-            } catch (Exception e) {
-                imageView.setImageResource(android.R.drawable.ic_menu_gallery);
-            }
+            photoLoader.loadThumbnail(imageView, highlight.getPhotoUri());
             labelView.setText(highlight.getLabel());
             itemView.setOnClickListener(v -> callback.onPhotoClicked(highlight.getPhotoUri()));
         }
+
+        void recycle() {
+            photoLoader.clear(imageView);
+        }
     }
 }
@@ -0,0 +1,81 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.gallery;
+
+import android.graphics.Bitmap;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+
+/**
+ * Bounded pool of mutable bitmaps that are no longer displayed and may be handed to
+ * {@link android.graphics.BitmapFactory.Options#inBitmap} for the next decode. Reusing allocations
+ * keeps the garbage collector quiet while lists of similarly sized thumbnails are scrolled.
+ */
+final class BitmapPool {
+    private static final int MAX_WASTE_FACTOR = 2;
+
+    private final long maxBytes;
+    private final ArrayDeque<Bitmap> bitmaps = new ArrayDeque<>();
+    private long currentBytes;
+
+    BitmapPool(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    private static int bytesPerPixel(@NonNull Bitmap.Config config) {
+        switch (config) {
+            case RGB_565:
+            case ARGB_4444:
+                return 2;
+            case ALPHA_8:
+                return 1;
+            default:
+                return 4;
+        }
+    }
+
+    /**
+     * Returns a pooled bitmap large enough to hold a decode of the given dimensions, or
+     * {@code null} if none fits without wasting more than twice the required memory.
+     */
+    @Nullable
+    synchronized Bitmap get(int width, int height, @NonNull Bitmap.Config config) {
+        if (width <= 0 || height <= 0) {
+            return null;
+        }
+        long required = (long) width * height * bytesPerPixel(config);
+        Iterator<Bitmap> iterator = bitmaps.iterator();
+        while (iterator.hasNext()) {
+            Bitmap candidate = iterator.next();
+            int size = candidate.getAllocationByteCount();
+            if (size >= required && size <= required * MAX_WASTE_FACTOR) {
+                iterator.remove();
+                currentBytes -= size;
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Offers a bitmap to the pool. Immutable or recycled bitmaps are ignored and the oldest entries
+     * are dropped once the pool exceeds its byte budget.
+     */
+    synchronized void put(@NonNull Bitmap bitmap) {
+        if (!bitmap.isMutable() || bitmap.isRecycled()) {
+            return;
+        }
+        int size = bitmap.getAllocationByteCount();
+        if (size > maxBytes) {
+            return;
+        }
+        bitmaps.addLast(bitmap);
+        currentBytes += size;
+        while (currentBytes > maxBytes && !bitmaps.isEmpty()) {
+            Bitmap evicted = bitmaps.removeFirst();
+            currentBytes -= evicted.getAllocationByteCount();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.gallery;
+
+import android.content.ContentResolver;
+import android.graphics.Bitmap;
+import android.graphics.Matrix;
+import android.graphics.RectF;
+import android.media.ExifInterface;
+import android.net.Uri;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.WorkerThread;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the EXIF orientation of stored photos and maps decoded pixels into the upright image.
+ * {@link android.graphics.BitmapFactory} and {@link android.graphics.BitmapRegionDecoder} ignore
+ * the tag, so every decode path applies it explicitly.
+ */
+final class ExifOrientation {
+    private ExifOrientation() {
+    }
+
+    /**
+     * Returns the orientation tag of the image behind {@code uri}, or
+     * {@link ExifInterface#ORIENTATION_NORMAL} if it has none or cannot be read.
+     */
+    @WorkerThread
+    static int read(@NonNull ContentResolver resolver, @NonNull Uri uri) {
+        try (InputStream in = resolver.openInputStream(uri)) {
+            if (in == null) {
+                return ExifInterface.ORIENTATION_NORMAL;
+            }
+            return new ExifInterface(in).getAttributeInt(ExifInterface.TAG_ORIENTATION,
+                ExifInterface.ORIENTATION_NORMAL);
+        } catch (IOException | SecurityException | IllegalArgumentException e) {
+            return ExifInterface.ORIENTATION_NORMAL;
+        }
+    }
+
+    /**
+     * Returns whether the orientation turns the image by a quarter, swapping width and height.
+     */
+    static boolean swapsDimensions(int orientation) {
+        return orientation == ExifInterface.ORIENTATION_ROTATE_90
+            || orientation == ExifInterface.ORIENTATION_ROTATE_270
+            || orientation == ExifInterface.ORIENTATION_TRANSPOSE
+            || orientation == ExifInterface.ORIENTATION_TRANSVERSE;
+    }
+
+    /**
+     * Returns the matrix mapping stored pixel coordinates of a {@code width}×{@code height} image
+     * into upright coordinates, whose origin is the upright image's top-left corner.
+     */
+    @NonNull
+    static Matrix toUpright(int orientation, int width, int height) {
+        Matrix matrix = new Matrix();
+        switch (orientation) {
+            case ExifInterface.ORIENTATION_FLIP_HORIZONTAL:
+                matrix.setScale(-1f, 1f);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_180:
+                matrix.setRotate(180f);
+                break;
+            case ExifInterface.ORIENTATION_FLIP_VERTICAL:
+                matrix.setScale(1f, -1f);
+                break;
+            case ExifInterface.ORIENTATION_TRANSPOSE:
+                matrix.setRotate(90f);
+                matrix.postScale(-1f, 1f);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_90:
+                matrix.setRotate(90f);
+                break;
+            case ExifInterface.ORIENTATION_TRANSVERSE:
+                matrix.setRotate(-90f);
+                matrix.postScale(-1f, 1f);
+                break;
+            case ExifInterface.ORIENTATION_ROTATE_270:
+                matrix.setRotate(-90f);
+                break;
+            default:
+                return matrix;
+        }
+        RectF bounds = new RectF(0f, 0f, width, height);
+        matrix.mapRect(bounds);
+        matrix.postTranslate(-bounds.left, -bounds.top);
+        return matrix;
+    }
+
+    /**
+     * Returns {@code source} turned upright. A new bitmap is created unless the orientation is
+     * already normal, in which case {@code source} itself is returned.
+     */
+    @NonNull
+    static Bitmap apply(@NonNull Bitmap source, int orientation) {
+        Matrix matrix = toUpright(orientation, source.getWidth(), source.getHeight());
+        if (matrix.isIdentity()) {
+            return source;
+        }
+        return Bitmap.createBitmap(source, 0, 0, source.getWidth(), source.getHeight(), matrix, true);
+    }
+}
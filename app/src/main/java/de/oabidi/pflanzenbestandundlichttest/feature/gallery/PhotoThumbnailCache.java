@@ -0,0 +1,215 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.gallery;
+
+import android.content.Context;
+import android.database.Cursor;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.net.Uri;
+import android.provider.DocumentsContract;
+import android.provider.MediaStore;
+import android.provider.OpenableColumns;
+import android.util.Log;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Persistent cache for downscaled photo thumbnails stored below the application's cache directory.
+ * Entries are keyed by source uri, requested size and a version of the source derived from its
+ * modification time and byte size, so photos edited or transcoded in place never resolve to a stale
+ * thumbnail, including behind {@code content://} uris. The cache is trimmed to
+ * {@link #MAX_CACHE_BYTES} by evicting the least recently written files.
+ */
+final class PhotoThumbnailCache {
+    private static final String TAG = "PhotoThumbnailCache";
+    private static final String DIR_THUMBNAILS = "plant_photo_thumbs";
+    private static final String FILE_SUFFIX = ".jpg";
+    private static final long MAX_CACHE_BYTES = 64L * 1024 * 1024; // 64 MiB
+    private static final int JPEG_QUALITY = 85;
+
+    private final Context appContext;
+    private final File directory;
+    private long currentSizeBytes = -1L;
+
+    PhotoThumbnailCache(@NonNull Context context) {
+        this.appContext = context.getApplicationContext();
+        this.directory = new File(appContext.getCacheDir(), DIR_THUMBNAILS);
+    }
+
+    /**
+     * Builds the cache key for the given source and target dimensions.
+     */
+    @NonNull
+    String keyFor(@NonNull Uri uri, int width, int height) {
+        String raw = uri + "|" + width + "x" + height + "|" + versionOf(uri);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            byte[] hash = digest.digest(raw.getBytes(StandardCharsets.UTF_8));
+            StringBuilder builder = new StringBuilder(hash.length * 2);
+            for (byte b : hash) {
+                builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+                builder.append(Character.forDigit(b & 0xF, 16));
+            }
+            return builder.toString();
+        } catch (NoSuchAlgorithmException e) {
+            return Integer.toHexString(raw.hashCode());
+        }
+    }
+
+    /**
+     * Decodes the cached thumbnail for {@code key}, or returns {@code null} when none is stored.
+     * The supplied factory may attach a reusable bitmap to the decode options.
+     */
+    @Nullable
+    Bitmap get(@NonNull String key, @NonNull OptionsFactory optionsFactory) {
+        File file = new File(directory, key + FILE_SUFFIX);
+        if (!file.isFile()) {
+            return null;
+        }
+        String path = file.getAbsolutePath();
+        BitmapFactory.Options bounds = new BitmapFactory.Options();
+        bounds.inJustDecodeBounds = true;
+        BitmapFactory.decodeFile(path, bounds);
+        BitmapFactory.Options options =
+            optionsFactory.create(bounds.outWidth, bounds.outHeight, 1, Bitmap.Config.RGB_565);
+        Bitmap bitmap;
+        try {
+            bitmap = BitmapFactory.decodeFile(path, options);
+        } catch (IllegalArgumentException reuseRejected) {
+            options.inBitmap = null;
+            bitmap = BitmapFactory.decodeFile(path, options);
+        }
+        if (bitmap == null) {
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+        }
+        return bitmap;
+    }
+
+    /**
+     * Writes the thumbnail to disk, replacing any previous entry for the same key.
+     */
+    synchronized void put(@NonNull String key, @NonNull Bitmap bitmap) {
+        if (!directory.exists() && !directory.mkdirs()) {
+            return;
+        }
+        File file = new File(directory, key + FILE_SUFFIX);
+        File temp = new File(directory, key + ".tmp");
+        try (OutputStream out = new FileOutputStream(temp)) {
+            if (!bitmap.compress(Bitmap.CompressFormat.JPEG, JPEG_QUALITY, out)) {
+                throw new IOException("Failed to encode thumbnail");
+            }
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to write thumbnail " + key, e);
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            return;
+        }
+        long previous = file.length();
+        if (!temp.renameTo(file)) {
+            //noinspection ResultOfMethodCallIgnored
+            temp.delete();
+            return;
+        }
+        ensureSizeInitialized();
+        currentSizeBytes += file.length() - previous;
+        if (currentSizeBytes > MAX_CACHE_BYTES) {
+            trimToSize(MAX_CACHE_BYTES * 3 / 4);
+        }
+    }
+
+    private void ensureSizeInitialized() {
+        if (currentSizeBytes >= 0) {
+            return;
+        }
+        long total = 0L;
+        File[] files = directory.listFiles();
+        if (files != null) {
+            for (File file : files) {
+                total += file.length();
+            }
+        }
+        currentSizeBytes = total;
+    }
+
+    private void trimToSize(long targetBytes) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            currentSizeBytes = 0L;
+            return;
+        }
+        Arrays.sort(files, Comparator.comparingLong(File::lastModified));
+        long total = 0L;
+        for (File file : files) {
+            total += file.length();
+        }
+        for (File file : files) {
+            if (total <= targetBytes) {
+                break;
+            }
+            long length = file.length();
+            if (file.delete()) {
+                total -= length;
+            }
+        }
+        currentSizeBytes = total;
+    }
+
+    /**
+     * Returns the modification time and size of the source. Content providers expose different
+     * columns: documents report {@link DocumentsContract.Document#COLUMN_LAST_MODIFIED}, the media
+     * store {@link MediaStore.MediaColumns#DATE_MODIFIED} and {@code FileProvider} only
+     * {@link OpenableColumns#SIZE}, so whichever of them is present is used.
+     */
+    @NonNull
+    private String versionOf(@NonNull Uri uri) {
+        if ("file".equals(uri.getScheme())) {
+            String path = uri.getPath();
+            if (path == null) {
+                return "";
+            }
+            File file = new File(path);
+            return file.lastModified() + ":" + file.length();
+        }
+        if (!"content".equals(uri.getScheme())) {
+            return "";
+        }
+        try (Cursor cursor = appContext.getContentResolver().query(uri, null, null, null, null)) {
+            if (cursor == null || !cursor.moveToFirst()) {
+                return "";
+            }
+            long modified = readLong(cursor, DocumentsContract.Document.COLUMN_LAST_MODIFIED);
+            if (modified == 0L) {
+                modified = readLong(cursor, MediaStore.MediaColumns.DATE_MODIFIED);
+            }
+            return modified + ":" + readLong(cursor, OpenableColumns.SIZE);
+        } catch (RuntimeException e) {
+            // Providers may refuse the query; fall back to the uri alone.
+            return "";
+        }
+    }
+
+    private static long readLong(@NonNull Cursor cursor, @NonNull String column) {
+        int index = cursor.getColumnIndex(column);
+        return index >= 0 && !cursor.isNull(index) ? cursor.getLong(index) : 0L;
+    }
+
+    /**
+     * Creates decode options for an image of the given bounds.
+     */
+    interface OptionsFactory {
+        @NonNull
+        BitmapFactory.Options create(int width, int height, int sampleSize,
+                                     @NonNull Bitmap.Config config);
+    }
+}
@@ -0,0 +1,149 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.gallery;
+
+import android.content.Context;
+import android.content.SharedPreferences;
+import android.content.res.Resources;
+import android.net.Uri;
+import android.util.Log;
+import android.util.Size;
+
+import androidx.annotation.NonNull;
+import androidx.work.Constraints;
+import androidx.work.Data;
+import androidx.work.ExistingWorkPolicy;
+import androidx.work.OneTimeWorkRequest;
+import androidx.work.WorkManager;
+import androidx.work.Worker;
+import androidx.work.WorkerParameters;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import de.oabidi.pflanzenbestandundlichttest.analytics.MetricsRegistry;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Timer;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
+import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
+import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
+
+/**
+ * Background worker that downscales a freshly stored photo to the configured maximum resolution and
+ * quality and pre-generates the list thumbnails shown for it, so later decodes, exports and backups
+ * operate on the smaller file.
+ */
+public class PhotoTranscodeWorker extends Worker {
+    private static final String TAG = "PhotoTranscodeWorker";
+    private static final String WORK_NAME_PREFIX = "photo-transcode-";
+    private static final String KEY_URI = "uri";
+    private static final String KEY_KIND = "kind";
+
+    public PhotoTranscodeWorker(@NonNull Context context, @NonNull WorkerParameters workerParams) {
+        super(context, workerParams);
+    }
+
+    /**
+     * Queues transcoding for the stored photo. Repeated requests for the same uri are collapsed.
+     */
+    public static void enqueue(@NonNull Context context, @NonNull Uri uri, @NonNull PhotoManager.Kind kind) {
+        Data input = new Data.Builder()
+            .putString(KEY_URI, uri.toString())
+            .putString(KEY_KIND, kind.name())
+            .build();
+        Constraints constraints = new Constraints.Builder()
+            .setRequiresStorageNotLow(true)
+            .build();
+        OneTimeWorkRequest request = new OneTimeWorkRequest.Builder(PhotoTranscodeWorker.class)
+            .setInputData(input)
+            .setConstraints(constraints)
+            .build();
+        WorkManager.getInstance(context).enqueueUniqueWork(WORK_NAME_PREFIX + uri,
+            ExistingWorkPolicy.KEEP, request);
+    }
+
+    @NonNull
+    @Override
+    public Result doWork() {
+        Timer timer = MetricsRegistry.get().timer("worker.PhotoTranscodeWorker");
+        long start = timer.start();
+        Tracer.Span span = Tracer.begin("worker.PhotoTranscodeWorker");
+        try {
+            return transcodeAndWarm();
+        } finally {
+            span.close();
+            timer.stop(start);
+        }
+    }
+
+    @NonNull
+    private Result transcodeAndWarm() {
+        String uriString = getInputData().getString(KEY_URI);
+        if (uriString == null) {
+            return Result.failure();
+        }
+        Uri uri = Uri.parse(uriString);
+        String path = uri.getPath();
+        if (!"file".equals(uri.getScheme()) || path == null) {
+            return Result.failure();
+        }
+        File file = new File(path);
+        if (!file.isFile()) {
+            // The photo was deleted before the worker ran.
+            return Result.success();
+        }
+        PhotoManager.Kind kind;
+        try {
+            kind = PhotoManager.Kind.valueOf(getInputData().getString(KEY_KIND));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            kind = PhotoManager.Kind.PLANT;
+        }
+
+        Context context = getApplicationContext();
+        SharedPreferences prefs = context.getSharedPreferences(SettingsKeys.PREFS_NAME, Context.MODE_PRIVATE);
+        // Values stored before the minimum was enforced are raised to it.
+        int maxDimension = Math.max(PhotoManager.MIN_MAX_DIMENSION,
+            parsePositive(prefs.getString(SettingsKeys.KEY_PHOTO_MAX_DIMENSION, null),
+                PhotoManager.DEFAULT_MAX_DIMENSION));
+        int quality = Math.min(100, parsePositive(prefs.getString(SettingsKeys.KEY_PHOTO_QUALITY, null),
+            PhotoManager.DEFAULT_JPEG_QUALITY));
+        try {
+            PhotoManager.transcode(file, maxDimension, quality);
+        } catch (IOException e) {
+            Log.w(TAG, "Failed to transcode " + file, e);
+            return Result.failure();
+        }
+
+        PlantPhotoLoader loader = PlantPhotoLoader.getInstance(context);
+        for (Size size : thumbnailSizes(context.getResources(), kind)) {
+            loader.warmThumbnail(uriString, size.getWidth(), size.getHeight());
+        }
+        return Result.success();
+    }
+
+    @NonNull
+    private static List<Size> thumbnailSizes(@NonNull Resources resources, @NonNull PhotoManager.Kind kind) {
+        List<Size> sizes = new ArrayList<>();
+        if (kind == PhotoManager.Kind.ENVIRONMENT) {
+            int listSize = resources.getDimensionPixelSize(R.dimen.environment_photo_list_size);
+            int highlightSize = resources.getDimensionPixelSize(R.dimen.environment_photo_highlight_size);
+            sizes.add(new Size(listSize, listSize));
+            sizes.add(new Size(highlightSize, highlightSize));
+        } else {
+            sizes.add(PlantPhotoAdapter.calculateThumbnailSize(resources));
+        }
+        return sizes;
+    }
+
+    private static int parsePositive(String value, int fallback) {
+        if (value == null) {
+            return fallback;
+        }
+        try {
+            int parsed = Integer.parseInt(value.trim());
+            return parsed > 0 ? parsed : fallback;
+        } catch (NumberFormatException e) {
+            return fallback;
+        }
+    }
+}
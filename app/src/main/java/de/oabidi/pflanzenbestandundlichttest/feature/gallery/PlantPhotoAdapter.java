@@ -1,5 +1,9 @@
 package de.oabidi.pflanzenbestandundlichttest.feature.gallery;
 
+import android.content.res.Configuration;
+import android.content.res.Resources;
+import android.util.DisplayMetrics;
+import android.util.Size;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -35,6 +39,9 @@ public class PlantPhotoAdapter extends ListAdapter<PlantPhoto, PlantPhotoAdapter
         };
     private final PlantPhotoLoader loader;
     private final Callbacks callbacks;
+    private int thumbnailWidth;
+    private int thumbnailHeight;
+
     public PlantPhotoAdapter(@NonNull PlantPhotoLoader loader, @NonNull Callbacks callbacks) {
         super(DIFF_CALLBACK);
         setHasStableIds(true);
@@ -42,6 +49,42 @@ public class PlantPhotoAdapter extends ListAdapter<PlantPhoto, PlantPhotoAdapter
         this.callbacks = callbacks;
     }
 
+    /**
+     * Returns the number of grid columns used for the gallery on the current configuration.
+     */
+    public static int calculateSpanCount(@NonNull Resources resources) {
+        DisplayMetrics metrics = resources.getDisplayMetrics();
+        int widthDp = (int) (metrics.widthPixels / metrics.density);
+        if (widthDp >= 720) {
+            return 5;
+        }
+        if (widthDp >= 600) {
+            return 4;
+        }
+        if (resources.getConfiguration().orientation == Configuration.ORIENTATION_LANDSCAPE) {
+            return 4;
+        }
+        return 3;
+    }
+
+    /**
+     * Returns the pixel size of a single gallery grid cell on the current configuration.
+     */
+    @NonNull
+    public static Size calculateThumbnailSize(@NonNull Resources resources) {
+        return new Size(resources.getDisplayMetrics().widthPixels / calculateSpanCount(resources),
+            resources.getDimensionPixelSize(R.dimen.plant_photo_thumbnail_height));
+    }
+
+    /**
+     * Sets the pixel size of a grid cell so thumbnails are decoded and cached at that size instead
+     * of at full resolution.
+     */
+    public void setThumbnailSize(int width, int height) {
+        thumbnailWidth = width;
+        thumbnailHeight = height;
+    }
+
     @NonNull
     @Override
     public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
@@ -53,7 +96,7 @@ public class PlantPhotoAdapter extends ListAdapter<PlantPhoto, PlantPhotoAdapter
     @Override
     public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
         PlantPhoto photo = getItem(position);
-        holder.bind(photo, callbacks);
+        holder.bind(photo, callbacks, thumbnailWidth, thumbnailHeight);
     }
 
     @Override
@@ -84,9 +127,14 @@ public class PlantPhotoAdapter extends ListAdapter<PlantPhoto, PlantPhotoAdapter
             imageView = itemView.findViewById(R.id.plant_photo_image);
         }
 
-        void bind(@NonNull PlantPhoto photo, @NonNull Callbacks callbacks) {
+        void bind(@NonNull PlantPhoto photo, @NonNull Callbacks callbacks, int width, int height) {
             String uri = photo.getUri();
-            loader.loadInto(imageView, uri);
+            if (width <= 0 || height <= 0) {
+                width = imageView.getWidth();
+                height = imageView.getLayoutParams() != null
+                    ? imageView.getLayoutParams().height : imageView.getHeight();
+            }
+            loader.loadInto(imageView, uri, width, height);
             itemView.setOnClickListener(v -> callbacks.onPhotoClicked(photo));
             itemView.setOnLongClickListener(v -> {
                 callbacks.onPhotoLongClicked(photo);
@@ -1,5 +1,6 @@
 package de.oabidi.pflanzenbestandundlichttest.feature.gallery;
 
+import android.app.ActivityManager;
 import android.content.ContentResolver;
 import android.content.Context;
 import android.graphics.Bitmap;
@@ -8,140 +9,549 @@ import android.net.Uri;
 import android.os.Handler;
 import android.os.Looper;
 import android.util.LruCache;
+import android.view.ViewGroup;
 import android.widget.ImageView;
 
+import androidx.annotation.DrawableRes;
+import androidx.annotation.MainThread;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.WeakHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
 
+import de.oabidi.pflanzenbestandundlichttest.analytics.Counter;
+import de.oabidi.pflanzenbestandundlichttest.analytics.MetricsRegistry;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Timer;
 import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.core.system.ExecutorProvider;
 
 /**
- * Utility responsible for loading {@link Uri}-backed images on a background executor and delivering
- * them to an {@link ImageView} once decoded. Instances cache bitmaps in-memory to avoid repeatedly
- * decoding the same file while users scroll through the gallery.
+ * Shared image-loading service responsible for decoding {@link Uri}-backed images on a background
+ * executor and delivering them to an {@link ImageView} once decoded. Requests may carry the size of
+ * the target view, in which case the image is decoded at the smallest sample size covering that size
+ * and the resulting thumbnail is persisted to a disk cache. Screen-sized requests of the photo viewer
+ * are decoded in full colour and skip the disk cache, which is reserved for thumbnails. Every decode
+ * is turned upright according to the photo's EXIF orientation. Decoded bitmaps are kept in an in-memory cache sized from the device memory class.
+ *
+ * <p>Requests for the same uri and size that are already in flight are joined instead of decoded
+ * twice, and a request is cancelled once every view waiting for it has been cleared, e.g. when a
+ * view holder is recycled. Bitmaps evicted from the memory cache that are no longer displayed are
+ * handed to a {@link BitmapPool} and reused for subsequent decodes. Apart from
+ * {@link #getInstance(Context)} and {@link #warmThumbnail(String, int, int)}, all public methods
+ * must be called on the main thread.</p>
  */
 public class PlantPhotoLoader {
     private static final int MAX_TEXTURE_SIZE = 2048;
-    private static final int CACHE_SIZE_BYTES = 8 * 1024 * 1024; // 8 MiB
+    private static final int MEMORY_CACHE_DIVISOR = 8;
+    private static final int BITMAP_POOL_DIVISOR = 4;
+    private static final int MIN_CACHE_SIZE_BYTES = 8 * 1024 * 1024; // 8 MiB
+    private static final int MARK_LIMIT_BYTES = 256 * 1024;
+    private static final int MAX_PENDING_RELEASES = 32;
+
+    @Nullable
+    private static PlantPhotoLoader instance;
 
     private final Context appContext;
     private final ExecutorService executor;
     private final Handler mainHandler = new Handler(Looper.getMainLooper());
     private final LruCache<String, Bitmap> bitmapCache;
-    private final Set<String> inflightPrefetches = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private final BitmapPool bitmapPool;
+    private final PhotoThumbnailCache diskCache;
+    private final Map<String, Request> inflight = new HashMap<>();
+    private final Map<ImageView, Bitmap> displayed = new WeakHashMap<>();
+    private final List<Bitmap> pendingReleases = new ArrayList<>();
+    private final Counter memoryHits = MetricsRegistry.get().counter("photo.memory.hit");
+    private final Counter memoryMisses = MetricsRegistry.get().counter("photo.memory.miss");
+    private final Counter diskHits = MetricsRegistry.get().counter("photo.disk.hit");
+    private final Counter diskMisses = MetricsRegistry.get().counter("photo.disk.miss");
+    private final Timer decodeTimer = MetricsRegistry.get().timer("photo.decode");
 
-    public PlantPhotoLoader(@NonNull Context context, @NonNull ExecutorService executor) {
+    PlantPhotoLoader(@NonNull Context context, @NonNull ExecutorService executor) {
         this.appContext = context.getApplicationContext();
         this.executor = executor;
-        this.bitmapCache = new LruCache<>(CACHE_SIZE_BYTES) {
+        ActivityManager activityManager =
+            (ActivityManager) appContext.getSystemService(Context.ACTIVITY_SERVICE);
+        int memoryClassMb = activityManager != null ? activityManager.getMemoryClass() : 0;
+        int cacheSize = Math.max(MIN_CACHE_SIZE_BYTES,
+            memoryClassMb * 1024 * 1024 / MEMORY_CACHE_DIVISOR);
+        this.bitmapPool = new BitmapPool(cacheSize / BITMAP_POOL_DIVISOR);
+        this.bitmapCache = new LruCache<>(cacheSize) {
             @Override
             protected int sizeOf(@NonNull String key, @NonNull Bitmap value) {
                 return value.getByteCount();
             }
+
+            @Override
+            protected void entryRemoved(boolean evicted, @NonNull String key,
+                                        @NonNull Bitmap oldValue, @Nullable Bitmap newValue) {
+                if (oldValue != newValue) {
+                    releaseWhenHidden(oldValue);
+                }
+            }
         };
+        this.diskCache = new PhotoThumbnailCache(appContext);
     }
 
-    private static int calculateSampleSize(@NonNull BitmapFactory.Options options) {
-        int height = options.outHeight;
-        int width = options.outWidth;
+    /**
+     * Returns the process-wide loader backed by the application's shared I/O executor.
+     *
+     * @throws IllegalStateException if the application does not implement {@link ExecutorProvider}
+     */
+    @NonNull
+    public static synchronized PlantPhotoLoader getInstance(@NonNull Context context) {
+        Context appContext = context.getApplicationContext();
+        if (!(appContext instanceof ExecutorProvider)) {
+            throw new IllegalStateException("Application must provide executor");
+        }
+        ExecutorService executor = ((ExecutorProvider) appContext).getIoExecutor();
+        if (instance == null || instance.executor != executor) {
+            instance = new PlantPhotoLoader(appContext, executor);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the largest power-of-two sample size that still keeps the decoded image at least as
+     * large as the requested bounds in both dimensions.
+     */
+    static int calculateSampleSize(int width, int height, int reqWidth, int reqHeight) {
         int inSampleSize = 1;
-        if (height > PlantPhotoLoader.MAX_TEXTURE_SIZE || width > PlantPhotoLoader.MAX_TEXTURE_SIZE) {
-            int halfHeight = height / 2;
-            int halfWidth = width / 2;
-            while ((halfHeight / inSampleSize) >= PlantPhotoLoader.MAX_TEXTURE_SIZE
-                && (halfWidth / inSampleSize) >= PlantPhotoLoader.MAX_TEXTURE_SIZE) {
-                inSampleSize *= 2;
-            }
+        if (width <= 0 || height <= 0 || reqWidth <= 0 || reqHeight <= 0) {
+            return inSampleSize;
         }
-        return Math.max(1, inSampleSize);
+        while ((width / (inSampleSize * 2)) >= reqWidth
+            && (height / (inSampleSize * 2)) >= reqHeight) {
+            inSampleSize *= 2;
+        }
+        return inSampleSize;
+    }
+
+    private static int calculateMaxTextureSampleSize(int width, int height) {
+        int inSampleSize = 1;
+        while (width / inSampleSize > MAX_TEXTURE_SIZE || height / inSampleSize > MAX_TEXTURE_SIZE) {
+            inSampleSize *= 2;
+        }
+        return inSampleSize;
+    }
+
+    @NonNull
+    private static String memoryKey(@NonNull String uriString, int width, int height,
+                                    boolean screen) {
+        return uriString + (screen ? "#screen:" : "#") + width + 'x' + height;
     }
 
     /**
-     * Loads the provided photo asynchronously into the given target view.
+     * Loads the provided photo asynchronously into the given target view, bounded only by the
+     * maximum texture size. Intended for full-screen display.
      */
+    @MainThread
     public void loadInto(@NonNull ImageView target, @NonNull String uriString) {
-        target.setTag(R.id.tag_photo_uri, uriString);
-        Bitmap cached = bitmapCache.get(uriString);
+        loadInto(target, uriString, 0, 0);
+    }
+
+    /**
+     * Loads the provided photo into the given target view at the size declared by its layout
+     * parameters, falling back to its measured size. A gallery icon is shown if decoding fails.
+     */
+    @MainThread
+    public void loadThumbnail(@NonNull ImageView target, @NonNull String uriString) {
+        ViewGroup.LayoutParams params = target.getLayoutParams();
+        int width = params != null && params.width > 0 ? params.width : target.getWidth();
+        int height = params != null && params.height > 0 ? params.height : target.getHeight();
+        load(target, uriString, width, height, false, android.R.drawable.ic_menu_gallery);
+    }
+
+    /**
+     * Loads the provided photo asynchronously into the given target view, decoding it at a size
+     * that covers {@code targetWidth} x {@code targetHeight} pixels. Passing non-positive dimensions
+     * decodes the image bounded by the maximum texture size and bypasses the disk cache.
+     */
+    @MainThread
+    public void loadInto(@NonNull ImageView target, @NonNull String uriString,
+                         int targetWidth, int targetHeight) {
+        load(target, uriString, targetWidth, targetHeight, false, 0);
+    }
+
+    /**
+     * Loads the provided photo for full-screen display, decoded in {@link Bitmap.Config#ARGB_8888}
+     * at a size covering {@code screenWidth} x {@code screenHeight} pixels. The bitmap is kept in
+     * the memory cache only, so viewer pages never displace thumbnails from the disk cache.
+     */
+    @MainThread
+    public void loadScreen(@NonNull ImageView target, @NonNull String uriString,
+                           int screenWidth, int screenHeight) {
+        load(target, uriString, screenWidth, screenHeight, true, 0);
+    }
+
+    private void load(@NonNull ImageView target, @NonNull String uriString,
+                      int targetWidth, int targetHeight, boolean screen,
+                      @DrawableRes int errorResId) {
+        String key = memoryKey(uriString, targetWidth, targetHeight, screen);
+        Object previousKey = target.getTag(R.id.tag_photo_uri);
+        if (previousKey instanceof String && !previousKey.equals(key)) {
+            detach(target, (String) previousKey);
+        }
+        target.setTag(R.id.tag_photo_uri, key);
+        Bitmap cached = bitmapCache.get(key);
         if (cached != null) {
-            target.setImageBitmap(cached);
+            memoryHits.increment();
+            show(target, cached);
             return;
         }
-        target.setImageDrawable(null);
-        executor.execute(() -> {
-            Bitmap bitmap = decodeBitmap(uriString);
-            if (bitmap == null) {
-                return;
-            }
-            bitmapCache.put(uriString, bitmap);
-            mainHandler.post(() -> {
-                Object tag = target.getTag(R.id.tag_photo_uri);
-                if (Objects.equals(tag, uriString)) {
-                    target.setImageBitmap(bitmap);
-                }
-            });
-        });
+        memoryMisses.increment();
+        show(target, null);
+        Request request = inflight.get(key);
+        if (request == null) {
+            request = enqueue(key, uriString, targetWidth, targetHeight, screen);
+        }
+        request.targets.put(target, errorResId);
     }
 
     /**
      * Preloads the provided photo into the in-memory cache to speed up subsequent binds.
      */
+    @MainThread
     public void prefetch(@NonNull String uriString) {
-        if (bitmapCache.get(uriString) != null || !inflightPrefetches.add(uriString)) {
+        prefetch(uriString, 0, 0);
+    }
+
+    /**
+     * Preloads the provided photo at the given target size into the caches. Prefetches are not
+     * cancelled when views are cleared.
+     */
+    @MainThread
+    public void prefetch(@NonNull String uriString, int targetWidth, int targetHeight) {
+        prefetch(uriString, targetWidth, targetHeight, false);
+    }
+
+    /**
+     * Preloads the provided photo into the memory cache as {@link #loadScreen} would decode it.
+     */
+    @MainThread
+    public void prefetchScreen(@NonNull String uriString, int screenWidth, int screenHeight) {
+        prefetch(uriString, screenWidth, screenHeight, true);
+    }
+
+    private void prefetch(@NonNull String uriString, int targetWidth, int targetHeight,
+                          boolean screen) {
+        String key = memoryKey(uriString, targetWidth, targetHeight, screen);
+        if (bitmapCache.get(key) != null) {
             return;
         }
-        executor.execute(() -> {
-            try {
-                Bitmap bitmap = decodeBitmap(uriString);
-                if (bitmap != null) {
-                    bitmapCache.put(uriString, bitmap);
-                }
-            } finally {
-                inflightPrefetches.remove(uriString);
-            }
-        });
+        Request request = inflight.get(key);
+        if (request == null) {
+            request = enqueue(key, uriString, targetWidth, targetHeight, screen);
+        }
+        request.prefetch = true;
     }
 
     /**
-     * Clears any pending association with the supplied target.
+     * Synchronously writes the thumbnail of the given size to the disk cache without keeping it in
+     * memory. Used to pre-generate list thumbnails for newly stored photos.
      */
+    @WorkerThread
+    public void warmThumbnail(@NonNull String uriString, int targetWidth, int targetHeight) {
+        if (targetWidth <= 0 || targetHeight <= 0) {
+            return;
+        }
+        Bitmap bitmap = loadBitmap(uriString, targetWidth, targetHeight);
+        if (bitmap != null) {
+            bitmapPool.put(bitmap);
+        }
+    }
+
+    /**
+     * Clears any pending association with the supplied target, cancelling its request if no other
+     * view is waiting for the same image.
+     */
+    @MainThread
     public void clear(@NonNull ImageView target) {
+        Object key = target.getTag(R.id.tag_photo_uri);
+        if (key instanceof String) {
+            detach(target, (String) key);
+        }
         target.setTag(R.id.tag_photo_uri, null);
-        target.setImageDrawable(null);
+        show(target, null);
+    }
+
+    @NonNull
+    private Request enqueue(@NonNull String key, @NonNull String uriString,
+                            int targetWidth, int targetHeight, boolean screen) {
+        Request request = new Request();
+        inflight.put(key, request);
+        request.future = executor.submit(() -> {
+            Bitmap bitmap = screen
+                ? loadScreenBitmap(uriString, targetWidth, targetHeight)
+                : loadBitmap(uriString, targetWidth, targetHeight);
+            mainHandler.post(() -> deliver(key, request, bitmap));
+        });
+        return request;
+    }
+
+    private void detach(@NonNull ImageView target, @NonNull String key) {
+        Request request = inflight.get(key);
+        if (request == null) {
+            return;
+        }
+        request.targets.remove(target);
+        if (request.targets.isEmpty() && !request.prefetch) {
+            inflight.remove(key);
+            if (request.future != null) {
+                request.future.cancel(false);
+            }
+        }
+    }
+
+    private void deliver(@NonNull String key, @NonNull Request request, @Nullable Bitmap bitmap) {
+        if (inflight.get(key) == request) {
+            inflight.remove(key);
+        }
+        if (bitmap != null) {
+            bitmapCache.put(key, bitmap);
+        }
+        for (Map.Entry<ImageView, Integer> entry : request.targets.entrySet()) {
+            ImageView target = entry.getKey();
+            if (!Objects.equals(target.getTag(R.id.tag_photo_uri), key)) {
+                continue;
+            }
+            if (bitmap != null) {
+                show(target, bitmap);
+            } else if (entry.getValue() != 0) {
+                show(target, null);
+                target.setImageResource(entry.getValue());
+            }
+        }
+    }
+
+    private void show(@NonNull ImageView target, @Nullable Bitmap bitmap) {
+        Bitmap previous = bitmap != null ? displayed.put(target, bitmap) : displayed.remove(target);
+        if (bitmap != null) {
+            target.setImageBitmap(bitmap);
+        } else {
+            target.setImageDrawable(null);
+        }
+        if (previous != null && previous != bitmap) {
+            drainPendingReleases();
+        }
+    }
+
+    /**
+     * Returns a bitmap that left the memory cache to the pool once no view displays it anymore.
+     */
+    private void releaseWhenHidden(@NonNull Bitmap bitmap) {
+        if (Looper.myLooper() != Looper.getMainLooper()) {
+            mainHandler.post(() -> releaseWhenHidden(bitmap));
+            return;
+        }
+        if (!displayed.containsValue(bitmap)) {
+            bitmapPool.put(bitmap);
+            return;
+        }
+        pendingReleases.add(bitmap);
+        if (pendingReleases.size() > MAX_PENDING_RELEASES) {
+            pendingReleases.remove(0);
+        }
+    }
+
+    private void drainPendingReleases() {
+        Iterator<Bitmap> iterator = pendingReleases.iterator();
+        while (iterator.hasNext()) {
+            Bitmap bitmap = iterator.next();
+            if (!displayed.containsValue(bitmap)) {
+                iterator.remove();
+                bitmapPool.put(bitmap);
+            }
+        }
     }
 
     @Nullable
-    private Bitmap decodeBitmap(@NonNull String uriString) {
+    private Bitmap loadBitmap(@NonNull String uriString, int targetWidth, int targetHeight) {
         Uri uri = Uri.parse(uriString);
+        boolean thumbnail = targetWidth > 0 && targetHeight > 0;
+        if (!thumbnail) {
+            return decodeBitmap(uri, MAX_TEXTURE_SIZE, MAX_TEXTURE_SIZE, Bitmap.Config.ARGB_8888);
+        }
+        String diskKey = diskCache.keyFor(uri, targetWidth, targetHeight);
+        Bitmap cached = diskCache.get(diskKey, this::obtainReusable);
+        if (cached != null) {
+            diskHits.increment();
+            return cached;
+        }
+        diskMisses.increment();
+        long decodeStart = decodeTimer.start();
+        Bitmap decoded = decodeBitmap(uri, targetWidth, targetHeight, Bitmap.Config.RGB_565);
+        decodeTimer.stop(decodeStart);
+        if (decoded == null) {
+            return null;
+        }
+        Bitmap scaled = scaleToCover(decoded, targetWidth, targetHeight);
+        diskCache.put(diskKey, scaled);
+        return scaled;
+    }
+
+    @Nullable
+    private Bitmap loadScreenBitmap(@NonNull String uriString, int screenWidth, int screenHeight) {
+        long decodeStart = decodeTimer.start();
+        Bitmap decoded = decodeBitmap(Uri.parse(uriString),
+            Math.min(screenWidth, MAX_TEXTURE_SIZE), Math.min(screenHeight, MAX_TEXTURE_SIZE),
+            Bitmap.Config.ARGB_8888);
+        decodeTimer.stop(decodeStart);
+        return decoded;
+    }
+
+    /**
+     * Prepares decode options for the given output bounds, attaching a pooled bitmap when one of
+     * sufficient size is available.
+     */
+    @NonNull
+    private BitmapFactory.Options obtainReusable(int width, int height, int sampleSize,
+                                                 @NonNull Bitmap.Config config) {
+        BitmapFactory.Options options = new BitmapFactory.Options();
+        options.inPreferredConfig = config;
+        options.inSampleSize = sampleSize;
+        options.inMutable = true;
+        int sampledWidth = (width + sampleSize - 1) / sampleSize;
+        int sampledHeight = (height + sampleSize - 1) / sampleSize;
+        options.inBitmap = bitmapPool.get(sampledWidth, sampledHeight, config);
+        return options;
+    }
+
+    /**
+     * Decodes the image behind {@code uri} and turns it upright according to its EXIF orientation.
+     * The requested bounds refer to the upright image.
+     */
+    @Nullable
+    private Bitmap decodeBitmap(@NonNull Uri uri, int reqWidth, int reqHeight,
+                                @NonNull Bitmap.Config config) {
+        int orientation = ExifOrientation.read(appContext.getContentResolver(), uri);
+        boolean swap = ExifOrientation.swapsDimensions(orientation);
+        Bitmap decoded = decodeSampled(uri, swap ? reqHeight : reqWidth,
+            swap ? reqWidth : reqHeight, config);
+        if (decoded == null) {
+            return null;
+        }
+        Bitmap upright = ExifOrientation.apply(decoded, orientation);
+        if (upright != decoded) {
+            bitmapPool.put(decoded);
+        }
+        return upright;
+    }
+
+    /**
+     * Decodes the stored pixels behind {@code uri} opening its stream only once; the bounds pass and
+     * the pixel pass share a marked stream unless the header exceeds the mark limit.
+     */
+    @Nullable
+    private Bitmap decodeSampled(@NonNull Uri uri, int reqWidth, int reqHeight,
+                                 @NonNull Bitmap.Config config) {
         ContentResolver resolver = appContext.getContentResolver();
-        BitmapFactory.Options bounds = new BitmapFactory.Options();
-        bounds.inJustDecodeBounds = true;
-        try (InputStream in = resolver.openInputStream(uri)) {
-            if (in == null) {
+        InputStream raw = null;
+        try {
+            raw = resolver.openInputStream(uri);
+            if (raw == null) {
                 return null;
             }
+            BufferedInputStream in = new BufferedInputStream(raw, MARK_LIMIT_BYTES);
+            in.mark(MARK_LIMIT_BYTES);
+            BitmapFactory.Options bounds = new BitmapFactory.Options();
+            bounds.inJustDecodeBounds = true;
             BitmapFactory.decodeStream(in, null, bounds);
-        } catch (IOException | SecurityException e) {
-            return null;
-        }
 
-        BitmapFactory.Options decode = new BitmapFactory.Options();
-        decode.inPreferredConfig = Bitmap.Config.ARGB_8888;
-        decode.inSampleSize = calculateSampleSize(bounds);
-        try (InputStream in = resolver.openInputStream(uri)) {
+            int sampleSize = Math.max(
+                calculateSampleSize(bounds.outWidth, bounds.outHeight, reqWidth, reqHeight),
+                calculateMaxTextureSampleSize(bounds.outWidth, bounds.outHeight));
+            BitmapFactory.Options decode =
+                obtainReusable(bounds.outWidth, bounds.outHeight, sampleSize, config);
+            in = rewind(in, resolver, uri);
             if (in == null) {
                 return null;
             }
-            return BitmapFactory.decodeStream(in, null, decode);
-        } catch (IOException | SecurityException e) {
+            raw = in;
+            try {
+                return BitmapFactory.decodeStream(in, null, decode);
+            } catch (IllegalArgumentException reuseRejected) {
+                if (decode.inBitmap == null) {
+                    throw reuseRejected;
+                }
+                decode.inBitmap = null;
+                in = rewind(in, resolver, uri);
+                if (in == null) {
+                    return null;
+                }
+                raw = in;
+                return BitmapFactory.decodeStream(in, null, decode);
+            }
+        } catch (IOException | SecurityException | IllegalArgumentException e) {
             return null;
+        } finally {
+            if (raw != null) {
+                try {
+                    raw.close();
+                } catch (IOException ignored) {
+                    // Nothing left to release.
+                }
+            }
+        }
+    }
+
+    /**
+     * Resets the marked stream, reopening the uri if the mark has been invalidated.
+     */
+    @Nullable
+    private static BufferedInputStream rewind(@NonNull BufferedInputStream in,
+                                              @NonNull ContentResolver resolver,
+                                              @NonNull Uri uri) throws IOException {
+        try {
+            in.reset();
+            return in;
+        } catch (IOException markInvalidated) {
+            in.close();
+            InputStream reopened = resolver.openInputStream(uri);
+            return reopened != null ? new BufferedInputStream(reopened) : null;
+        }
+    }
+
+    /**
+     * Scales the decoded bitmap down so it just covers the target bounds, which keeps both the
+     * memory footprint and the persisted thumbnail small. The oversized source is returned to the
+     * bitmap pool.
+     */
+    @NonNull
+    private Bitmap scaleToCover(@NonNull Bitmap source, int targetWidth, int targetHeight) {
+        float scale = Math.max((float) targetWidth / source.getWidth(),
+            (float) targetHeight / source.getHeight());
+        if (scale >= 1f) {
+            return source;
+        }
+        int width = Math.max(1, Math.round(source.getWidth() * scale));
+        int height = Math.max(1, Math.round(source.getHeight() * scale));
+        Bitmap scaled = Bitmap.createScaledBitmap(source, width, height, true);
+        if (scaled != source) {
+            bitmapPool.put(source);
         }
+        return scaled;
+    }
+
+    /**
+     * In-flight decode shared by every view waiting for the same cache key. Only touched on the
+     * main thread.
+     */
+    private static final class Request {
+        final Map<ImageView, Integer> targets = new WeakHashMap<>();
+        @Nullable
+        Future<?> future;
+        boolean prefetch;
     }
 }
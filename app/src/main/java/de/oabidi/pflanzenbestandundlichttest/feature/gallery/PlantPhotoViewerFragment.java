@@ -3,10 +3,12 @@ package de.oabidi.pflanzenbestandundlichttest.feature.gallery;
 import android.app.Application;
 import android.os.Bundle;
 import android.text.TextUtils;
+import android.util.DisplayMetrics;
 import android.view.LayoutInflater;
 import android.view.MenuItem;
 import android.view.View;
 import android.view.ViewGroup;
+import android.widget.ImageView;
 import android.widget.Toast;
 
 import androidx.annotation.NonNull;
@@ -26,9 +28,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ExecutorService;
 
-import de.oabidi.pflanzenbestandundlichttest.core.system.ExecutorProvider;
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.core.system.ExecutorProvider;
 import de.oabidi.pflanzenbestandundlichttest.core.system.RepositoryProvider;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantPhoto;
 
@@ -45,6 +47,7 @@ public class PlantPhotoViewerFragment extends Fragment {
     private static final String ARG_PLANT_NAME = "arg_plant_name";
     private static final String ARG_CUSTOM_URIS = "arg_custom_uris";
     private static final String ARG_CUSTOM_TITLE = "arg_custom_title";
+    private static final int PREFETCH_DISTANCE = 2;
     private PlantRepository repository;
     private PlantPhotoLoader photoLoader;
     private ViewPager2 pager;
@@ -119,8 +122,10 @@ public class PlantPhotoViewerFragment extends Fragment {
             throw new IllegalStateException("Application must provide executor");
         }
         ExecutorService executor = ((ExecutorProvider) application).getIoExecutor();
-        photoLoader = new PlantPhotoLoader(requireContext(), executor);
-        pagerAdapter = new PhotoPagerAdapter(photoLoader);
+        photoLoader = PlantPhotoLoader.getInstance(requireContext());
+        DisplayMetrics metrics = getResources().getDisplayMetrics();
+        pagerAdapter = new PhotoPagerAdapter(photoLoader, executor,
+            metrics.widthPixels, metrics.heightPixels);
         pagerAdapter.setHasStableIds(true);
         if (!useCustomUris) {
             if (!(application instanceof RepositoryProvider)) {
@@ -141,6 +146,7 @@ public class PlantPhotoViewerFragment extends Fragment {
     public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
         super.onViewCreated(view, savedInstanceState);
         pager = view.findViewById(R.id.photo_pager);
+        pager.setOffscreenPageLimit(1);
         pager.setAdapter(pagerAdapter);
         if (!useCustomUris) {
             RecyclerView pagerRecycler = (RecyclerView) pager.getChildAt(0);
@@ -167,6 +173,7 @@ public class PlantPhotoViewerFragment extends Fragment {
             public void onPageSelected(int position) {
                 currentIndex = position;
                 updateSubtitle(position);
+                pagerAdapter.prefetchAround(position, PREFETCH_DISTANCE);
             }
         };
         pager.registerOnPageChangeCallback(pageChangeCallback);
@@ -244,6 +251,7 @@ public class PlantPhotoViewerFragment extends Fragment {
             }
             updateSubtitle(currentIndex);
             updateTitle();
+            pagerAdapter.prefetchAround(currentIndex, PREFETCH_DISTANCE);
             if (pagerAdapter.getItemCount() == 0) {
                 closeSelf();
             }
@@ -279,6 +287,7 @@ public class PlantPhotoViewerFragment extends Fragment {
         pager.setCurrentItem(currentIndex, false);
         updateSubtitle(currentIndex);
         updateTitle();
+        pagerAdapter.prefetchAround(currentIndex, PREFETCH_DISTANCE);
     }
 
     private void updateTitle() {
@@ -450,9 +459,16 @@ public class PlantPhotoViewerFragment extends Fragment {
     private static class PhotoPagerAdapter extends RecyclerView.Adapter<PhotoPagerAdapter.ViewHolder> {
         private final List<PlantPhoto> items = new ArrayList<>();
         private final PlantPhotoLoader loader;
+        private final ExecutorService executor;
+        private final int screenWidth;
+        private final int screenHeight;
 
-        PhotoPagerAdapter(@NonNull PlantPhotoLoader loader) {
+        PhotoPagerAdapter(@NonNull PlantPhotoLoader loader, @NonNull ExecutorService executor,
+                          int screenWidth, int screenHeight) {
             this.loader = loader;
+            this.executor = executor;
+            this.screenWidth = screenWidth;
+            this.screenHeight = screenHeight;
         }
 
         @NonNull
@@ -460,13 +476,12 @@ public class PlantPhotoViewerFragment extends Fragment {
         public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
             View view = LayoutInflater.from(parent.getContext())
                 .inflate(R.layout.item_plant_photo_pager, parent, false);
-            return new ViewHolder(view, loader);
+            return new ViewHolder(view, loader, executor);
         }
 
         @Override
         public void onBindViewHolder(@NonNull ViewHolder holder, int position) {
-            holder.bind(items.get(position));
-            prefetchAround(position);
+            holder.bind(items.get(position), screenWidth, screenHeight);
         }
 
         @Override
@@ -522,29 +537,45 @@ public class PlantPhotoViewerFragment extends Fragment {
             holder.recycle();
         }
 
-        private void prefetchAround(int position) {
-            int next = position + 1;
-            if (next < items.size()) {
-                loader.prefetch(items.get(next).getUri());
+        /**
+         * Warms the memory cache with screen-sized bitmaps for the pages within {@code distance} of the
+         * current one, nearest pages first, so swiping in either direction shows a decoded image.
+         */
+        void prefetchAround(int position, int distance) {
+            for (int offset = 1; offset <= distance; offset++) {
+                int next = position + offset;
+                if (next < items.size()) {
+                    loader.prefetchScreen(items.get(next).getUri(), screenWidth, screenHeight);
+                }
+                int previous = position - offset;
+                if (previous >= 0) {
+                    loader.prefetchScreen(items.get(previous).getUri(), screenWidth, screenHeight);
+                }
             }
         }
 
         static class ViewHolder extends RecyclerView.ViewHolder {
             private final PhotoView imageView;
             private final PlantPhotoLoader loader;
+            private final ZoomTileLoader tileLoader;
 
-            ViewHolder(@NonNull View itemView, @NonNull PlantPhotoLoader loader) {
+            ViewHolder(@NonNull View itemView, @NonNull PlantPhotoLoader loader,
+                       @NonNull ExecutorService executor) {
                 super(itemView);
                 this.loader = loader;
                 imageView = itemView.findViewById(R.id.pager_photo_image);
+                ImageView tileView = itemView.findViewById(R.id.pager_photo_tile);
+                tileLoader = new ZoomTileLoader(itemView.getContext(), executor, imageView, tileView);
             }
 
-            void bind(@NonNull PlantPhoto photo) {
+            void bind(@NonNull PlantPhoto photo, int screenWidth, int screenHeight) {
                 imageView.setScale(1.0f, false);
-                loader.loadInto(imageView, photo.getUri());
+                tileLoader.bind(photo.getUri());
+                loader.loadScreen(imageView, photo.getUri(), screenWidth, screenHeight);
             }
 
             void recycle() {
+                tileLoader.reset();
                 loader.clear(imageView);
                 imageView.setScale(1.0f, false);
             }
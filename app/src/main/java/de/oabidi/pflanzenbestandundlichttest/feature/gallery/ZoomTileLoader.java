@@ -0,0 +1,261 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.gallery;
+
+import android.content.Context;
+import android.graphics.Bitmap;
+import android.graphics.BitmapFactory;
+import android.graphics.BitmapRegionDecoder;
+import android.graphics.Matrix;
+import android.graphics.Rect;
+import android.graphics.RectF;
+import android.graphics.drawable.Drawable;
+import android.net.Uri;
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.View;
+import android.widget.ImageView;
+
+import androidx.annotation.MainThread;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+
+import com.github.chrisbanes.photoview.PhotoView;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Decodes a full-resolution tile for the visible part of a zoomed {@link PhotoView} using
+ * {@link BitmapRegionDecoder} and shows it in an overlay view on top of the screen-sized base image.
+ * The tile only covers the viewport, so deep zoom never requires a full-resolution bitmap of the
+ * whole photo. Tiles are requested once the matrix has settled and dropped as soon as it changes.
+ */
+final class ZoomTileLoader {
+    private static final long SETTLE_DELAY_MS = 150L;
+    private static final float UPSCALE_THRESHOLD = 1.2f;
+
+    private final Context appContext;
+    private final ExecutorService executor;
+    private final PhotoView photoView;
+    private final ImageView tileView;
+    private final Handler mainHandler = new Handler(Looper.getMainLooper());
+    private final Runnable requestTile = this::requestTile;
+    @Nullable
+    private String uriString;
+    @Nullable
+    private BitmapRegionDecoder decoder;
+    @Nullable
+    private String decoderUri;
+    private int decoderOrientation;
+    @Nullable
+    private Future<?> pending;
+    private int generation;
+
+    ZoomTileLoader(@NonNull Context context, @NonNull ExecutorService executor,
+                   @NonNull PhotoView photoView, @NonNull ImageView tileView) {
+        this.appContext = context.getApplicationContext();
+        this.executor = executor;
+        this.photoView = photoView;
+        this.tileView = tileView;
+        photoView.setOnMatrixChangeListener(rect -> onMatrixChanged());
+    }
+
+    /**
+     * Binds the loader to a new photo, discarding tiles of the previous one.
+     */
+    @MainThread
+    void bind(@NonNull String uriString) {
+        reset();
+        this.uriString = uriString;
+    }
+
+    /**
+     * Cancels pending work, hides the overlay and releases the region decoder.
+     */
+    @MainThread
+    void reset() {
+        generation++;
+        mainHandler.removeCallbacks(requestTile);
+        if (pending != null) {
+            pending.cancel(false);
+            pending = null;
+        }
+        hideTile();
+        if (uriString != null) {
+            uriString = null;
+            executor.execute(this::releaseDecoder);
+        }
+    }
+
+    private void onMatrixChanged() {
+        generation++;
+        hideTile();
+        mainHandler.removeCallbacks(requestTile);
+        mainHandler.postDelayed(requestTile, SETTLE_DELAY_MS);
+    }
+
+    private void hideTile() {
+        tileView.setVisibility(View.GONE);
+        tileView.setImageDrawable(null);
+    }
+
+    private void requestTile() {
+        String uri = uriString;
+        Drawable drawable = photoView.getDrawable();
+        RectF displayRect = photoView.getDisplayRect();
+        if (uri == null || drawable == null || displayRect == null
+            || displayRect.width() <= drawable.getIntrinsicWidth() * UPSCALE_THRESHOLD) {
+            return;
+        }
+        RectF visible = new RectF(0, 0, photoView.getWidth(), photoView.getHeight());
+        if (!visible.intersect(displayRect)) {
+            return;
+        }
+        int requestGeneration = generation;
+        RectF display = new RectF(displayRect);
+        if (pending != null) {
+            pending.cancel(false);
+        }
+        pending = executor.submit(() -> {
+            Tile tile = decodeTile(uri, display, visible);
+            if (tile != null) {
+                mainHandler.post(() -> showTile(requestGeneration, uri, tile));
+            }
+        });
+    }
+
+    private void showTile(int requestGeneration, @NonNull String uri, @NonNull Tile tile) {
+        if (requestGeneration != generation || !uri.equals(uriString)) {
+            return;
+        }
+        Matrix matrix = new Matrix();
+        matrix.setRectToRect(
+            new RectF(0, 0, tile.bitmap.getWidth(), tile.bitmap.getHeight()),
+            tile.screenRect, Matrix.ScaleToFit.FILL);
+        tileView.setImageBitmap(tile.bitmap);
+        tileView.setImageMatrix(matrix);
+        tileView.setVisibility(View.VISIBLE);
+    }
+
+    /**
+     * Maps the visible screen rectangle into source pixels and decodes just that region at the
+     * smallest sample size that still matches the on-screen density. The screen shows the upright
+     * photo, so the region is mapped back through the EXIF orientation before decoding and the tile
+     * is turned upright afterwards.
+     */
+    @WorkerThread
+    @Nullable
+    private Tile decodeTile(@NonNull String uri, @NonNull RectF displayRect, @NonNull RectF visible) {
+        Bitmap bitmap;
+        RectF uprightRegion;
+        float scaleX;
+        float scaleY;
+        int orientation;
+        synchronized (this) {
+            BitmapRegionDecoder regionDecoder = obtainDecoder(uri);
+            if (regionDecoder == null) {
+                return null;
+            }
+            orientation = decoderOrientation;
+            int sourceWidth = regionDecoder.getWidth();
+            int sourceHeight = regionDecoder.getHeight();
+            Matrix toUpright = ExifOrientation.toUpright(orientation, sourceWidth, sourceHeight);
+            RectF uprightBounds = new RectF(0, 0, sourceWidth, sourceHeight);
+            toUpright.mapRect(uprightBounds);
+            scaleX = uprightBounds.width() / displayRect.width();
+            scaleY = uprightBounds.height() / displayRect.height();
+            RectF wanted = new RectF(
+                (visible.left - displayRect.left) * scaleX,
+                (visible.top - displayRect.top) * scaleY,
+                (visible.right - displayRect.left) * scaleX,
+                (visible.bottom - displayRect.top) * scaleY);
+            Matrix toSource = new Matrix();
+            toUpright.invert(toSource);
+            toSource.mapRect(wanted);
+            Rect region = new Rect(
+                Math.max(0, (int) Math.floor(wanted.left)),
+                Math.max(0, (int) Math.floor(wanted.top)),
+                Math.min(sourceWidth, (int) Math.ceil(wanted.right)),
+                Math.min(sourceHeight, (int) Math.ceil(wanted.bottom)));
+            if (region.isEmpty()) {
+                return null;
+            }
+            BitmapFactory.Options options = new BitmapFactory.Options();
+            options.inPreferredConfig = Bitmap.Config.ARGB_8888;
+            options.inSampleSize = sampleSizeFor(Math.min(scaleX, scaleY));
+            bitmap = regionDecoder.decodeRegion(region, options);
+            uprightRegion = new RectF(region);
+            toUpright.mapRect(uprightRegion);
+        }
+        if (bitmap == null) {
+            return null;
+        }
+        Bitmap upright = ExifOrientation.apply(bitmap, orientation);
+        if (upright != bitmap) {
+            bitmap.recycle();
+        }
+        RectF screenRect = new RectF(
+            displayRect.left + uprightRegion.left / scaleX,
+            displayRect.top + uprightRegion.top / scaleY,
+            displayRect.left + uprightRegion.right / scaleX,
+            displayRect.top + uprightRegion.bottom / scaleY);
+        return new Tile(upright, screenRect);
+    }
+
+    private static int sampleSizeFor(float sourcePixelsPerScreenPixel) {
+        int sampleSize = 1;
+        while (sampleSize * 2 <= sourcePixelsPerScreenPixel) {
+            sampleSize *= 2;
+        }
+        return sampleSize;
+    }
+
+    @WorkerThread
+    @Nullable
+    private synchronized BitmapRegionDecoder obtainDecoder(@NonNull String uri) {
+        if (decoder != null && uri.equals(decoderUri)) {
+            return decoder;
+        }
+        releaseDecoder();
+        decoderOrientation = ExifOrientation.read(appContext.getContentResolver(), Uri.parse(uri));
+        try (InputStream in = appContext.getContentResolver().openInputStream(Uri.parse(uri))) {
+            if (in == null) {
+                return null;
+            }
+            BitmapRegionDecoder created;
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.S) {
+                created = BitmapRegionDecoder.newInstance(in);
+            } else {
+                //noinspection deprecation
+                created = BitmapRegionDecoder.newInstance(in, false);
+            }
+            decoder = created;
+            decoderUri = uri;
+            return created;
+        } catch (IOException | SecurityException e) {
+            return null;
+        }
+    }
+
+    @WorkerThread
+    private synchronized void releaseDecoder() {
+        if (decoder != null) {
+            decoder.recycle();
+            decoder = null;
+            decoderUri = null;
+        }
+    }
+
+    private static final class Tile {
+        final Bitmap bitmap;
+        final RectF screenRect;
+
+        Tile(@NonNull Bitmap bitmap, @NonNull RectF screenRect) {
+            this.bitmap = bitmap;
+            this.screenRect = screenRect;
+        }
+    }
+}
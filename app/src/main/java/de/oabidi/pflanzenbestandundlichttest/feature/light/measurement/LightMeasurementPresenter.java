@@ -10,6 +10,7 @@ import java.util.List;
 import java.util.Map;
 
 import de.oabidi.pflanzenbestandundlichttest.LightMath;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 import de.oabidi.pflanzenbestandundlichttest.R;
 import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
@@ -20,6 +21,7 @@ import de.oabidi.pflanzenbestandundlichttest.repository.MeasurementRepository;
 import de.oabidi.pflanzenbestandundlichttest.repository.SpeciesRepository;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfile;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfileCalibration;
+import de.oabidi.pflanzenbestandundlichttest.feature.lighting.ArtificialLightEstimateCache;
 import de.oabidi.pflanzenbestandundlichttest.feature.lighting.LedProfileUtils;
 
 /**
@@ -166,8 +168,15 @@ public class LightMeasurementPresenter implements LightSensorHelper.OnLuxChanged
     }
 
     public void saveMeasurement(Measurement measurement, Runnable afterSave) {
-        measurementRepository.insertMeasurement(measurement, afterSave,
-            e -> view.showError(context.getString(R.string.error_database)));
+        Tracer.Span span = Tracer.beginAsync("presenter.saveMeasurement")
+            .arg("plant_id", measurement.getPlantId());
+        measurementRepository.insertMeasurement(measurement, () -> {
+            span.close();
+            afterSave.run();
+        }, e -> {
+            span.arg("error", e.getClass().getSimpleName()).close();
+            view.showError(context.getString(R.string.error_database));
+        });
     }
 
     public void selectPlant(int index) {
@@ -344,10 +353,8 @@ public class LightMeasurementPresenter implements LightSensorHelper.OnLuxChanged
                 factors = new HashMap<>(profileFactors);
             }
         }
-        List<LedProfile.ScheduleEntry> schedule = activeLedProfile != null
-            ? activeLedProfile.getSchedule()
-            : null;
-        LedProfileUtils.ArtificialLightEstimate estimate = LedProfileUtils.estimateArtificialLight(schedule, factors);
+        LedProfileUtils.ArtificialLightEstimate estimate =
+            ArtificialLightEstimateCache.get().estimate(activeLedProfile, factors);
         view.showArtificialLightProjection(new ArtificialLightProjection(
             estimate.getPhotonHours(),
             estimate.getAmbientDli(),
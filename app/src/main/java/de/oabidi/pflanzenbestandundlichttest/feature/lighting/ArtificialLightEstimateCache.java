@@ -0,0 +1,103 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.lighting;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.oabidi.pflanzenbestandundlichttest.analytics.Counter;
+import de.oabidi.pflanzenbestandundlichttest.analytics.MetricsRegistry;
+import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfile;
+
+/**
+ * Process-wide cache of {@link LedProfileUtils.ArtificialLightEstimate} values per LED profile.
+ *
+ * <p>Entries are keyed by profile id and stay valid until {@link #invalidate(long)} or
+ * {@link #clear()} is called, which {@code PlantRepository} does whenever a profile is updated or
+ * deleted. Since callers may combine a profile with calibration factors of their own, each entry
+ * also remembers the factors it was computed with; comparing those small maps keeps a hit free of
+ * any per-call copying or string building.</p>
+ */
+public final class ArtificialLightEstimateCache {
+    private static final ArtificialLightEstimateCache INSTANCE = new ArtificialLightEstimateCache();
+
+    private final ConcurrentHashMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    // Bumped on every invalidation so estimates computed from a superseded profile are not stored.
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Counter hits = MetricsRegistry.get().counter("led_estimate.hit");
+    private final Counter misses = MetricsRegistry.get().counter("led_estimate.miss");
+
+    private ArtificialLightEstimateCache() {
+    }
+
+    @NonNull
+    public static ArtificialLightEstimateCache get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the estimate for {@code profile}'s schedule combined with {@code calibrationFactors},
+     * computing it only when the profile was invalidated or the factors changed since the last call.
+     *
+     * @param profile            LED profile providing the schedule, or {@code null} for none
+     * @param calibrationFactors calibration factors to apply, which may differ from the profile's
+     */
+    @NonNull
+    public LedProfileUtils.ArtificialLightEstimate estimate(@Nullable LedProfile profile,
+                                                            @Nullable Map<String, Float> calibrationFactors) {
+        if (profile == null) {
+            return LedProfileUtils.estimateArtificialLight(null, calibrationFactors);
+        }
+        Entry entry = entries.get(profile.getId());
+        if (entry != null && Objects.equals(entry.calibrationFactors, calibrationFactors)) {
+            hits.increment();
+            return entry.estimate;
+        }
+        misses.increment();
+        long invalidationsBefore = invalidations.get();
+        LedProfileUtils.ArtificialLightEstimate estimate =
+            LedProfileUtils.estimateArtificialLight(profile.getSchedule(), calibrationFactors);
+        Map<String, Float> factors = calibrationFactors != null
+            ? Collections.unmodifiableMap(new HashMap<>(calibrationFactors))
+            : null;
+        entries.put(profile.getId(), new Entry(factors, estimate));
+        if (invalidations.get() != invalidationsBefore) {
+            // The profile may have changed while computing; let the next call start afresh.
+            entries.remove(profile.getId());
+        }
+        return estimate;
+    }
+
+    /**
+     * Drops the cached estimate of the given profile, e.g. after it was updated or deleted.
+     */
+    public void invalidate(long profileId) {
+        invalidations.incrementAndGet();
+        entries.remove(profileId);
+    }
+
+    /**
+     * Drops all cached estimates, e.g. after an import replaced the stored profiles.
+     */
+    public void clear() {
+        invalidations.incrementAndGet();
+        entries.clear();
+    }
+
+    private static final class Entry {
+        @Nullable
+        final Map<String, Float> calibrationFactors;
+        final LedProfileUtils.ArtificialLightEstimate estimate;
+
+        Entry(@Nullable Map<String, Float> calibrationFactors,
+              @NonNull LedProfileUtils.ArtificialLightEstimate estimate) {
+            this.calibrationFactors = calibrationFactors;
+            this.estimate = estimate;
+        }
+    }
+}
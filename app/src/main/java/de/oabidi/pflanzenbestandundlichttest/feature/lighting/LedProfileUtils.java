@@ -3,11 +3,16 @@ package de.oabidi.pflanzenbestandundlichttest.feature.lighting;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 
 import de.oabidi.pflanzenbestandundlichttest.LightMath;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfile;
+import de.oabidi.pflanzenbestandundlichttest.core.data.LedScheduleWindow;
 
 /**
  * Helper utilities for working with {@link LedProfile} schedules and calibration data.
@@ -31,79 +36,105 @@ public final class LedProfileUtils {
      * @return weighted photon-hours for a full day
      */
     public static float computeWeightedPhotonHours(@Nullable List<LedProfile.ScheduleEntry> schedule) {
+        long percentMinutes = 0L;
+        for (Segment segment : computeEnvelope(schedule)) {
+            percentMinutes += (long) (segment.endMinute - segment.startMinute) * segment.intensity;
+        }
+        return (float) (percentMinutes / 100d / 60d);
+    }
+
+    /**
+     * Returns the relative LED output for every minute of the day, suitable for charting the
+     * schedule. Overlapping entries contribute their highest intensity, like in
+     * {@link #computeWeightedPhotonHours(List)}.
+     *
+     * @param schedule list of schedule entries, possibly {@code null}
+     * @return array of {@code 1440} values between {@code 0} (off) and {@code 1} (full output)
+     */
+    @NonNull
+    public static float[] computeIntensityCurve(@Nullable List<LedProfile.ScheduleEntry> schedule) {
+        float[] curve = new float[MINUTES_PER_DAY];
+        for (Segment segment : computeEnvelope(schedule)) {
+            Arrays.fill(curve, segment.startMinute, segment.endMinute, segment.intensity / 100f);
+        }
+        return curve;
+    }
+
+    /**
+     * Sweeps over the start and end points of all schedule windows and returns the maximum
+     * intensity envelope as sorted, non-overlapping segments. Windows crossing midnight are split
+     * in two. Runs in {@code O(k log k)} for {@code k} entries, independent of window lengths.
+     */
+    @NonNull
+    private static List<Segment> computeEnvelope(@Nullable List<LedProfile.ScheduleEntry> schedule) {
         if (schedule == null || schedule.isEmpty()) {
-            return 0f;
+            return Collections.emptyList();
         }
-        double[] minuteFractions = new double[MINUTES_PER_DAY];
-        boolean hasAny = false;
+        List<int[]> events = new ArrayList<>(schedule.size() * 4);
         for (LedProfile.ScheduleEntry entry : schedule) {
             if (entry == null) {
                 continue;
             }
             int start = parseTime(entry.getStartTime());
             int end = parseTime(entry.getEndTime());
-            if (start < 0 || end < 0) {
+            if (start < 0 || end < 0 || end == start) {
                 continue;
             }
             int intensity = Math.max(0, Math.min(100, entry.getIntensityPercent()));
             if (intensity <= 0) {
                 continue;
             }
-            double fraction = intensity / 100d;
-            hasAny = true;
-            if (end == start) {
-                continue;
-            }
             if (end < start) {
-                accumulate(minuteFractions, start, MINUTES_PER_DAY, fraction);
-                accumulate(minuteFractions, 0, end, fraction);
+                addWindow(events, start, MINUTES_PER_DAY, intensity);
+                addWindow(events, 0, end, intensity);
             } else {
-                accumulate(minuteFractions, start, end, fraction);
+                addWindow(events, start, end, intensity);
             }
         }
-        if (!hasAny) {
-            return 0f;
+        if (events.isEmpty()) {
+            return Collections.emptyList();
         }
-        double fractionSum = 0d;
-        for (double minuteFraction : minuteFractions) {
-            fractionSum += minuteFraction;
+        Collections.sort(events, (a, b) -> Integer.compare(a[0], b[0]));
+        // Active intensities with their number of open windows; the last key is the envelope.
+        TreeMap<Integer, Integer> active = new TreeMap<>();
+        List<Segment> segments = new ArrayList<>();
+        int previousMinute = 0;
+        int index = 0;
+        while (index < events.size()) {
+            int minute = events.get(index)[0];
+            if (!active.isEmpty() && minute > previousMinute) {
+                int intensity = active.lastKey();
+                Segment last = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+                if (last != null && last.endMinute == previousMinute && last.intensity == intensity) {
+                    last.endMinute = minute;
+                } else {
+                    segments.add(new Segment(previousMinute, minute, intensity));
+                }
+            }
+            for (; index < events.size() && events.get(index)[0] == minute; index++) {
+                int delta = events.get(index)[1];
+                int intensity = Math.abs(delta);
+                if (delta > 0) {
+                    active.merge(intensity, 1, Integer::sum);
+                } else if (active.merge(intensity, -1, Integer::sum) <= 0) {
+                    active.remove(intensity);
+                }
+            }
+            previousMinute = minute;
         }
-        return (float) (fractionSum / 60d);
+        return segments;
     }
 
-    private static void accumulate(double[] minuteFractions, int startMinute, int endMinute, double fraction) {
-        startMinute = Math.max(0, Math.min(MINUTES_PER_DAY, startMinute));
-        endMinute = Math.max(0, Math.min(MINUTES_PER_DAY, endMinute));
+    private static void addWindow(List<int[]> events, int startMinute, int endMinute, int intensity) {
         if (endMinute <= startMinute) {
             return;
         }
-        for (int minute = startMinute; minute < endMinute; minute++) {
-            minuteFractions[minute] = Math.max(minuteFractions[minute], fraction);
-        }
+        events.add(new int[]{startMinute, intensity});
+        events.add(new int[]{endMinute, -intensity});
     }
 
     private static int parseTime(@Nullable String time) {
-        if (time == null) {
-            return -1;
-        }
-        String trimmed = time.trim();
-        if (trimmed.isEmpty()) {
-            return -1;
-        }
-        int colon = trimmed.indexOf(':');
-        if (colon <= 0 || colon == trimmed.length() - 1) {
-            return -1;
-        }
-        try {
-            int hours = Integer.parseInt(trimmed.substring(0, colon));
-            int minutes = Integer.parseInt(trimmed.substring(colon + 1));
-            if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59) {
-                return -1;
-            }
-            return hours * 60 + minutes;
-        } catch (NumberFormatException e) {
-            return -1;
-        }
+        return LedScheduleWindow.parseMinuteOfDay(time);
     }
 
     /**
@@ -155,6 +186,21 @@ public final class LedProfileUtils {
         return new Calibration(DEFAULT_FULL_POWER_PPFD, true);
     }
 
+    /**
+     * Stretch of the day during which the LED runs at one constant intensity percentage.
+     */
+    private static final class Segment {
+        final int startMinute;
+        int endMinute;
+        final int intensity;
+
+        Segment(int startMinute, int endMinute, int intensity) {
+            this.startMinute = startMinute;
+            this.endMinute = endMinute;
+            this.intensity = intensity;
+        }
+    }
+
     private static final class Calibration {
         final float ppfd;
         final boolean usedFallback;
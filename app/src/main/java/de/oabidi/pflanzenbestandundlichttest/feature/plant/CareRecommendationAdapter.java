@@ -17,7 +17,6 @@ import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import java.util.Arrays;
-import java.util.Objects;
 
 import de.oabidi.pflanzenbestandundlichttest.CareRecommendationEngine.CareRecommendation;
 import de.oabidi.pflanzenbestandundlichttest.CareRecommendationEngine.Severity;
@@ -42,16 +41,13 @@ public class CareRecommendationAdapter
                 if (oldItem.getSeverity() != newItem.getSeverity()) {
                     return false;
                 }
-                if (oldItem.getIconResId() != newItem.getIconResId()) {
+                if (oldItem.getIcon() != newItem.getIcon()) {
                     return false;
                 }
-                if (!Objects.equals(oldItem.getMessageResId(), newItem.getMessageResId())) {
+                if (oldItem.getMessage() != newItem.getMessage()) {
                     return false;
                 }
-                if (!Arrays.equals(oldItem.getFormatArgs(), newItem.getFormatArgs())) {
-                    return false;
-                }
-                return Objects.equals(oldItem.getMessage(), newItem.getMessage());
+                return Arrays.equals(oldItem.getFormatArgs(), newItem.getFormatArgs());
             }
         };
     private final Callbacks callbacks;
@@ -62,20 +58,6 @@ public class CareRecommendationAdapter
         setHasStableIds(true);
     }
 
-    private static CharSequence resolveMessage(@NonNull Context context,
-                                               @NonNull CareRecommendation recommendation) {
-        Integer resId = recommendation.getMessageResId();
-        if (resId != null) {
-            Object[] args = recommendation.getFormatArgs();
-            if (args != null && args.length > 0) {
-                return context.getString(resId, args);
-            }
-            return context.getString(resId);
-        }
-        CharSequence message = recommendation.getMessage();
-        return message != null ? message : "";
-    }
-
     private static int getSeverityColor(@NonNull Context context, @NonNull Severity severity) {
         switch (severity) {
             case CRITICAL:
@@ -146,13 +128,10 @@ public class CareRecommendationAdapter
             Context context = itemView.getContext();
             stripView.setBackgroundColor(getSeverityColor(context, recommendation.getSeverity()));
             severityView.setText(getSeverityLabel(context, recommendation.getSeverity()));
-            if (recommendation.hasIcon()) {
-                iconView.setVisibility(View.VISIBLE);
-                iconView.setImageResource(recommendation.getIconResId());
-            } else {
-                iconView.setVisibility(View.GONE);
-            }
-            messageView.setText(resolveMessage(context, recommendation));
+            iconView.setImageResource(
+                CareRecommendationResources.getIconResId(recommendation.getIcon()));
+            messageView.setText(
+                CareRecommendationResources.formatMessage(context.getResources(), recommendation));
             dismissButton.setContentDescription(
                 context.getString(R.string.care_recommendation_dismiss_content_description));
             dismissButton.setOnClickListener(v -> callbacks.onDismiss(recommendation));
@@ -0,0 +1,81 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.plant;
+
+import android.content.res.Resources;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.NonNull;
+import androidx.annotation.StringRes;
+
+import de.oabidi.pflanzenbestandundlichttest.CareRecommendationEngine.CareRecommendation;
+import de.oabidi.pflanzenbestandundlichttest.CareRecommendationEngine.Icon;
+import de.oabidi.pflanzenbestandundlichttest.CareRecommendationEngine.Message;
+import de.oabidi.pflanzenbestandundlichttest.R;
+
+/**
+ * Maps the icons and messages of care recommendations to app resources.
+ */
+public final class CareRecommendationResources {
+    private CareRecommendationResources() {
+        // no instances
+    }
+
+    @DrawableRes
+    public static int getIconResId(@NonNull Icon icon) {
+        switch (icon) {
+            case TEMPERATURE:
+                return R.drawable.ic_care_temperature;
+            case WATER_DROP:
+                return R.drawable.ic_care_water_drop;
+            case TRENDING_UP:
+            default:
+                return R.drawable.ic_care_trending_up;
+        }
+    }
+
+    @StringRes
+    public static int getMessageResId(@NonNull Message message) {
+        switch (message) {
+            case TEMPERATURE_LOW_RANGE:
+                return R.string.care_temperature_low_range;
+            case TEMPERATURE_LOW_MIN:
+                return R.string.care_temperature_low_min;
+            case TEMPERATURE_HIGH_RANGE:
+                return R.string.care_temperature_high_range;
+            case TEMPERATURE_HIGH_MAX:
+                return R.string.care_temperature_high_max;
+            case HUMIDITY_LOW_RANGE:
+                return R.string.care_humidity_low_range;
+            case HUMIDITY_LOW_MIN:
+                return R.string.care_humidity_low_min;
+            case HUMIDITY_HIGH_RANGE:
+                return R.string.care_humidity_high_range;
+            case HUMIDITY_HIGH_MAX:
+                return R.string.care_humidity_high_max;
+            case SOIL_DRY:
+                return R.string.care_soil_dry;
+            case SOIL_WET:
+                return R.string.care_soil_wet;
+            case GROWTH_STALLED_HEIGHT_WIDTH:
+                return R.string.care_growth_stalled_height_width;
+            case GROWTH_STALLED_HEIGHT:
+                return R.string.care_growth_stalled_height;
+            case GROWTH_STALLED_WIDTH:
+            default:
+                return R.string.care_growth_stalled_width;
+        }
+    }
+
+    /**
+     * Formats the recommendation's message with its arguments.
+     */
+    @NonNull
+    public static String formatMessage(@NonNull Resources resources,
+                                       @NonNull CareRecommendation recommendation) {
+        @StringRes int resId = getMessageResId(recommendation.getMessage());
+        Object[] args = recommendation.getFormatArgs();
+        if (args != null && args.length > 0) {
+            return resources.getString(resId, args);
+        }
+        return resources.getString(resId);
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Objects;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.DiaryEntry;
+import de.oabidi.pflanzenbestandundlichttest.feature.gallery.PlantPhotoLoader;
 
 /**
  * RecyclerView adapter displaying diary entries with click and long-click
@@ -46,11 +47,15 @@ public class DiaryEntryAdapter extends ListAdapter<DiaryEntry, DiaryEntryAdapter
         };
     private final OnEntryClickListener clickListener;
     private final OnEntryLongClickListener longClickListener;
+    private final PlantPhotoLoader photoLoader;
+
     public DiaryEntryAdapter(OnEntryClickListener clickListener,
-                             OnEntryLongClickListener longClickListener) {
+                             OnEntryLongClickListener longClickListener,
+                             @NonNull PlantPhotoLoader photoLoader) {
         super(DIFF_CALLBACK);
         this.clickListener = clickListener;
         this.longClickListener = longClickListener;
+        this.photoLoader = photoLoader;
     }
 
     @NonNull
@@ -58,7 +63,7 @@ public class DiaryEntryAdapter extends ListAdapter<DiaryEntry, DiaryEntryAdapter
     public ViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
         View view = LayoutInflater.from(parent.getContext())
             .inflate(R.layout.list_item_diary_entry, parent, false);
-        return new ViewHolder(view);
+        return new ViewHolder(view, photoLoader);
     }
 
     @Override
@@ -67,6 +72,12 @@ public class DiaryEntryAdapter extends ListAdapter<DiaryEntry, DiaryEntryAdapter
         holder.bind(entry, clickListener, longClickListener);
     }
 
+    @Override
+    public void onViewRecycled(@NonNull ViewHolder holder) {
+        super.onViewRecycled(holder);
+        holder.recycle();
+    }
+
     /**
      * Listener invoked when a diary entry is tapped.
      */
@@ -85,9 +96,11 @@ public class DiaryEntryAdapter extends ListAdapter<DiaryEntry, DiaryEntryAdapter
         private final TextView textView;
         private final ImageView photoView;
         private final DateFormat df = DateFormat.getDateInstance();
+        private final PlantPhotoLoader photoLoader;
 
-        ViewHolder(@NonNull View itemView) {
+        ViewHolder(@NonNull View itemView, @NonNull PlantPhotoLoader photoLoader) {
             super(itemView);
+            this.photoLoader = photoLoader;
             textView = itemView.findViewById(R.id.diary_entry_text);
             photoView = itemView.findViewById(R.id.diary_entry_photo);
         }
@@ -118,7 +131,7 @@ public class DiaryEntryAdapter extends ListAdapter<DiaryEntry, DiaryEntryAdapter
             if (entry.getPhotoUri() != null) {
                 photoView.setVisibility(View.VISIBLE);
                 Uri uri = Uri.parse(entry.getPhotoUri());
-                photoView.setImageURI(uri);
+                photoLoader.loadThumbnail(photoView, entry.getPhotoUri());
                 String description = (note != null && !note.isEmpty()) ? note : label;
                 photoView.setContentDescription(description);
                 photoView.setOnClickListener(v -> {
@@ -129,6 +142,7 @@ public class DiaryEntryAdapter extends ListAdapter<DiaryEntry, DiaryEntryAdapter
                 });
             } else {
                 photoView.setVisibility(View.GONE);
+                photoLoader.clear(photoView);
                 photoView.setOnClickListener(null);
                 photoView.setContentDescription(null);
             }
@@ -139,5 +153,9 @@ public class DiaryEntryAdapter extends ListAdapter<DiaryEntry, DiaryEntryAdapter
                 return true;
             });
         }
+
+        void recycle() {
+            photoLoader.clear(photoView);
+        }
     }
 }
@@ -42,6 +42,7 @@ import android.widget.Toast;
 import de.oabidi.pflanzenbestandundlichttest.core.system.reminder.ReminderScheduler;
 import de.oabidi.pflanzenbestandundlichttest.core.system.reminder.ReminderSuggestion;
 import de.oabidi.pflanzenbestandundlichttest.core.ui.InsetsUtils;
+import de.oabidi.pflanzenbestandundlichttest.feature.gallery.PlantPhotoLoader;
 import de.oabidi.pflanzenbestandundlichttest.repository.DiaryRepository;
 
 import java.util.Objects;
@@ -205,7 +206,7 @@ public class DiaryFragment extends Fragment implements DiaryPresenter.View {
                     ))
                 .setNegativeButton(android.R.string.cancel, null)
                 .show();
-        });
+        }, PlantPhotoLoader.getInstance(requireContext()));
         diaryListView.setAdapter(adapter);
 
         FloatingActionButton fab = view.findViewById(R.id.fab_add_entry);
@@ -310,7 +311,6 @@ public class DiaryFragment extends Fragment implements DiaryPresenter.View {
                         int days = Integer.parseInt(daysText);
                         String message = note.isEmpty() ? label : label + getString(R.string.note_separator) + note;
                         boolean scheduled = ReminderScheduler.scheduleReminder(
-                            requireContext(),
                             repository,
                             days,
                             message,
@@ -2,7 +2,11 @@ package de.oabidi.pflanzenbestandundlichttest.feature.plant;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantListItem;
 
+import android.content.Context;
+import android.text.TextUtils;
+import android.text.format.DateUtils;
 import android.view.LayoutInflater;
 import android.view.View;
 import android.view.ViewGroup;
@@ -15,30 +19,36 @@ import androidx.recyclerview.widget.RecyclerView;
 
 import com.google.android.material.card.MaterialCardView;
 
+import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 /**
- * RecyclerView adapter that renders a list of {@link Plant} items and forwards
+ * RecyclerView adapter that renders a list of {@link PlantListItem} rows and forwards
  * click events to an {@link OnPlantClickListener}. Each list item displays the
- * plant name and notifies the listener when tapped.
+ * plant name with a one-line status and notifies the listener when tapped.
  */
-public class PlantAdapter extends ListAdapter<Plant, PlantAdapter.PlantViewHolder> {
+public class PlantAdapter extends ListAdapter<PlantListItem, PlantAdapter.PlantViewHolder> {
 
-    private static final DiffUtil.ItemCallback<Plant> DIFF_CALLBACK =
-        new DiffUtil.ItemCallback<Plant>() {
+    private static final DiffUtil.ItemCallback<PlantListItem> DIFF_CALLBACK =
+        new DiffUtil.ItemCallback<PlantListItem>() {
             @Override
-            public boolean areItemsTheSame(@NonNull Plant oldItem, @NonNull Plant newItem) {
-                return oldItem.getId() == newItem.getId();
+            public boolean areItemsTheSame(@NonNull PlantListItem oldItem, @NonNull PlantListItem newItem) {
+                return oldItem.plant.getId() == newItem.plant.getId();
             }
 
             @Override
-            public boolean areContentsTheSame(@NonNull Plant oldItem, @NonNull Plant newItem) {
-                return Objects.equals(oldItem.getName(), newItem.getName())
-                    && Objects.equals(oldItem.getDescription(), newItem.getDescription())
-                    && Objects.equals(oldItem.getSpecies(), newItem.getSpecies())
-                    && Objects.equals(oldItem.getLocationHint(), newItem.getLocationHint())
-                    && oldItem.getAcquiredAtEpoch() == newItem.getAcquiredAtEpoch()
-                    && Objects.equals(oldItem.getPhotoUri(), newItem.getPhotoUri());
+            public boolean areContentsTheSame(@NonNull PlantListItem oldItem, @NonNull PlantListItem newItem) {
+                Plant oldPlant = oldItem.plant;
+                Plant newPlant = newItem.plant;
+                return Objects.equals(oldPlant.getName(), newPlant.getName())
+                    && Objects.equals(oldPlant.getDescription(), newPlant.getDescription())
+                    && Objects.equals(oldPlant.getSpecies(), newPlant.getSpecies())
+                    && Objects.equals(oldPlant.getLocationHint(), newPlant.getLocationHint())
+                    && oldPlant.getAcquiredAtEpoch() == newPlant.getAcquiredAtEpoch()
+                    && Objects.equals(oldPlant.getPhotoUri(), newPlant.getPhotoUri())
+                    && oldItem.hasSameStatus(newItem);
             }
         };
     private final OnPlantClickListener listener;
@@ -71,8 +81,8 @@ public class PlantAdapter extends ListAdapter<Plant, PlantAdapter.PlantViewHolde
      */
     @Override
     public void onBindViewHolder(@NonNull PlantViewHolder holder, int position) {
-        Plant plant = getItem(position);
-        holder.bind(plant, listener);
+        PlantListItem item = getItem(position);
+        holder.bind(item, listener);
     }
 
     public interface OnPlantClickListener {
@@ -84,22 +94,29 @@ public class PlantAdapter extends ListAdapter<Plant, PlantAdapter.PlantViewHolde
     static class PlantViewHolder extends RecyclerView.ViewHolder {
         private final MaterialCardView cardView;
         private final TextView nameView;
+        private final TextView statusView;
+        private final DateFormat dateFormat = DateFormat.getDateInstance(DateFormat.MEDIUM);
 
         PlantViewHolder(View itemView) {
             super(itemView);
             cardView = (MaterialCardView) itemView;
             cardView.setCheckable(true);
             nameView = cardView.findViewById(R.id.plant_name);
+            statusView = cardView.findViewById(R.id.plant_status);
         }
 
         /**
-         * Binds a plant to the view and sets up the click callback.
+         * Binds a plant and its status to the view and sets up the click callback.
          *
-         * @param plant    the plant whose data should be displayed
+         * @param item     the plant whose data should be displayed
          * @param listener listener to notify when the item is clicked
          */
-        void bind(Plant plant, OnPlantClickListener listener) {
+        void bind(PlantListItem item, OnPlantClickListener listener) {
+            Plant plant = item.plant;
             nameView.setText(plant.getName());
+            String status = formatStatus(item);
+            statusView.setText(status);
+            statusView.setVisibility(status.isEmpty() ? View.GONE : View.VISIBLE);
             cardView.setContentDescription(plant.getName());
             cardView.setChecked(false);
             cardView.setOnClickListener(v -> listener.onPlantClick(plant));
@@ -109,5 +126,29 @@ public class PlantAdapter extends ListAdapter<Plant, PlantAdapter.PlantViewHolde
                 return true;
             });
         }
+
+        @NonNull
+        private String formatStatus(@NonNull PlantListItem item) {
+            Context context = itemView.getContext();
+            List<String> parts = new ArrayList<>();
+            if (item.lastMeasurementEpoch != null) {
+                CharSequence ago = DateUtils.getRelativeTimeSpanString(item.lastMeasurementEpoch,
+                    System.currentTimeMillis(), DateUtils.MINUTE_IN_MILLIS);
+                parts.add(context.getString(R.string.plant_status_measured, ago));
+            }
+            if (item.latestDli != null) {
+                parts.add(context.getString(R.string.plant_status_dli, item.latestDli));
+            }
+            if (item.nextReminderAt != null) {
+                parts.add(context.getString(R.string.plant_status_next_reminder,
+                    dateFormat.format(item.nextReminderAt)));
+            }
+            if (item.recentAlertCount > 0) {
+                parts.add(context.getResources().getQuantityString(
+                    R.plurals.plant_status_recent_alerts,
+                    item.recentAlertCount, item.recentAlertCount));
+            }
+            return TextUtils.join(" · ", parts);
+        }
     }
 }
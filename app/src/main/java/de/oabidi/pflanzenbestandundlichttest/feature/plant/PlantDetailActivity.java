@@ -4,13 +4,12 @@ import de.oabidi.pflanzenbestandundlichttest.R;
 
 import android.Manifest;
 import android.content.pm.PackageManager;
-import android.content.res.Configuration;
 import android.location.Location;
 import android.net.Uri;
 import android.os.Bundle;
 import android.text.TextUtils;
-import android.util.DisplayMetrics;
 import android.util.Log;
+import android.util.Size;
 import android.view.Menu;
 import android.view.MenuInflater;
 import android.view.MenuItem;
@@ -567,7 +566,7 @@ public class PlantDetailActivity extends AppCompatActivity
             return;
         }
         if (plantPhotoLoader == null) {
-            plantPhotoLoader = new PlantPhotoLoader(this, ioExecutor);
+            plantPhotoLoader = PlantPhotoLoader.getInstance(this);
         }
         if (plantPhotoAdapter == null) {
             plantPhotoAdapter = new PlantPhotoAdapter(plantPhotoLoader, new PlantPhotoAdapter.Callbacks() {
@@ -582,27 +581,15 @@ public class PlantDetailActivity extends AppCompatActivity
                 }
             });
         }
-        photoGrid.setLayoutManager(new GridLayoutManager(this, calculatePhotoSpanCount()));
+        Size thumbnailSize = PlantPhotoAdapter.calculateThumbnailSize(getResources());
+        plantPhotoAdapter.setThumbnailSize(thumbnailSize.getWidth(), thumbnailSize.getHeight());
+        photoGrid.setLayoutManager(new GridLayoutManager(this,
+            PlantPhotoAdapter.calculateSpanCount(getResources())));
         photoGrid.setAdapter(plantPhotoAdapter);
         photoGrid.setHasFixedSize(true);
         updateGalleryVisibility();
     }
 
-    private int calculatePhotoSpanCount() {
-        DisplayMetrics metrics = getResources().getDisplayMetrics();
-        int widthDp = (int) (metrics.widthPixels / metrics.density);
-        if (widthDp >= 720) {
-            return 5;
-        }
-        if (widthDp >= 600) {
-            return 4;
-        }
-        if (getResources().getConfiguration().orientation == Configuration.ORIENTATION_LANDSCAPE) {
-            return 4;
-        }
-        return 3;
-    }
-
     private void refreshPlantPhotos() {
         if (plantPhotoAdapter == null) {
             if (null != null) {
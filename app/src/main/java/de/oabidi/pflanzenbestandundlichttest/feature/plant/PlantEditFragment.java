@@ -36,9 +36,11 @@ import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfile;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantZone;
+import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
 import de.oabidi.pflanzenbestandundlichttest.core.system.RepositoryProvider;
 import de.oabidi.pflanzenbestandundlichttest.core.ui.InsetsUtils;
 import de.oabidi.pflanzenbestandundlichttest.feature.camera.PlantPhotoCaptureFragment;
+import de.oabidi.pflanzenbestandundlichttest.feature.gallery.PlantPhotoLoader;
 
 /**
  * Fragment allowing creation or editing of a {@link Plant}.
@@ -74,8 +76,9 @@ public class PlantEditFragment extends Fragment implements PlantEditView {
             if (uri != null) {
                 requireContext().getContentResolver().takePersistableUriPermission(
                     uri, Intent.FLAG_GRANT_READ_URI_PERMISSION);
+                PhotoManager.discardCapture(requireContext(), photoUri);
                 photoUri = uri;
-                photoView.setImageURI(uri);
+                showPhoto(uri);
             }
         });
     private long acquiredEpoch = System.currentTimeMillis();
@@ -86,6 +89,7 @@ public class PlantEditFragment extends Fragment implements PlantEditView {
     private ArrayAdapter<String> ledProfileAdapter;
     @Nullable
     private Long selectedLedProfileId;
+    private boolean saved;
 
     public static PlantEditFragment newInstance(@Nullable Plant plant, PlantRepository repository) {
         PlantEditFragment fragment = new PlantEditFragment();
@@ -129,9 +133,10 @@ public class PlantEditFragment extends Fragment implements PlantEditView {
                 String uriString = bundle.getString(PlantPhotoCaptureFragment.EXTRA_PHOTO_URI);
                 if (uriString != null && !uriString.isEmpty()) {
                     Uri captured = Uri.parse(uriString);
+                    PhotoManager.discardCapture(requireContext(), photoUri);
                     photoUri = captured;
                     if (photoView != null) {
-                        photoView.setImageURI(captured);
+                        showPhoto(captured);
                         photoView.setVisibility(View.VISIBLE);
                     }
                 }
@@ -224,7 +229,7 @@ public class PlantEditFragment extends Fragment implements PlantEditView {
                     } catch (SecurityException ignored) {
                     }
                 }
-                photoView.setImageURI(photoUri);
+                showPhoto(photoUri);
             }
             if (args.containsKey(ARG_LED_PROFILE_ID)) {
                 long id = args.getLong(ARG_LED_PROFILE_ID);
@@ -250,6 +255,10 @@ public class PlantEditFragment extends Fragment implements PlantEditView {
         presenter.loadLedProfiles();
     }
 
+    private void showPhoto(@NonNull Uri uri) {
+        PlantPhotoLoader.getInstance(requireContext()).loadThumbnail(photoView, uri.toString());
+    }
+
     private void showDatePicker() {
         Calendar cal = Calendar.getInstance();
         cal.setTimeInMillis(acquiredEpoch);
@@ -368,6 +377,7 @@ public class PlantEditFragment extends Fragment implements PlantEditView {
 
     @Override
     public void finishWithResult(Plant plant) {
+        saved = true;
         Bundle result = new Bundle();
         result.putLong(ARG_ID, plant.getId());
         result.putString(ARG_NAME, plant.getName());
@@ -453,6 +463,15 @@ public class PlantEditFragment extends Fragment implements PlantEditView {
         }
     }
 
+    @Override
+    public void onDestroy() {
+        if (isRemoving() && !saved) {
+            // Leaving without saving: a photo captured for this edit has no owner.
+            PhotoManager.discardCapture(requireContext(), photoUri);
+        }
+        super.onDestroy();
+    }
+
     private void applyZoneOrientation(@Nullable String orientation) {
         if (zoneOrientationInput == null) {
             return;
@@ -5,11 +5,14 @@ import de.oabidi.pflanzenbestandundlichttest.R;
 import android.content.Context;
 import android.net.Uri;
 
+import java.io.IOException;
 import java.util.function.Consumer;
 
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantZone;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
+import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
 
 /**
  * Implementation of {@link PlantEditPresenter} performing validation and persistence.
@@ -43,18 +46,49 @@ public class PlantEditPresenterImpl implements PlantEditPresenter {
         Uri photo = view.getPhotoUri();
         final String zoneOrientation = PlantZone.normalizeOrientation(view.getZoneOrientation());
         final String zoneNotes = emptyToNull(view.getZoneNotes());
-        Consumer<Exception> errorHandler = e -> view.showError(context.getString(R.string.error_database));
+        long id = view.getPlantId();
+        // The span ends in whichever callback finishes the save; every exit closes it in finally.
+        Tracer.Span span = Tracer.beginAsync("presenter.savePlant").arg("plant_id", id);
+        Consumer<Exception> errorHandler = e -> {
+            try {
+                view.showError(context.getString(R.string.error_database));
+            } finally {
+                span.arg("error", e.getClass().getSimpleName()).close();
+            }
+        };
+
+        if (PhotoManager.isPendingCapture(context, photo)) {
+            try {
+                photo = PhotoManager.savePlantPhoto(context, photo);
+            } catch (IOException e) {
+                errorHandler.accept(e);
+                return;
+            }
+        }
 
         Plant plant = new Plant(name, notes, species, location, acquired, photo);
-        long id = view.getPlantId();
         plant.setId(id);
         Runnable afterSave = () -> repository.savePlantZone(plant.getId(), zoneOrientation, zoneNotes,
-            () -> handleLedProfileAssignment(plant, () -> view.finishWithResult(plant), errorHandler),
+            () -> handleLedProfileAssignment(plant, () -> {
+                try {
+                    view.finishWithResult(plant);
+                } finally {
+                    span.close();
+                }
+            }, errorHandler),
             errorHandler);
-        if (id == 0) {
-            repository.insert(plant, afterSave, errorHandler);
-        } else {
-            repository.update(plant, afterSave, errorHandler);
+        boolean dispatched = false;
+        try {
+            if (id == 0) {
+                repository.insert(plant, afterSave, errorHandler);
+            } else {
+                repository.update(plant, afterSave, errorHandler);
+            }
+            dispatched = true;
+        } finally {
+            if (!dispatched) {
+                span.arg("error", "dispatch").close();
+            }
         }
     }
 
@@ -36,6 +36,7 @@ import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantListItem;
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 import de.oabidi.pflanzenbestandundlichttest.core.data.util.ImportManager;
 import de.oabidi.pflanzenbestandundlichttest.core.system.ExecutorProvider;
@@ -44,6 +45,7 @@ import de.oabidi.pflanzenbestandundlichttest.core.system.RepositoryProvider;
 import de.oabidi.pflanzenbestandundlichttest.core.ui.InsetsUtils;
 import de.oabidi.pflanzenbestandundlichttest.feature.lighting.LedProfileListFragment;
 import de.oabidi.pflanzenbestandundlichttest.feature.main.MainActivity;
+import de.oabidi.pflanzenbestandundlichttest.feature.search.GlobalSearchFragment;
 
 /**
  * Fragment displaying the list of plants.
@@ -201,13 +203,13 @@ public class PlantListFragment extends Fragment implements PlantAdapter.OnPlantC
     }
 
     @Override
-    public void showPlants(List<Plant> plants) {
+    public void showPlants(List<PlantListItem> plants) {
         adapter.submitList(new ArrayList<>(plants));
         updateEmptyState(plants);
     }
 
     @Override
-    public void showSearchResults(List<Plant> plants) {
+    public void showSearchResults(List<PlantListItem> plants) {
         adapter.submitList(new ArrayList<>(plants));
         updateEmptyState(plants);
     }
@@ -311,6 +313,10 @@ public class PlantListFragment extends Fragment implements PlantAdapter.OnPlantC
     @Override
     public void onCreateOptionsMenu(@NonNull Menu menu, @NonNull MenuInflater inflater) {
         inflater.inflate(R.menu.main_menu, menu);
+        MenuItem sortItem = menu.findItem(sortMenuId(presenter.getSortOrder()));
+        if (sortItem != null) {
+            sortItem.setChecked(true);
+        }
         MenuItem searchItem = menu.findItem(R.id.action_search);
         SearchView searchView = (SearchView) searchItem.getActionView();
         Objects.requireNonNull(searchView).setOnQueryTextListener(new SearchView.OnQueryTextListener() {
@@ -334,6 +340,9 @@ public class PlantListFragment extends Fragment implements PlantAdapter.OnPlantC
         if (itemId == R.id.action_add) {
             navigateToEdit(null);
             return true;
+        } else if (itemId == R.id.action_global_search) {
+            navigateToGlobalSearch();
+            return true;
         } else if (itemId == R.id.action_species_targets) {
             navigateToSpeciesTargets();
             return true;
@@ -346,10 +355,38 @@ public class PlantListFragment extends Fragment implements PlantAdapter.OnPlantC
         } else if (itemId == R.id.action_import_data) {
             presenter.requestImport();
             return true;
+        } else if (itemId == R.id.action_sort_name) {
+            return applySortOrder(item, PlantListItem.SortOrder.NAME);
+        } else if (itemId == R.id.action_sort_last_measurement) {
+            return applySortOrder(item, PlantListItem.SortOrder.LAST_MEASUREMENT);
+        } else if (itemId == R.id.action_sort_next_reminder) {
+            return applySortOrder(item, PlantListItem.SortOrder.NEXT_REMINDER);
+        } else if (itemId == R.id.action_sort_alerts) {
+            return applySortOrder(item, PlantListItem.SortOrder.ALERTS);
         }
         return super.onOptionsItemSelected(item);
     }
 
+    private boolean applySortOrder(@NonNull MenuItem item, @NonNull PlantListItem.SortOrder order) {
+        item.setChecked(true);
+        presenter.setSortOrder(order);
+        return true;
+    }
+
+    private static int sortMenuId(@NonNull PlantListItem.SortOrder order) {
+        switch (order) {
+            case LAST_MEASUREMENT:
+                return R.id.action_sort_last_measurement;
+            case NEXT_REMINDER:
+                return R.id.action_sort_next_reminder;
+            case ALERTS:
+                return R.id.action_sort_alerts;
+            case NAME:
+            default:
+                return R.id.action_sort_name;
+        }
+    }
+
     private void navigateToEdit(@Nullable Plant plant) {
         PlantEditFragment fragment = PlantEditFragment.newInstance(plant, repository);
         getParentFragmentManager().beginTransaction()
@@ -358,6 +395,13 @@ public class PlantListFragment extends Fragment implements PlantAdapter.OnPlantC
             .commit();
     }
 
+    private void navigateToGlobalSearch() {
+        getParentFragmentManager().beginTransaction()
+            .replace(R.id.nav_host_fragment, GlobalSearchFragment.newInstance())
+            .addToBackStack(null)
+            .commit();
+    }
+
     private void navigateToSpeciesTargets() {
         SpeciesTargetListFragment fragment = SpeciesTargetListFragment.newInstance(repository);
         getParentFragmentManager().beginTransaction()
@@ -374,7 +418,7 @@ public class PlantListFragment extends Fragment implements PlantAdapter.OnPlantC
             .commit();
     }
 
-    private void updateEmptyState(@NonNull List<Plant> plants) {
+    private void updateEmptyState(@NonNull List<PlantListItem> plants) {
         if (plantListView == null || emptyStateView == null) {
             return;
         }
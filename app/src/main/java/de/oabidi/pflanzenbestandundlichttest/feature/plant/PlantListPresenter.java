@@ -3,6 +3,7 @@ package de.oabidi.pflanzenbestandundlichttest.feature.plant;
 import de.oabidi.pflanzenbestandundlichttest.R;
 
 import android.content.Context;
+import android.content.SharedPreferences;
 import android.net.Uri;
 
 import java.util.List;
@@ -10,11 +11,14 @@ import java.util.concurrent.ExecutorService;
 
 import androidx.annotation.Nullable;
 
+import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantListItem;
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 import de.oabidi.pflanzenbestandundlichttest.core.data.util.ImportManager;
 import de.oabidi.pflanzenbestandundlichttest.core.system.ExecutorProvider;
 import de.oabidi.pflanzenbestandundlichttest.core.system.ExportManager;
+import de.oabidi.pflanzenbestandundlichttest.feature.lighting.ArtificialLightEstimateCache;
 
 /**
  * Presenter responsible for loading and modifying the list of plants.
@@ -25,6 +29,9 @@ public class PlantListPresenter {
     private final Context context;
     private final ExportManager exportManager;
     private final ImportManager importManager;
+    private final SharedPreferences preferences;
+    private PlantListItem.SortOrder sortOrder;
+
     public PlantListPresenter(View view, PlantRepository repository, Context context) {
         this(view, repository, ensureAppContext(context),
             createExportManager(context, repository),
@@ -38,6 +45,20 @@ public class PlantListPresenter {
         this.context = context.getApplicationContext();
         this.exportManager = exportManager;
         this.importManager = importManager;
+        this.preferences = this.context.getSharedPreferences(SettingsKeys.PREFS_NAME, Context.MODE_PRIVATE);
+        this.sortOrder = readSortOrder(preferences);
+    }
+
+    private static PlantListItem.SortOrder readSortOrder(SharedPreferences preferences) {
+        String stored = preferences.getString(SettingsKeys.KEY_PLANT_LIST_SORT, null);
+        if (stored != null) {
+            try {
+                return PlantListItem.SortOrder.valueOf(stored);
+            } catch (IllegalArgumentException ignored) {
+                // Fall back to the default order for values written by other versions.
+            }
+        }
+        return PlantListItem.SortOrder.NAME;
     }
 
     private static Context ensureAppContext(Context context) {
@@ -63,10 +84,26 @@ public class PlantListPresenter {
     }
 
     public void refreshPlants() {
-        repository.getAllPlants(view::showPlants,
+        repository.getPlantListItems(sortOrder, view::showPlants,
             e -> view.showError(context.getString(R.string.error_database)));
     }
 
+    public PlantListItem.SortOrder getSortOrder() {
+        return sortOrder;
+    }
+
+    /**
+     * Changes and remembers the order of the plant list and reloads it.
+     */
+    public void setSortOrder(PlantListItem.SortOrder order) {
+        if (order == sortOrder) {
+            return;
+        }
+        sortOrder = order;
+        preferences.edit().putString(SettingsKeys.KEY_PLANT_LIST_SORT, order.name()).apply();
+        refreshPlants();
+    }
+
     public void insertPlant(Plant plant) {
         repository.insert(plant, this::refreshPlants, e ->
             view.showError(context.getString(R.string.error_database)));
@@ -112,6 +149,8 @@ public class PlantListPresenter {
             view.hideProgress();
             view.onImportResult(success, error, warnings, message);
             if (success) {
+                // Replacing imports restore LED profiles under their original ids.
+                ArtificialLightEstimateCache.get().clear();
                 refreshPlants();
             }
         }, (c, t) -> view.onImportProgress(c, t));
@@ -121,15 +160,15 @@ public class PlantListPresenter {
         if (query == null || query.trim().isEmpty()) {
             refreshPlants();
         } else {
-            repository.searchPlants(query, view::showSearchResults,
+            repository.searchPlantListItems(query, view::showSearchResults,
                 e -> view.showError(context.getString(R.string.error_database)));
         }
     }
 
     public interface View {
-        void showPlants(List<Plant> plants);
+        void showPlants(List<PlantListItem> plants);
 
-        void showSearchResults(List<Plant> plants);
+        void showSearchResults(List<PlantListItem> plants);
 
         void showError(String message);
 
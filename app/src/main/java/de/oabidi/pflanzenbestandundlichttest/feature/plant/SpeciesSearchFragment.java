@@ -33,6 +33,7 @@ import java.util.Locale;
 import java.util.Objects;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesSummary;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTarget;
 import de.oabidi.pflanzenbestandundlichttest.core.ui.InsetsUtils;
 import de.oabidi.pflanzenbestandundlichttest.core.system.RepositoryProvider;
@@ -42,6 +43,7 @@ import de.oabidi.pflanzenbestandundlichttest.repository.SpeciesRepository;
  * Fragment allowing users to search for plant species metadata.
  */
 public class SpeciesSearchFragment extends Fragment implements SpeciesSearchView {
+    private static final String ARG_QUERY = "query";
     private static final String STATE_QUERY = "state_query";
 
     @Nullable
@@ -73,6 +75,17 @@ public class SpeciesSearchFragment extends Fragment implements SpeciesSearchView
         return new SpeciesSearchFragment();
     }
 
+    /**
+     * Creates a new instance that starts out searching for the given query.
+     */
+    public static SpeciesSearchFragment newInstance(@Nullable String query) {
+        SpeciesSearchFragment fragment = new SpeciesSearchFragment();
+        Bundle args = new Bundle();
+        args.putString(ARG_QUERY, query);
+        fragment.setArguments(args);
+        return fragment;
+    }
+
     @Nullable
     @Override
     public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
@@ -104,12 +117,15 @@ public class SpeciesSearchFragment extends Fragment implements SpeciesSearchView
             resultsView.setLayoutManager(new LinearLayoutManager(context));
             resultsView.setClipToPadding(false);
             InsetsUtils.applySystemWindowInsetsPadding(resultsView, false, false, false, true);
-            adapter = new SpeciesSearchAdapter(this, this::showDetailDialog);
+            adapter = new SpeciesSearchAdapter(this, this::openSpecies);
             resultsView.setAdapter(adapter);
         }
 
         if (savedInstanceState != null) {
             currentQuery = savedInstanceState.getString(STATE_QUERY, "");
+        } else if (getArguments() != null) {
+            String initialQuery = getArguments().getString(ARG_QUERY);
+            currentQuery = initialQuery == null ? "" : initialQuery.trim();
         }
 
         if (!currentQuery.isEmpty() && searchInput != null) {
@@ -199,7 +215,7 @@ public class SpeciesSearchFragment extends Fragment implements SpeciesSearchView
     }
 
     @Override
-    public void showResults(List<SpeciesTarget> results) {
+    public void showResults(List<SpeciesSummary> results) {
         if (!isAdded()) {
             return;
         }
@@ -250,6 +266,26 @@ public class SpeciesSearchFragment extends Fragment implements SpeciesSearchView
         }
     }
 
+    /**
+     * Loads the full species target behind a search result and shows its details.
+     */
+    private void openSpecies(@NonNull SpeciesSummary summary) {
+        SpeciesRepository repository = speciesRepository;
+        if (repository == null) {
+            return;
+        }
+        repository.getSpeciesTarget(summary.speciesKey, target -> {
+                if (target != null) {
+                    showDetailDialog(target);
+                }
+            },
+            e -> {
+                if (isAdded()) {
+                    showError(getString(R.string.error_database));
+                }
+            });
+    }
+
     private void showDetailDialog(@NonNull SpeciesTarget target) {
         if (!isAdded()) {
             return;
@@ -495,18 +531,8 @@ public class SpeciesSearchFragment extends Fragment implements SpeciesSearchView
         return stageName;
     }
 
-    private static boolean hasLightDetails(@NonNull SpeciesTarget target) {
-        return hasStageLightInfo(target.getSeedlingStage())
-            || hasStageLightInfo(target.getVegetativeStage())
-            || hasStageLightInfo(target.getFlowerStage());
-    }
-
-    private static boolean hasStageLightInfo(@Nullable SpeciesTarget.StageTarget stage) {
-        return stage != null && (hasRange(stage.getPpfdRange()) || hasRange(stage.getDliRange()));
-    }
-
-    private void bindItemView(@NonNull SpeciesSearchAdapter.ResultViewHolder holder, @NonNull SpeciesTarget target) {
-        holder.bind(target, formatCategory(target.getCategory()));
+    private void bindItemView(@NonNull SpeciesSearchAdapter.ResultViewHolder holder, @NonNull SpeciesSummary summary) {
+        holder.bind(summary, formatCategory(summary.category));
     }
 
     private abstract static class SimpleTextWatcher implements TextWatcher {
@@ -521,26 +547,17 @@ public class SpeciesSearchFragment extends Fragment implements SpeciesSearchView
         }
     }
 
-    private static class SpeciesSearchAdapter extends ListAdapter<SpeciesTarget, SpeciesSearchAdapter.ResultViewHolder> {
-        private static final DiffUtil.ItemCallback<SpeciesTarget> DIFF_CALLBACK =
+    private static class SpeciesSearchAdapter extends ListAdapter<SpeciesSummary, SpeciesSearchAdapter.ResultViewHolder> {
+        private static final DiffUtil.ItemCallback<SpeciesSummary> DIFF_CALLBACK =
             new DiffUtil.ItemCallback<>() {
                 @Override
-                public boolean areItemsTheSame(@NonNull SpeciesTarget oldItem, @NonNull SpeciesTarget newItem) {
-                    return Objects.equals(oldItem.getSpeciesKey(), newItem.getSpeciesKey());
+                public boolean areItemsTheSame(@NonNull SpeciesSummary oldItem, @NonNull SpeciesSummary newItem) {
+                    return oldItem.speciesKey.equals(newItem.speciesKey);
                 }
 
                 @Override
-                public boolean areContentsTheSame(@NonNull SpeciesTarget oldItem, @NonNull SpeciesTarget newItem) {
-                    return Objects.equals(oldItem.getCommonName(), newItem.getCommonName())
-                        && Objects.equals(oldItem.getScientificName(), newItem.getScientificName())
-                        && Objects.equals(oldItem.getCategory(), newItem.getCategory())
-                        && Objects.equals(oldItem.getSeedlingStage(), newItem.getSeedlingStage())
-                        && Objects.equals(oldItem.getVegetativeStage(), newItem.getVegetativeStage())
-                        && Objects.equals(oldItem.getFlowerStage(), newItem.getFlowerStage())
-                        && Objects.equals(oldItem.getWateringInfo(), newItem.getWateringInfo())
-                        && Objects.equals(oldItem.getTemperatureRange(), newItem.getTemperatureRange())
-                        && Objects.equals(oldItem.getHumidityRange(), newItem.getHumidityRange())
-                        && Objects.equals(oldItem.getToxicToPets(), newItem.getToxicToPets());
+                public boolean areContentsTheSame(@NonNull SpeciesSummary oldItem, @NonNull SpeciesSummary newItem) {
+                    return oldItem.equals(newItem);
                 }
             };
         private final SpeciesSearchFragment fragment;
@@ -562,8 +579,8 @@ public class SpeciesSearchFragment extends Fragment implements SpeciesSearchView
 
         @Override
         public void onBindViewHolder(@NonNull ResultViewHolder holder, int position) {
-            SpeciesTarget target = getItem(position);
-            fragment.bindItemView(holder, target);
+            SpeciesSummary summary = getItem(position);
+            fragment.bindItemView(holder, summary);
         }
 
         class ResultViewHolder extends RecyclerView.ViewHolder {
@@ -584,31 +601,24 @@ public class SpeciesSearchFragment extends Fragment implements SpeciesSearchView
                 petIconView = itemView.findViewById(R.id.species_icon_pets);
             }
 
-            void bind(@NonNull SpeciesTarget target, @NonNull String categoryLabel) {
-                String commonName = target.getCommonName();
+            void bind(@NonNull SpeciesSummary summary, @NonNull String categoryLabel) {
+                String commonName = summary.commonName;
                 if (TextUtils.isEmpty(commonName)) {
-                    commonName = target.getSpeciesKey();
+                    commonName = summary.speciesKey;
                 }
                 commonNameView.setText(commonName);
 
-                String scientificName = target.getScientificName();
+                String scientificName = summary.scientificName;
                 scientificNameView.setText(!TextUtils.isEmpty(scientificName)
                     ? scientificName
                     : itemView.getContext().getString(R.string.species_search_unknown_scientific));
 
                 categoryView.setText(categoryLabel);
 
-                boolean hasLight = hasLightDetails(target);
-                lightIconView.setVisibility(hasLight ? View.VISIBLE : View.GONE);
-
-                SpeciesTarget.WateringInfo watering = target.getWateringInfo();
-                boolean hasWatering = watering != null
-                    && (!TextUtils.isEmpty(watering.getFrequency())
-                    || !TextUtils.isEmpty(watering.getSoilType())
-                    || !TextUtils.isEmpty(watering.getTolerance()));
-                waterIconView.setVisibility(hasWatering ? View.VISIBLE : View.GONE);
+                lightIconView.setVisibility(summary.hasLightRange() ? View.VISIBLE : View.GONE);
+                waterIconView.setVisibility(summary.hasWateringInfo ? View.VISIBLE : View.GONE);
 
-                Boolean toxic = target.getToxicToPets();
+                Boolean toxic = summary.toxicToPets;
                 if (toxic != null) {
                     petIconView.setVisibility(View.VISIBLE);
                     petIconView.setContentDescription(itemView.getContext().getString(
@@ -623,13 +633,13 @@ public class SpeciesSearchFragment extends Fragment implements SpeciesSearchView
                     petIconView.setContentDescription(itemView.getContext().getString(R.string.species_search_unknown_toxicity_label));
                 }
 
-                itemView.setOnClickListener(v -> listener.onSpeciesClick(target));
+                itemView.setOnClickListener(v -> listener.onSpeciesClick(summary));
             }
         }
     }
 
     private interface OnSpeciesClickListener {
-        void onSpeciesClick(SpeciesTarget target);
+        void onSpeciesClick(SpeciesSummary summary);
     }
 
 }
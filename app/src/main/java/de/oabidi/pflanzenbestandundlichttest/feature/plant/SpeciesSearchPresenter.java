@@ -12,7 +12,7 @@ public interface SpeciesSearchPresenter {
     void onSearchQueryChanged(@Nullable String query);
 
     /**
-     * Clean up any resources when the presenter is no longer needed.
+     * Cancel any running search and clean up resources when the presenter is no longer needed.
      */
     void onDestroy();
 }
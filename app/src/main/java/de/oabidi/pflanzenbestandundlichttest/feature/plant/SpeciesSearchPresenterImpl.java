@@ -9,10 +9,12 @@ import java.util.List;
 import java.util.Objects;
 
 import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
 import androidx.annotation.VisibleForTesting;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
-import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTarget;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesSummary;
+import de.oabidi.pflanzenbestandundlichttest.repository.QueryHandle;
 import de.oabidi.pflanzenbestandundlichttest.repository.SpeciesRepository;
 
 /**
@@ -29,6 +31,8 @@ public class SpeciesSearchPresenterImpl implements SpeciesSearchPresenter {
     private final Runnable searchRunnable;
 
     private String pendingQuery = "";
+    @Nullable
+    private QueryHandle runningSearch;
     private boolean destroyed;
 
     public SpeciesSearchPresenterImpl(@NonNull SpeciesSearchView view,
@@ -58,6 +62,7 @@ public class SpeciesSearchPresenterImpl implements SpeciesSearchPresenter {
         }
         String normalized = query == null ? "" : query.trim();
         handler.removeCallbacks(searchRunnable);
+        cancelRunningSearch();
         pendingQuery = normalized;
         if (normalized.isEmpty()) {
             view.hideLoading();
@@ -78,18 +83,19 @@ public class SpeciesSearchPresenterImpl implements SpeciesSearchPresenter {
             view.showEmptyState();
             return;
         }
-        repository.searchSpecies(query,
+        runningSearch = repository.searchSpecies(query,
             results -> handleResults(query, results),
             error -> handleError(query, error));
     }
 
-    private void handleResults(String query, List<SpeciesTarget> results) {
+    private void handleResults(String query, List<SpeciesSummary> results) {
         if (destroyed) {
             return;
         }
         if (!TextUtils.equals(query, pendingQuery)) {
             return;
         }
+        runningSearch = null;
         view.hideLoading();
         if (results == null || results.isEmpty()) {
             view.showEmptyState();
@@ -105,13 +111,22 @@ public class SpeciesSearchPresenterImpl implements SpeciesSearchPresenter {
         if (!TextUtils.equals(query, pendingQuery)) {
             return;
         }
+        runningSearch = null;
         view.hideLoading();
         view.showError(context.getString(R.string.error_database));
     }
 
+    private void cancelRunningSearch() {
+        if (runningSearch != null) {
+            runningSearch.cancel();
+            runningSearch = null;
+        }
+    }
+
     @Override
     public void onDestroy() {
         destroyed = true;
         handler.removeCallbacksAndMessages(null);
+        cancelRunningSearch();
     }
 }
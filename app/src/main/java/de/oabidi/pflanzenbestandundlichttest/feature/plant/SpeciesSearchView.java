@@ -2,7 +2,7 @@ package de.oabidi.pflanzenbestandundlichttest.feature.plant;
 
 import java.util.List;
 
-import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTarget;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesSummary;
 
 /**
  * Contract for UI components showing species search results.
@@ -21,7 +21,7 @@ public interface SpeciesSearchView {
     /**
      * Render the given search results.
      */
-    void showResults(List<SpeciesTarget> results);
+    void showResults(List<SpeciesSummary> results);
 
     /**
      * Display an empty state when no query is entered or no results were found.
@@ -11,30 +11,25 @@ import androidx.recyclerview.widget.ListAdapter;
 import androidx.recyclerview.widget.RecyclerView;
 
 import java.util.Locale;
-import java.util.Objects;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
-import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTarget;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesSummary;
 
 /**
- * RecyclerView adapter for displaying {@link SpeciesTarget} entries.
+ * RecyclerView adapter for displaying {@link SpeciesSummary} entries.
  */
-public class SpeciesTargetAdapter extends ListAdapter<SpeciesTarget, SpeciesTargetAdapter.TargetViewHolder> {
+public class SpeciesTargetAdapter extends ListAdapter<SpeciesSummary, SpeciesTargetAdapter.TargetViewHolder> {
 
-    private static final DiffUtil.ItemCallback<SpeciesTarget> DIFF_CALLBACK =
-        new DiffUtil.ItemCallback<SpeciesTarget>() {
+    private static final DiffUtil.ItemCallback<SpeciesSummary> DIFF_CALLBACK =
+        new DiffUtil.ItemCallback<SpeciesSummary>() {
             @Override
-            public boolean areItemsTheSame(@NonNull SpeciesTarget oldItem, @NonNull SpeciesTarget newItem) {
-                return Objects.equals(oldItem.getSpeciesKey(), newItem.getSpeciesKey());
+            public boolean areItemsTheSame(@NonNull SpeciesSummary oldItem, @NonNull SpeciesSummary newItem) {
+                return oldItem.speciesKey.equals(newItem.speciesKey);
             }
 
             @Override
-            public boolean areContentsTheSame(@NonNull SpeciesTarget oldItem, @NonNull SpeciesTarget newItem) {
-                return Objects.equals(oldItem.getTolerance(), newItem.getTolerance())
-                    && Objects.equals(oldItem.getSource(), newItem.getSource())
-                    && Objects.equals(oldItem.getSeedlingStage(), newItem.getSeedlingStage())
-                    && Objects.equals(oldItem.getVegetativeStage(), newItem.getVegetativeStage())
-                    && Objects.equals(oldItem.getFlowerStage(), newItem.getFlowerStage());
+            public boolean areContentsTheSame(@NonNull SpeciesSummary oldItem, @NonNull SpeciesSummary newItem) {
+                return oldItem.equals(newItem);
             }
         };
     private final OnTargetClickListener listener;
@@ -53,38 +48,32 @@ public class SpeciesTargetAdapter extends ListAdapter<SpeciesTarget, SpeciesTarg
 
     @Override
     public void onBindViewHolder(@NonNull TargetViewHolder holder, int position) {
-        SpeciesTarget target = getItem(position);
-        holder.bind(target, listener);
+        SpeciesSummary summary = getItem(position);
+        holder.bind(summary, listener);
     }
 
     public interface OnTargetClickListener {
-        void onTargetClick(SpeciesTarget target);
+        void onTargetClick(SpeciesSummary summary);
 
-        void onTargetLongClick(SpeciesTarget target);
+        void onTargetLongClick(SpeciesSummary summary);
     }
 
     static class TargetViewHolder extends RecyclerView.ViewHolder {
         private final TextView speciesView;
         private final TextView toleranceView;
-        private final TextView seedlingView;
-        private final TextView vegetativeView;
-        private final TextView flowerView;
-        private final TextView sourceView;
+        private final TextView lightRangeView;
 
         TargetViewHolder(View itemView) {
             super(itemView);
             speciesView = itemView.findViewById(R.id.target_species_name);
             toleranceView = itemView.findViewById(R.id.target_tolerance);
-            seedlingView = itemView.findViewById(R.id.target_stage_seedling);
-            vegetativeView = itemView.findViewById(R.id.target_stage_vegetative);
-            flowerView = itemView.findViewById(R.id.target_stage_flower);
-            sourceView = itemView.findViewById(R.id.target_source);
+            lightRangeView = itemView.findViewById(R.id.target_light_range);
         }
 
-        void bind(SpeciesTarget target, OnTargetClickListener listener) {
-            speciesView.setText(target.getSpeciesKey());
+        void bind(SpeciesSummary summary, OnTargetClickListener listener) {
+            speciesView.setText(summary.speciesKey);
 
-            String tolerance = target.getTolerance();
+            String tolerance = summary.wateringTolerance;
             if (tolerance != null && !tolerance.trim().isEmpty()) {
                 toleranceView.setVisibility(View.VISIBLE);
                 toleranceView.setText(itemView.getContext().getString(R.string.format_tolerance, tolerance));
@@ -92,57 +81,43 @@ public class SpeciesTargetAdapter extends ListAdapter<SpeciesTarget, SpeciesTarg
                 toleranceView.setVisibility(View.GONE);
             }
 
-            bindStage(seedlingView, R.string.label_stage_seedling, target.getSeedlingStage());
-            bindStage(vegetativeView, R.string.label_stage_vegetative, target.getVegetativeStage());
-            bindStage(flowerView, R.string.label_stage_flower, target.getFlowerStage());
+            bindLightRange(summary);
 
-            String source = target.getSource();
-            if (source != null && !source.trim().isEmpty()) {
-                sourceView.setVisibility(View.VISIBLE);
-                sourceView.setText(itemView.getContext().getString(R.string.format_source, source));
-            } else {
-                sourceView.setVisibility(View.GONE);
-            }
-
-            itemView.setOnClickListener(v -> listener.onTargetClick(target));
+            itemView.setOnClickListener(v -> listener.onTargetClick(summary));
             itemView.setOnLongClickListener(v -> {
-                listener.onTargetLongClick(target);
+                listener.onTargetLongClick(summary);
                 return true;
             });
         }
 
-        private void bindStage(TextView view, int labelRes, SpeciesTarget.StageTarget stage) {
-            if (stage == null || !stage.hasRange()) {
-                view.setVisibility(View.GONE);
-                return;
-            }
-            String label = itemView.getContext().getString(labelRes);
-            boolean hasPpfd = stage.getPpfdMin() != null || stage.getPpfdMax() != null;
-            boolean hasDli = stage.getDliMin() != null || stage.getDliMax() != null;
+        private void bindLightRange(SpeciesSummary summary) {
+            String label = itemView.getContext().getString(R.string.label_light_range);
+            boolean hasPpfd = summary.ppfdMin != null || summary.ppfdMax != null;
+            boolean hasDli = summary.dliMin != null || summary.dliMax != null;
             String formatted;
             if (hasPpfd && hasDli) {
                 formatted = itemView.getContext().getString(R.string.format_stage_range,
                     label,
-                    formatValue(stage.getPpfdMin()),
-                    formatValue(stage.getPpfdMax()),
-                    formatValue(stage.getDliMin()),
-                    formatValue(stage.getDliMax()));
+                    formatValue(summary.ppfdMin),
+                    formatValue(summary.ppfdMax),
+                    formatValue(summary.dliMin),
+                    formatValue(summary.dliMax));
             } else if (hasPpfd) {
                 formatted = itemView.getContext().getString(R.string.format_stage_range_ppfd_only,
                     label,
-                    formatValue(stage.getPpfdMin()),
-                    formatValue(stage.getPpfdMax()));
+                    formatValue(summary.ppfdMin),
+                    formatValue(summary.ppfdMax));
             } else if (hasDli) {
                 formatted = itemView.getContext().getString(R.string.format_stage_range_dli_only,
                     label,
-                    formatValue(stage.getDliMin()),
-                    formatValue(stage.getDliMax()));
+                    formatValue(summary.dliMin),
+                    formatValue(summary.dliMax));
             } else {
-                view.setVisibility(View.GONE);
+                lightRangeView.setVisibility(View.GONE);
                 return;
             }
-            view.setText(formatted);
-            view.setVisibility(View.VISIBLE);
+            lightRangeView.setText(formatted);
+            lightRangeView.setVisibility(View.VISIBLE);
         }
 
         private String formatValue(Float value) {
@@ -2,6 +2,7 @@ package de.oabidi.pflanzenbestandundlichttest.feature.plant;
 
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesSummary;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTarget;
 import de.oabidi.pflanzenbestandundlichttest.core.system.RepositoryProvider;
 
@@ -35,6 +36,7 @@ import com.google.android.material.snackbar.Snackbar;
 import com.google.android.material.textfield.MaterialAutoCompleteTextView;
 
 import de.oabidi.pflanzenbestandundlichttest.core.ui.InsetsUtils;
+import de.oabidi.pflanzenbestandundlichttest.repository.QueryHandle;
 import de.oabidi.pflanzenbestandundlichttest.repository.SpeciesRepository;
 
 import java.util.ArrayList;
@@ -51,6 +53,8 @@ public class SpeciesTargetListFragment extends Fragment implements SpeciesTarget
     private View emptyStateView;
     private View progressView;
     private SpeciesSearchPresenter searchPresenter;
+    @Nullable
+    private QueryHandle loadingSummaries;
     private String currentQuery = "";
 
     public static SpeciesTargetListFragment newInstance(PlantRepository repository) {
@@ -265,7 +269,10 @@ public class SpeciesTargetListFragment extends Fragment implements SpeciesTarget
             searchPresenter.onSearchQueryChanged(currentQuery);
             return;
         }
-        repository.getAllSpeciesTargets(targets -> {
+        if (loadingSummaries != null) {
+            loadingSummaries.cancel();
+        }
+        loadingSummaries = speciesRepository.getAllSpeciesSummaries(summaries -> {
                 if (!isAdded()) {
                     return;
                 }
@@ -277,7 +284,7 @@ public class SpeciesTargetListFragment extends Fragment implements SpeciesTarget
                     emptyStateView.setVisibility(View.GONE);
                 }
                 recyclerView.setVisibility(View.VISIBLE);
-                adapter.submitList(new ArrayList<>(targets));
+                adapter.submitList(new ArrayList<>(summaries));
             },
             e -> {
                 if (isAdded()) {
@@ -306,7 +313,7 @@ public class SpeciesTargetListFragment extends Fragment implements SpeciesTarget
     }
 
     @Override
-    public void showResults(List<SpeciesTarget> results) {
+    public void showResults(List<SpeciesSummary> results) {
         if (!isAdded()) {
             return;
         }
@@ -358,6 +365,10 @@ public class SpeciesTargetListFragment extends Fragment implements SpeciesTarget
 
     @Override
     public void onDestroyView() {
+        if (loadingSummaries != null) {
+            loadingSummaries.cancel();
+            loadingSummaries = null;
+        }
         if (searchPresenter != null) {
             searchPresenter.onDestroy();
             searchPresenter = null;
@@ -638,17 +649,26 @@ public class SpeciesTargetListFragment extends Fragment implements SpeciesTarget
     }
 
     @Override
-    public void onTargetClick(SpeciesTarget target) {
-        showDialog(target);
+    public void onTargetClick(SpeciesSummary summary) {
+        speciesRepository.getSpeciesTarget(summary.speciesKey, target -> {
+                if (isAdded() && target != null) {
+                    showDialog(target);
+                }
+            },
+            e -> {
+                if (isAdded()) {
+                    showError(getString(R.string.error_database));
+                }
+            });
     }
 
     @Override
-    public void onTargetLongClick(SpeciesTarget target) {
+    public void onTargetLongClick(SpeciesSummary target) {
         new MaterialAlertDialogBuilder(requireContext())
             .setTitle(R.string.action_delete_target)
             .setMessage(R.string.confirm_delete_target)
             .setPositiveButton(android.R.string.ok, (d, which) ->
-                repository.deleteSpeciesTarget(target.getSpeciesKey(), this::loadTargets,
+                repository.deleteSpeciesTarget(target.speciesKey, this::loadTargets,
                     e -> {
                         if (isAdded())
                             showError(getString(R.string.error_database));
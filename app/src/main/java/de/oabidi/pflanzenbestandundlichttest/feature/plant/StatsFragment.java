@@ -27,11 +27,9 @@ import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
 
 import java.util.List;
 import java.util.ArrayList;
-import java.util.Map;
-import java.util.HashMap;
 
 import de.oabidi.pflanzenbestandundlichttest.core.ui.BarChartView;
-import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Measurement;
+import de.oabidi.pflanzenbestandundlichttest.core.ui.TimeSeries;
 
 /**
  * Displays simple statistics such as recent PPFD and DLI measurements for a plant.
@@ -158,17 +156,8 @@ public class StatsFragment extends Fragment implements StatsPresenter.View {
     }
 
     @Override
-    public void showMeasurements(Map<Long, List<Measurement>> data) {
-        if (data == null) {
-            chart.setMeasurements(null);
-            return;
-        }
-        Map<String, List<Measurement>> named = new HashMap<>();
-        for (Map.Entry<Long, List<Measurement>> e : data.entrySet()) {
-            String name = findPlantName(e.getKey());
-            named.put(name, e.getValue());
-        }
-        chart.setMeasurements(named);
+    public void showMeasurements(List<TimeSeries> series) {
+        chart.setSeries(series);
     }
 
     @Override
@@ -1,36 +1,39 @@
 package de.oabidi.pflanzenbestandundlichttest.feature.plant;
 
 import android.content.Context;
+import android.text.TextUtils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Set;
 
 import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
 import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.core.data.MetricColumns;
+import de.oabidi.pflanzenbestandundlichttest.core.data.SeriesMetric;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.DiaryEntry;
-import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Measurement;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
-import de.oabidi.pflanzenbestandundlichttest.repository.DiaryRepository;
-import de.oabidi.pflanzenbestandundlichttest.repository.MeasurementRepository;
+import de.oabidi.pflanzenbestandundlichttest.core.ui.TimeSeries;
+import de.oabidi.pflanzenbestandundlichttest.repository.PlantStats;
+import de.oabidi.pflanzenbestandundlichttest.repository.StatsRepository;
 
 /**
  * Presenter for loading statistics data.
  */
 public class StatsPresenter {
     private static final int DLI_DAYS = 7;
+    private static final int RECENT_MEASUREMENTS = 30;
     private final View view;
     private final PlantRepository repository;
-    private final MeasurementRepository measurementRepository;
-    private final DiaryRepository diaryRepository;
+    private final StatsRepository statsRepository;
     private final Context context;
+    private final Map<Long, String> plantNames = new HashMap<>();
+
     public StatsPresenter(View view, PlantRepository repository, Context context) {
         this.view = view;
         this.repository = repository;
-        this.measurementRepository = repository.measurementRepository();
-        this.diaryRepository = repository.diaryRepository();
+        this.statsRepository = repository.statsRepository();
         this.context = context.getApplicationContext();
     }
 
@@ -38,12 +41,18 @@ public class StatsPresenter {
      * Load all plants and pass them to the view.
      */
     public void loadPlants() {
-        repository.getAllPlants(view::showPlants,
-            e -> view.showError(context.getString(R.string.error_database)));
+        repository.getAllPlants(plants -> {
+            plantNames.clear();
+            for (Plant plant : plants) {
+                plantNames.put(plant.getId(), plant.getName());
+            }
+            view.showPlants(plants);
+        }, e -> view.showError(context.getString(R.string.error_database)));
     }
 
     /**
-     * Load measurement and diary data for the given plants.
+     * Load measurement and diary data for the given plants. Statistics of all plants are computed
+     * by a single batched query.
      */
     public void loadDataForPlants(List<Long> plantIds) {
         if (plantIds.isEmpty()) {
@@ -53,45 +62,49 @@ public class StatsPresenter {
             return;
         }
 
-        Map<Long, List<Measurement>> data = new HashMap<>();
-        Set<Long> remaining = new HashSet<>(plantIds);
-        for (Long id : plantIds) {
-            measurementRepository.recentMeasurementsForPlant(id, 30, list -> {
-                synchronized (data) {
-                    data.put(id, list);
-                    remaining.remove(id);
-                    if (remaining.isEmpty()) {
-                        view.showMeasurements(data);
-                    }
-                }
-            }, e -> view.showError(context.getString(R.string.error_database)));
-        }
-
-        if (plantIds.size() == 1) {
-            long id = plantIds.get(0);
-            diaryRepository.diaryEntriesForPlant(id, entries ->
-                    view.showDiaryCounts(formatDiaryCounts(entries)),
-                e -> view.showError(context.getString(R.string.error_database)));
-            computeDli(id);
-        } else {
-            view.showDiaryCounts(context.getString(R.string.stats_no_diary_entries));
-            view.showDli(context.getString(R.string.dli_placeholder));
-        }
-    }
-
-    private void computeDli(long plantId) {
         long now = System.currentTimeMillis();
         long end = startOfDay(now) + 86400000L;
         long start = end - DLI_DAYS * 86400000L;
-        measurementRepository.sumPpfdAndCountDays(plantId, start, end, result -> {
-            if (result.days > 0) {
-                float totalDli = result.sum * 0.0036f;
-                float avgDli = totalDli / result.days;
-                view.showDli(context.getString(R.string.format_dli, avgDli));
-            } else {
-                view.showDli(context.getString(R.string.dli_placeholder));
+        List<Long> ids = new ArrayList<>(plantIds);
+        statsRepository.statsForPlants(ids, RECENT_MEASUREMENTS, start, end,
+            stats -> showStats(ids, stats),
+            e -> view.showError(context.getString(R.string.error_database)));
+    }
+
+    private void showStats(List<Long> plantIds, Map<Long, PlantStats> stats) {
+        List<TimeSeries> series = new ArrayList<>();
+        List<String> dliLines = new ArrayList<>();
+        List<String> diaryLines = new ArrayList<>();
+        for (long id : plantIds) {
+            PlantStats plantStats = stats.get(id);
+            if (plantStats == null) {
+                continue;
             }
-        }, e -> view.showError(context.getString(R.string.error_database)));
+            String name = plantNames.containsKey(id) ? plantNames.get(id) : "";
+            MetricColumns recent = plantStats.getRecentPpfd();
+            if (recent != null && recent.size() > 0) {
+                series.add(new TimeSeries(name, recent.getTimestamps(),
+                    recent.getValues(SeriesMetric.PPFD)));
+            }
+            dliLines.add(plantIds.size() == 1 ? formatDli(plantStats)
+                : context.getString(R.string.format_stats_plant_line, name, formatDli(plantStats)));
+            diaryLines.add(plantIds.size() == 1 ? formatDiaryCounts(plantStats)
+                : context.getString(R.string.format_stats_plant_line, name,
+                formatDiaryCounts(plantStats)));
+        }
+        view.showMeasurements(series);
+        view.showDli(dliLines.isEmpty() ? context.getString(R.string.dli_placeholder)
+            : TextUtils.join("\n", dliLines));
+        view.showDiaryCounts(diaryLines.isEmpty()
+            ? context.getString(R.string.stats_no_diary_entries)
+            : TextUtils.join("\n", diaryLines));
+    }
+
+    private String formatDli(PlantStats stats) {
+        if (stats.getDaysWithData() > 0) {
+            return context.getString(R.string.format_dli, stats.getAverageDli());
+        }
+        return context.getString(R.string.dli_placeholder);
     }
 
     private long startOfDay(long time) {
@@ -104,36 +117,23 @@ public class StatsPresenter {
         return cal.getTimeInMillis();
     }
 
-    private String formatDiaryCounts(List<DiaryEntry> entries) {
-        int water = 0;
-        int fertilize = 0;
-        int prune = 0;
-        for (DiaryEntry e : entries) {
-            String type = e.getType();
-            if (DiaryEntry.TYPE_WATER.equals(type)) {
-                water++;
-            } else if (DiaryEntry.TYPE_FERTILIZE.equals(type)) {
-                fertilize++;
-            } else if (DiaryEntry.TYPE_PRUNE.equals(type)) {
-                prune++;
-            }
-        }
-        if (entries.isEmpty()) {
+    private String formatDiaryCounts(PlantStats stats) {
+        if (stats.getDiaryEntryCount() == 0) {
             return context.getString(R.string.stats_no_diary_entries);
         }
         String waterLabel = context.getString(R.string.diary_type_water);
         String fertilizeLabel = context.getString(R.string.diary_type_fertilize);
         String pruneLabel = context.getString(R.string.diary_type_prune);
         return context.getString(R.string.format_diary_counts,
-            waterLabel, water,
-            fertilizeLabel, fertilize,
-            pruneLabel, prune);
+            waterLabel, stats.getDiaryCount(DiaryEntry.TYPE_WATER),
+            fertilizeLabel, stats.getDiaryCount(DiaryEntry.TYPE_FERTILIZE),
+            pruneLabel, stats.getDiaryCount(DiaryEntry.TYPE_PRUNE));
     }
 
     public interface View {
         void showPlants(List<Plant> plants);
 
-        void showMeasurements(Map<Long, List<Measurement>> data);
+        void showMeasurements(List<TimeSeries> series);
 
         void showDiaryCounts(String text);
 
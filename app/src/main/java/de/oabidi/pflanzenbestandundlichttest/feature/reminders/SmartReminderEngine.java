@@ -2,6 +2,7 @@ package de.oabidi.pflanzenbestandundlichttest.feature.reminders;
 
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -168,7 +169,8 @@ public class SmartReminderEngine {
         return 0;
     }
 
-    private int parseFrequencyDays(@Nullable String frequency) {
+    @VisibleForTesting
+    int parseFrequencyDays(@Nullable String frequency) {
         if (frequency == null) {
             return 0;
         }
@@ -0,0 +1,360 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.search;
+
+import android.content.Context;
+import android.graphics.Typeface;
+import android.os.Bundle;
+import android.text.Editable;
+import android.text.SpannableStringBuilder;
+import android.text.Spanned;
+import android.text.TextUtils;
+import android.text.TextWatcher;
+import android.text.style.StyleSpan;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.EditText;
+import android.widget.ProgressBar;
+import android.widget.TextView;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.fragment.app.Fragment;
+import androidx.recyclerview.widget.DiffUtil;
+import androidx.recyclerview.widget.LinearLayoutManager;
+import androidx.recyclerview.widget.ListAdapter;
+import androidx.recyclerview.widget.RecyclerView;
+
+import com.google.android.material.snackbar.Snackbar;
+import com.google.android.material.textfield.TextInputLayout;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import de.oabidi.pflanzenbestandundlichttest.PlantRepository;
+import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.core.data.SearchResult;
+import de.oabidi.pflanzenbestandundlichttest.core.system.RepositoryProvider;
+import de.oabidi.pflanzenbestandundlichttest.core.ui.InsetsUtils;
+import de.oabidi.pflanzenbestandundlichttest.feature.main.MainActivity;
+import de.oabidi.pflanzenbestandundlichttest.feature.plant.SpeciesSearchFragment;
+
+/**
+ * Fragment searching the notes and names of all plants, diary entries, species and environment
+ * entries at once.
+ */
+public class GlobalSearchFragment extends Fragment implements GlobalSearchView {
+    private static final String STATE_QUERY = "state_query";
+
+    @Nullable
+    private GlobalSearchPresenter presenter;
+    @Nullable
+    private RecyclerView resultsView;
+    @Nullable
+    private TextView emptyStateView;
+    @Nullable
+    private ProgressBar progressBar;
+    @Nullable
+    private EditText searchInput;
+    @Nullable
+    private TextWatcher searchWatcher;
+    @Nullable
+    private ResultAdapter adapter;
+
+    @NonNull
+    private String currentQuery = "";
+
+    /**
+     * Factory method for creating a new instance.
+     */
+    public static GlobalSearchFragment newInstance() {
+        return new GlobalSearchFragment();
+    }
+
+    @Nullable
+    @Override
+    public View onCreateView(@NonNull LayoutInflater inflater, @Nullable ViewGroup container,
+                             @Nullable Bundle savedInstanceState) {
+        return inflater.inflate(R.layout.fragment_global_search, container, false);
+    }
+
+    @Override
+    public void onViewCreated(@NonNull View view, @Nullable Bundle savedInstanceState) {
+        super.onViewCreated(view, savedInstanceState);
+        InsetsUtils.requestApplyInsetsWhenAttached(view);
+
+        TextInputLayout searchInputLayout = view.findViewById(R.id.global_search_bar);
+        InsetsUtils.applySystemWindowInsetsMargin(searchInputLayout, false, true, false, false);
+        searchInput = view.findViewById(R.id.global_search_input);
+        resultsView = view.findViewById(R.id.global_search_results);
+        emptyStateView = view.findViewById(R.id.global_search_empty_state);
+        progressBar = view.findViewById(R.id.global_search_progress);
+
+        Context context = requireContext();
+        resultsView.setLayoutManager(new LinearLayoutManager(context));
+        InsetsUtils.applySystemWindowInsetsPadding(resultsView, false, false, false, true);
+        adapter = new ResultAdapter(this::openResult);
+        resultsView.setAdapter(adapter);
+
+        if (savedInstanceState != null) {
+            currentQuery = savedInstanceState.getString(STATE_QUERY, "");
+        }
+        if (!currentQuery.isEmpty()) {
+            searchInput.setText(currentQuery);
+            searchInput.setSelection(currentQuery.length());
+        }
+
+        presenter = new GlobalSearchPresenterImpl(this,
+            RepositoryProvider.getSearchRepository(context), context);
+
+        searchWatcher = new TextWatcher() {
+            @Override
+            public void beforeTextChanged(CharSequence s, int start, int count, int after) {
+                // no-op
+            }
+
+            @Override
+            public void onTextChanged(CharSequence s, int start, int before, int count) {
+                String normalized = s == null ? "" : s.toString().trim();
+                if (TextUtils.equals(currentQuery, normalized)) {
+                    return;
+                }
+                currentQuery = normalized;
+                if (presenter != null) {
+                    presenter.onSearchQueryChanged(normalized);
+                }
+            }
+
+            @Override
+            public void afterTextChanged(Editable s) {
+                // no-op
+            }
+        };
+        searchInput.addTextChangedListener(searchWatcher);
+
+        if (!currentQuery.isEmpty()) {
+            presenter.onSearchQueryChanged(currentQuery);
+        } else {
+            showEmptyState();
+        }
+    }
+
+    @Override
+    public void onSaveInstanceState(@NonNull Bundle outState) {
+        super.onSaveInstanceState(outState);
+        outState.putString(STATE_QUERY, currentQuery);
+    }
+
+    @Override
+    public void onDestroyView() {
+        if (searchInput != null && searchWatcher != null) {
+            searchInput.removeTextChangedListener(searchWatcher);
+        }
+        searchWatcher = null;
+        searchInput = null;
+        if (resultsView != null) {
+            resultsView.setAdapter(null);
+        }
+        adapter = null;
+        resultsView = null;
+        emptyStateView = null;
+        progressBar = null;
+        if (presenter != null) {
+            presenter.onDestroy();
+        }
+        presenter = null;
+        super.onDestroyView();
+    }
+
+    @Override
+    public void showLoading() {
+        if (progressBar != null) {
+            progressBar.setVisibility(View.VISIBLE);
+        }
+        if (emptyStateView != null) {
+            emptyStateView.setVisibility(View.GONE);
+        }
+    }
+
+    @Override
+    public void hideLoading() {
+        if (progressBar != null) {
+            progressBar.setVisibility(View.GONE);
+        }
+    }
+
+    @Override
+    public void showResults(List<SearchResult> results) {
+        if (!isAdded()) {
+            return;
+        }
+        hideLoading();
+        if (resultsView != null) {
+            resultsView.setVisibility(View.VISIBLE);
+        }
+        if (emptyStateView != null) {
+            emptyStateView.setVisibility(View.GONE);
+        }
+        if (adapter != null) {
+            adapter.submitList(new ArrayList<>(results));
+        }
+    }
+
+    @Override
+    public void showEmptyState() {
+        if (!isAdded()) {
+            return;
+        }
+        hideLoading();
+        if (adapter != null) {
+            adapter.submitList(Collections.emptyList());
+        }
+        if (emptyStateView != null) {
+            emptyStateView.setText(TextUtils.isEmpty(currentQuery)
+                ? R.string.global_search_empty_prompt
+                : R.string.global_search_no_results);
+            emptyStateView.setVisibility(View.VISIBLE);
+        }
+        if (resultsView != null) {
+            resultsView.setVisibility(View.GONE);
+        }
+    }
+
+    @Override
+    public void showError(String message) {
+        if (!isAdded()) {
+            return;
+        }
+        hideLoading();
+        View view = getView();
+        if (view != null) {
+            Snackbar.make(view, message, Snackbar.LENGTH_LONG).show();
+        }
+    }
+
+    /**
+     * Opens the plant a result belongs to, or the species search for species results.
+     */
+    private void openResult(@NonNull SearchResult result) {
+        if (result.getKind() == SearchResult.Kind.SPECIES) {
+            getParentFragmentManager().beginTransaction()
+                .replace(R.id.nav_host_fragment, SpeciesSearchFragment.newInstance(result.getTitle()))
+                .addToBackStack(null)
+                .commit();
+            return;
+        }
+        Long plantId = result.getPlantId();
+        if (plantId == null) {
+            return;
+        }
+        PlantRepository repository = RepositoryProvider.getRepository(requireContext());
+        repository.getPlant(plantId, plant -> {
+            if (plant != null && isAdded()) {
+                startActivity(MainActivity.createPlantDetailIntent(requireContext(), plant));
+            }
+        }, e -> {
+            if (isAdded()) {
+                showError(getString(R.string.error_database));
+            }
+        });
+    }
+
+    /**
+     * Replaces the match markers of a snippet with bold spans.
+     */
+    @NonNull
+    static CharSequence formatSnippet(@NonNull String snippet) {
+        SpannableStringBuilder builder = new SpannableStringBuilder();
+        int matchStart = -1;
+        for (int i = 0; i < snippet.length(); i++) {
+            char c = snippet.charAt(i);
+            if (c == SearchResult.MATCH_START) {
+                matchStart = builder.length();
+            } else if (c == SearchResult.MATCH_END) {
+                if (matchStart >= 0) {
+                    builder.setSpan(new StyleSpan(Typeface.BOLD), matchStart, builder.length(),
+                        Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
+                }
+                matchStart = -1;
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder;
+    }
+
+    private static int kindLabel(@NonNull SearchResult.Kind kind) {
+        switch (kind) {
+            case DIARY:
+                return R.string.global_search_kind_diary;
+            case SPECIES:
+                return R.string.global_search_kind_species;
+            case ENVIRONMENT:
+                return R.string.global_search_kind_environment;
+            case PLANT:
+            default:
+                return R.string.global_search_kind_plant;
+        }
+    }
+
+    private static class ResultAdapter extends ListAdapter<SearchResult, ResultAdapter.ResultViewHolder> {
+        private static final DiffUtil.ItemCallback<SearchResult> DIFF_CALLBACK =
+            new DiffUtil.ItemCallback<>() {
+                @Override
+                public boolean areItemsTheSame(@NonNull SearchResult oldItem, @NonNull SearchResult newItem) {
+                    return oldItem.getKind() == newItem.getKind() && oldItem.getId() == newItem.getId();
+                }
+
+                @Override
+                public boolean areContentsTheSame(@NonNull SearchResult oldItem, @NonNull SearchResult newItem) {
+                    return oldItem.equals(newItem);
+                }
+            };
+        private final OnResultClickListener listener;
+
+        ResultAdapter(@NonNull OnResultClickListener listener) {
+            super(DIFF_CALLBACK);
+            this.listener = Objects.requireNonNull(listener);
+        }
+
+        @NonNull
+        @Override
+        public ResultViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            View view = LayoutInflater.from(parent.getContext())
+                .inflate(R.layout.item_global_search_result, parent, false);
+            return new ResultViewHolder(view);
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull ResultViewHolder holder, int position) {
+            holder.bind(getItem(position));
+        }
+
+        class ResultViewHolder extends RecyclerView.ViewHolder {
+            private final TextView titleView;
+            private final TextView kindView;
+            private final TextView snippetView;
+
+            ResultViewHolder(@NonNull View itemView) {
+                super(itemView);
+                titleView = itemView.findViewById(R.id.global_search_result_title);
+                kindView = itemView.findViewById(R.id.global_search_result_kind);
+                snippetView = itemView.findViewById(R.id.global_search_result_snippet);
+            }
+
+            void bind(@NonNull SearchResult result) {
+                titleView.setText(result.getTitle());
+                kindView.setText(kindLabel(result.getKind()));
+                CharSequence snippet = formatSnippet(result.getSnippet());
+                snippetView.setText(snippet);
+                snippetView.setVisibility(snippet.length() == 0 ? View.GONE : View.VISIBLE);
+                itemView.setOnClickListener(v -> listener.onResultClick(result));
+            }
+        }
+    }
+
+    private interface OnResultClickListener {
+        void onResultClick(SearchResult result);
+    }
+}
@@ -0,0 +1,18 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.search;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Presenter contract coordinating the global search between the repository and the view.
+ */
+public interface GlobalSearchPresenter {
+    /**
+     * Trigger a new search for the provided query. Passing {@code null} or an empty string clears the results.
+     */
+    void onSearchQueryChanged(@Nullable String query);
+
+    /**
+     * Cancel any running search and release resources when the presenter is no longer needed.
+     */
+    void onDestroy();
+}
@@ -0,0 +1,125 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.search;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.text.TextUtils;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+import java.util.List;
+import java.util.Objects;
+
+import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.core.data.SearchResult;
+import de.oabidi.pflanzenbestandundlichttest.repository.QueryHandle;
+import de.oabidi.pflanzenbestandundlichttest.repository.SearchRepository;
+
+/**
+ * Default implementation of {@link GlobalSearchPresenter}. Input is debounced and every new
+ * search cancels the previous one, so only the latest query reaches the view.
+ */
+public class GlobalSearchPresenterImpl implements GlobalSearchPresenter {
+    private static final long DEFAULT_DEBOUNCE_MS = 300L;
+
+    private final GlobalSearchView view;
+    private final SearchRepository repository;
+    private final Context context;
+    private final Handler handler;
+    private final long debounceMs;
+    private final Runnable searchRunnable;
+
+    private String pendingQuery = "";
+    @Nullable
+    private QueryHandle runningSearch;
+    private boolean destroyed;
+
+    public GlobalSearchPresenterImpl(@NonNull GlobalSearchView view,
+                                     @NonNull SearchRepository repository,
+                                     @NonNull Context context) {
+        this(view, repository, context, new Handler(Looper.getMainLooper()), DEFAULT_DEBOUNCE_MS);
+    }
+
+    @VisibleForTesting
+    GlobalSearchPresenterImpl(@NonNull GlobalSearchView view,
+                              @NonNull SearchRepository repository,
+                              @NonNull Context context,
+                              @NonNull Handler handler,
+                              long debounceMs) {
+        this.view = Objects.requireNonNull(view, "view");
+        this.repository = Objects.requireNonNull(repository, "repository");
+        this.context = context.getApplicationContext();
+        this.handler = Objects.requireNonNull(handler, "handler");
+        this.debounceMs = debounceMs;
+        this.searchRunnable = this::executeSearch;
+    }
+
+    @Override
+    public void onSearchQueryChanged(@Nullable String query) {
+        if (destroyed) {
+            return;
+        }
+        String normalized = query == null ? "" : query.trim();
+        handler.removeCallbacks(searchRunnable);
+        cancelRunningSearch();
+        pendingQuery = normalized;
+        if (normalized.isEmpty()) {
+            view.hideLoading();
+            view.showEmptyState();
+            return;
+        }
+        view.showLoading();
+        handler.postDelayed(searchRunnable, debounceMs);
+    }
+
+    private void executeSearch() {
+        if (destroyed) {
+            return;
+        }
+        final String query = pendingQuery;
+        if (TextUtils.isEmpty(query)) {
+            view.hideLoading();
+            view.showEmptyState();
+            return;
+        }
+        runningSearch = repository.search(query, this::handleResults, this::handleError);
+    }
+
+    private void handleResults(List<SearchResult> results) {
+        if (destroyed) {
+            return;
+        }
+        runningSearch = null;
+        view.hideLoading();
+        if (results == null || results.isEmpty()) {
+            view.showEmptyState();
+        } else {
+            view.showResults(results);
+        }
+    }
+
+    private void handleError(Exception error) {
+        if (destroyed) {
+            return;
+        }
+        runningSearch = null;
+        view.hideLoading();
+        view.showError(context.getString(R.string.error_database));
+    }
+
+    private void cancelRunningSearch() {
+        if (runningSearch != null) {
+            runningSearch.cancel();
+            runningSearch = null;
+        }
+    }
+
+    @Override
+    public void onDestroy() {
+        destroyed = true;
+        handler.removeCallbacksAndMessages(null);
+        cancelRunningSearch();
+    }
+}
@@ -0,0 +1,35 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.search;
+
+import java.util.List;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.SearchResult;
+
+/**
+ * Contract for UI components showing global search results.
+ */
+public interface GlobalSearchView {
+    /**
+     * Display a loading indicator while a search is running.
+     */
+    void showLoading();
+
+    /**
+     * Hide any loading indicator once a search completes.
+     */
+    void hideLoading();
+
+    /**
+     * Render the given results, best match first.
+     */
+    void showResults(List<SearchResult> results);
+
+    /**
+     * Display an empty state when no query is entered or nothing matched.
+     */
+    void showEmptyState();
+
+    /**
+     * Surface an error message to the user.
+     */
+    void showError(String message);
+}
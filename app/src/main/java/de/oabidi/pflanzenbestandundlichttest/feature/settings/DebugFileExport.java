@@ -0,0 +1,70 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.settings;
+
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.widget.Toast;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.StringRes;
+import androidx.annotation.WorkerThread;
+
+import java.io.File;
+import java.io.IOException;
+
+import de.oabidi.pflanzenbestandundlichttest.core.system.ExecutorProvider;
+
+/**
+ * Writes a diagnostics file of the debug settings to the app's external files directory on the
+ * IO executor and reports the outcome in a toast.
+ */
+final class DebugFileExport {
+    private static final String TAG = "DebugFileExport";
+
+    /**
+     * Fills the target file.
+     */
+    interface Content {
+        @WorkerThread
+        void writeTo(@NonNull File file) throws IOException;
+    }
+
+    private DebugFileExport() {
+        // no instances
+    }
+
+    /**
+     * Writes {@code content} to a new file named {@code prefix}, the current time and
+     * {@code extension}.
+     *
+     * @param successMessage message shown on success, formatted with the file's path
+     * @param failureMessage message shown when writing failed
+     */
+    static void export(@NonNull Context context, @NonNull String prefix, @NonNull String extension,
+                       @NonNull Content content, @StringRes int successMessage,
+                       @StringRes int failureMessage) {
+        Context appContext = context.getApplicationContext();
+        File directory = appContext.getExternalFilesDir(null);
+        if (directory == null) {
+            directory = appContext.getFilesDir();
+        }
+        File file = new File(directory, prefix + System.currentTimeMillis() + extension);
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        ((ExecutorProvider) appContext).getIoExecutor().execute(() -> {
+            boolean success;
+            try {
+                content.writeTo(file);
+                success = true;
+            } catch (IOException | RuntimeException e) {
+                Log.w(TAG, "Failed to write " + file, e);
+                success = false;
+            }
+            boolean written = success;
+            mainHandler.post(() -> Toast.makeText(appContext, written
+                    ? appContext.getString(successMessage, file.getAbsolutePath())
+                    : appContext.getString(failureMessage),
+                Toast.LENGTH_LONG).show());
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.settings;
+
+import android.app.Dialog;
+import android.os.Bundle;
+import android.widget.Toast;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.appcompat.app.AlertDialog;
+import androidx.fragment.app.DialogFragment;
+
+import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.analytics.MetricsRegistry;
+
+/**
+ * Debug dialog showing the current {@link MetricsRegistry} report with options to write it to a
+ * file or reset all metrics.
+ */
+public class MetricsDialogFragment extends DialogFragment {
+    private static final String FILE_PREFIX = "metrics-";
+
+    public static MetricsDialogFragment newInstance() {
+        return new MetricsDialogFragment();
+    }
+
+    @NonNull
+    @Override
+    public Dialog onCreateDialog(@Nullable Bundle savedInstanceState) {
+        return new AlertDialog.Builder(requireContext())
+            .setTitle(R.string.metrics_title)
+            .setMessage(formatReport())
+            .setPositiveButton(android.R.string.ok, null)
+            .setNeutralButton(R.string.metrics_dump, (dialog, which) -> dumpToFile())
+            .setNegativeButton(R.string.metrics_reset, (dialog, which) -> {
+                MetricsRegistry.get().reset();
+                Toast.makeText(requireContext(), R.string.metrics_reset_done, Toast.LENGTH_SHORT).show();
+            })
+            .create();
+    }
+
+    private CharSequence formatReport() {
+        String report = MetricsRegistry.get().dump();
+        return report.isEmpty() ? getString(R.string.metrics_empty) : report;
+    }
+
+    private void dumpToFile() {
+        DebugFileExport.export(requireContext(), FILE_PREFIX, ".txt",
+            file -> MetricsRegistry.get().dumpTo(file),
+            R.string.metrics_dump_success, R.string.metrics_dump_failed);
+    }
+}
@@ -3,22 +3,31 @@ package de.oabidi.pflanzenbestandundlichttest.feature.settings;
 import android.content.Context;
 import android.content.Intent;
 import android.content.SharedPreferences;
+import android.content.pm.ApplicationInfo;
 import android.os.Bundle;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
 import android.widget.Toast;
 
 import androidx.preference.EditTextPreference;
 import androidx.preference.ListPreference;
 import androidx.preference.Preference;
 import androidx.preference.PreferenceFragmentCompat;
-import androidx.preference.SwitchPreferenceCompat;
+
+import java.io.FileOutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 import de.oabidi.pflanzenbestandundlichttest.R;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
 import de.oabidi.pflanzenbestandundlichttest.common.util.LocaleHelper;
 import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
 import de.oabidi.pflanzenbestandundlichttest.common.util.ThemeUtils;
-import de.oabidi.pflanzenbestandundlichttest.core.system.BackupScheduler;
+import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
+import de.oabidi.pflanzenbestandundlichttest.core.system.ExecutorProvider;
 import de.oabidi.pflanzenbestandundlichttest.feature.alerts.AlertHistoryDialogFragment;
-import de.oabidi.pflanzenbestandundlichttest.feature.alerts.ProactiveAlertWorkScheduler;
 import de.oabidi.pflanzenbestandundlichttest.feature.main.MainActivity;
 import de.oabidi.pflanzenbestandundlichttest.feature.onboarding.OnboardingActivity;
 
@@ -27,6 +36,13 @@ import de.oabidi.pflanzenbestandundlichttest.feature.onboarding.OnboardingActivi
  */
 public class SettingsFragment extends PreferenceFragmentCompat {
     private static final String KEY_SHOW_TUTORIAL = "show_tutorial";
+    private static final String KEY_DEBUG_METRICS = "debug_metrics";
+    private static final String KEY_DEBUG_TRACE = "debug_trace_export";
+    private static final String KEY_DEBUG_DAO_SCALING = "debug_dao_scaling";
+    private static final String KEY_DEBUG_SUMMARY_VERIFY = "debug_summary_verify";
+    private static final String TAG = "SettingsFragment";
+    private static final String TRACE_FILE_PREFIX = "trace-";
+    private static final String DAO_SCALING_FILE_PREFIX = "dao-scaling-";
 
     @Override
     public void onCreatePreferences(Bundle savedInstanceState, String rootKey) {
@@ -53,26 +69,15 @@ public class SettingsFragment extends PreferenceFragmentCompat {
             dliThresholdPreference.setOnPreferenceChangeListener(this::validateSampleSize);
         }
 
-        SwitchPreferenceCompat backupPref = findPreference(SettingsKeys.KEY_AUTO_BACKUP);
-        if (backupPref != null) {
-            backupPref.setOnPreferenceChangeListener((pref, newValue) -> {
-                boolean enabled = Boolean.TRUE.equals(newValue);
-                if (enabled) {
-                    BackupScheduler.schedule(requireContext());
-                } else {
-                    BackupScheduler.cancel(requireContext());
-                }
-                return true;
-            });
+        EditTextPreference photoMaxDimensionPreference =
+            findPreference(SettingsKeys.KEY_PHOTO_MAX_DIMENSION);
+        if (photoMaxDimensionPreference != null) {
+            photoMaxDimensionPreference.setOnPreferenceChangeListener(this::validatePhotoMaxDimension);
         }
 
-        SwitchPreferenceCompat alertsPref = findPreference(SettingsKeys.KEY_PROACTIVE_ALERTS_ENABLED);
-        if (alertsPref != null) {
-            alertsPref.setOnPreferenceChangeListener((pref, newValue) -> {
-                boolean enabled = Boolean.TRUE.equals(newValue);
-                ProactiveAlertWorkScheduler.ensureScheduled(requireContext(), enabled);
-                return true;
-            });
+        EditTextPreference photoQualityPreference = findPreference(SettingsKeys.KEY_PHOTO_QUALITY);
+        if (photoQualityPreference != null) {
+            photoQualityPreference.setOnPreferenceChangeListener(this::validatePhotoQuality);
         }
 
         Preference historyPref = findPreference("alert_history");
@@ -84,6 +89,45 @@ public class SettingsFragment extends PreferenceFragmentCompat {
             });
         }
 
+        boolean debuggable =
+            (requireContext().getApplicationInfo().flags & ApplicationInfo.FLAG_DEBUGGABLE) != 0;
+        Preference metricsPref = findPreference(KEY_DEBUG_METRICS);
+        if (metricsPref != null) {
+            metricsPref.setVisible(debuggable);
+            metricsPref.setOnPreferenceClickListener(pref -> {
+                MetricsDialogFragment.newInstance()
+                    .show(getParentFragmentManager(), KEY_DEBUG_METRICS);
+                return true;
+            });
+        }
+
+        Preference tracePref = findPreference(KEY_DEBUG_TRACE);
+        if (tracePref != null) {
+            tracePref.setVisible(debuggable);
+            tracePref.setOnPreferenceClickListener(pref -> {
+                exportTrace();
+                return true;
+            });
+        }
+
+        Preference daoScalingPref = findPreference(KEY_DEBUG_DAO_SCALING);
+        if (daoScalingPref != null) {
+            daoScalingPref.setVisible(debuggable && DebugTools.AVAILABLE);
+            daoScalingPref.setOnPreferenceClickListener(pref -> {
+                runDaoScalingBenchmark();
+                return true;
+            });
+        }
+
+        Preference summaryVerifyPref = findPreference(KEY_DEBUG_SUMMARY_VERIFY);
+        if (summaryVerifyPref != null) {
+            summaryVerifyPref.setVisible(debuggable && DebugTools.AVAILABLE);
+            summaryVerifyPref.setOnPreferenceClickListener(pref -> {
+                verifyPlantSummary();
+                return true;
+            });
+        }
+
         Preference tutorialPref = findPreference(KEY_SHOW_TUTORIAL);
         if (tutorialPref != null) {
             tutorialPref.setOnPreferenceClickListener(pref -> {
@@ -132,6 +176,57 @@ public class SettingsFragment extends PreferenceFragmentCompat {
         }
     }
 
+    /**
+     * Writes the recorded trace spans to a Perfetto-compatible JSON file in the app's external
+     * files directory.
+     */
+    private void exportTrace() {
+        DebugFileExport.export(requireContext(), TRACE_FILE_PREFIX, ".json", Tracer::exportTo,
+            R.string.trace_export_success, R.string.trace_export_failed);
+    }
+
+    /**
+     * Runs the DAO scaling benchmark on a scratch database and writes the scaling curves as CSV
+     * to the app's external files directory. Filling the larger sizes takes minutes.
+     */
+    private void runDaoScalingBenchmark() {
+        Context context = requireContext().getApplicationContext();
+        Toast.makeText(context, R.string.dao_scaling_started, Toast.LENGTH_SHORT).show();
+        DebugFileExport.export(context, DAO_SCALING_FILE_PREFIX, ".csv", file -> {
+            try (Writer writer = new OutputStreamWriter(new FileOutputStream(file),
+                StandardCharsets.UTF_8)) {
+                DebugTools.runDaoScalingBenchmark(context, writer);
+            }
+        }, R.string.dao_scaling_success, R.string.dao_scaling_failed);
+    }
+
+    /**
+     * Verifies the plant summary triggers with a fresh seed, which is logged so a failing run can
+     * be replayed.
+     */
+    private void verifyPlantSummary() {
+        Context context = requireContext().getApplicationContext();
+        Handler mainHandler = new Handler(Looper.getMainLooper());
+        long seed = System.nanoTime();
+        ((ExecutorProvider) context).getIoExecutor().execute(() -> {
+            boolean success;
+            try {
+                Log.i(TAG, "Verifying plant summary with seed " + seed);
+                DebugTools.verifyPlantSummary(context, seed);
+                success = true;
+            } catch (RuntimeException e) {
+                Log.w(TAG, "Plant summary verification failed", e);
+                success = false;
+            }
+            boolean matched = success;
+            mainHandler.post(() -> Toast.makeText(context, matched
+                    ? context.getString(R.string.summary_verify_success,
+                        DebugTools.SUMMARY_VERIFY_STEPS)
+                    : context.getString(R.string.summary_verify_failed),
+                Toast.LENGTH_LONG).show());
+        });
+    }
+
     private boolean validatePositiveFloat(Preference preference, Object newValue) {
         try {
             if (Float.parseFloat((String) newValue) > 0f) {
@@ -155,4 +250,31 @@ public class SettingsFragment extends PreferenceFragmentCompat {
         Toast.makeText(requireContext(), R.string.error_positive_number, Toast.LENGTH_SHORT).show();
         return false;
     }
+
+    private boolean validatePhotoMaxDimension(Preference preference, Object newValue) {
+        try {
+            if (Integer.parseInt((String) newValue) >= PhotoManager.MIN_MAX_DIMENSION) {
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to show error
+        }
+        Toast.makeText(requireContext(),
+            getString(R.string.error_photo_max_dimension, PhotoManager.MIN_MAX_DIMENSION),
+            Toast.LENGTH_SHORT).show();
+        return false;
+    }
+
+    private boolean validatePhotoQuality(Preference preference, Object newValue) {
+        try {
+            int quality = Integer.parseInt((String) newValue);
+            if (quality >= 1 && quality <= 100) {
+                return true;
+            }
+        } catch (NumberFormatException e) {
+            // fall through to show error
+        }
+        Toast.makeText(requireContext(), R.string.error_photo_quality, Toast.LENGTH_SHORT).show();
+        return false;
+    }
 }
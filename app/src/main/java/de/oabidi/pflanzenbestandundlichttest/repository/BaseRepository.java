@@ -1,14 +1,22 @@
 package de.oabidi.pflanzenbestandundlichttest.repository;
 
 import android.content.Context;
+import android.os.CancellationSignal;
 import android.os.Handler;
+import android.os.OperationCanceledException;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import de.oabidi.pflanzenbestandundlichttest.analytics.CallSiteMetrics;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
 import de.oabidi.pflanzenbestandundlichttest.core.data.db.PlantDatabase;
 
 /**
@@ -18,6 +26,7 @@ abstract class BaseRepository {
     protected final Context context;
     protected final Handler mainHandler;
     protected final ExecutorService ioExecutor;
+    private final Map<Object, QueryHandle> latestQueries = new ConcurrentHashMap<>();
 
     BaseRepository(Context context, Handler mainHandler, ExecutorService ioExecutor) {
         this.context = context.getApplicationContext();
@@ -32,7 +41,11 @@ abstract class BaseRepository {
 
     protected void runAsync(Runnable action, @Nullable Supplier<Runnable> postActionSupplier,
                             @Nullable Runnable callback, @Nullable Consumer<Exception> errorCallback) {
+        CallSiteMetrics metrics = CallSiteMetrics.of(action);
+        long enqueuedAt = System.nanoTime();
         PlantDatabase.databaseWriteExecutor.execute(() -> {
+            long startedAt = metrics.started(enqueuedAt);
+            Tracer.Span span = Tracer.begin(metrics.getName());
             try {
                 action.run();
                 Runnable suppliedPostAction = null;
@@ -62,13 +75,20 @@ abstract class BaseRepository {
                 if (errorCallback != null) {
                     mainHandler.post(() -> errorCallback.accept(e));
                 }
+            } finally {
+                span.close();
+                metrics.finished(startedAt);
             }
         });
     }
 
     protected <T> void queryAsync(Supplier<T> query, @Nullable Consumer<T> callback,
                                   @Nullable Consumer<Exception> errorCallback) {
+        CallSiteMetrics metrics = CallSiteMetrics.of(query);
+        long enqueuedAt = System.nanoTime();
         PlantDatabase.databaseWriteExecutor.execute(() -> {
+            long startedAt = metrics.started(enqueuedAt);
+            Tracer.Span span = Tracer.begin(metrics.getName());
             try {
                 T result = query.get();
                 if (callback != null) {
@@ -78,7 +98,83 @@ abstract class BaseRepository {
                 if (errorCallback != null) {
                     mainHandler.post(() -> errorCallback.accept(e));
                 }
+            } finally {
+                span.close();
+                metrics.finished(startedAt);
             }
         });
     }
+
+    /**
+     * Runs a query like {@link #queryAsync} and returns a handle to cancel it. The query receives
+     * the handle's {@link CancellationSignal} to pass on to
+     * {@link androidx.room.RoomDatabase#query(androidx.sqlite.db.SupportSQLiteQuery, CancellationSignal)};
+     * generated DAO methods cannot take it, so they are only cancelled before they start.
+     * Callbacks of a cancelled query are never invoked.
+     */
+    protected <T> QueryHandle queryCancellable(Function<CancellationSignal, T> query,
+                                               @Nullable Consumer<T> callback,
+                                               @Nullable Consumer<Exception> errorCallback) {
+        QueryHandle handle = new QueryHandle();
+        submitCancellable(handle, query, callback, errorCallback, null);
+        return handle;
+    }
+
+    /**
+     * Runs a cancellable query for which only the latest request per {@code key} matters, such
+     * as a search on every keystroke. Starting a query cancels the previous one with an equal key.
+     */
+    protected <T> QueryHandle queryLatest(@NonNull Object key, Function<CancellationSignal, T> query,
+                                          @Nullable Consumer<T> callback,
+                                          @Nullable Consumer<Exception> errorCallback) {
+        QueryHandle handle = new QueryHandle();
+        QueryHandle previous = latestQueries.put(key, handle);
+        if (previous != null) {
+            previous.cancel();
+        }
+        submitCancellable(handle, query, callback, errorCallback,
+            () -> latestQueries.remove(key, handle));
+        return handle;
+    }
+
+    private <T> void submitCancellable(QueryHandle handle, Function<CancellationSignal, T> query,
+                                       @Nullable Consumer<T> callback,
+                                       @Nullable Consumer<Exception> errorCallback,
+                                       @Nullable Runnable onFinished) {
+        CallSiteMetrics metrics = CallSiteMetrics.of(query);
+        long enqueuedAt = System.nanoTime();
+        handle.setTask(PlantDatabase.databaseWriteExecutor.submit(() -> {
+            if (handle.isCancelled()) {
+                return;
+            }
+            long startedAt = metrics.started(enqueuedAt);
+            Tracer.Span span = Tracer.begin(metrics.getName());
+            try {
+                T result = query.apply(handle.getSignal());
+                if (callback != null) {
+                    mainHandler.post(() -> {
+                        if (!handle.isCancelled()) {
+                            callback.accept(result);
+                        }
+                    });
+                }
+            } catch (OperationCanceledException e) {
+                // Cancelled while running; nobody is waiting for the result.
+            } catch (Exception e) {
+                if (errorCallback != null) {
+                    mainHandler.post(() -> {
+                        if (!handle.isCancelled()) {
+                            errorCallback.accept(e);
+                        }
+                    });
+                }
+            } finally {
+                span.close();
+                metrics.finished(startedAt);
+                if (onFinished != null) {
+                    onFinished.run();
+                }
+            }
+        }), PlantDatabase.databaseWriteExecutor);
+    }
 }
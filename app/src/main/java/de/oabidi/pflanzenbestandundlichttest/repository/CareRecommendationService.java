@@ -20,6 +20,7 @@ import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
 import de.oabidi.pflanzenbestandundlichttest.CareRecommendationEngine;
 import de.oabidi.pflanzenbestandundlichttest.CareRecommendationEngine.CareRecommendation;
 import de.oabidi.pflanzenbestandundlichttest.common.util.SettingsKeys;
@@ -136,13 +137,16 @@ public class CareRecommendationService extends BaseRepository implements CareRec
     @Override
     public Runnable refreshCareRecommendationsAsync(long plantId) {
         return () -> {
-            try {
+            try (Tracer.Span span = Tracer.begin("care.refresh")) {
+                span.arg("plant_id", plantId);
                 List<CareRecommendation> recommendations = computeCareRecommendations(plantId);
+                span.arg("rows", recommendations != null ? recommendations.size() : 0);
                 notifyCareRecommendationListeners(plantId, recommendations);
             } catch (Exception e) {
                 notifyCareRecommendationError(plantId, e);
             }
-            try {
+            try (Tracer.Span span = Tracer.begin("reminder_suggestion.refresh")) {
+                span.arg("plant_id", plantId);
                 reminderSuggestionManager.refreshReminderSuggestionSync(plantId, System.currentTimeMillis());
             } catch (Exception e) {
                 Log.w(TAG, "Failed to refresh reminder suggestion", e);
@@ -171,7 +175,7 @@ public class CareRecommendationService extends BaseRepository implements CareRec
         if (entries == null) {
             entries = Collections.emptyList();
         }
-        List<CareRecommendation> evaluated = careRecommendationEngine.evaluate(profile, entries, context.getResources());
+        List<CareRecommendation> evaluated = careRecommendationEngine.evaluate(profile, entries);
         return applyDismissals(plantId, evaluated);
     }
 
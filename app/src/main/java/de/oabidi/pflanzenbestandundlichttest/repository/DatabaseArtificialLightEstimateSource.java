@@ -4,7 +4,6 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
@@ -13,6 +12,7 @@ import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfile;
 import de.oabidi.pflanzenbestandundlichttest.core.data.LedProfileDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantCalibration;
 import de.oabidi.pflanzenbestandundlichttest.core.data.PlantCalibrationDao;
+import de.oabidi.pflanzenbestandundlichttest.feature.lighting.ArtificialLightEstimateCache;
 import de.oabidi.pflanzenbestandundlichttest.feature.lighting.LedProfileUtils;
 
 /**
@@ -46,9 +46,8 @@ public class DatabaseArtificialLightEstimateSource implements ArtificialLightEst
         }
         PlantCalibration legacy = plantCalibrationDao.getForPlant(plantId);
         Map<String, Float> factors = resolveCalibration(profile, legacy);
-        List<LedProfile.ScheduleEntry> schedule = profile != null ? profile.getSchedule() : null;
         LedProfileUtils.ArtificialLightEstimate estimate =
-            LedProfileUtils.estimateArtificialLight(schedule, factors);
+            ArtificialLightEstimateCache.get().estimate(profile, factors);
         float photonHours = estimate.getPhotonHours();
         float dli = estimate.getAmbientDli();
         if (photonHours <= 0f && dli <= 0f) {
@@ -10,6 +10,7 @@ import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.SearchIndex;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.DiaryDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.DiaryEntry;
 import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
@@ -69,10 +70,11 @@ public class DiaryRepository extends BaseRepository {
     public void searchDiaryEntries(long plantId, String query, Consumer<List<DiaryEntry>> callback,
                                    @Nullable Consumer<Exception> errorCallback) {
         queryAsync(() -> {
-            if (query == null || query.isEmpty()) {
+            String ftsQuery = SearchIndex.toPrefixQuery(query);
+            if (ftsQuery == null) {
                 return diaryDao.entriesForPlant(plantId);
             }
-            return diaryDao.searchDiaryEntries(plantId, query + "*");
+            return diaryDao.searchDiaryEntries(plantId, ftsQuery);
         }, callback, errorCallback);
     }
 
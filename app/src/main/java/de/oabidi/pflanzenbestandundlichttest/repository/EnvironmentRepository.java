@@ -8,13 +8,19 @@ import android.text.TextUtils;
 import androidx.annotation.Nullable;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntryDao;
+import de.oabidi.pflanzenbestandundlichttest.core.data.LightSummary;
+import de.oabidi.pflanzenbestandundlichttest.core.data.MetricColumns;
+import de.oabidi.pflanzenbestandundlichttest.core.data.SeriesMetric;
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.SeriesReader;
 import de.oabidi.pflanzenbestandundlichttest.core.data.util.PhotoManager;
 
 /**
@@ -24,15 +30,18 @@ public class EnvironmentRepository extends BaseRepository {
     private final EnvironmentEntryDao environmentEntryDao;
     private final CareRecommendationDelegate careDelegate;
     private final ArtificialLightEstimateSource artificialLightSource;
+    private final SeriesReader seriesReader;
 
     public EnvironmentRepository(Context context, Handler mainHandler, ExecutorService ioExecutor,
                                  EnvironmentEntryDao environmentEntryDao,
                                  CareRecommendationDelegate careDelegate,
-                                 ArtificialLightEstimateSource artificialLightSource) {
+                                 ArtificialLightEstimateSource artificialLightSource,
+                                 SeriesReader seriesReader) {
         super(context, mainHandler, ioExecutor);
         this.environmentEntryDao = Objects.requireNonNull(environmentEntryDao, "environmentEntryDao");
         this.careDelegate = Objects.requireNonNull(careDelegate, "careDelegate");
         this.artificialLightSource = Objects.requireNonNull(artificialLightSource, "artificialLightSource");
+        this.seriesReader = Objects.requireNonNull(seriesReader, "seriesReader");
     }
 
     public void environmentEntriesForPlant(long plantId, Consumer<List<EnvironmentEntry>> callback,
@@ -44,6 +53,73 @@ public class EnvironmentRepository extends BaseRepository {
         environmentEntriesForPlant(plantId, callback, null);
     }
 
+    /**
+     * Loads the page of environment entries that follows {@code after} in newest-first order,
+     * or the first page if {@code after} is {@code null}. Each entry is passed through
+     * {@code mapper} on the background thread so callers can build view models off the main
+     * thread.
+     */
+    public <T> void environmentEntryPage(long plantId, @Nullable EnvironmentEntry after, int limit,
+                                         Function<EnvironmentEntry, T> mapper,
+                                         Consumer<List<T>> callback,
+                                         @Nullable Consumer<Exception> errorCallback) {
+        long beforeTimestamp = after != null ? after.getTimestamp() : Long.MAX_VALUE;
+        long beforeId = after != null ? after.getId() : Long.MAX_VALUE;
+        queryAsync(() -> {
+            List<EnvironmentEntry> entries =
+                environmentEntryDao.getPageForPlant(plantId, beforeTimestamp, beforeId, limit);
+            List<T> mapped = new ArrayList<>(entries.size());
+            for (EnvironmentEntry entry : entries) {
+                mapped.add(mapper.apply(entry));
+            }
+            return mapped;
+        }, callback, errorCallback);
+    }
+
+    /**
+     * Loads the photo references of all entries of a plant, newest first, mapping each on the
+     * background thread.
+     */
+    public <T> void environmentPhotosForPlant(long plantId,
+                                              Function<EnvironmentEntryDao.PhotoRef, T> mapper,
+                                              Consumer<List<T>> callback,
+                                              @Nullable Consumer<Exception> errorCallback) {
+        queryAsync(() -> {
+            List<EnvironmentEntryDao.PhotoRef> refs = environmentEntryDao.getPhotoRefsForPlant(plantId);
+            List<T> mapped = new ArrayList<>(refs.size());
+            for (EnvironmentEntryDao.PhotoRef ref : refs) {
+                mapped.add(mapper.apply(ref));
+            }
+            return mapped;
+        }, callback, errorCallback);
+    }
+
+    /**
+     * Loads the latest natural and artificial DLI values of a plant.
+     */
+    public void lightSummaryForPlant(long plantId, Consumer<LightSummary> callback,
+                                     @Nullable Consumer<Exception> errorCallback) {
+        queryAsync(() -> {
+            EnvironmentEntry natural = environmentEntryDao.getLatestWithNaturalDli(plantId);
+            EnvironmentEntry artificial = environmentEntryDao.getLatestWithArtificialDli(plantId);
+            return new LightSummary(
+                natural != null ? natural.getNaturalDli() : null,
+                natural != null ? natural.getTimestamp() : null,
+                artificial != null ? artificial.getArtificialDli() : null,
+                artificial != null ? artificial.getTimestamp() : null);
+        }, callback, errorCallback);
+    }
+
+    /**
+     * Loads the given environment metrics of a plant within {@code [start, end)} as primitive
+     * columns without building {@link EnvironmentEntry} entities.
+     */
+    public void environmentSeriesForPlant(long plantId, long start, long end, SeriesMetric[] metrics,
+                                          Consumer<MetricColumns> callback,
+                                          @Nullable Consumer<Exception> errorCallback) {
+        queryAsync(() -> seriesReader.read(plantId, start, end, metrics), callback, errorCallback);
+    }
+
     public void insertEnvironmentEntry(EnvironmentEntry entry, Runnable callback,
                                        @Nullable Consumer<Exception> errorCallback) {
         Objects.requireNonNull(entry, "entry");
@@ -14,6 +14,10 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
 import de.oabidi.pflanzenbestandundlichttest.LightMath;
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
+import de.oabidi.pflanzenbestandundlichttest.core.data.MetricColumns;
+import de.oabidi.pflanzenbestandundlichttest.core.data.SeriesMetric;
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.SeriesReader;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Measurement;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.MeasurementDao;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
@@ -34,25 +38,71 @@ public class MeasurementRepository extends BaseRepository {
     private final PlantDao plantDao;
     private final SpeciesTargetDao speciesTargetDao;
     private final ReminderDao reminderDao;
+    private final SeriesReader seriesReader;
+    private final SharedPreferences preferences;
+    // Held strongly because SharedPreferences only keeps weak references to listeners.
+    private final SharedPreferences.OnSharedPreferenceChangeListener settingsListener;
+    @Nullable
+    private volatile DliAlertSettings alertSettings;
 
     public MeasurementRepository(Context context, Handler mainHandler, ExecutorService ioExecutor,
                                  MeasurementDao measurementDao, PlantDao plantDao,
-                                 SpeciesTargetDao speciesTargetDao, ReminderDao reminderDao) {
+                                 SpeciesTargetDao speciesTargetDao, ReminderDao reminderDao,
+                                 SeriesReader seriesReader) {
         super(context, mainHandler, ioExecutor);
         this.measurementDao = Objects.requireNonNull(measurementDao, "measurementDao");
         this.plantDao = Objects.requireNonNull(plantDao, "plantDao");
         this.speciesTargetDao = Objects.requireNonNull(speciesTargetDao, "speciesTargetDao");
         this.reminderDao = Objects.requireNonNull(reminderDao, "reminderDao");
+        this.seriesReader = Objects.requireNonNull(seriesReader, "seriesReader");
+        this.preferences = this.context.getSharedPreferences(SettingsKeys.PREFS_NAME, Context.MODE_PRIVATE);
+        this.settingsListener = (prefs, key) -> {
+            if (SettingsKeys.KEY_DLI_ALERTS_ENABLED.equals(key)
+                || SettingsKeys.KEY_DLI_ALERT_THRESHOLD.equals(key)
+                || SettingsKeys.KEY_LIGHT_HOURS.equals(key)
+                || key == null) {
+                alertSettings = null;
+            }
+        };
+        preferences.registerOnSharedPreferenceChangeListener(settingsListener);
     }
 
     public void insertMeasurement(Measurement measurement, Runnable callback,
                                   @Nullable Consumer<Exception> errorCallback) {
         Objects.requireNonNull(measurement, "measurement");
+        long plantId = measurement.getPlantId();
+        Tracer.Span save = Tracer.beginAsync("measurement.save").arg("plant_id", plantId);
         AtomicReference<Runnable> postActionRef = new AtomicReference<>();
         runAsync(() -> {
-            measurementDao.insert(measurement);
-            postActionRef.set(checkDliAlerts(measurement.getPlantId()));
-        }, postActionRef::get, callback, errorCallback);
+            try (Tracer.Span insert = Tracer.begin("measurement.insert")) {
+                insert.arg("plant_id", plantId).arg("save_id", save.getId());
+                measurementDao.insert(measurement);
+            }
+            try (Tracer.Span check = Tracer.begin("measurement.dli_check")) {
+                Runnable alert = checkDliAlerts(plantId);
+                check.arg("plant_id", plantId).arg("save_id", save.getId())
+                    .arg("alert", alert != null ? 1L : 0L);
+                postActionRef.set(alert);
+            }
+        }, () -> {
+            Runnable alert = postActionRef.get();
+            return alert == null ? null : () -> {
+                try (Tracer.Span schedule = Tracer.begin("measurement.dli_alert")) {
+                    schedule.arg("plant_id", plantId).arg("save_id", save.getId());
+                    alert.run();
+                }
+            };
+        }, () -> {
+            save.close();
+            if (callback != null) {
+                callback.run();
+            }
+        }, e -> {
+            save.arg("error", e.getClass().getSimpleName()).close();
+            if (errorCallback != null) {
+                errorCallback.accept(e);
+            }
+        });
     }
 
     public void insertMeasurement(Measurement measurement, Runnable callback) {
@@ -97,6 +147,16 @@ public class MeasurementRepository extends BaseRepository {
         recentMeasurementsForPlant(plantId, limit, callback, null);
     }
 
+    /**
+     * Loads the given measurement metrics of a plant within {@code [start, end)} as primitive
+     * columns without building {@link Measurement} entities.
+     */
+    public void measurementSeriesForPlant(long plantId, long start, long end, SeriesMetric[] metrics,
+                                          Consumer<MetricColumns> callback,
+                                          @Nullable Consumer<Exception> errorCallback) {
+        queryAsync(() -> seriesReader.read(plantId, start, end, metrics), callback, errorCallback);
+    }
+
     public void measurementsForPlantSince(long plantId, long since, Consumer<List<Measurement>> callback,
                                           @Nullable Consumer<Exception> errorCallback) {
         queryAsync(() -> measurementDao.getForPlantSince(plantId, since), callback, errorCallback);
@@ -158,28 +218,18 @@ public class MeasurementRepository extends BaseRepository {
         sumPpfdAndCountDays(plantId, start, end, callback, null);
     }
 
+    /**
+     * Creates reminders when the plant's daily DLI stayed below or above its species target for
+     * the configured number of consecutive days. Runs after every insert, so it reads all days
+     * with one grouped query and deduplicates with an indexed existence check.
+     */
     private Runnable checkDliAlerts(long plantId) {
-        SharedPreferences prefs = context.getSharedPreferences(SettingsKeys.PREFS_NAME, Context.MODE_PRIVATE);
-        if (!prefs.getBoolean(SettingsKeys.KEY_DLI_ALERTS_ENABLED, false)) {
+        DliAlertSettings settings = alertSettings();
+        if (!settings.enabled || settings.threshold <= 0) {
             return null;
         }
-        String thresholdStr = prefs.getString(SettingsKeys.KEY_DLI_ALERT_THRESHOLD, "3");
-        int threshold;
-        try {
-            threshold = Integer.parseInt(thresholdStr);
-        } catch (NumberFormatException e) {
-            threshold = 3;
-        }
-        if (threshold <= 0) {
-            return null;
-        }
-        String hoursStr = prefs.getString(SettingsKeys.KEY_LIGHT_HOURS, "12");
-        float lightHours;
-        try {
-            lightHours = Float.parseFloat(hoursStr);
-        } catch (NumberFormatException e) {
-            lightHours = 12f;
-        }
+        int threshold = settings.threshold;
+        float lightHours = settings.lightHours;
 
         Plant plant = plantDao.findById(plantId);
         if (plant == null || plant.getSpecies() == null || plant.getSpecies().isEmpty()) {
@@ -201,22 +251,20 @@ public class MeasurementRepository extends BaseRepository {
         }
 
         long todayStart = startOfDay(System.currentTimeMillis());
+        long windowStart = todayStart - (threshold - 1) * 86400000L;
+        List<MeasurementDao.DailyLight> days =
+            measurementDao.getLatestPerDay(plantId, windowStart, threshold);
         int lowStreak = 0;
         int highStreak = 0;
-        for (int i = 0; i < threshold; i++) {
-            long start = todayStart - i * 86400000L;
-            long end = start + 86400000L;
-            List<Measurement> list = measurementDao.getForPlantInRange(plantId, start, end);
-            if (list.isEmpty()) {
+        long expectedDay = threshold - 1;
+        for (MeasurementDao.DailyLight day : days) {
+            if (day.dayIndex != expectedDay) {
                 break;
             }
-            Measurement m = list.get(0);
-            Float dli = m.getDli();
-            if (dli == null) {
-                Float ppfd = m.getPpfd();
-                if (ppfd != null) {
-                    dli = LightMath.dliFromPpfd(ppfd, lightHours);
-                }
+            expectedDay--;
+            Float dli = day.dli;
+            if (dli == null && day.ppfd != null) {
+                dli = LightMath.dliFromPpfd(day.ppfd, lightHours);
             }
             if (dli == null) {
                 break;
@@ -239,24 +287,29 @@ public class MeasurementRepository extends BaseRepository {
             } else {
                 message = context.getString(R.string.reminder_dli_high, plant.getName(), threshold);
             }
-            List<Reminder> reminders = reminderDao.getForPlant(plantId);
-            for (Reminder r : reminders) {
-                if (message.equals(r.getMessage())) {
-                    return null;
-                }
+            if (reminderDao.existsForPlant(plantId, message)) {
+                return null;
             }
             long triggerAt = System.currentTimeMillis();
             Reminder reminder = new Reminder(triggerAt, message, plantId);
-            long id = reminderDao.insert(reminder);
-            final long finalTriggerAt = triggerAt;
-            final String finalMessage = message;
-            final long finalId = id;
-            final long finalPlantId = plantId;
-            return () -> ReminderScheduler.scheduleReminderAt(context, finalTriggerAt, finalMessage, finalId, finalPlantId);
+            reminderDao.insert(reminder);
+            return () -> ReminderScheduler.onRemindersChanged(context);
         }
         return null;
     }
 
+    /**
+     * Returns the parsed DLI alert settings, re-reading preferences only after they changed.
+     */
+    private DliAlertSettings alertSettings() {
+        DliAlertSettings settings = alertSettings;
+        if (settings == null) {
+            settings = DliAlertSettings.read(preferences);
+            alertSettings = settings;
+        }
+        return settings;
+    }
+
     private long startOfDay(long time) {
         Calendar cal = Calendar.getInstance();
         cal.setTimeInMillis(time);
@@ -277,4 +330,36 @@ public class MeasurementRepository extends BaseRepository {
         }
         return null;
     }
+
+    /**
+     * Parsed snapshot of the preferences controlling DLI alerts.
+     */
+    private static final class DliAlertSettings {
+        final boolean enabled;
+        final int threshold;
+        final float lightHours;
+
+        private DliAlertSettings(boolean enabled, int threshold, float lightHours) {
+            this.enabled = enabled;
+            this.threshold = threshold;
+            this.lightHours = lightHours;
+        }
+
+        static DliAlertSettings read(SharedPreferences prefs) {
+            boolean enabled = prefs.getBoolean(SettingsKeys.KEY_DLI_ALERTS_ENABLED, false);
+            int threshold;
+            try {
+                threshold = Integer.parseInt(prefs.getString(SettingsKeys.KEY_DLI_ALERT_THRESHOLD, "3"));
+            } catch (NumberFormatException e) {
+                threshold = 3;
+            }
+            float lightHours;
+            try {
+                lightHours = Float.parseFloat(prefs.getString(SettingsKeys.KEY_LIGHT_HOURS, "12"));
+            } catch (NumberFormatException e) {
+                lightHours = 12f;
+            }
+            return new DliAlertSettings(enabled, threshold, lightHours);
+        }
+    }
 }
@@ -0,0 +1,79 @@
+package de.oabidi.pflanzenbestandundlichttest.repository;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.MetricColumns;
+
+/**
+ * Statistics of a single plant as computed by {@link StatsRepository}.
+ */
+public final class PlantStats {
+    private final long plantId;
+    @Nullable
+    private final MetricColumns recentPpfd;
+    private final float averageDli;
+    private final int daysWithData;
+    private final Map<String, Integer> diaryCounts;
+    private final int diaryEntryCount;
+
+    PlantStats(long plantId, @Nullable MetricColumns recentPpfd, float averageDli, int daysWithData,
+               @NonNull Map<String, Integer> diaryCounts) {
+        this.plantId = plantId;
+        this.recentPpfd = recentPpfd;
+        this.averageDli = averageDli;
+        this.daysWithData = daysWithData;
+        this.diaryCounts = Collections.unmodifiableMap(new HashMap<>(diaryCounts));
+        int total = 0;
+        for (int count : diaryCounts.values()) {
+            total += count;
+        }
+        this.diaryEntryCount = total;
+    }
+
+    public long getPlantId() {
+        return plantId;
+    }
+
+    /**
+     * Returns the most recent PPFD measurements, or {@code null} if the plant has none.
+     */
+    @Nullable
+    public MetricColumns getRecentPpfd() {
+        return recentPpfd;
+    }
+
+    /**
+     * Returns the average daily light integral over the stats window, or {@link Float#NaN} if no
+     * day in the window has measurements.
+     */
+    public float getAverageDli() {
+        return averageDli;
+    }
+
+    /**
+     * Returns the number of days in the stats window that have measurements.
+     */
+    public int getDaysWithData() {
+        return daysWithData;
+    }
+
+    /**
+     * Returns the number of diary entries of the given type.
+     */
+    public int getDiaryCount(@NonNull String type) {
+        Integer count = diaryCounts.get(type);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * Returns the number of diary entries of all types.
+     */
+    public int getDiaryEntryCount() {
+        return diaryEntryCount;
+    }
+}
@@ -0,0 +1,66 @@
+package de.oabidi.pflanzenbestandundlichttest.repository;
+
+import android.os.CancellationSignal;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Handle of an asynchronous repository query that can be cancelled.
+ *
+ * <p>Cancelling removes the query from the executor queue if it has not started, aborts the
+ * SQLite statement if it is running with the handle's {@link CancellationSignal}, and suppresses
+ * its callbacks in any case.</p>
+ */
+public final class QueryHandle {
+    private final CancellationSignal signal = new CancellationSignal();
+    @Nullable
+    private volatile Future<?> task;
+    @Nullable
+    private volatile ExecutorService executor;
+
+    QueryHandle() {
+    }
+
+    @NonNull
+    CancellationSignal getSignal() {
+        return signal;
+    }
+
+    void setTask(@NonNull Future<?> task, @NonNull ExecutorService executor) {
+        this.executor = executor;
+        this.task = task;
+        if (isCancelled()) {
+            removeTask();
+        }
+    }
+
+    /**
+     * Cancels the query. Has no effect if it already finished.
+     */
+    public void cancel() {
+        signal.cancel();
+        removeTask();
+    }
+
+    public boolean isCancelled() {
+        return signal.isCanceled();
+    }
+
+    private void removeTask() {
+        Future<?> current = task;
+        if (current == null) {
+            return;
+        }
+        current.cancel(false);
+        // A cancelled task stays queued until a worker polls it; drop it right away instead.
+        ExecutorService currentExecutor = executor;
+        if (currentExecutor instanceof ThreadPoolExecutor && current instanceof Runnable) {
+            ((ThreadPoolExecutor) currentExecutor).remove((Runnable) current);
+        }
+    }
+}
@@ -13,6 +13,7 @@ import java.util.function.Consumer;
 
 import de.oabidi.pflanzenbestandundlichttest.core.system.reminder.Reminder;
 import de.oabidi.pflanzenbestandundlichttest.core.system.reminder.ReminderDao;
+import de.oabidi.pflanzenbestandundlichttest.core.system.reminder.ReminderScheduler;
 import de.oabidi.pflanzenbestandundlichttest.core.system.reminder.ReminderSuggestion;
 import de.oabidi.pflanzenbestandundlichttest.core.system.reminder.ReminderSuggestionDao;
 
@@ -56,6 +57,7 @@ public class ReminderRepository extends BaseRepository {
         runAsync(() -> {
             long id = reminderDao.insert(reminder);
             reminder.setId(id);
+            ReminderScheduler.onRemindersChanged(context);
         }, callback, errorCallback);
         return true;
     }
@@ -69,7 +71,10 @@ public class ReminderRepository extends BaseRepository {
         if (!validateReminderPlantId(reminder, errorCallback)) {
             return false;
         }
-        runAsync(() -> reminderDao.update(reminder), callback, errorCallback);
+        runAsync(() -> {
+            reminderDao.update(reminder);
+            ReminderScheduler.onRemindersChanged(context);
+        }, callback, errorCallback);
         return true;
     }
 
@@ -78,13 +83,27 @@ public class ReminderRepository extends BaseRepository {
     }
 
     public void deleteReminderById(long id, Runnable callback, @Nullable Consumer<Exception> errorCallback) {
-        runAsync(() -> reminderDao.deleteById(id), callback, errorCallback);
+        runAsync(() -> {
+            reminderDao.deleteById(id);
+            ReminderScheduler.onRemindersChanged(context);
+        }, callback, errorCallback);
     }
 
     public void deleteReminderById(long id, Runnable callback) {
         deleteReminderById(id, callback, null);
     }
 
+    /**
+     * Deletes all reminders that were due before the given time without delivering them.
+     */
+    public void deleteRemindersDueBefore(long before, Runnable callback,
+                                         @Nullable Consumer<Exception> errorCallback) {
+        runAsync(() -> {
+            reminderDao.deleteDueBefore(before);
+            ReminderScheduler.onRemindersChanged(context);
+        }, callback, errorCallback);
+    }
+
     public List<Reminder> getRemindersForPlantSync(long plantId) {
         return reminderDao.getForPlant(plantId);
     }
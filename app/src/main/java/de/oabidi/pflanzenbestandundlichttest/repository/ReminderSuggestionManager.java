@@ -12,6 +12,7 @@ import java.util.Objects;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 
+import de.oabidi.pflanzenbestandundlichttest.analytics.Tracer;
 import de.oabidi.pflanzenbestandundlichttest.core.data.EnvironmentEntry;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.Plant;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.PlantDao;
@@ -77,16 +78,26 @@ public class ReminderSuggestionManager extends BaseRepository {
     }
 
     public void refreshAllReminderSuggestionsSync() {
-        List<Plant> plants = plantDao.getAll();
+        refreshReminderSuggestionsSync(plantDao.getAll());
+    }
+
+    /**
+     * Refreshes the suggestions of an already loaded set of plants, so callers that hold the
+     * plant list do not read it again.
+     */
+    public void refreshReminderSuggestionsSync(@Nullable List<Plant> plants) {
         if (plants == null || plants.isEmpty()) {
             return;
         }
         long timestamp = System.currentTimeMillis();
-        for (Plant plant : plants) {
-            try {
-                refreshReminderSuggestionForPlant(plant, timestamp);
-            } catch (Exception e) {
-                Log.w(TAG, "Failed to refresh reminder suggestion for plant " + plant.getId(), e);
+        try (Tracer.Span span = Tracer.begin("reminder_suggestion.refresh_all")) {
+            span.arg("rows", plants.size());
+            for (Plant plant : plants) {
+                try {
+                    refreshReminderSuggestionForPlant(plant, timestamp);
+                } catch (Exception e) {
+                    Log.w(TAG, "Failed to refresh reminder suggestion for plant " + plant.getId(), e);
+                }
             }
         }
     }
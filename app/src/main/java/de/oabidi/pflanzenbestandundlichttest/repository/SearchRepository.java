@@ -0,0 +1,57 @@
+package de.oabidi.pflanzenbestandundlichttest.repository;
+
+import android.content.Context;
+import android.os.Handler;
+
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.SearchResult;
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.SearchIndex;
+
+/**
+ * Repository for the global search across plants, diary entries, species and environment notes.
+ */
+public class SearchRepository extends BaseRepository {
+    /**
+     * Maximum number of results returned by one search.
+     */
+    public static final int MAX_RESULTS = 50;
+
+    private static final String SEARCH_KEY = "search";
+
+    private final SearchIndex searchIndex;
+
+    public SearchRepository(Context context, Handler mainHandler, ExecutorService ioExecutor,
+                            SearchIndex searchIndex) {
+        super(context, mainHandler, ioExecutor);
+        this.searchIndex = Objects.requireNonNull(searchIndex, "searchIndex");
+    }
+
+    /**
+     * Searches all indexed text for the words of {@code query}, each matched as a prefix. Starting
+     * a search cancels the previous one, so results of stale keystrokes are never delivered.
+     *
+     * @return handle to cancel the search, e.g. when the screen is closed
+     */
+    public QueryHandle search(String query, Consumer<List<SearchResult>> callback,
+                              @Nullable Consumer<Exception> errorCallback) {
+        String ftsQuery = SearchIndex.toPrefixQuery(query);
+        return queryLatest(SEARCH_KEY, signal -> ftsQuery == null
+                ? Collections.<SearchResult>emptyList()
+                : searchIndex.search(ftsQuery, MAX_RESULTS, signal),
+            callback, errorCallback);
+    }
+
+    /**
+     * Rebuilds all search indexes from the stored data.
+     */
+    public void rebuildIndex(@Nullable Runnable callback, @Nullable Consumer<Exception> errorCallback) {
+        runAsync(searchIndex::rebuild, callback, errorCallback);
+    }
+}
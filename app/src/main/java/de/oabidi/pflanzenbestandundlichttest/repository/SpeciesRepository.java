@@ -1,36 +1,106 @@
 package de.oabidi.pflanzenbestandundlichttest.repository;
 
 import android.content.Context;
+import android.database.Cursor;
+import android.os.CancellationSignal;
 import android.os.Handler;
 
+import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.room.InvalidationTracker;
+import androidx.room.RoomDatabase;
+import androidx.sqlite.db.SimpleSQLiteQuery;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.Converters;
 import de.oabidi.pflanzenbestandundlichttest.feature.plant.PlantProfile;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesSummary;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTarget;
 import de.oabidi.pflanzenbestandundlichttest.core.data.plant.SpeciesTargetDao;
 
 /**
  * Repository providing species target persistence APIs.
+ * <p>
+ * Lookups by species key are served from an in-memory copy of the species table once
+ * {@link #warmUpCacheSync()} has run. The copy is dropped whenever Room reports a change to the
+ * table, including writes that bypass this repository such as imports and seeding, and reloaded on
+ * the IO executor by the next lookup; lookups read the table directly until it is warm again.
  */
 public class SpeciesRepository extends BaseRepository {
+    private static final String SPECIES_TABLE = "SpeciesTarget";
+    private static final String SEARCH_KEY = "searchSpecies";
+
+    private final RoomDatabase database;
     private final SpeciesTargetDao speciesTargetDao;
+    private final Map<String, SpeciesTarget> cache = new ConcurrentHashMap<>();
+    private final AtomicInteger cacheGeneration = new AtomicInteger();
+    private volatile boolean cacheLoaded;
+    // Set once the cache has been warmed, so only invalidated caches are reloaded on demand.
+    private volatile boolean cacheEnabled;
+    private final AtomicBoolean rewarmScheduled = new AtomicBoolean();
+    // Kept as a field so the observer lives as long as this repository.
+    private final InvalidationTracker.Observer invalidationObserver =
+        new InvalidationTracker.Observer(SPECIES_TABLE) {
+            @Override
+            public void onInvalidated(@NonNull Set<String> tables) {
+                invalidateCache();
+            }
+        };
 
     public SpeciesRepository(Context context, Handler mainHandler, ExecutorService ioExecutor,
-                             SpeciesTargetDao speciesTargetDao) {
+                             RoomDatabase database, SpeciesTargetDao speciesTargetDao) {
         super(context, mainHandler, ioExecutor);
+        this.database = Objects.requireNonNull(database, "database");
         this.speciesTargetDao = Objects.requireNonNull(speciesTargetDao, "speciesTargetDao");
+        database.getInvalidationTracker().addObserver(invalidationObserver);
+    }
+
+    /**
+     * Loads all species targets into the lookup cache. Must be called off the main thread.
+     */
+    @WorkerThread
+    public void warmUpCacheSync() {
+        cacheEnabled = true;
+        int generation = cacheGeneration.get();
+        List<SpeciesTarget> targets = speciesTargetDao.getAll();
+        synchronized (cache) {
+            if (generation != cacheGeneration.get()) {
+                // The table changed while loading; leave the cache cold.
+                return;
+            }
+            cache.clear();
+            if (targets != null) {
+                for (SpeciesTarget target : targets) {
+                    cache.put(target.getSpeciesKey(), target);
+                }
+            }
+            cacheLoaded = true;
+        }
+    }
+
+    private void invalidateCache() {
+        synchronized (cache) {
+            cacheGeneration.incrementAndGet();
+            cacheLoaded = false;
+            cache.clear();
+        }
     }
 
     public void getSpeciesTarget(String speciesKey, Consumer<SpeciesTarget> callback,
                                  @Nullable Consumer<Exception> errorCallback) {
-        queryAsync(() -> speciesTargetDao.findBySpeciesKey(speciesKey), callback, errorCallback);
+        queryAsync(() -> getSpeciesTargetSync(speciesKey), callback, errorCallback);
     }
 
     public void getSpeciesTarget(String speciesKey, Consumer<SpeciesTarget> callback) {
@@ -63,13 +133,36 @@ public class SpeciesRepository extends BaseRepository {
         getAllSpeciesTargets(callback, null);
     }
 
-    public void searchSpecies(String query, Consumer<List<SpeciesTarget>> callback,
-                              @Nullable Consumer<Exception> errorCallback) {
-        queryAsync(() -> speciesTargetDao.searchSpeciesTargets(query), callback, errorCallback);
+    /**
+     * Loads the summaries of all species for list rendering; open a species with
+     * {@link #getSpeciesTarget(String, Consumer, Consumer)} to get its full details.
+     *
+     * @return handle to cancel the load, e.g. when the list is closed before it completes
+     */
+    public QueryHandle getAllSpeciesSummaries(Consumer<List<SpeciesSummary>> callback,
+                                              @Nullable Consumer<Exception> errorCallback) {
+        return queryCancellable(signal -> readSummaries(SpeciesTargetDao.ALL_SUMMARIES,
+            new Object[0], signal), callback, errorCallback);
     }
 
-    public void searchSpecies(String query, Consumer<List<SpeciesTarget>> callback) {
-        searchSpecies(query, callback, null);
+    public QueryHandle getAllSpeciesSummaries(Consumer<List<SpeciesSummary>> callback) {
+        return getAllSpeciesSummaries(callback, null);
+    }
+
+    /**
+     * Searches species by common or scientific name. A new search cancels the previous one, so
+     * only the results of the latest query are delivered.
+     *
+     * @return handle to cancel the search
+     */
+    public QueryHandle searchSpecies(String query, Consumer<List<SpeciesSummary>> callback,
+                                     @Nullable Consumer<Exception> errorCallback) {
+        return queryLatest(SEARCH_KEY, signal -> readSummaries(SpeciesTargetDao.SEARCH_SUMMARIES,
+            new Object[]{query}, signal), callback, errorCallback);
+    }
+
+    public QueryHandle searchSpecies(String query, Consumer<List<SpeciesSummary>> callback) {
+        return searchSpecies(query, callback, null);
     }
 
     public void getPlantProfilesByCategory(SpeciesTarget.Category category, Consumer<List<PlantProfile>> callback,
@@ -125,10 +218,73 @@ public class SpeciesRepository extends BaseRepository {
         deleteSpeciesTarget(speciesKey, callback, null);
     }
 
+    /**
+     * Returns the target for {@code speciesKey}, from the cache when it is loaded. Cached
+     * instances are shared and must not be modified.
+     */
     public SpeciesTarget getSpeciesTargetSync(String speciesKey) {
+        if (speciesKey != null && cacheLoaded) {
+            return cache.get(speciesKey);
+        }
+        scheduleRewarm();
         return speciesTargetDao.findBySpeciesKey(speciesKey);
     }
 
+    /**
+     * Reloads an invalidated cache in the background; at most one reload is queued at a time.
+     */
+    private void scheduleRewarm() {
+        if (!cacheEnabled || !rewarmScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        ioExecutor.execute(() -> {
+            // Cleared first so an invalidation during the load can queue the next one.
+            rewarmScheduled.set(false);
+            warmUpCacheSync();
+        });
+    }
+
+    /**
+     * Runs a summary statement of {@link SpeciesTargetDao} as a raw query, so cancelling
+     * {@code signal} aborts it inside SQLite instead of only dropping its result.
+     */
+    @WorkerThread
+    @NonNull
+    private List<SpeciesSummary> readSummaries(@NonNull String sql, @NonNull Object[] args,
+                                               @Nullable CancellationSignal signal) {
+        try (Cursor cursor = database.query(new SimpleSQLiteQuery(sql, args), signal)) {
+            int speciesKey = cursor.getColumnIndexOrThrow("speciesKey");
+            int commonName = cursor.getColumnIndexOrThrow("commonName");
+            int scientificName = cursor.getColumnIndexOrThrow("scientificName");
+            int category = cursor.getColumnIndexOrThrow("category");
+            int toxicToPets = cursor.getColumnIndexOrThrow("toxicToPets");
+            int wateringTolerance = cursor.getColumnIndexOrThrow("wateringTolerance");
+            int hasWateringInfo = cursor.getColumnIndexOrThrow("hasWateringInfo");
+            int ppfdMin = cursor.getColumnIndexOrThrow("ppfdMin");
+            int ppfdMax = cursor.getColumnIndexOrThrow("ppfdMax");
+            int dliMin = cursor.getColumnIndexOrThrow("dliMin");
+            int dliMax = cursor.getColumnIndexOrThrow("dliMax");
+            List<SpeciesSummary> summaries = new ArrayList<>(cursor.getCount());
+            while (cursor.moveToNext()) {
+                SpeciesSummary summary = new SpeciesSummary();
+                summary.speciesKey = cursor.getString(speciesKey);
+                summary.commonName = cursor.getString(commonName);
+                summary.scientificName = cursor.getString(scientificName);
+                summary.category = Converters.toCategory(cursor.getString(category));
+                summary.toxicToPets = cursor.isNull(toxicToPets)
+                    ? null : cursor.getInt(toxicToPets) != 0;
+                summary.wateringTolerance = cursor.getString(wateringTolerance);
+                summary.hasWateringInfo = cursor.getInt(hasWateringInfo) != 0;
+                summary.ppfdMin = cursor.isNull(ppfdMin) ? null : cursor.getFloat(ppfdMin);
+                summary.ppfdMax = cursor.isNull(ppfdMax) ? null : cursor.getFloat(ppfdMax);
+                summary.dliMin = cursor.isNull(dliMin) ? null : cursor.getFloat(dliMin);
+                summary.dliMax = cursor.isNull(dliMax) ? null : cursor.getFloat(dliMax);
+                summaries.add(summary);
+            }
+            return summaries;
+        }
+    }
+
     private List<PlantProfile> hydrateProfiles(@Nullable List<SpeciesTarget> targets) {
         if (targets == null || targets.isEmpty()) {
             return Collections.emptyList();
@@ -0,0 +1,111 @@
+package de.oabidi.pflanzenbestandundlichttest.repository;
+
+import android.content.Context;
+import android.os.Handler;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.WorkerThread;
+import androidx.room.RoomDatabase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+
+import de.oabidi.pflanzenbestandundlichttest.core.data.MetricColumns;
+import de.oabidi.pflanzenbestandundlichttest.core.data.SeriesMetric;
+import de.oabidi.pflanzenbestandundlichttest.core.data.db.SeriesReader;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.DiaryDao;
+import de.oabidi.pflanzenbestandundlichttest.core.data.plant.MeasurementDao;
+
+/**
+ * Repository computing {@link PlantStats} for many plants at once. Recent series, light totals and
+ * diary counts are each read with one grouped query over all requested plants inside a single
+ * transaction, so comparison views cost one background round trip regardless of plant count.
+ */
+public class StatsRepository extends BaseRepository {
+    private static final float PPFD_SUM_TO_DLI = 0.0036f;
+
+    private final RoomDatabase database;
+    private final MeasurementDao measurementDao;
+    private final DiaryDao diaryDao;
+    private final SeriesReader seriesReader;
+
+    public StatsRepository(Context context, Handler mainHandler, ExecutorService ioExecutor,
+                           RoomDatabase database, MeasurementDao measurementDao, DiaryDao diaryDao,
+                           SeriesReader seriesReader) {
+        super(context, mainHandler, ioExecutor);
+        this.database = Objects.requireNonNull(database, "database");
+        this.measurementDao = Objects.requireNonNull(measurementDao, "measurementDao");
+        this.diaryDao = Objects.requireNonNull(diaryDao, "diaryDao");
+        this.seriesReader = Objects.requireNonNull(seriesReader, "seriesReader");
+    }
+
+    /**
+     * Computes statistics for the given plants. The result preserves the order of
+     * {@code plantIds} and holds an entry for every requested plant.
+     *
+     * @param plantIds    plants to compute statistics for
+     * @param recentLimit maximum number of recent PPFD measurements per plant
+     * @param dliStart    start of the DLI window (inclusive)
+     * @param dliEnd      end of the DLI window (inclusive)
+     */
+    public void statsForPlants(List<Long> plantIds, int recentLimit, long dliStart, long dliEnd,
+                               Consumer<Map<Long, PlantStats>> callback,
+                               @Nullable Consumer<Exception> errorCallback) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(plantIds));
+        queryAsync(() -> database.runInTransaction(
+            () -> computeStats(ids, recentLimit, dliStart, dliEnd)), callback, errorCallback);
+    }
+
+    @WorkerThread
+    @NonNull
+    private Map<Long, PlantStats> computeStats(List<Long> plantIds, int recentLimit,
+                                               long dliStart, long dliEnd) {
+        Map<Long, PlantStats> result = new LinkedHashMap<>();
+        if (plantIds.isEmpty()) {
+            return result;
+        }
+        Map<Long, MetricColumns> recent =
+            seriesReader.readRecent(plantIds, recentLimit, SeriesMetric.PPFD);
+
+        Map<Long, MeasurementDao.PlantSumAndDays> light = new HashMap<>();
+        Map<Long, Map<String, Integer>> diaryCounts = new HashMap<>();
+        for (int from = 0; from < plantIds.size(); from += SeriesReader.MAX_IDS_PER_QUERY) {
+            List<Long> batch = plantIds.subList(from,
+                Math.min(plantIds.size(), from + SeriesReader.MAX_IDS_PER_QUERY));
+            for (MeasurementDao.PlantSumAndDays row
+                : measurementDao.sumPpfdAndCountDaysForPlants(batch, dliStart, dliEnd)) {
+                light.put(row.plantId, row);
+            }
+            for (DiaryDao.TypeCount row : diaryDao.countTypesForPlants(batch)) {
+                Map<String, Integer> counts = diaryCounts.get(row.plantId);
+                if (counts == null) {
+                    counts = new HashMap<>();
+                    diaryCounts.put(row.plantId, counts);
+                }
+                counts.put(row.type, row.count);
+            }
+        }
+
+        for (long id : plantIds) {
+            MeasurementDao.PlantSumAndDays sums = light.get(id);
+            int days = sums != null ? sums.days : 0;
+            float averageDli = Float.NaN;
+            if (days > 0) {
+                float sum = sums.sum != null ? sums.sum : 0f;
+                averageDli = sum * PPFD_SUM_TO_DLI / days;
+            }
+            Map<String, Integer> counts = diaryCounts.get(id);
+            result.put(id, new PlantStats(id, recent.get(id), averageDli, days,
+                counts != null ? counts : new HashMap<>()));
+        }
+        return result;
+    }
+}
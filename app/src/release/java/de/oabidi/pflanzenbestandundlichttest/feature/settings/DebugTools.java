@@ -0,0 +1,28 @@
+package de.oabidi.pflanzenbestandundlichttest.feature.settings;
+
+import android.content.Context;
+
+import androidx.annotation.NonNull;
+
+import java.io.Writer;
+
+/**
+ * Release variant of the debug database diagnostics, which are not part of release builds. The
+ * settings hide both entries when {@link #AVAILABLE} is {@code false}; the methods do nothing.
+ */
+final class DebugTools {
+    static final boolean AVAILABLE = false;
+    static final int SUMMARY_VERIFY_STEPS = 0;
+
+    private DebugTools() {
+        // no instances
+    }
+
+    static void runDaoScalingBenchmark(@NonNull Context context, @NonNull Writer out) {
+        // Not part of release builds.
+    }
+
+    static void verifyPlantSummary(@NonNull Context context, long seed) {
+        // Not part of release builds.
+    }
+}
@@ -0,0 +1,74 @@
+package de.oabidi.pflanzenbestandundlichttest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the light conversions used for every measurement and chart point.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LightMathBenchmark {
+    private static final int SAMPLES = 1024;
+    private static final String[] ORIENTATIONS = {"N", "NE", "E", "SE", "S", "SW", "W", "NW", null};
+
+    private float[] lux;
+    private float[] hours;
+    private LocalDate[] dates;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        lux = new float[SAMPLES];
+        hours = new float[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            lux[i] = random.nextFloat() * 50000f;
+            hours[i] = 8f + random.nextFloat() * 8f;
+        }
+        dates = new LocalDate[365];
+        LocalDate start = LocalDate.of(2024, 1, 1);
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = start.plusDays(i);
+        }
+    }
+
+    @Benchmark
+    public void ppfdAndDliFromLux(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            float ppfd = LightMath.ppfdFromLux(lux[i], 0.0185f);
+            blackhole.consume(LightMath.dliFromPpfd(ppfd, hours[i]));
+        }
+    }
+
+    @Benchmark
+    public void rangeCheck(Blackhole blackhole) {
+        for (int i = 0; i < SAMPLES; i++) {
+            blackhole.consume(LightMath.rangeCheck(lux[i] * 0.0185f, 100f, 400f));
+        }
+    }
+
+    @Benchmark
+    public void daylightDurationForYear(Blackhole blackhole) {
+        for (LocalDate date : dates) {
+            blackhole.consume(LightMath.daylightDurationHours(52.5, date));
+        }
+    }
+
+    @Benchmark
+    public void orientationModifier(Blackhole blackhole) {
+        for (String orientation : ORIENTATIONS) {
+            blackhole.consume(LightMath.orientationModifier(orientation));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package de.oabidi.pflanzenbestandundlichttest.benchmark;
+
+import androidx.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Representative inputs shared by the benchmarks, generated from a fixed seed so runs compare.
+ */
+public final class BenchmarkFixtures {
+    private static final long SEED = 42L;
+
+    private BenchmarkFixtures() {
+        // no instances
+    }
+
+    /**
+     * Returns {@code count} measurement rows in the CSV export format, some with quoted notes.
+     */
+    @NonNull
+    public static List<String> csvLines(int count) {
+        Random random = new Random(SEED);
+        List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder line = new StringBuilder()
+                .append(i + 1).append(',')
+                .append(1 + random.nextInt(40)).append(',')
+                .append(1_700_000_000_000L + i * 3_600_000L).append(',')
+                .append(random.nextFloat() * 20000f).append(',')
+                .append(random.nextFloat() * 400f).append(',')
+                .append(random.nextFloat() * 20f).append(',');
+            if (i % 3 == 0) {
+                line.append("\"Cloudy, measured at \"\"noon\"\"\"");
+            } else {
+                line.append("Window sill");
+            }
+            lines.add(line.toString());
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,39 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import de.oabidi.pflanzenbestandundlichttest.benchmark.BenchmarkFixtures;
+
+/**
+ * Benchmarks the CSV line splitting used by {@code ImportManager.parseCsv} for every imported row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CsvParserBenchmark {
+    private static final int LINES = 1000;
+
+    private List<String> lines;
+
+    @Setup
+    public void setUp() {
+        lines = BenchmarkFixtures.csvLines(LINES);
+    }
+
+    @Benchmark
+    public void parseMeasurementRows(Blackhole blackhole) {
+        for (String line : lines) {
+            blackhole.consume(CsvParser.parseLine(line));
+        }
+    }
+}
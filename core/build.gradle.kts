@@ -0,0 +1,13 @@
+plugins {
+    `java-library`
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// Calculations without any Android or Room dependency, shared by the app and the JVM benchmarks.
+dependencies {
+    compileOnly(libs.annotation)
+}
@@ -0,0 +1,42 @@
+package de.oabidi.pflanzenbestandundlichttest.core.data.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits single lines of the CSV export format. Kept free of Android dependencies so it can be
+ * benchmarked on a plain JVM.
+ */
+final class CsvParser {
+    private CsvParser() {
+        // no instances
+    }
+
+    /**
+     * Splits {@code line} at commas outside double quotes. Doubled quotes inside a quoted field
+     * are unescaped.
+     */
+    static List<String> parseLine(String line) {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean inQuotes = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                if (inQuotes && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    sb.append('"');
+                    i++;
+                } else {
+                    inQuotes = !inQuotes;
+                }
+            } else if (c == ',' && !inQuotes) {
+                tokens.add(sb.toString());
+                sb.setLength(0);
+            } else {
+                sb.append(c);
+            }
+        }
+        tokens.add(sb.toString());
+        return tokens;
+    }
+}
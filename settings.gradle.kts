@@ -22,4 +22,6 @@ dependencyResolutionManagement {
 
 rootProject.name = "Pflanzenbestand und Lichttest"
 include(":app")
+include(":core")
+include(":benchmark")
  
\ No newline at end of file